@@ -0,0 +1,38 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Điểm khởi chạy cho bộ benchmark JMH.
+ * <p>
+ * Lớp này nhận các tham số dòng lệnh giống hệt {@code org.openjdk.jmh.Main}
+ * (ví dụ {@code -f 1 -wi 3 DynamicArray}) và luôn bật thêm {@link GCProfiler},
+ * để mỗi kết quả có kèm số byte cấp phát trên mỗi thao tác ({@code gc.alloc.rate.norm}).
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Chạy các benchmark được chọn với bộ phân tích GC được bật.
+     *
+     * @param args Tham số dòng lệnh của JMH
+     * @throws RunnerException Nếu JMH không thể chạy benchmark
+     * @throws CommandLineOptionException Nếu tham số dòng lệnh không hợp lệ
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.cache.BoundedCache;
+import io.github.hoangtuan2k5.datastructures.cache.EvictionStrategy;
+import io.github.hoangtuan2k5.datastructures.cache.Weigher;
+
+/**
+ * So sánh {@link BoundedCache} với các chiến lược LRU, LFU và SLRU với một cache LRU dựa trên
+ * {@link LinkedHashMap} cho thao tác tra cứu-hoặc-tải.
+ * <p>
+ * Các khóa được sinh trước theo phân phối lệch (khóa nhỏ xuất hiện thường xuyên hơn), với số
+ * khóa khác nhau gấp 4 lần sức chứa của cache, nên mỗi lần gọi gồm cả trúng và trượt.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheBenchmark {
+    private static final int KEY_COUNT = 1 << 16;
+
+    @Param({"1024", "16384"})
+    private int capacity;
+
+    @Param({"LRU", "LFU", "SLRU"})
+    private EvictionStrategy strategy;
+
+    private BoundedCache<Integer, Integer> cache;
+    private Map<Integer, Integer> linkedHashMap;
+    private Integer[] keys;
+    private int position;
+
+    /**
+     * Chuẩn bị dãy khóa lệch và hai cache rỗng có cùng sức chứa.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int distinct = capacity * 4;
+        keys = new Integer[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            double u = random.nextDouble();
+            keys[i] = (int) (distinct * u * u * u);
+        }
+        cache = new BoundedCache<>(capacity, strategy, Weigher.singleton(), null);
+        final int maximumSize = capacity;
+        linkedHashMap = new LinkedHashMap<Integer, Integer>(capacity * 2, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    @Benchmark
+    public Integer getOrLoadBoundedCache() {
+        Integer key = keys[position++ & (KEY_COUNT - 1)];
+        return cache.get(key, k -> k);
+    }
+
+    @Benchmark
+    public Integer getOrLoadLinkedHashMap() {
+        Integer key = keys[position++ & (KEY_COUNT - 1)];
+        return linkedHashMap.computeIfAbsent(key, k -> k);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.IntDynamicArray;
+import io.github.hoangtuan2k5.datastructures.codec.BinaryReader;
+import io.github.hoangtuan2k5.datastructures.codec.BinaryWriter;
+import io.github.hoangtuan2k5.datastructures.codec.ElementCodec;
+
+/**
+ * So sánh chi phí lưu một mảng lớn bằng {@code toString()} với mã hóa nhị phân
+ * ({@link BinaryWriter}): byte thô theo khối cho {@link IntDynamicArray} và codec từng phần tử
+ * cho {@link DynamicArray}. Đích là bộ nhớ, nên kết quả đo riêng chi phí mã hóa, không tính đĩa.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private IntDynamicArray ints;
+    private DynamicArray<Integer> boxed;
+    private ByteBuffer target;
+    private ByteBuffer encodedInts;
+
+    /**
+     * Điền sẵn {@code size} phần tử và chuẩn bị bộ đệm đích đủ lớn.
+     */
+    @Setup
+    public void setUp() {
+        ints = new IntDynamicArray(size);
+        boxed = new DynamicArray<>(size);
+        for (int i = 0; i < size; i++) {
+            ints.append(i * 31);
+            boxed.append(i * 31);
+        }
+        target = ByteBuffer.allocateDirect(size * Integer.BYTES + 64);
+        encodedInts = ByteBuffer.allocateDirect(size * Integer.BYTES + 64);
+        try (BinaryWriter out = BinaryWriter.to(encodedInts)) {
+            ints.writeTo(out);
+        }
+        encodedInts.flip();
+    }
+
+    @Benchmark
+    public int writeIntsToString() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            writer.write(ints.toString());
+        }
+        return bytes.size();
+    }
+
+    @Benchmark
+    public int writeIntsRawBulk() {
+        target.clear();
+        try (BinaryWriter out = BinaryWriter.to(target)) {
+            ints.writeTo(out);
+        }
+        return target.position();
+    }
+
+    @Benchmark
+    public int writeBoxedWithCodec() {
+        target.clear();
+        try (BinaryWriter out = BinaryWriter.to(target)) {
+            boxed.writeTo(out, ElementCodec.INT);
+        }
+        return target.position();
+    }
+
+    @Benchmark
+    public IntDynamicArray readIntsRawBulk() {
+        try (BinaryReader in = BinaryReader.from(encodedInts.duplicate())) {
+            return IntDynamicArray.readFrom(in);
+        }
+    }
+}
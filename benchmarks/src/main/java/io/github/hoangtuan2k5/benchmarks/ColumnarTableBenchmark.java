@@ -0,0 +1,117 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.ColumnarTable;
+import io.github.hoangtuan2k5.datastructures.array.StaticArray;
+
+/**
+ * So sánh phép quét một trường trên các bản ghi đối tượng trong {@link StaticArray} với cùng phép
+ * quét trên một cột của {@link ColumnarTable}. Các bản ghi được xáo trộn trong heap khi tạo, giống
+ * như dữ liệu được nạp dần theo thời gian.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnarTableBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private StaticArray<Trade> records;
+    private ColumnarTable table;
+    private ColumnarTable.DoubleColumn price;
+    private ColumnarTable.ByteColumn side;
+
+    /**
+     * Một bản ghi nhỏ điển hình: bốn trường nguyên thủy.
+     */
+    static final class Trade {
+        final int id;
+        final long timestamp;
+        final double price;
+        final byte side;
+
+        Trade(int id, long timestamp, double price, byte side) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.price = price;
+            this.side = side;
+        }
+    }
+
+    /**
+     * Điền cùng dữ liệu vào cả hai cách lưu.
+     */
+    @Setup
+    public void setUp() {
+        records = new StaticArray<>(size);
+        table = ColumnarTable.builder(size)
+                .intColumn("id")
+                .longColumn("timestamp")
+                .doubleColumn("price")
+                .byteColumn("side")
+                .build();
+        price = table.doubleColumn("price");
+        side = table.byteColumn("side");
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            int slot = i == 0 ? 0 : random.nextInt(i + 1);
+            records.set(i, records.get(slot));
+            double value = random.nextDouble() * 100;
+            byte sideValue = (byte) (i & 1);
+            records.set(slot, new Trade(i, i * 1_000L, value, sideValue));
+            table.intColumn("id").set(i, i);
+            price.set(i, value);
+            side.set(i, sideValue);
+        }
+    }
+
+    @Benchmark
+    public double sumPriceStaticArrayOfRecords() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += records.get(i).price;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumPriceColumnarTable() {
+        return price.sum();
+    }
+
+    @Benchmark
+    public int countBuysStaticArrayOfRecords() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (records.get(i).side == 1) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countBuysColumnarTable() {
+        return side.count((byte) 1);
+    }
+}
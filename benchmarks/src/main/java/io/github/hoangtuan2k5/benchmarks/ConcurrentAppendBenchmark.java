@@ -0,0 +1,62 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.ConcurrentAppendBuffer;
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+
+/**
+ * Đo tổng thông lượng append khi nhiều luồng cùng ghi vào một nơi.
+ * <p>
+ * So sánh một {@link DynamicArray} được bảo vệ bởi khóa toàn cục với {@link ConcurrentAppendBuffer}.
+ * Số luồng mặc định là 4 và có thể thay đổi bằng tùy chọn {@code -t} của JMH. Cả hai cấu trúc được
+ * tạo lại ở đầu mỗi vòng đo để bộ nhớ không tăng mãi.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentAppendBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    private DynamicArray<Integer> lockedArray;
+    private ConcurrentAppendBuffer<Integer> buffer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        lockedArray = new DynamicArray<>(1024);
+        buffer = new ConcurrentAppendBuffer<>();
+    }
+
+    @Benchmark
+    public void appendLockedDynamicArray() {
+        synchronized (lockedArray) {
+            lockedArray.append(VALUE);
+        }
+    }
+
+    @Benchmark
+    public void appendConcurrentBuffer() {
+        buffer.append(VALUE);
+    }
+}
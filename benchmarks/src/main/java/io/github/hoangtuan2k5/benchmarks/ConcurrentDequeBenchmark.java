@@ -0,0 +1,82 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.linkedlist.ConcurrentIDoublyLinkedList;
+import io.github.hoangtuan2k5.datastructures.linkedlist.DefaultIDoublyLinkedList;
+
+/**
+ * Đo thông lượng khi nhiều luồng sản xuất và tiêu thụ cùng dùng một danh sách.
+ * <p>
+ * Nhóm {@code locked} mô phỏng cách dùng hiện tại: mọi lời gọi đến
+ * {@link DefaultIDoublyLinkedList} đều nằm trong một khóa toàn cục. Nhóm {@code lockFree}
+ * dùng {@link ConcurrentIDoublyLinkedList}. Mỗi nhóm có 4 luồng thêm vào cuối và 4 luồng
+ * lấy ra từ đầu; số luồng có thể thay đổi bằng tùy chọn {@code -tg} của JMH.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentDequeBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    private DefaultIDoublyLinkedList<Integer> lockedList;
+    private ConcurrentIDoublyLinkedList<Integer> lockFreeList;
+
+    @Setup
+    public void setUp() {
+        lockedList = new DefaultIDoublyLinkedList<>();
+        lockFreeList = new ConcurrentIDoublyLinkedList<>();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(4)
+    public void lockedProducer() {
+        synchronized (lockedList) {
+            lockedList.addLast(VALUE);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(4)
+    public Integer lockedConsumer() {
+        synchronized (lockedList) {
+            return lockedList.isEmpty() ? null : lockedList.removeFirst();
+        }
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(4)
+    public void lockFreeProducer() {
+        lockFreeList.addLast(VALUE);
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(4)
+    public Integer lockFreeConsumer() {
+        return lockFreeList.pollFirst();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.CopyOnWriteDynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+
+/**
+ * So sánh thông lượng đọc đồng thời của {@link CopyOnWriteDynamicArray} (không khóa) với một
+ * {@link DynamicArray} được bảo vệ bởi {@code synchronized} hoặc {@link ReentrantReadWriteLock}.
+ * Mỗi thao tác đọc một phần tử theo chỉ số, với bốn luồng đọc cùng lúc.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CopyOnWriteBenchmark {
+
+    @Param({"1024"})
+    private int size;
+
+    private CopyOnWriteDynamicArray<Integer> copyOnWrite;
+    private DynamicArray<Integer> locked;
+    private final Object monitor = new Object();
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    /**
+     * Điền sẵn {@code size} phần tử vào cả hai mảng.
+     */
+    @Setup
+    public void setUp() {
+        locked = new DynamicArray<>(size);
+        for (int i = 0; i < size; i++) {
+            locked.append(i);
+        }
+        copyOnWrite = new CopyOnWriteDynamicArray<>(locked);
+    }
+
+    /**
+     * Vị trí đọc riêng của mỗi luồng.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    public Integer getCopyOnWrite(Cursor cursor) {
+        cursor.index = (cursor.index + 1) & (size - 1);
+        return copyOnWrite.get(cursor.index);
+    }
+
+    @Benchmark
+    public Integer getSynchronized(Cursor cursor) {
+        cursor.index = (cursor.index + 1) & (size - 1);
+        synchronized (monitor) {
+            return locked.get(cursor.index);
+        }
+    }
+
+    @Benchmark
+    public Integer getReadLock(Cursor cursor) {
+        cursor.index = (cursor.index + 1) & (size - 1);
+        readWriteLock.readLock().lock();
+        try {
+            return locked.get(cursor.index);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+}
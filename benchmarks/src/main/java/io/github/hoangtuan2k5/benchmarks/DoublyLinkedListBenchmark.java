@@ -0,0 +1,351 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.RingBufferDeque;
+import io.github.hoangtuan2k5.datastructures.linkedlist.ArrayIDoublyLinkedList;
+import io.github.hoangtuan2k5.datastructures.linkedlist.DefaultIDoublyLinkedList;
+import io.github.hoangtuan2k5.datastructures.linkedlist.IndexedIDoublyLinkedList;
+import io.github.hoangtuan2k5.datastructures.linkedlist.UnrolledIDoublyLinkedList;
+
+/**
+ * So sánh {@link DefaultIDoublyLinkedList}, {@link ArrayIDoublyLinkedList}, {@link IndexedIDoublyLinkedList}
+ * và {@link UnrolledIDoublyLinkedList} với {@link LinkedList} và {@link ArrayDeque} cho các thao tác addFirst,
+ * addLast, removeAt, remove(Object), contains, get theo chỉ số và duyệt toàn bộ danh sách; {@link RingBufferDeque}
+ * được so sánh với {@link ArrayDeque} khi dùng làm hàng đợi FIFO.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DoublyLinkedListBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private DefaultIDoublyLinkedList<Integer> doublyLinkedList;
+    private ArrayIDoublyLinkedList<Integer> arrayLinkedList;
+    private IndexedIDoublyLinkedList<Integer> indexedLinkedList;
+    private UnrolledIDoublyLinkedList<Integer> unrolledLinkedList;
+    private LinkedList<Integer> linkedList;
+    private ArrayDeque<Integer> arrayDeque;
+    private Integer[] values;
+
+    /**
+     * Chuẩn bị dữ liệu đầu vào và các danh sách đã được điền sẵn {@code size} phần tử.
+     */
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+        doublyLinkedList = new DefaultIDoublyLinkedList<>();
+        arrayLinkedList = new ArrayIDoublyLinkedList<>();
+        indexedLinkedList = new IndexedIDoublyLinkedList<>(size);
+        unrolledLinkedList = new UnrolledIDoublyLinkedList<>();
+        linkedList = new LinkedList<>();
+        arrayDeque = new ArrayDeque<>(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            doublyLinkedList.addLast(values[i]);
+            arrayLinkedList.addLast(values[i]);
+            indexedLinkedList.addLast(values[i]);
+            unrolledLinkedList.addLast(values[i]);
+            linkedList.addLast(values[i]);
+            arrayDeque.addLast(values[i]);
+        }
+    }
+
+    @Benchmark
+    public DefaultIDoublyLinkedList<Integer> addFirstDoublyLinkedList() {
+        DefaultIDoublyLinkedList<Integer> list = new DefaultIDoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addFirst(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayIDoublyLinkedList<Integer> addFirstArrayLinkedList() {
+        ArrayIDoublyLinkedList<Integer> list = new ArrayIDoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addFirst(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> addFirstLinkedList() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addFirst(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public RingBufferDeque<Integer> addFirstRingBufferDeque() {
+        RingBufferDeque<Integer> deque = new RingBufferDeque<>();
+        for (int i = 0; i < size; i++) {
+            deque.addFirst(values[i]);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> addFirstArrayDeque() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            deque.addFirst(values[i]);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    public DefaultIDoublyLinkedList<Integer> addLastDoublyLinkedList() {
+        DefaultIDoublyLinkedList<Integer> list = new DefaultIDoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayIDoublyLinkedList<Integer> addLastArrayLinkedList() {
+        ArrayIDoublyLinkedList<Integer> list = new ArrayIDoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public UnrolledIDoublyLinkedList<Integer> addLastUnrolledLinkedList() {
+        UnrolledIDoublyLinkedList<Integer> list = new UnrolledIDoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> addLastLinkedList() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> addLastArrayDeque() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            deque.addLast(values[i]);
+        }
+        return deque;
+    }
+
+    /**
+     * Xóa phần tử ở giữa rồi thêm lại một phần tử vào cuối để giữ kích thước không đổi
+     * giữa các lần gọi.
+     */
+    @Benchmark
+    public int removeAtMiddleDoublyLinkedList() {
+        doublyLinkedList.removeAt(size / 2);
+        doublyLinkedList.addLast(values[size / 2]);
+        return doublyLinkedList.size();
+    }
+
+    @Benchmark
+    public int removeAtMiddleArrayLinkedList() {
+        arrayLinkedList.removeAt(size / 2);
+        arrayLinkedList.addLast(values[size / 2]);
+        return arrayLinkedList.size();
+    }
+
+    @Benchmark
+    public int removeAtMiddleUnrolledLinkedList() {
+        unrolledLinkedList.removeAt(size / 2);
+        unrolledLinkedList.addLast(values[size / 2]);
+        return unrolledLinkedList.size();
+    }
+
+    @Benchmark
+    public int removeAtMiddleLinkedList() {
+        linkedList.remove(size / 2);
+        linkedList.addLast(values[size / 2]);
+        return linkedList.size();
+    }
+
+    /**
+     * Xóa một phần tử theo giá trị rồi thêm lại nó vào cuối danh sách.
+     */
+    @Benchmark
+    public int removeObjectDoublyLinkedList() {
+        doublyLinkedList.remove(values[size / 2]);
+        doublyLinkedList.addLast(values[size / 2]);
+        return doublyLinkedList.size();
+    }
+
+    @Benchmark
+    public int removeObjectIndexedLinkedList() {
+        indexedLinkedList.remove(values[size / 2]);
+        indexedLinkedList.addLast(values[size / 2]);
+        return indexedLinkedList.size();
+    }
+
+    /**
+     * Tìm kiếm phần tử không tồn tại, tức là trường hợp xấu nhất phải duyệt toàn bộ danh sách.
+     */
+    @Benchmark
+    public boolean containsDoublyLinkedList() {
+        return doublyLinkedList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsArrayLinkedList() {
+        return arrayLinkedList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsIndexedLinkedList() {
+        return indexedLinkedList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsUnrolledLinkedList() {
+        return unrolledLinkedList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsLinkedList() {
+        return linkedList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsArrayDeque() {
+        return arrayDeque.contains(-1);
+    }
+
+    @Benchmark
+    public long sequentialGetDoublyLinkedList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += doublyLinkedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialGetArrayLinkedList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += arrayLinkedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialGetUnrolledLinkedList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += unrolledLinkedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialGetLinkedList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += linkedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateDoublyLinkedList() {
+        long sum = 0;
+        for (Integer value : doublyLinkedList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateUnrolledLinkedList() {
+        long sum = 0;
+        for (Integer value : unrolledLinkedList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateLinkedList() {
+        long sum = 0;
+        for (Integer value : linkedList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Dùng danh sách làm hàng đợi FIFO: thêm vào cuối và lấy ra ở đầu, giữ tối đa 64 phần tử.
+     */
+    @Benchmark
+    public long fifoDoublyLinkedList() {
+        DefaultIDoublyLinkedList<Integer> queue = new DefaultIDoublyLinkedList<>();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            queue.addLast(values[i]);
+            if (queue.size() > 64) {
+                sum += queue.removeFirst();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fifoRingBufferDeque() {
+        RingBufferDeque<Integer> queue = new RingBufferDeque<>();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            queue.addLast(values[i]);
+            if (queue.size() > 64) {
+                sum += queue.removeFirst();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fifoArrayDeque() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            queue.addLast(values[i]);
+            if (queue.size() > 64) {
+                sum += queue.removeFirst();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+
+/**
+ * So sánh {@link DynamicArray} với {@link ArrayList} cho các thao tác
+ * append, get, remove và indexOf ở nhiều kích thước khác nhau.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DynamicArrayBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private DynamicArray<Integer> dynamicArray;
+    private ArrayList<Integer> arrayList;
+    private Integer[] values;
+
+    /**
+     * Chuẩn bị dữ liệu đầu vào và hai cấu trúc đã được điền sẵn {@code size} phần tử.
+     */
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+        dynamicArray = new DynamicArray<>(size);
+        arrayList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            dynamicArray.append(values[i]);
+            arrayList.add(values[i]);
+        }
+    }
+
+    /**
+     * Xây dựng một mảng động từ dung lượng nhỏ, bao gồm cả chi phí thay đổi kích thước.
+     */
+    @Benchmark
+    public DynamicArray<Integer> appendDynamicArray() {
+        DynamicArray<Integer> array = new DynamicArray<>(10);
+        for (int i = 0; i < size; i++) {
+            array.append(values[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> appendArrayList() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Đọc tuần tự toàn bộ phần tử bằng chỉ số.
+     */
+    @Benchmark
+    public long getDynamicArray() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += dynamicArray.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getArrayList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    /**
+     * Xóa phần tử ở giữa rồi thêm lại một phần tử để giữ kích thước không đổi
+     * giữa các lần gọi.
+     */
+    @Benchmark
+    public int removeMiddleDynamicArray() {
+        dynamicArray.remove(size / 2);
+        dynamicArray.append(values[size / 2]);
+        return dynamicArray.size();
+    }
+
+    @Benchmark
+    public int removeMiddleArrayList() {
+        arrayList.remove(size / 2);
+        arrayList.add(values[size / 2]);
+        return arrayList.size();
+    }
+
+    /**
+     * Tìm kiếm phần tử không tồn tại, tức là trường hợp xấu nhất phải duyệt toàn bộ mảng.
+     */
+    @Benchmark
+    public int indexOfDynamicArray() {
+        return dynamicArray.indexOf(-1);
+    }
+
+    @Benchmark
+    public int indexOfArrayList() {
+        return arrayList.indexOf(-1);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.PersistentVector;
+
+/**
+ * So sánh chi phí tạo một phiên bản mới sau khi sửa một phần tử: sao chép toàn bộ
+ * {@link DynamicArray} bằng {@code copy()} so với {@link PersistentVector#set(int, Object)}
+ * chỉ sao chép đường đi từ gốc tới lá.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentVectorBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private DynamicArray<Integer> array;
+    private PersistentVector<Integer> vector;
+    private int index;
+
+    /**
+     * Nạp sẵn {@code size} phần tử vào cả hai cấu trúc; vector được nạp qua builder.
+     */
+    @Setup
+    public void setUp() {
+        array = new DynamicArray<>(size);
+        PersistentVector.Builder<Integer> builder = PersistentVector.builder();
+        for (int i = 0; i < size; i++) {
+            array.append(i);
+            builder.append(i);
+        }
+        vector = builder.build();
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> snapshotDynamicArrayCopy() {
+        DynamicArray<Integer> snapshot = array.copy();
+        index = (index + 7919) % size;
+        snapshot.set(index, -1);
+        return snapshot;
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> snapshotPersistentVectorSet() {
+        index = (index + 7919) % size;
+        return vector.set(index, -1);
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> bulkLoadPersistentVectorBuilder() {
+        PersistentVector.Builder<Integer> builder = PersistentVector.builder();
+        for (int i = 0; i < 10_000; i++) {
+            builder.append(i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> bulkLoadPersistentVectorAppend() {
+        PersistentVector<Integer> result = PersistentVector.empty();
+        for (int i = 0; i < 10_000; i++) {
+            result = result.append(i);
+        }
+        return result;
+    }
+}
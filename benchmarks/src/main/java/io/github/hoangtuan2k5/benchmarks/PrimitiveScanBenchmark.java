@@ -0,0 +1,71 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.IntDynamicArray;
+
+/**
+ * So sánh các thao tác quét của {@link IntDynamicArray} khi dùng Vector API và khi dùng vòng lặp vô hướng.
+ * <p>
+ * Mỗi tổ hợp tham số chạy trong một JVM riêng, nên thuộc tính {@code algocore.vector} được đặt
+ * trong {@link #setUp()} trước khi các thao tác quét được gọi lần đầu. Phần tử cần tìm không có
+ * trong mảng, nên {@code indexOf} luôn duyệt hết mảng.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class PrimitiveScanBenchmark {
+
+    @Param({"1024", "1048576", "10000000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private String vector;
+
+    private IntDynamicArray array;
+
+    /**
+     * Chọn chế độ quét và chuẩn bị mảng có nội dung {@code 0..size-1}.
+     */
+    @Setup
+    public void setUp() {
+        System.setProperty("algocore.vector", vector);
+        array = new IntDynamicArray(size);
+        for (int i = 0; i < size; i++) {
+            array.append(i);
+        }
+    }
+
+    @Benchmark
+    public int indexOfMissing() {
+        return array.indexOf(-1);
+    }
+
+    @Benchmark
+    public int count() {
+        return array.count(7);
+    }
+
+    @Benchmark
+    public int max() {
+        return array.max();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.hoangtuan2k5.datastructures.ringbuffer.ProducerType;
+import io.github.hoangtuan2k5.datastructures.ringbuffer.RingBuffer;
+import io.github.hoangtuan2k5.datastructures.ringbuffer.WaitStrategy;
+
+/**
+ * Đo thông lượng chuyển phần tử giữa một luồng sản xuất và một luồng tiêu thụ qua {@link RingBuffer}
+ * (một hoặc nhiều luồng sản xuất) so với {@link ArrayBlockingQueue}.
+ * <p>
+ * Cả hai phía dùng thao tác không chờ ({@code offer}, {@code drain}/{@code poll}) để luồng nào
+ * cũng không bị kẹt khi JMH kết thúc một vòng đo; số liệu là số thao tác thành công hoặc thất bại
+ * trên mỗi micro giây của từng phía.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class RingBufferBenchmark {
+
+    @Param({"1024"})
+    private int capacity;
+
+    private RingBuffer<Integer> singleProducer;
+    private RingBuffer<Integer> multiProducer;
+    private ArrayBlockingQueue<Integer> queue;
+    private final Integer value = 42;
+
+    /**
+     * Tạo các bộ đệm rỗng cho mỗi nhóm luồng.
+     */
+    @Setup
+    public void setUp() {
+        singleProducer = new RingBuffer<>(capacity, ProducerType.SINGLE, WaitStrategy.yielding());
+        multiProducer = new RingBuffer<>(capacity, ProducerType.MULTI, WaitStrategy.yielding());
+        queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Trạng thái riêng của luồng tiêu thụ, giữ sẵn hàm nhận phần tử để không cấp phát khi đo.
+     */
+    @State(Scope.Thread)
+    public static class Sink {
+        Consumer<Integer> consumer;
+
+        @Setup
+        public void setUp(Blackhole blackhole) {
+            consumer = blackhole::consume;
+        }
+    }
+
+    @Benchmark
+    @Group("singleProducer")
+    @GroupThreads(1)
+    public boolean singleProducerOffer() {
+        return singleProducer.offer(value);
+    }
+
+    @Benchmark
+    @Group("singleProducer")
+    @GroupThreads(1)
+    public int singleProducerDrain(Sink sink) {
+        return singleProducer.drain(sink.consumer, 256);
+    }
+
+    @Benchmark
+    @Group("multiProducer")
+    @GroupThreads(1)
+    public boolean multiProducerOffer() {
+        return multiProducer.offer(value);
+    }
+
+    @Benchmark
+    @Group("multiProducer")
+    @GroupThreads(1)
+    public int multiProducerDrain(Sink sink) {
+        return multiProducer.drain(sink.consumer, 256);
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public boolean arrayBlockingQueueOffer() {
+        return queue.offer(value);
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public Integer arrayBlockingQueuePoll() {
+        return queue.poll();
+    }
+}
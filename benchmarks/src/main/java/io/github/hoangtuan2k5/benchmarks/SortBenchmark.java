@@ -0,0 +1,137 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.IntDynamicArray;
+import io.github.hoangtuan2k5.datastructures.linkedlist.DefaultIDoublyLinkedList;
+
+/**
+ * So sánh các cách sắp xếp: dual-pivot quicksort, radix sort LSD và sắp xếp song song fork/join cho
+ * {@link IntDynamicArray}; TimSort tuần tự và song song cho {@link DynamicArray}; merge sort tại chỗ trên
+ * các node của {@link DefaultIDoublyLinkedList} so với {@link LinkedList#sort}, vốn chép ra mảng rồi ghi lại.
+ * Dữ liệu ngẫu nhiên được sao chép lại trước mỗi lần gọi.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private IntDynamicArray source;
+    private IntDynamicArray ints;
+    private DynamicArray<Integer> boxedSource;
+    private DynamicArray<Integer> boxed;
+
+    /**
+     * Tạo dữ liệu ngẫu nhiên một lần cho mỗi lần chạy.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = new IntDynamicArray(size);
+        boxedSource = new DynamicArray<>(size);
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt();
+            source.append(value);
+            boxedSource.append(value);
+        }
+    }
+
+    /**
+     * Khôi phục dữ liệu chưa sắp xếp trước mỗi lần gọi.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        ints = source.copy();
+        boxed = boxedSource.copy();
+    }
+
+    @Benchmark
+    public IntDynamicArray sortInts() {
+        ints.sort();
+        return ints;
+    }
+
+    @Benchmark
+    public IntDynamicArray radixSortInts() {
+        ints.radixSort();
+        return ints;
+    }
+
+    @Benchmark
+    public IntDynamicArray parallelSortInts() {
+        ints.parallelSort();
+        return ints;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> sortBoxed() {
+        boxed.sort();
+        return boxed;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> parallelSortBoxed() {
+        boxed.parallelSort();
+        return boxed;
+    }
+
+    @Benchmark
+    public DefaultIDoublyLinkedList<Integer> sortDoublyLinkedList(LinkedLists lists) {
+        lists.doublyLinkedList.sort();
+        return lists.doublyLinkedList;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> sortLinkedList(LinkedLists lists) {
+        lists.linkedList.sort(null);
+        return lists.linkedList;
+    }
+
+    /**
+     * Các danh sách liên kết được dựng lại trước mỗi lần gọi, tách riêng để không làm chậm các phép đo mảng.
+     */
+    @State(Scope.Thread)
+    public static class LinkedLists {
+        private DefaultIDoublyLinkedList<Integer> doublyLinkedList;
+        private LinkedList<Integer> linkedList;
+
+        /**
+         * Sao chép dữ liệu chưa sắp xếp vào hai danh sách.
+         *
+         * @param benchmark Trạng thái chứa dữ liệu nguồn
+         */
+        @Setup(Level.Invocation)
+        public void reset(SortBenchmark benchmark) {
+            doublyLinkedList = new DefaultIDoublyLinkedList<>();
+            linkedList = new LinkedList<>();
+            for (int i = 0; i < benchmark.size; i++) {
+                doublyLinkedList.addLast(benchmark.boxedSource.get(i));
+                linkedList.addLast(benchmark.boxedSource.get(i));
+            }
+        }
+    }
+}
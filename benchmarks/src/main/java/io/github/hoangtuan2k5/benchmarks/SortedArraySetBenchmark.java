@@ -0,0 +1,99 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.IntSortedArraySet;
+
+/**
+ * So sánh thời gian tra cứu {@code contains} và {@code rank} của {@link IntSortedArraySet} với từng bố cục
+ * chỉ mục và {@link Arrays#binarySearch(int[], int)} trên cùng một mảng đã sắp xếp.
+ * <p>
+ * Mỗi lần gọi tra cứu {@value #LOOKUPS} giá trị ngẫu nhiên, một nửa có trong tập hợp, và kết quả được
+ * báo cáo theo từng lần tra cứu. Với kích thước lớn hơn cache L2, phần lớn thời gian là chờ bộ nhớ.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SortedArraySetBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"4096", "1048576", "16777216"})
+    private int size;
+
+    @Param({"SORTED", "EYTZINGER", "BTREE"})
+    private IntSortedArraySet.Layout layout;
+
+    private IntSortedArraySet set;
+    private int[] sorted;
+    private int[] probes;
+
+    /**
+     * Tạo tập hợp gồm các số chẵn ngẫu nhiên và các giá trị cần tra cứu.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt() & ~1;
+        }
+        set = IntSortedArraySet.build(values, layout);
+        sorted = set.toArray();
+        probes = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = i % 2 == 0 ? sorted[random.nextInt(sorted.length)] : random.nextInt() | 1;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int containsSet() {
+        int found = 0;
+        for (int probe : probes) {
+            found += set.contains(probe) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long rankSet() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += set.rank(probe);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int containsBinarySearch() {
+        int found = 0;
+        for (int probe : probes) {
+            found += Arrays.binarySearch(sorted, probe) >= 0 ? 1 : 0;
+        }
+        return found;
+    }
+}
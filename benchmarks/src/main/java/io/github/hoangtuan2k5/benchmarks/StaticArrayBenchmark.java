@@ -0,0 +1,87 @@
+package io.github.hoangtuan2k5.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hoangtuan2k5.datastructures.array.StaticArray;
+
+/**
+ * So sánh {@link StaticArray} với mảng Java thuần và các tiện ích trong
+ * {@link Arrays}/{@link Collections} cho các thao tác fill, reverse và copy.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StaticArrayBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private StaticArray<Integer> staticArray;
+    private Integer[] plainArray;
+
+    /**
+     * Chuẩn bị hai mảng có cùng nội dung {@code 0..size-1}.
+     */
+    @Setup
+    public void setUp() {
+        staticArray = new StaticArray<>(size);
+        plainArray = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            staticArray.set(i, i);
+            plainArray[i] = i;
+        }
+    }
+
+    @Benchmark
+    public StaticArray<Integer> fillStaticArray() {
+        staticArray.fill(42);
+        return staticArray;
+    }
+
+    @Benchmark
+    public Integer[] fillPlainArray() {
+        Arrays.fill(plainArray, 42);
+        return plainArray;
+    }
+
+    @Benchmark
+    public StaticArray<Integer> reverseStaticArray() {
+        staticArray.reverse();
+        return staticArray;
+    }
+
+    @Benchmark
+    public Integer[] reversePlainArray() {
+        Collections.reverse(Arrays.asList(plainArray));
+        return plainArray;
+    }
+
+    @Benchmark
+    public StaticArray<Integer> copyStaticArray() {
+        return staticArray.copy();
+    }
+
+    @Benchmark
+    public Integer[] copyPlainArray() {
+        return plainArray.clone();
+    }
+}
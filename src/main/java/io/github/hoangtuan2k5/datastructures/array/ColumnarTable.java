@@ -0,0 +1,1026 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongPredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Bảng bản ghi lưu theo cột (struct-of-arrays) với số hàng cố định.
+ * <p>
+ * Thay vì giữ mỗi bản ghi là một đối tượng trong {@code StaticArray<T>}, mỗi trường được lưu trong
+ * một cột riêng là một mảng nguyên thủy ({@code int[]}, {@code long[]}, {@code double[]} hoặc
+ * {@code byte[]}); một hàng chỉ là một chỉ số chung cho mọi cột. Như vậy không có header đối tượng
+ * hay con trỏ cho mỗi bản ghi, và một phép quét trên một trường chỉ đọc tuần tự đúng một mảng.
+ * Các phép {@code min}, {@code max} và {@code count(value)} trên cột int/long/double dùng cùng đường
+ * quét vector hóa với {@link IntDynamicArray}.
+ * </p>
+ * <p>
+ * Lược đồ của bảng được lưu trong một {@code StaticArray<Column>}: danh sách cột cố định khi tạo, giống
+ * như {@link StaticArray}. Giá trị của các hàng không nằm trong {@link StaticArray} mà trong mảng nguyên
+ * thủy của từng cột, vì {@code StaticArray<T>} sẽ phải đóng hộp mỗi giá trị. Giống như {@link StaticArray},
+ * số hàng được cố định khi tạo và các ô ban đầu bằng 0.
+ * Lược đồ được mô tả bằng {@link Builder}:
+ * </p>
+ * <pre>{@code
+ * ColumnarTable table = ColumnarTable.builder(1_000_000)
+ *         .intColumn("id")
+ *         .doubleColumn("price")
+ *         .byteColumn("flag")
+ *         .build();
+ * ColumnarTable.DoubleColumn price = table.doubleColumn("price");
+ * ColumnarTable.ByteColumn flag = table.byteColumn("flag");
+ * IntDynamicArray rows = table.select(row -> flag.get(row) == 1);
+ * double total = price.sum(rows);
+ * }</pre>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public final class ColumnarTable {
+    private final int rowCount;
+    private final StaticArray<Column> columns;
+    private final Map<String, Column> columnsByName;
+
+    /**
+     * Kiểu dữ liệu của một cột.
+     */
+    public enum ColumnType {
+        INT, LONG, DOUBLE, BYTE
+    }
+
+    private ColumnarTable(int rowCount, StaticArray<Column> columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+        this.columnsByName = new HashMap<>();
+        for (Column column : columns) {
+            columnsByName.put(column.name, column);
+        }
+    }
+
+    /**
+     * Tạo một builder cho bảng có số hàng đã chỉ định.
+     *
+     * @param rowCount Số hàng của bảng
+     * @return Một builder chưa có cột nào
+     * @throws IllegalArgumentException Nếu số hàng là số âm
+     */
+    public static Builder builder(int rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row count cannot be negative. Rows: " + rowCount);
+        }
+        return new Builder(rowCount);
+    }
+
+    /**
+     * Trả về số hàng của bảng.
+     *
+     * @return Số hàng
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Trả về số cột của bảng.
+     *
+     * @return Số cột
+     */
+    public int columnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Trả về cột tại vị trí đã cho theo thứ tự khai báo.
+     *
+     * @param index Vị trí của cột
+     * @return Cột tại vị trí đã cho
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi [0, columnCount-1]
+     */
+    public Column column(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * Trả về cột có tên đã cho.
+     *
+     * @param name Tên cột
+     * @return Cột có tên đã cho
+     * @throws IllegalArgumentException Nếu không có cột nào mang tên này
+     */
+    public Column column(String name) {
+        Column column = columnsByName.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("No column named: " + name);
+        }
+        return column;
+    }
+
+    /**
+     * Trả về cột {@code int} có tên đã cho.
+     *
+     * @param name Tên cột
+     * @return Cột {@code int}
+     * @throws IllegalArgumentException Nếu không có cột nào mang tên này hoặc cột có kiểu khác
+     */
+    public IntColumn intColumn(String name) {
+        return (IntColumn) typedColumn(name, ColumnType.INT);
+    }
+
+    /**
+     * Trả về cột {@code long} có tên đã cho.
+     *
+     * @param name Tên cột
+     * @return Cột {@code long}
+     * @throws IllegalArgumentException Nếu không có cột nào mang tên này hoặc cột có kiểu khác
+     */
+    public LongColumn longColumn(String name) {
+        return (LongColumn) typedColumn(name, ColumnType.LONG);
+    }
+
+    /**
+     * Trả về cột {@code double} có tên đã cho.
+     *
+     * @param name Tên cột
+     * @return Cột {@code double}
+     * @throws IllegalArgumentException Nếu không có cột nào mang tên này hoặc cột có kiểu khác
+     */
+    public DoubleColumn doubleColumn(String name) {
+        return (DoubleColumn) typedColumn(name, ColumnType.DOUBLE);
+    }
+
+    /**
+     * Trả về cột {@code byte} có tên đã cho.
+     *
+     * @param name Tên cột
+     * @return Cột {@code byte}
+     * @throws IllegalArgumentException Nếu không có cột nào mang tên này hoặc cột có kiểu khác
+     */
+    public ByteColumn byteColumn(String name) {
+        return (ByteColumn) typedColumn(name, ColumnType.BYTE);
+    }
+
+    /**
+     * Trả về chỉ số của các hàng thỏa mãn điều kiện, theo thứ tự tăng dần.
+     * <p>
+     * Điều kiện nhận chỉ số hàng, nên có thể kết hợp nhiều cột, ví dụ
+     * {@code row -> price.get(row) > 10 && flag.get(row) == 1}. Kết quả có thể được truyền cho
+     * các phép tổng hợp như {@link IntColumn#sum(IntDynamicArray)}.
+     * </p>
+     *
+     * @param rowFilter Điều kiện trên chỉ số hàng
+     * @return Chỉ số của các hàng thỏa mãn
+     * @throws NullPointerException Nếu điều kiện là null
+     */
+    public IntDynamicArray select(IntPredicate rowFilter) {
+        if (rowFilter == null) {
+            throw new NullPointerException("Filter cannot be null!");
+        }
+        return selectRows(rowFilter, rowCount);
+    }
+
+    /**
+     * Trả về biểu diễn chuỗi của một hàng, dạng {@code {id=1, price=2.5}}.
+     *
+     * @param row Chỉ số hàng
+     * @return Biểu diễn chuỗi của hàng
+     * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+     */
+    public String rowToString(int row) {
+        validateRow(row, rowCount);
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(column.name).append("=").append(column.valueToString(row));
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của lược đồ bảng.
+     *
+     * @return Biểu diễn chuỗi của bảng
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ColumnarTable[rows=").append(rowCount).append(", columns=[");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(columns.get(i));
+        }
+        sb.append("]]");
+        return sb.toString();
+    }
+
+    private Column typedColumn(String name, ColumnType type) {
+        Column column = column(name);
+        if (column.type != type) {
+            throw new IllegalArgumentException("Column " + name + " has type " + column.type + ", not " + type);
+        }
+        return column;
+    }
+
+    private static IntDynamicArray selectRows(IntPredicate rowFilter, int rowCount) {
+        IntDynamicArray rows = new IntDynamicArray(16);
+        for (int row = 0; row < rowCount; row++) {
+            if (rowFilter.test(row)) {
+                rows.append(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Xác thực rằng chỉ số hàng nằm trong phạm vi [0, rowCount-1].
+     *
+     * @param row Chỉ số hàng
+     * @param rowCount Số hàng
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi
+     */
+    private static void validateRow(int row, int rowCount) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("index: " + row + ", size: " + rowCount);
+        }
+    }
+
+    /**
+     * Builder mô tả lược đồ của một {@link ColumnarTable}.
+     */
+    public static final class Builder {
+        private final int rowCount;
+        private final DynamicArray<Column> columns = new DynamicArray<>(8);
+        private final Map<String, Column> names = new HashMap<>();
+
+        private Builder(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        /**
+         * Thêm một cột {@code int}.
+         *
+         * @param name Tên cột, duy nhất trong bảng
+         * @return Builder này
+         * @throws IllegalArgumentException Nếu tên đã được dùng
+         * @throws NullPointerException Nếu tên là null
+         */
+        public Builder intColumn(String name) {
+            return add(new IntColumn(name, rowCount));
+        }
+
+        /**
+         * Thêm một cột {@code long}.
+         *
+         * @param name Tên cột, duy nhất trong bảng
+         * @return Builder này
+         * @throws IllegalArgumentException Nếu tên đã được dùng
+         * @throws NullPointerException Nếu tên là null
+         */
+        public Builder longColumn(String name) {
+            return add(new LongColumn(name, rowCount));
+        }
+
+        /**
+         * Thêm một cột {@code double}.
+         *
+         * @param name Tên cột, duy nhất trong bảng
+         * @return Builder này
+         * @throws IllegalArgumentException Nếu tên đã được dùng
+         * @throws NullPointerException Nếu tên là null
+         */
+        public Builder doubleColumn(String name) {
+            return add(new DoubleColumn(name, rowCount));
+        }
+
+        /**
+         * Thêm một cột {@code byte}.
+         *
+         * @param name Tên cột, duy nhất trong bảng
+         * @return Builder này
+         * @throws IllegalArgumentException Nếu tên đã được dùng
+         * @throws NullPointerException Nếu tên là null
+         */
+        public Builder byteColumn(String name) {
+            return add(new ByteColumn(name, rowCount));
+        }
+
+        /**
+         * Tạo bảng với các cột đã khai báo, theo đúng thứ tự khai báo.
+         *
+         * @return Bảng mới
+         */
+        public ColumnarTable build() {
+            StaticArray<Column> result = new StaticArray<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) {
+                result.set(i, columns.get(i));
+            }
+            return new ColumnarTable(rowCount, result);
+        }
+
+        private Builder add(Column column) {
+            if (names.putIfAbsent(column.name, column) != null) {
+                throw new IllegalArgumentException("Column already exists: " + column.name);
+            }
+            columns.append(column);
+            return this;
+        }
+    }
+
+    /**
+     * Một cột của bảng: tên, kiểu và mảng nguyên thủy chứa giá trị của mọi hàng.
+     * <p>
+     * Việc duyệt hàng (đếm, lọc, cộng theo các hàng đã chọn) được dùng chung ở đây; mỗi lớp con chỉ
+     * cung cấp cách đọc giá trị của một hàng và các vòng quét riêng cho kiểu nguyên thủy của nó.
+     * </p>
+     */
+    public abstract static class Column {
+        private final String name;
+        private final ColumnType type;
+        final int rowCount;
+
+        private Column(String name, ColumnType type, int rowCount) {
+            if (name == null) {
+                throw new NullPointerException("Column name cannot be null!");
+            }
+            this.name = name;
+            this.type = type;
+            this.rowCount = rowCount;
+        }
+
+        /**
+         * Trả về tên của cột.
+         *
+         * @return Tên cột
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Trả về kiểu dữ liệu của cột.
+         *
+         * @return Kiểu dữ liệu
+         */
+        public ColumnType type() {
+            return type;
+        }
+
+        abstract String valueToString(int row);
+
+        final void validateRow(int row) {
+            ColumnarTable.validateRow(row, rowCount);
+        }
+
+        final void validateNotEmpty() {
+            if (rowCount == 0) {
+                throw new NoSuchElementException("Table is empty!");
+            }
+        }
+
+        static void validatePredicate(Object predicate) {
+            if (predicate == null) {
+                throw new NullPointerException("Predicate cannot be null!");
+            }
+        }
+
+        /**
+         * Đếm số hàng thỏa mãn điều kiện trên chỉ số hàng.
+         */
+        final int countRows(IntPredicate rowFilter) {
+            int count = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (rowFilter.test(row)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Trả về chỉ số của các hàng thỏa mãn điều kiện trên chỉ số hàng, theo thứ tự tăng dần.
+         */
+        final IntDynamicArray filterRows(IntPredicate rowFilter) {
+            return selectRows(rowFilter, rowCount);
+        }
+
+        /**
+         * Cộng giá trị {@code long} của các hàng đã chọn, sau khi xác thực từng chỉ số hàng.
+         */
+        final long sumRows(IntDynamicArray rows, IntToLongFunction valueAt) {
+            long sum = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                int row = rows.get(i);
+                validateRow(row);
+                sum += valueAt.applyAsLong(row);
+            }
+            return sum;
+        }
+
+        /**
+         * Cộng giá trị {@code double} của các hàng đã chọn, sau khi xác thực từng chỉ số hàng.
+         */
+        final double sumRowsAsDouble(IntDynamicArray rows, IntToDoubleFunction valueAt) {
+            double sum = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                int row = rows.get(i);
+                validateRow(row);
+                sum += valueAt.applyAsDouble(row);
+            }
+            return sum;
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + type;
+        }
+    }
+
+    /**
+     * Cột {@code int}, lưu trong một mảng {@code int[]}.
+     */
+    public static final class IntColumn extends Column {
+        private final int[] values;
+
+        private IntColumn(String name, int rowCount) {
+            super(name, ColumnType.INT, rowCount);
+            this.values = new int[rowCount];
+        }
+
+        /**
+         * Trả về giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @return Giá trị tại hàng
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public int get(int row) {
+            validateRow(row);
+            return values[row];
+        }
+
+        /**
+         * Gán giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @param value Giá trị mới
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public void set(int row, int value) {
+            validateRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * Gán cùng một giá trị cho mọi hàng của cột.
+         *
+         * @param value Giá trị cần gán
+         */
+        public void fill(int value) {
+            Arrays.fill(values, value);
+        }
+
+        /**
+         * Trả về tổng của cột, tính bằng {@code long} để không tràn số.
+         *
+         * @return Tổng của mọi hàng
+         */
+        public long sum() {
+            long sum = 0;
+            for (int value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        /**
+         * Trả về tổng của các hàng đã chọn, ví dụ kết quả của {@link ColumnarTable#select(IntPredicate)}.
+         *
+         * @param rows Chỉ số của các hàng cần cộng
+         * @return Tổng của các hàng đã chọn
+         * @throws IndexOutOfBoundsException Nếu một chỉ số hàng không hợp lệ
+         */
+        public long sum(IntDynamicArray rows) {
+            return sumRows(rows, row -> values[row]);
+        }
+
+        /**
+         * Trả về giá trị nhỏ nhất của cột.
+         *
+         * @return Giá trị nhỏ nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public int min() {
+            validateNotEmpty();
+            return PrimitiveScans.min(values, 0, rowCount);
+        }
+
+        /**
+         * Trả về giá trị lớn nhất của cột.
+         *
+         * @return Giá trị lớn nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public int max() {
+            validateNotEmpty();
+            return PrimitiveScans.max(values, 0, rowCount);
+        }
+
+        /**
+         * Đếm số hàng có giá trị bằng giá trị đã cho.
+         *
+         * @param value Giá trị cần đếm
+         * @return Số hàng có giá trị bằng {@code value}
+         */
+        public int count(int value) {
+            return PrimitiveScans.count(values, 0, rowCount, value);
+        }
+
+        /**
+         * Đếm số hàng có giá trị thỏa mãn điều kiện.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Số hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public int count(IntPredicate predicate) {
+            validatePredicate(predicate);
+            return countRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về chỉ số của các hàng có giá trị thỏa mãn điều kiện, theo thứ tự tăng dần.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Chỉ số của các hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public IntDynamicArray filter(IntPredicate predicate) {
+            validatePredicate(predicate);
+            return filterRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về một Stream tuần tự trên giá trị của cột theo thứ tự hàng.
+         *
+         * @return Một Stream nguyên thủy
+         */
+        public IntStream stream() {
+            return Arrays.stream(values);
+        }
+
+        @Override
+        String valueToString(int row) {
+            return String.valueOf(values[row]);
+        }
+    }
+
+    /**
+     * Cột {@code long}, lưu trong một mảng {@code long[]}.
+     */
+    public static final class LongColumn extends Column {
+        private final long[] values;
+
+        private LongColumn(String name, int rowCount) {
+            super(name, ColumnType.LONG, rowCount);
+            this.values = new long[rowCount];
+        }
+
+        /**
+         * Trả về giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @return Giá trị tại hàng
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public long get(int row) {
+            validateRow(row);
+            return values[row];
+        }
+
+        /**
+         * Gán giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @param value Giá trị mới
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public void set(int row, long value) {
+            validateRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * Gán cùng một giá trị cho mọi hàng của cột.
+         *
+         * @param value Giá trị cần gán
+         */
+        public void fill(long value) {
+            Arrays.fill(values, value);
+        }
+
+        /**
+         * Trả về tổng của cột; tràn số theo quy tắc của phép cộng {@code long}.
+         *
+         * @return Tổng của mọi hàng
+         */
+        public long sum() {
+            long sum = 0;
+            for (long value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        /**
+         * Trả về tổng của các hàng đã chọn.
+         *
+         * @param rows Chỉ số của các hàng cần cộng
+         * @return Tổng của các hàng đã chọn
+         * @throws IndexOutOfBoundsException Nếu một chỉ số hàng không hợp lệ
+         */
+        public long sum(IntDynamicArray rows) {
+            return sumRows(rows, row -> values[row]);
+        }
+
+        /**
+         * Trả về giá trị nhỏ nhất của cột.
+         *
+         * @return Giá trị nhỏ nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public long min() {
+            validateNotEmpty();
+            return PrimitiveScans.min(values, 0, rowCount);
+        }
+
+        /**
+         * Trả về giá trị lớn nhất của cột.
+         *
+         * @return Giá trị lớn nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public long max() {
+            validateNotEmpty();
+            return PrimitiveScans.max(values, 0, rowCount);
+        }
+
+        /**
+         * Đếm số hàng có giá trị bằng giá trị đã cho.
+         *
+         * @param value Giá trị cần đếm
+         * @return Số hàng có giá trị bằng {@code value}
+         */
+        public int count(long value) {
+            return PrimitiveScans.count(values, 0, rowCount, value);
+        }
+
+        /**
+         * Đếm số hàng có giá trị thỏa mãn điều kiện.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Số hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public int count(LongPredicate predicate) {
+            validatePredicate(predicate);
+            return countRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về chỉ số của các hàng có giá trị thỏa mãn điều kiện, theo thứ tự tăng dần.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Chỉ số của các hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public IntDynamicArray filter(LongPredicate predicate) {
+            validatePredicate(predicate);
+            return filterRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về một Stream tuần tự trên giá trị của cột theo thứ tự hàng.
+         *
+         * @return Một Stream nguyên thủy
+         */
+        public LongStream stream() {
+            return Arrays.stream(values);
+        }
+
+        @Override
+        String valueToString(int row) {
+            return String.valueOf(values[row]);
+        }
+    }
+
+    /**
+     * Cột {@code double}, lưu trong một mảng {@code double[]}.
+     */
+    public static final class DoubleColumn extends Column {
+        private final double[] values;
+
+        private DoubleColumn(String name, int rowCount) {
+            super(name, ColumnType.DOUBLE, rowCount);
+            this.values = new double[rowCount];
+        }
+
+        /**
+         * Trả về giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @return Giá trị tại hàng
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public double get(int row) {
+            validateRow(row);
+            return values[row];
+        }
+
+        /**
+         * Gán giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @param value Giá trị mới
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public void set(int row, double value) {
+            validateRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * Gán cùng một giá trị cho mọi hàng của cột.
+         *
+         * @param value Giá trị cần gán
+         */
+        public void fill(double value) {
+            Arrays.fill(values, value);
+        }
+
+        /**
+         * Trả về tổng của cột, cộng tuần tự theo thứ tự hàng.
+         *
+         * @return Tổng của mọi hàng
+         */
+        public double sum() {
+            double sum = 0;
+            for (double value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        /**
+         * Trả về tổng của các hàng đã chọn.
+         *
+         * @param rows Chỉ số của các hàng cần cộng
+         * @return Tổng của các hàng đã chọn
+         * @throws IndexOutOfBoundsException Nếu một chỉ số hàng không hợp lệ
+         */
+        public double sum(IntDynamicArray rows) {
+            return sumRowsAsDouble(rows, row -> values[row]);
+        }
+
+        /**
+         * Trả về giá trị nhỏ nhất của cột, với cùng ngữ nghĩa như {@link Math#min(double, double)}.
+         *
+         * @return Giá trị nhỏ nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public double min() {
+            validateNotEmpty();
+            return PrimitiveScans.min(values, 0, rowCount);
+        }
+
+        /**
+         * Trả về giá trị lớn nhất của cột, với cùng ngữ nghĩa như {@link Math#max(double, double)}.
+         *
+         * @return Giá trị lớn nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public double max() {
+            validateNotEmpty();
+            return PrimitiveScans.max(values, 0, rowCount);
+        }
+
+        /**
+         * Đếm số hàng có giá trị bằng giá trị đã cho, so sánh bằng {@link Double#doubleToLongBits(double)}.
+         *
+         * @param value Giá trị cần đếm
+         * @return Số hàng có giá trị bằng {@code value}
+         */
+        public int count(double value) {
+            return PrimitiveScans.count(values, 0, rowCount, value);
+        }
+
+        /**
+         * Đếm số hàng có giá trị thỏa mãn điều kiện.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Số hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public int count(DoublePredicate predicate) {
+            validatePredicate(predicate);
+            return countRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về chỉ số của các hàng có giá trị thỏa mãn điều kiện, theo thứ tự tăng dần.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Chỉ số của các hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public IntDynamicArray filter(DoublePredicate predicate) {
+            validatePredicate(predicate);
+            return filterRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về một Stream tuần tự trên giá trị của cột theo thứ tự hàng.
+         *
+         * @return Một Stream nguyên thủy
+         */
+        public DoubleStream stream() {
+            return Arrays.stream(values);
+        }
+
+        @Override
+        String valueToString(int row) {
+            return String.valueOf(values[row]);
+        }
+    }
+
+    /**
+     * Cột {@code byte}, lưu trong một mảng {@code byte[]}; phù hợp cho cờ và mã phân loại nhỏ.
+     */
+    public static final class ByteColumn extends Column {
+        private final byte[] values;
+
+        private ByteColumn(String name, int rowCount) {
+            super(name, ColumnType.BYTE, rowCount);
+            this.values = new byte[rowCount];
+        }
+
+        /**
+         * Trả về giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @return Giá trị tại hàng
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public byte get(int row) {
+            validateRow(row);
+            return values[row];
+        }
+
+        /**
+         * Gán giá trị của cột tại hàng đã cho.
+         *
+         * @param row Chỉ số hàng
+         * @param value Giá trị mới
+         * @throws IndexOutOfBoundsException Nếu chỉ số hàng nằm ngoài phạm vi [0, rowCount-1]
+         */
+        public void set(int row, byte value) {
+            validateRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * Gán cùng một giá trị cho mọi hàng của cột.
+         *
+         * @param value Giá trị cần gán
+         */
+        public void fill(byte value) {
+            Arrays.fill(values, value);
+        }
+
+        /**
+         * Trả về tổng của cột (các byte được hiểu là số có dấu).
+         *
+         * @return Tổng của mọi hàng
+         */
+        public long sum() {
+            long sum = 0;
+            for (byte value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        /**
+         * Trả về tổng của các hàng đã chọn.
+         *
+         * @param rows Chỉ số của các hàng cần cộng
+         * @return Tổng của các hàng đã chọn
+         * @throws IndexOutOfBoundsException Nếu một chỉ số hàng không hợp lệ
+         */
+        public long sum(IntDynamicArray rows) {
+            return sumRows(rows, row -> values[row]);
+        }
+
+        /**
+         * Trả về giá trị nhỏ nhất của cột.
+         *
+         * @return Giá trị nhỏ nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public byte min() {
+            validateNotEmpty();
+            byte min = values[0];
+            for (int i = 1; i < rowCount; i++) {
+                if (values[i] < min) {
+                    min = values[i];
+                }
+            }
+            return min;
+        }
+
+        /**
+         * Trả về giá trị lớn nhất của cột.
+         *
+         * @return Giá trị lớn nhất
+         * @throws NoSuchElementException Nếu bảng không có hàng nào
+         */
+        public byte max() {
+            validateNotEmpty();
+            byte max = values[0];
+            for (int i = 1; i < rowCount; i++) {
+                if (values[i] > max) {
+                    max = values[i];
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Đếm số hàng có giá trị bằng giá trị đã cho.
+         *
+         * @param value Giá trị cần đếm
+         * @return Số hàng có giá trị bằng {@code value}
+         */
+        public int count(byte value) {
+            int count = 0;
+            for (byte element : values) {
+                if (element == value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Đếm số hàng có giá trị thỏa mãn điều kiện.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Số hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public int count(IntPredicate predicate) {
+            validatePredicate(predicate);
+            return countRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về chỉ số của các hàng có giá trị thỏa mãn điều kiện, theo thứ tự tăng dần.
+         *
+         * @param predicate Điều kiện trên giá trị
+         * @return Chỉ số của các hàng thỏa mãn
+         * @throws NullPointerException Nếu điều kiện là null
+         */
+        public IntDynamicArray filter(IntPredicate predicate) {
+            validatePredicate(predicate);
+            return filterRows(row -> predicate.test(values[row]));
+        }
+
+        /**
+         * Trả về một Stream tuần tự trên giá trị của cột theo thứ tự hàng, mỗi byte được mở rộng
+         * thành {@code int} có dấu.
+         *
+         * @return Một Stream nguyên thủy
+         */
+        public IntStream stream() {
+            return IntStream.range(0, rowCount).map(row -> values[row]);
+        }
+
+        @Override
+        String valueToString(int row) {
+            return String.valueOf(values[row]);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Bộ đệm chỉ-thêm (append-only) cho phép nhiều luồng cùng thêm phần tử mà không dùng khóa.
+ * <p>
+ * Mỗi luồng ghi có một "làn" (lane) riêng gồm các khối mảng có kích thước cố định. Chỉ luồng sở
+ * hữu mới ghi vào làn của nó: phần tử được ghi vào ô tiếp theo của khối hiện tại, sau đó số phần
+ * tử đã công bố ({@code published}) được cập nhật bằng một lần ghi volatile. Vì không có hai
+ * luồng nào ghi vào cùng một vùng nhớ, {@link #append(Object)} không cần khóa hay CAS, và thông
+ * lượng tăng gần tuyến tính theo số luồng ghi.
+ * </p>
+ * <p>
+ * Phía đọc ({@link #snapshot()}, {@link #drainTo(DynamicArray)}, {@link #size()}) duyệt qua tất
+ * cả các làn dưới một khóa riêng chỉ dùng cho phía đọc, nên chúng không bao giờ chặn luồng ghi.
+ * Kết quả chứa mọi phần tử có lời gọi {@code append} đã hoàn tất trước khi thao tác đọc bắt đầu,
+ * và có thể chứa thêm một số phần tử được thêm đồng thời. Thứ tự thêm của từng luồng được giữ
+ * nguyên; thứ tự giữa các luồng khác nhau không được xác định.
+ * </p>
+ * <p>
+ * Các khối đã đầy và đã được lấy ra hết sẽ được bỏ đi, và làn của một luồng đã kết thúc sẽ bị
+ * gỡ bỏ khi nó không còn phần tử nào.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong bộ đệm
+ */
+public class ConcurrentAppendBuffer<T> {
+    private static final int DEFAULT_CHUNK_CAPACITY = 1024;
+
+    private final int chunkCapacity;
+    private final CopyOnWriteArrayList<Lane> lanes;
+    private final ThreadLocal<Lane> localLane;
+    private final Object readLock;
+
+    /**
+     * Tạo một bộ đệm rỗng với kích thước khối mặc định là {@value #DEFAULT_CHUNK_CAPACITY}.
+     */
+    public ConcurrentAppendBuffer() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Tạo một bộ đệm rỗng với kích thước khối được chỉ định.
+     *
+     * @param chunkCapacity Số phần tử trong mỗi khối của một làn
+     * @throws IllegalArgumentException Nếu kích thước khối nhỏ hơn 1
+     */
+    public ConcurrentAppendBuffer(int chunkCapacity) {
+        if (chunkCapacity < 1) {
+            throw new IllegalArgumentException("Chunk capacity must be positive. Capacity: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.lanes = new CopyOnWriteArrayList<>();
+        this.localLane = ThreadLocal.withInitial(this::registerLane);
+        this.readLock = new Object();
+    }
+
+    /**
+     * Thêm một phần tử vào làn của luồng hiện tại mà không dùng khóa.
+     *
+     * @param element Phần tử được thêm vào bộ đệm
+     */
+    public void append(T element) {
+        Lane lane = localLane.get();
+        Chunk chunk = lane.tail;
+        int published = chunk.published;
+        if (published == chunk.items.length) {
+            Chunk next = new Chunk(chunkCapacity);
+            chunk.next = next;
+            lane.tail = next;
+            chunk = next;
+            published = 0;
+        }
+        chunk.items[published] = element;
+        chunk.published = published + 1;
+    }
+
+    /**
+     * Trả về một mảng động mới chứa các phần tử hiện có, mà không lấy chúng ra khỏi bộ đệm.
+     *
+     * @return Một mảng động chứa các phần tử của bộ đệm
+     */
+    public DynamicArray<T> snapshot() {
+        synchronized (readLock) {
+            DynamicArray<T> result = new DynamicArray<>(Math.max(1, countLocked()));
+            for (Lane lane : lanes) {
+                for (Chunk chunk = lane.head; chunk != null; chunk = chunk.next) {
+                    int published = chunk.published;
+                    for (int i = chunk.consumed; i < published; i++) {
+                        result.append(chunk.<T>item(i));
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Lấy tất cả các phần tử hiện có ra khỏi bộ đệm và thêm chúng vào cuối mảng đích.
+     * <p>
+     * Mảng đích được mở rộng trước bằng {@link DynamicArray#ensureCapacity(int)}, nên nó
+     * thay đổi kích thước tối đa một lần (trừ khi có phần tử được thêm đồng thời).
+     * </p>
+     *
+     * @param target Mảng động nhận các phần tử
+     * @return Số phần tử đã được lấy ra
+     * @throws NullPointerException Nếu mảng đích là null
+     */
+    public int drainTo(DynamicArray<? super T> target) {
+        if (target == null) {
+            throw new NullPointerException("Target cannot be null!");
+        }
+        synchronized (readLock) {
+            int expected = countLocked();
+            if (expected > 0) {
+                target.ensureCapacity(target.size() + expected);
+            }
+            int drained = 0;
+            for (Lane lane : lanes) {
+                Chunk chunk = lane.head;
+                while (true) {
+                    int published = chunk.published;
+                    for (int i = chunk.consumed; i < published; i++) {
+                        target.append(chunk.<T>item(i));
+                        chunk.items[i] = null;
+                        drained++;
+                    }
+                    chunk.consumed = published;
+                    Chunk next = chunk.next;
+                    if (published < chunk.items.length || next == null) {
+                        break;
+                    }
+                    // Khối đã đầy và đã được lấy ra hết: bỏ nó đi
+                    lane.head = next;
+                    chunk = next;
+                }
+                if (!lane.owner.isAlive() && lane.head.next == null && lane.head.consumed == lane.head.published) {
+                    lanes.remove(lane);
+                }
+            }
+            return drained;
+        }
+    }
+
+    /**
+     * Trả về số phần tử hiện có trong bộ đệm.
+     * <p>
+     * Khi có luồng đang thêm đồng thời, giá trị này chỉ là ước lượng.
+     * </p>
+     *
+     * @return Số phần tử trong bộ đệm
+     */
+    public int size() {
+        synchronized (readLock) {
+            return countLocked();
+        }
+    }
+
+    /**
+     * Trả về true nếu bộ đệm không chứa phần tử nào.
+     *
+     * @return true nếu bộ đệm không chứa phần tử nào
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Đếm số phần tử chưa được lấy ra; phải được gọi khi đang giữ khóa đọc.
+     *
+     * @return Số phần tử trong bộ đệm
+     */
+    private int countLocked() {
+        long count = 0;
+        for (Lane lane : lanes) {
+            for (Chunk chunk = lane.head; chunk != null; chunk = chunk.next) {
+                count += chunk.published - chunk.consumed;
+            }
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Tạo và đăng ký làn cho luồng hiện tại.
+     *
+     * @return Làn mới của luồng hiện tại
+     */
+    private Lane registerLane() {
+        Lane lane = new Lane(Thread.currentThread(), new Chunk(chunkCapacity));
+        lanes.add(lane);
+        return lane;
+    }
+
+    /**
+     * Làn ghi của một luồng: một chuỗi các khối, từ khối cũ nhất chưa được lấy ra hết
+     * ({@code head}, chỉ phía đọc thay đổi) đến khối đang được ghi ({@code tail}, chỉ luồng sở hữu dùng).
+     */
+    private static final class Lane {
+        final Thread owner;
+        volatile Chunk head;
+        Chunk tail;
+
+        Lane(Thread owner, Chunk first) {
+            this.owner = owner;
+            this.head = first;
+            this.tail = first;
+        }
+    }
+
+    /**
+     * Một khối có kích thước cố định trong một làn.
+     * <p>
+     * Luồng ghi ghi phần tử trước rồi mới tăng {@code published} (volatile), nên phía đọc khi
+     * đọc {@code published} sẽ thấy đầy đủ các phần tử đứng trước nó.
+     * </p>
+     */
+    private static final class Chunk {
+        final Object[] items;
+        volatile int published;
+        volatile Chunk next;
+        /**
+         * Số phần tử đầu khối đã được lấy ra; chỉ phía đọc truy cập (dưới khóa đọc).
+         */
+        int consumed;
+
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T item(int index) {
+            return (T) items[index];
+        }
+    }
+}
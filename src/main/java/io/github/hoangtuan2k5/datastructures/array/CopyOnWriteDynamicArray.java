@@ -0,0 +1,432 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mảng động sao chép khi ghi (copy-on-write) dành cho dữ liệu đọc nhiều, ghi ít giữa nhiều luồng.
+ * <p>
+ * Các phần tử nằm trong một mảng bất biến có độ dài đúng bằng số phần tử, được tham chiếu qua
+ * một trường {@code volatile}. Thao tác đọc chỉ đọc trường này một lần rồi làm việc trên mảng
+ * đó, nên không cần khóa và không bao giờ bị chặn; bộ lặp, Spliterator và Stream duyệt ảnh chụp
+ * (snapshot) tại thời điểm tạo ra và không bao giờ ném
+ * {@link java.util.ConcurrentModificationException}.
+ * </p>
+ * <p>
+ * Mỗi thao tác ghi lấy một khóa riêng của phía ghi, sao chép mảng hiện tại, thay đổi bản sao
+ * rồi công bố nó bằng một lần ghi volatile. Để áp dụng nhiều thay đổi mà chỉ sao chép một lần,
+ * dùng {@link #mutate(Consumer)}: mọi thay đổi trong lô được thực hiện trên một
+ * {@link DynamicArray} làm việc và luồng đọc chỉ thấy kết quả cuối cùng.
+ * </p>
+ * <p>
+ * Khóa là {@link ReentrantLock} thay vì {@code synchronized}, nên luồng ảo đang chờ ghi không
+ * ghim luồng mang của nó.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong mảng
+ */
+public class CopyOnWriteDynamicArray<T> implements Iterable<T> {
+    private static final Object[] EMPTY = new Object[0];
+
+    private final ReentrantLock writeLock;
+    private volatile Object[] array;
+
+    /**
+     * Tạo một mảng sao chép khi ghi rỗng.
+     */
+    public CopyOnWriteDynamicArray() {
+        this.writeLock = new ReentrantLock();
+        this.array = EMPTY;
+    }
+
+    /**
+     * Tạo một mảng sao chép khi ghi chứa các phần tử của mảng động đã cho, theo thứ tự.
+     *
+     * @param elements Mảng động chứa các phần tử ban đầu
+     * @throws NullPointerException Nếu mảng động là null
+     */
+    public CopyOnWriteDynamicArray(DynamicArray<? extends T> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        this.writeLock = new ReentrantLock();
+        this.array = elements.copy().toTrimmedArray();
+    }
+
+    /**
+     * Trả về phần tử tại vị trí chỉ định mà không dùng khóa.
+     *
+     * @param index Chỉ số của phần tử cần trả về
+     * @return Phần tử tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public T get(int index) {
+        Object[] snapshot = array;
+        validateElementIndex(index, snapshot.length);
+        return elementAt(snapshot, index);
+    }
+
+    /**
+     * Trả về số lượng phần tử trong mảng này.
+     *
+     * @return Số lượng phần tử trong mảng này
+     */
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Trả về true nếu mảng này không chứa phần tử nào.
+     *
+     * @return true nếu mảng này không chứa phần tử nào
+     */
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định trong ảnh chụp hiện tại,
+     * hoặc -1 nếu không có.
+     *
+     * @param element Phần tử cần tìm kiếm
+     * @return Chỉ số của lần xuất hiện đầu tiên, hoặc -1 nếu không tìm thấy
+     */
+    public int indexOf(Object element) {
+        return indexOf(array, element);
+    }
+
+    /**
+     * Trả về true nếu mảng này chứa phần tử đã chỉ định.
+     *
+     * @param element Phần tử cần kiểm tra
+     * @return true nếu mảng này chứa phần tử đã chỉ định, false nếu không
+     */
+    public boolean contains(Object element) {
+        return indexOf(array, element) != -1;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối mảng.
+     *
+     * @param element Phần tử được thêm vào mảng
+     */
+    public void append(T element) {
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            Object[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = element;
+            array = next;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Thêm tất cả các phần tử của mảng đã cho vào cuối mảng này bằng một lần sao chép.
+     *
+     * @param elements Các phần tử cần thêm
+     * @throws NullPointerException Nếu mảng phần tử là null
+     */
+    public void appendAll(T[] elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        if (elements.length == 0) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            Object[] next = Arrays.copyOf(current, current.length + elements.length);
+            System.arraycopy(elements, 0, next, current.length, elements.length);
+            array = next;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định, dịch các phần tử từ vị trí đó sang phải.
+     *
+     * @param index Vị trí chèn, trong phạm vi [0, size]
+     * @param element Phần tử cần chèn
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi [0, size]
+     */
+    public void insert(int index, T element) {
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + current.length);
+            }
+            Object[] next = new Object[current.length + 1];
+            System.arraycopy(current, 0, next, 0, index);
+            next[index] = element;
+            System.arraycopy(current, index, next, index + 1, current.length - index);
+            array = next;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Thay thế phần tử tại vị trí chỉ định.
+     *
+     * @param index Chỉ số của phần tử cần thay thế
+     * @param element Phần tử được lưu trữ tại vị trí chỉ định
+     * @return Phần tử cũ tại vị trí đó
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public T set(int index, T element) {
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            validateElementIndex(index, current.length);
+            T old = elementAt(current, index);
+            Object[] next = current.clone();
+            next[index] = element;
+            array = next;
+            return old;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Xóa phần tử tại vị trí chỉ định.
+     *
+     * @param index Chỉ số của phần tử cần xóa
+     * @return Phần tử đã bị xóa
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public T remove(int index) {
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            validateElementIndex(index, current.length);
+            T old = elementAt(current, index);
+            Object[] next = new Object[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            array = next;
+            return old;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Xóa tất cả các phần tử thỏa mãn điều kiện đã cho bằng một lần sao chép.
+     * <p>
+     * Nếu không có phần tử nào bị xóa, ảnh chụp hiện tại được giữ nguyên.
+     * </p>
+     *
+     * @param filter Điều kiện trả về true cho các phần tử cần xóa
+     * @return true nếu có ít nhất một phần tử bị xóa
+     * @throws NullPointerException Nếu điều kiện là null
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter cannot be null!");
+        }
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            Object[] kept = new Object[current.length];
+            int size = 0;
+            for (int i = 0; i < current.length; i++) {
+                T element = elementAt(current, i);
+                if (!filter.test(element)) {
+                    kept[size++] = element;
+                }
+            }
+            if (size == current.length) {
+                return false;
+            }
+            array = Arrays.copyOf(kept, size);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Xóa tất cả các phần tử trong mảng này.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            array = EMPTY;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Áp dụng một lô thay đổi với một lần sao chép và một lần công bố.
+     * <p>
+     * Hàm {@code edits} nhận một {@link DynamicArray} làm việc chứa bản sao của ảnh chụp hiện tại
+     * và có thể gọi bất kỳ thao tác nào của nó. Khi hàm trả về, nội dung của mảng làm việc trở thành
+     * ảnh chụp mới; luồng đọc không bao giờ thấy trạng thái trung gian. Các luồng ghi khác chờ cho
+     * đến khi lô hoàn tất. Nếu {@code edits} ném ngoại lệ, ảnh chụp hiện tại được giữ nguyên.
+     * Mảng làm việc không được dùng lại sau khi hàm trả về.
+     * </p>
+     *
+     * @param edits Hàm thực hiện các thay đổi trên mảng làm việc
+     * @throws NullPointerException Nếu hàm thay đổi là null
+     */
+    @SuppressWarnings("unchecked")
+    public void mutate(Consumer<? super DynamicArray<T>> edits) {
+        if (edits == null) {
+            throw new NullPointerException("Edits cannot be null!");
+        }
+        writeLock.lock();
+        try {
+            Object[] current = array;
+            DynamicArray<T> working = DynamicArray.wrap((T[]) current.clone());
+            edits.accept(working);
+            array = working.toTrimmedArray();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Trả về một mảng động mới chứa các phần tử của ảnh chụp hiện tại.
+     *
+     * @return Một bản sao độc lập có thể thay đổi
+     */
+    @SuppressWarnings("unchecked")
+    public DynamicArray<T> toDynamicArray() {
+        return DynamicArray.wrap((T[]) array.clone());
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của ảnh chụp hiện tại.
+     *
+     * @return Biểu diễn chuỗi của mảng này
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(array);
+    }
+
+    /**
+     * Trả về một bộ lặp trên ảnh chụp hiện tại.
+     * <p>
+     * Bộ lặp không thấy các thay đổi xảy ra sau khi nó được tạo.
+     * </p>
+     *
+     * @return Một bộ lặp cho các phần tử trong ảnh chụp
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final Object[] snapshot = array;
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < snapshot.length;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(snapshot, currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Trả về một Spliterator trên ảnh chụp hiện tại.
+     * <p>
+     * Spliterator có thêm đặc tính {@link Spliterator#IMMUTABLE} vì ảnh chụp không bao giờ thay đổi.
+     * </p>
+     *
+     * @return Một Spliterator cho ảnh chụp
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Trả về một Stream tuần tự trên ảnh chụp hiện tại.
+     *
+     * @return Một Stream tuần tự
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một Stream song song trên ảnh chụp hiện tại.
+     *
+     * @return Một Stream song song
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Tìm phần tử trong một ảnh chụp.
+     *
+     * @param snapshot Ảnh chụp cần tìm
+     * @param element Phần tử cần tìm kiếm
+     * @return Chỉ số của lần xuất hiện đầu tiên, hoặc -1 nếu không tìm thấy
+     */
+    private static int indexOf(Object[] snapshot, Object element) {
+        if (element == null) {
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < snapshot.length; i++) {
+                if (element.equals(snapshot[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Xác thực rằng chỉ số trỏ đến một phần tử hiện có của ảnh chụp.
+     *
+     * @param index Chỉ số cần xác thực
+     * @param size Số phần tử của ảnh chụp
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    private static void validateElementIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Trả về phần tử tại một vị trí của ảnh chụp.
+     *
+     * @param snapshot Ảnh chụp chứa phần tử
+     * @param index Chỉ số của phần tử
+     * @return Phần tử tại vị trí đó
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] snapshot, int index) {
+        return (T) snapshot[index];
+    }
+}
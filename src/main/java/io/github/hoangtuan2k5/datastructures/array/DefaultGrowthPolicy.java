@@ -0,0 +1,144 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+/**
+ * Triển khai mặc định của giao diện {@link GrowthPolicy}.
+ * <p>
+ * Khi cần tăng, dung lượng mới được tính là {@code capacity * factor + step}, bị chặn trên bởi
+ * {@code maxCapacity}. Hệ số nhân cho chi phí append khấu hao O(1); bước cộng hữu ích cho các
+ * bộ đệm nhỏ hoặc khi muốn kiểm soát chặt lượng bộ nhớ dư.
+ * </p>
+ * <p>
+ * Việc thu nhỏ dùng độ trễ (hysteresis): mảng chỉ thu nhỏ khi tỉ lệ lấp đầy giảm xuống dưới
+ * {@code shrinkLoadFactor} (phải nhỏ hơn 0.5), và khi đó dung lượng mới bằng hai lần số phần tử.
+ * Sau khi thu nhỏ, mảng đầy một nửa, nên việc thêm và xóa xen kẽ quanh ngưỡng không gây ra
+ * các lần sao chép liên tục. Giá trị {@code 0} tắt hoàn toàn việc thu nhỏ.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public final class DefaultGrowthPolicy implements GrowthPolicy {
+    /**
+     * Dung lượng lớn nhất mặc định; một số JVM dành vài từ đầu mảng cho header.
+     */
+    public static final int MAX_ARRAY_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final DefaultGrowthPolicy DOUBLING = new DefaultGrowthPolicy(2.0, 0, MAX_ARRAY_CAPACITY, 0.0);
+
+    private final double factor;
+    private final int step;
+    private final int maxCapacity;
+    private final double shrinkLoadFactor;
+
+    /**
+     * Tạo một chính sách tăng trưởng với các tham số đã chỉ định.
+     *
+     * @param factor Hệ số nhân khi tăng, phải lớn hơn hoặc bằng 1
+     * @param step Bước cộng thêm khi tăng, phải không âm
+     * @param maxCapacity Dung lượng tối đa, phải lớn hơn 0
+     * @param shrinkLoadFactor Tỉ lệ lấp đầy mà dưới đó mảng sẽ thu nhỏ, trong [0, 0.5); 0 để tắt
+     * @throws IllegalArgumentException Nếu một tham số nằm ngoài phạm vi hoặc chính sách không thể tăng dung lượng
+     */
+    public DefaultGrowthPolicy(double factor, int step, int maxCapacity, double shrinkLoadFactor) {
+        if (!(factor >= 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be at least 1. Factor: " + factor);
+        }
+        if (step < 0) {
+            throw new IllegalArgumentException("Growth step cannot be negative. Step: " + step);
+        }
+        if (factor == 1.0 && step == 0) {
+            throw new IllegalArgumentException("Growth policy must increase capacity: factor is 1 and step is 0.");
+        }
+        if (maxCapacity <= 0 || maxCapacity > MAX_ARRAY_CAPACITY) {
+            throw new IllegalArgumentException("Max capacity must be in [1, " + MAX_ARRAY_CAPACITY + "]. Max capacity: " + maxCapacity);
+        }
+        if (!(shrinkLoadFactor >= 0.0 && shrinkLoadFactor < 0.5)) {
+            throw new IllegalArgumentException("Shrink load factor must be in [0, 0.5). Shrink load factor: " + shrinkLoadFactor);
+        }
+        this.factor = factor;
+        this.step = step;
+        this.maxCapacity = maxCapacity;
+        this.shrinkLoadFactor = shrinkLoadFactor;
+    }
+
+    /**
+     * Trả về chính sách tăng gấp đôi và không bao giờ thu nhỏ (hành vi mặc định của {@link DynamicArray}).
+     *
+     * @return Chính sách tăng gấp đôi
+     */
+    public static DefaultGrowthPolicy doubling() {
+        return DOUBLING;
+    }
+
+    /**
+     * Trả về chính sách tăng theo hệ số nhân đã chỉ định.
+     *
+     * @param factor Hệ số nhân, phải lớn hơn 1
+     * @return Chính sách tăng theo hệ số nhân
+     */
+    public static DefaultGrowthPolicy multiplicative(double factor) {
+        return new DefaultGrowthPolicy(factor, 0, MAX_ARRAY_CAPACITY, 0.0);
+    }
+
+    /**
+     * Trả về chính sách tăng thêm một số lượng cố định mỗi lần.
+     *
+     * @param step Bước cộng, phải lớn hơn 0
+     * @return Chính sách tăng theo bước cộng
+     */
+    public static DefaultGrowthPolicy additive(int step) {
+        return new DefaultGrowthPolicy(1.0, step, MAX_ARRAY_CAPACITY, 0.0);
+    }
+
+    /**
+     * Trả về một bản sao của chính sách này với dung lượng tối đa đã chỉ định.
+     *
+     * @param maxCapacity Dung lượng tối đa mới
+     * @return Chính sách mới với giới hạn trên đã chỉ định
+     */
+    public DefaultGrowthPolicy withMaxCapacity(int maxCapacity) {
+        return new DefaultGrowthPolicy(factor, step, maxCapacity, shrinkLoadFactor);
+    }
+
+    /**
+     * Trả về một bản sao của chính sách này có thu nhỏ khi tỉ lệ lấp đầy giảm dưới ngưỡng.
+     *
+     * @param shrinkLoadFactor Ngưỡng tỉ lệ lấp đầy trong [0, 0.5); 0 để tắt
+     * @return Chính sách mới với ngưỡng thu nhỏ đã chỉ định
+     */
+    public DefaultGrowthPolicy withShrinking(double shrinkLoadFactor) {
+        return new DefaultGrowthPolicy(factor, step, maxCapacity, shrinkLoadFactor);
+    }
+
+    @Override
+    public int grow(int capacity, int minCapacity) {
+        if (minCapacity > maxCapacity || minCapacity < 0) {
+            throw new IllegalStateException("Required capacity exceeds the limit. Required: "
+                    + (minCapacity < 0 ? "overflow" : String.valueOf(minCapacity)) + ", max capacity: " + maxCapacity);
+        }
+        long proposed = (long) (capacity * factor) + step;
+        if (proposed <= capacity) {
+            proposed = (long) capacity + 1;
+        }
+        proposed = Math.min(proposed, maxCapacity);
+        return (int) Math.max(proposed, minCapacity);
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        if (shrinkLoadFactor == 0.0 || size >= capacity * shrinkLoadFactor) {
+            return capacity;
+        }
+        return Math.min(capacity, size * 2);
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của chính sách này.
+     *
+     * @return Biểu diễn chuỗi của chính sách này
+     */
+    @Override
+    public String toString() {
+        return "DefaultGrowthPolicy[factor=" + factor + ", step=" + step
+                + ", maxCapacity=" + maxCapacity + ", shrinkLoadFactor=" + shrinkLoadFactor + "]";
+    }
+}
@@ -0,0 +1,680 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import io.github.hoangtuan2k5.datastructures.codec.BinaryReader;
+import io.github.hoangtuan2k5.datastructures.codec.BinaryWriter;
+import io.github.hoangtuan2k5.datastructures.codec.Format;
+
+/**
+ * Mảng động chuyên biệt cho kiểu nguyên thủy {@code double}.
+ * <p>
+ * Lớp này có cùng API với {@link DynamicArray} nhưng lưu trữ trực tiếp các giá trị
+ * trong một mảng {@code double[]} thay vì {@code Object[]}. Nhờ vậy mỗi phần tử không
+ * bị boxing thành {@code Double}, không tạo rác cho bộ thu gom và việc đọc không phải
+ * đi theo con trỏ đến một đối tượng riêng lẻ.
+ * </p>
+ * <p>
+ * Mảng tự động tăng gấp đôi dung lượng khi đạt đến giới hạn.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class DoubleDynamicArray {
+    private double[] array;
+    private int size;
+    private int capacity;
+
+    /**
+     * Tạo một mảng động mới với dung lượng ban đầu được chỉ định.
+     *
+     * @param initialCapacity Dung lượng ban đầu của mảng
+     * @throws IllegalArgumentException Nếu dung lượng ban đầu là số âm
+     */
+    public DoubleDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative. Capacity: " + initialCapacity);
+        }
+        this.capacity = initialCapacity;
+        this.array = new double[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối mảng.
+     * <p>
+     * Nếu mảng đã đầy, nó sẽ tự động thay đổi kích thước để chứa phần tử mới.
+     * </p>
+     *
+     * @param element Phần tử được thêm vào mảng
+     */
+    public void append(double element) {
+        if (size == capacity) {
+            resize();
+        }
+        array[size++] = element;
+    }
+
+    /**
+     * Trả về phần tử tại vị trí chỉ định trong mảng này.
+     *
+     * @param index Chỉ số của phần tử cần trả về
+     * @return Phần tử tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public double get(int index) {
+        validateIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Thay thế phần tử tại vị trí chỉ định trong mảng này.
+     *
+     * @param index Chỉ số của phần tử cần thay thế
+     * @param element Phần tử được lưu trữ tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public void set(int index, double element) {
+        validateIndex(index);
+        array[index] = element;
+    }
+
+    /**
+     * Xóa phần tử tại vị trí chỉ định trong mảng này và trả về giá trị đã bị xóa.
+     * <p>
+     * Dịch chuyển các phần tử tiếp theo sang trái bằng một lần sao chép khối
+     * {@link System#arraycopy}.
+     * </p>
+     *
+     * @param index Chỉ số của phần tử cần xóa
+     * @return Phần tử đã bị xóa
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public double remove(int index) {
+        validateIndex(index);
+        double removed = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Xóa tất cả các phần tử trong mảng này.
+     * <p>
+     * Vì các giá trị nguyên thủy không giữ tham chiếu, chỉ kích thước được đặt lại về 0;
+     * dung lượng của mảng không thay đổi.
+     * </p>
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
+     * hoặc -1 nếu mảng này không chứa phần tử.
+     * <p>
+     * Phép so sánh dùng {@link Double#doubleToLongBits(double)} giống như {@link Double#equals(Object)},
+     * nên {@code NaN} tìm thấy {@code NaN}, còn {@code 0.0} và {@code -0.0} được xem là khác nhau.
+     * </p>
+     *
+     * @param element Phần tử cần tìm kiếm
+     * @return Chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
+     *         hoặc -1 nếu mảng này không chứa phần tử
+     */
+    public int indexOf(double element) {
+        return PrimitiveScans.indexOf(array, 0, size, element);
+    }
+
+    /**
+     * Trả về true nếu mảng này chứa phần tử đã chỉ định.
+     *
+     * @param element Phần tử cần kiểm tra
+     * @return true nếu mảng này chứa phần tử đã chỉ định, false nếu không
+     */
+    public boolean contains(double element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Đếm số lần xuất hiện của phần tử đã chỉ định trong mảng này.
+     * <p>
+     * Phép so sánh dùng {@link Double#doubleToLongBits(double)} giống như {@link #indexOf(double)}.
+     * </p>
+     *
+     * @param element Phần tử cần đếm
+     * @return Số phần tử bằng với phần tử đã chỉ định
+     */
+    public int count(double element) {
+        return PrimitiveScans.count(array, 0, size, element);
+    }
+
+    /**
+     * Trả về phần tử nhỏ nhất trong mảng này.
+     * <p>
+     * Có cùng ngữ nghĩa với {@link Math#min(double, double)}: nếu mảng chứa {@code NaN} thì kết quả
+     * là {@code NaN}, và {@code -0.0} nhỏ hơn {@code 0.0}.
+     * </p>
+     *
+     * @return Phần tử nhỏ nhất
+     * @throws NoSuchElementException Nếu mảng rỗng
+     */
+    public double min() {
+        validateNotEmpty();
+        return PrimitiveScans.min(array, 0, size);
+    }
+
+    /**
+     * Trả về phần tử lớn nhất trong mảng này.
+     * <p>
+     * Có cùng ngữ nghĩa với {@link Math#max(double, double)}: nếu mảng chứa {@code NaN} thì kết quả
+     * là {@code NaN}, và {@code 0.0} lớn hơn {@code -0.0}.
+     * </p>
+     *
+     * @return Phần tử lớn nhất
+     * @throws NoSuchElementException Nếu mảng rỗng
+     */
+    public double max() {
+        validateNotEmpty();
+        return PrimitiveScans.max(array, 0, size);
+    }
+
+    /**
+     * Trả về true nếu {@code length} phần tử bắt đầu từ {@code fromIndex} của mảng này bằng với
+     * {@code length} phần tử bắt đầu từ {@code otherFromIndex} của mảng kia.
+     * <p>
+     * Phép so sánh dùng {@link Double#doubleToLongBits(double)} giống như {@link #indexOf(double)}.
+     * </p>
+     *
+     * @param fromIndex Chỉ số bắt đầu trong mảng này
+     * @param other Mảng cần so sánh
+     * @param otherFromIndex Chỉ số bắt đầu trong mảng kia
+     * @param length Số phần tử cần so sánh
+     * @return true nếu hai khoảng bằng nhau, false nếu không
+     * @throws NullPointerException Nếu mảng kia là null
+     * @throws IndexOutOfBoundsException Nếu một trong hai khoảng nằm ngoài kích thước của mảng tương ứng
+     */
+    public boolean equalsRange(int fromIndex, DoubleDynamicArray other, int otherFromIndex, int length) {
+        if (other == null) {
+            throw new NullPointerException("Other array cannot be null!");
+        }
+        validateRange(fromIndex, length, size);
+        validateRange(otherFromIndex, length, other.size);
+        return Arrays.equals(array, fromIndex, fromIndex + length, other.array, otherFromIndex, otherFromIndex + length);
+    }
+
+    /**
+     * Tìm chỉ số đầu tiên mà tại đó mảng này và mảng kia khác nhau.
+     * <p>
+     * Nếu một mảng là tiền tố của mảng kia, kết quả là kích thước của mảng ngắn hơn;
+     * nếu hai mảng bằng nhau, kết quả là -1. Phép so sánh dùng
+     * {@link Double#doubleToLongBits(double)}.
+     * </p>
+     *
+     * @param other Mảng cần so sánh
+     * @return Chỉ số khác nhau đầu tiên, hoặc -1 nếu hai mảng bằng nhau
+     * @throws NullPointerException Nếu mảng kia là null
+     */
+    public int mismatch(DoubleDynamicArray other) {
+        if (other == null) {
+            throw new NullPointerException("Other array cannot be null!");
+        }
+        return Arrays.mismatch(array, 0, size, other.array, 0, other.size);
+    }
+
+    /**
+     * Trả về một bản sao của mảng động này.
+     *
+     * @return Một mảng động mới với các phần tử giống mảng cũ
+     */
+    public DoubleDynamicArray copy() {
+        DoubleDynamicArray newArray = new DoubleDynamicArray(capacity);
+        newArray.size = this.size;
+        System.arraycopy(array, 0, newArray.array, 0, size);
+        return newArray;
+    }
+
+    /**
+     * Ghi mảng này vào bộ ghi đã cho dưới dạng một khung {@link Format#DOUBLES}.
+     * <p>
+     * Các phần tử được ghi thẳng từ mảng {@code double[]} bên trong thành byte thô theo từng khối,
+     * không định dạng từng phần tử và không tạo bản sao trung gian.
+     * </p>
+     *
+     * @param out Bộ ghi đích
+     * @throws NullPointerException Nếu bộ ghi là null
+     */
+    public void writeTo(BinaryWriter out) {
+        if (out == null) {
+            throw new NullPointerException("Writer cannot be null!");
+        }
+        out.writeHeader(Format.DOUBLES, size);
+        out.writeDoubles(array, 0, size);
+    }
+
+    /**
+     * Đọc một mảng từ một khung {@link Format#DOUBLES} được ghi bởi {@link #writeTo(BinaryWriter)}.
+     * <p>
+     * Byte thô được đọc theo từng khối thẳng vào mảng {@code double[]} của mảng mới.
+     * </p>
+     *
+     * @param in Bộ đọc nguồn
+     * @return Một mảng mới có dung lượng bằng số phần tử đã đọc
+     * @throws NullPointerException Nếu bộ đọc là null
+     * @throws IllegalArgumentException Nếu dữ liệu không phải một khung {@link Format#DOUBLES} hợp lệ
+     */
+    public static DoubleDynamicArray readFrom(BinaryReader in) {
+        if (in == null) {
+            throw new NullPointerException("Reader cannot be null!");
+        }
+        int count = in.readHeader(Format.DOUBLES);
+        DoubleDynamicArray result = new DoubleDynamicArray(BinaryReader.initialCapacity(count, Double.BYTES));
+        while (result.size < count) {
+            if (result.size == result.capacity) {
+                result.capacity = (int) Math.min(count, 2L * result.capacity);
+                result.array = Arrays.copyOf(result.array, result.capacity);
+            }
+            int length = result.capacity - result.size;
+            in.readDoubles(result.array, result.size, length);
+            result.size += length;
+        }
+        return result;
+    }
+
+    /**
+     * Điền mảng với phần tử chỉ định.
+     * <p>
+     * Phương thức này chỉ ảnh hưởng đến kích thước hiện tại của mảng, không phải dung lượng của nó.
+     * </p>
+     *
+     * @param element Phần tử dùng để điền vào mảng
+     */
+    public void fill(double element) {
+        Arrays.fill(array, 0, size, element);
+    }
+
+    /**
+     * Điền song song mảng với phần tử đã chỉ định, dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param element Phần tử để điền vào mảng
+     */
+    public void parallelFill(double element) {
+        parallelFill(element, ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Điền song song mảng với phần tử đã chỉ định.
+     * <p>
+     * Thao tác áp dụng cho các phần tử hiện có của mảng (không phải toàn bộ dung lượng).
+     * </p>
+     *
+     * @param element Phần tử để điền vào mảng
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu cấu hình là null
+     */
+    public void parallelFill(double element, ParallelPolicy policy) {
+        requireParallelPolicy(policy);
+        ParallelRanges.forEachRange(policy.pool(), 0, size, policy.threshold(),
+                (from, to) -> Arrays.fill(array, from, to, element));
+    }
+
+    /**
+     * Gán song song mỗi phần tử bằng giá trị do hàm sinh tính từ chỉ số của nó,
+     * dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param generator Hàm nhận chỉ số và trả về giá trị cho vị trí đó
+     * @throws NullPointerException Nếu hàm sinh là null
+     */
+    public void parallelSetAll(IntToDoubleFunction generator) {
+        parallelSetAll(generator, ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Gán song song mỗi phần tử bằng giá trị do hàm sinh tính từ chỉ số của nó.
+     * <p>
+     * Hàm sinh có thể được gọi đồng thời từ nhiều luồng và theo thứ tự bất kỳ, nên nó không được
+     * phụ thuộc vào trạng thái dùng chung có thể thay đổi.
+     * </p>
+     *
+     * @param generator Hàm nhận chỉ số và trả về giá trị cho vị trí đó
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu hàm sinh hoặc cấu hình là null
+     */
+    public void parallelSetAll(IntToDoubleFunction generator, ParallelPolicy policy) {
+        if (generator == null) {
+            throw new NullPointerException("Generator cannot be null!");
+        }
+        requireParallelPolicy(policy);
+        ParallelRanges.forEachRange(policy.pool(), 0, size, policy.threshold(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = generator.applyAsDouble(i);
+            }
+        });
+    }
+
+    /**
+     * Thay thế song song mỗi phần tử bằng kết quả của toán tử áp dụng lên nó,
+     * dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param operator Toán tử áp dụng lên từng phần tử
+     * @throws NullPointerException Nếu toán tử là null
+     */
+    public void parallelReplaceAll(DoubleUnaryOperator operator) {
+        parallelReplaceAll(operator, ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Thay thế song song mỗi phần tử bằng kết quả của toán tử áp dụng lên nó.
+     *
+     * @param operator Toán tử áp dụng lên từng phần tử
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu toán tử hoặc cấu hình là null
+     */
+    public void parallelReplaceAll(DoubleUnaryOperator operator, ParallelPolicy policy) {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null!");
+        }
+        requireParallelPolicy(policy);
+        ParallelRanges.forEachRange(policy.pool(), 0, size, policy.threshold(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = operator.applyAsDouble(array[i]);
+            }
+        });
+    }
+
+    /**
+     * Tính song song tiền tố tích lũy tại chỗ, dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param operator Toán tử kết hợp, phải có tính kết hợp và không có tác dụng phụ
+     * @throws NullPointerException Nếu toán tử là null
+     */
+    public void parallelPrefix(DoubleBinaryOperator operator) {
+        parallelPrefix(operator, ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Tính song song tiền tố tích lũy tại chỗ: sau khi gọi, phần tử tại chỉ số {@code i} bằng
+     * {@code a[0] op a[1] op ... op a[i]}.
+     * <p>
+     * Mảng được chia thành các khối kích thước {@code threshold}. Lượt thứ nhất tính tiền tố
+     * trong từng khối song song; sau đó tổng của các khối được cộng dồn tuần tự (một phép tính
+     * cho mỗi khối); lượt cuối áp dụng phần cộng dồn vào các khối còn lại song song. Kết quả chỉ
+     * đúng khi toán tử có tính kết hợp.
+     * </p>
+     *
+     * @param operator Toán tử kết hợp, phải có tính kết hợp và không có tác dụng phụ
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu toán tử hoặc cấu hình là null
+     */
+    public void parallelPrefix(DoubleBinaryOperator operator, ParallelPolicy policy) {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null!");
+        }
+        requireParallelPolicy(policy);
+        final int length = size;
+        final int chunkSize = policy.threshold();
+        final int chunks = ParallelRanges.chunkCount(length, chunkSize);
+        ParallelRanges.forEachRange(policy.pool(), 0, chunks, 1, (from, to) -> {
+            for (int chunk = from; chunk < to; chunk++) {
+                int end = ParallelRanges.chunkEnd(chunk, chunkSize, length);
+                for (int i = chunk * chunkSize + 1; i < end; i++) {
+                    array[i] = operator.applyAsDouble(array[i - 1], array[i]);
+                }
+            }
+        });
+        if (chunks <= 1) {
+            return;
+        }
+        final double[] carries = new double[chunks];
+        double carry = array[chunkSize - 1];
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            carries[chunk] = carry;
+            carry = operator.applyAsDouble(carry, array[ParallelRanges.chunkEnd(chunk, chunkSize, length) - 1]);
+        }
+        ParallelRanges.forEachRange(policy.pool(), 1, chunks, 1, (from, to) -> {
+            for (int chunk = from; chunk < to; chunk++) {
+                double carryIn = carries[chunk];
+                int end = ParallelRanges.chunkEnd(chunk, chunkSize, length);
+                for (int i = chunk * chunkSize; i < end; i++) {
+                    array[i] = operator.applyAsDouble(carryIn, array[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * Hoán đổi các phần tử tại các vị trí chỉ định trong mảng này.
+     *
+     * @param i Chỉ số của một phần tử cần hoán đổi
+     * @param j Chỉ số của phần tử khác cần hoán đổi
+     * @throws IndexOutOfBoundsException Nếu một trong hai chỉ số nằm ngoài phạm vi
+     */
+    public void swap(int i, int j) {
+        validateIndex(i);
+        validateIndex(j);
+
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sắp xếp các phần tử theo thứ tự tăng dần bằng dual-pivot quicksort (cùng thứ tự như {@link Double#compare(double, double)}: -0.0 trước 0.0, NaN ở cuối).
+     */
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    /**
+     * Sắp xếp song song các phần tử theo thứ tự tăng dần, dùng {@link ParallelPolicy#commonPool()}.
+     */
+    public void parallelSort() {
+        parallelSort(ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Sắp xếp song song các phần tử theo thứ tự tăng dần.
+     * <p>
+     * Khoảng chỉ số được chia đôi bằng fork/join cho đến khi không lớn hơn ngưỡng của cấu hình; mỗi
+     * phần được sắp xếp bằng dual-pivot quicksort rồi các phần được trộn song song. Mảng không lớn
+     * hơn ngưỡng được sắp xếp tuần tự trên luồng gọi.
+     * </p>
+     *
+     * @param policy Cấu hình song song (pool và ngưỡng chia)
+     * @throws NullPointerException Nếu cấu hình là null
+     */
+    public void parallelSort(ParallelPolicy policy) {
+        requireParallelPolicy(policy);
+        ParallelSorts.parallelSort(array, 0, size, policy);
+    }
+
+    /**
+     * Thực hiện hành động đã cho với từng phần tử theo thứ tự chỉ số.
+     * <p>
+     * Đây là cách duyệt nội bộ: vòng lặp chạy trực tiếp trên mảng {@code double[]}
+     * nên không có boxing và không cấp phát iterator.
+     * </p>
+     *
+     * @param action Hành động được thực hiện với mỗi phần tử
+     * @throws NullPointerException Nếu hành động là null
+     */
+    public void forEach(DoubleConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null!");
+        }
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Trả về một mảng {@code double[]} mới chứa các phần tử theo đúng thứ tự.
+     *
+     * @return Một mảng mới có độ dài bằng {@link #size()}
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Trả về số lượng phần tử trong mảng này.
+     *
+     * @return Số lượng phần tử trong mảng này
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Trả về true nếu mảng này không chứa phần tử nào.
+     *
+     * @return true nếu mảng này không chứa phần tử nào
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Xác thực rằng chỉ số chỉ định nằm trong phạm vi [0, size-1].
+     *
+     * @param index Chỉ số cần xác thực
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi
+     */
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Tăng gấp đôi dung lượng của mảng này (tối thiểu là 1 để mảng rỗng vẫn có thể tăng).
+     */
+    private void resize() {
+        capacity = Math.max(1, capacity * 2);
+        array = Arrays.copyOf(array, capacity);
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của mảng này.
+     *
+     * @return Biểu diễn chuỗi của mảng này
+     */
+    @Override
+    public String toString() {
+        if (size == 0) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size - 1; i++) {
+            sb.append(array[i]);
+            sb.append(", ");
+        }
+        sb.append(array[size - 1]);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một bộ lặp nguyên thủy cho các phần tử trong mảng này.
+     * <p>
+     * Dùng {@link PrimitiveIterator.OfDouble#nextDouble()} để đọc giá trị mà không boxing.
+     * </p>
+     *
+     * @return Một bộ lặp cho các phần tử trong mảng này
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements to iterate.");
+                }
+                return array[currentIndex++];
+            }
+        };
+    }
+
+    /**
+     * Trả về một Spliterator nguyên thủy trên các phần tử hiện có của mảng này.
+     * <p>
+     * Spliterator có các đặc tính {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} và
+     * {@link Spliterator#ORDERED}, và chia đôi khoảng chỉ số trong O(1).
+     * </p>
+     *
+     * @return Một Spliterator cho mảng này
+     */
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Trả về một {@link DoubleStream} tuần tự trên các phần tử của mảng này, không boxing.
+     *
+     * @return Một stream tuần tự
+     */
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một {@link DoubleStream} song song trên các phần tử của mảng này, không boxing.
+     *
+     * @return Một stream song song
+     */
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    /**
+     * Kiểm tra cấu hình song song không phải là null.
+     *
+     * @param policy Cấu hình cần kiểm tra
+     * @throws NullPointerException Nếu cấu hình là null
+     */
+    private static void requireParallelPolicy(ParallelPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("Parallel policy cannot be null!");
+        }
+    }
+
+    /**
+     * Xác thực rằng mảng không rỗng.
+     *
+     * @throws NoSuchElementException Nếu mảng rỗng
+     */
+    private void validateNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Array is empty!");
+        }
+    }
+
+    /**
+     * Xác thực rằng khoảng gồm {@code length} phần tử bắt đầu từ {@code fromIndex} nằm trong [0, size].
+     *
+     * @param fromIndex Chỉ số bắt đầu
+     * @param length Số phần tử
+     * @param size Kích thước của mảng chứa khoảng
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    private static void validateRange(int fromIndex, int length, int size) {
+        if (fromIndex < 0 || length < 0 || fromIndex > size - length) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", length: " + length + ", size: " + size);
+        }
+    }
+}
@@ -1,7 +1,21 @@
 package io.github.hoangtuan2k5.datastructures.array;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.hoangtuan2k5.datastructures.codec.BinaryReader;
+import io.github.hoangtuan2k5.datastructures.codec.BinaryWriter;
+import io.github.hoangtuan2k5.datastructures.codec.ElementCodec;
+import io.github.hoangtuan2k5.datastructures.codec.Format;
 
 /**
  * mảng động (Dynamic Array).
@@ -11,7 +25,8 @@ import java.util.Iterator;
  * mảng động có thể tăng kích thước khi cần thiết khi thêm phần tử.
  * </p>
  * <p>
- * Mảng tự động tăng gấp đôi dung lượng khi đạt đến giới hạn.
+ * Cách mảng tăng và thu nhỏ dung lượng được quyết định bởi một {@link GrowthPolicy}.
+ * Mặc định mảng tự động tăng gấp đôi dung lượng khi đạt đến giới hạn và không bao giờ thu nhỏ.
  * </p>
  *
  * @author Hoàng Chiều Nguyễn Tuấn
@@ -21,22 +36,62 @@ public class DynamicArray<T> implements Iterable<T> {
     private T[] array;
     private int size;
     private int capacity;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
 
     /**
      * Tạo một mảng động mới với dung lượng ban đầu được chỉ định.
+     * <p>
+     * Mảng dùng chính sách {@link DefaultGrowthPolicy#doubling()}.
+     * </p>
      *
      * @param initialCapacity Dung lượng ban đầu của mảng
      * @throws IllegalArgumentException Nếu dung lượng ban đầu là số âm
      */
-    @SuppressWarnings("unchecked")
     public DynamicArray(int initialCapacity) {
+        this(initialCapacity, DefaultGrowthPolicy.doubling());
+    }
+
+    /**
+     * Tạo một mảng động mới với dung lượng ban đầu và chính sách tăng trưởng được chỉ định.
+     * <p>
+     * Dung lượng ban đầu cũng là mức sàn khi thu nhỏ: mảng không bao giờ tự thu nhỏ
+     * xuống dưới giá trị này, trừ khi gọi {@link #trimToSize()}.
+     * </p>
+     *
+     * @param initialCapacity Dung lượng ban đầu của mảng
+     * @param growthPolicy Chính sách quyết định cách tăng và thu nhỏ dung lượng
+     * @throws IllegalArgumentException Nếu dung lượng ban đầu là số âm
+     * @throws NullPointerException Nếu chính sách tăng trưởng là null
+     */
+    @SuppressWarnings("unchecked")
+    public DynamicArray(int initialCapacity, GrowthPolicy growthPolicy) {
         if(initialCapacity < 0) {
             throw new IllegalArgumentException("Initial capacity cannot be negative. Capacity: " + initialCapacity);
         }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null!");
+        }
         this.capacity = initialCapacity;
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
         this.array = (T[]) new Object[capacity];
         this.size = 0;
     }
+
+    /**
+     * Tạo một bản sao của mảng nguồn, giữ nguyên dung lượng hiện tại, dung lượng ban đầu (mức sàn
+     * khi thu nhỏ) và chính sách tăng trưởng.
+     *
+     * @param source Mảng nguồn
+     */
+    private DynamicArray(DynamicArray<T> source) {
+        this.capacity = source.capacity;
+        this.initialCapacity = source.initialCapacity;
+        this.growthPolicy = source.growthPolicy;
+        this.array = Arrays.copyOf(source.array, source.capacity);
+        this.size = source.size;
+    }
     
     /**
      * Thêm một phần tử vào cuối mảng.
@@ -48,11 +103,160 @@ public class DynamicArray<T> implements Iterable<T> {
      */
     public void append(T element) {
         if (size == capacity) {
-            resize();
+            resize(growthPolicy.grow(capacity, size + 1));
         }
         array[size++] = element;
     }
 
+    /**
+     * Thêm tất cả các phần tử của mảng đã cho vào cuối mảng này.
+     * <p>
+     * Mảng được thay đổi kích thước tối đa một lần, sau đó các phần tử được sao chép
+     * bằng một lần {@link System#arraycopy}.
+     * </p>
+     *
+     * @param elements Các phần tử cần thêm
+     * @throws NullPointerException Nếu mảng phần tử là null
+     */
+    public void appendAll(T[] elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        insertBlock(size, elements, elements.length);
+    }
+
+    /**
+     * Thêm tất cả các phần tử của mảng động đã cho vào cuối mảng này.
+     * <p>
+     * Có thể truyền chính mảng này để nhân đôi nội dung của nó.
+     * </p>
+     *
+     * @param elements Mảng động chứa các phần tử cần thêm
+     * @throws NullPointerException Nếu mảng động là null
+     */
+    public void appendAll(DynamicArray<? extends T> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        insertBlock(size, elements.array, elements.size);
+    }
+
+    /**
+     * Thêm tất cả các phần tử của một Iterable vào cuối mảng này theo thứ tự duyệt.
+     * <p>
+     * Nếu đối số là một {@link Collection} hoặc {@link DynamicArray}, số phần tử đã biết trước
+     * nên mảng chỉ thay đổi kích thước tối đa một lần. Với các Iterable khác, các phần tử
+     * được thêm lần lượt như {@link #append(Object)}.
+     * </p>
+     *
+     * @param elements Các phần tử cần thêm
+     * @throws NullPointerException Nếu Iterable là null
+     */
+    @SuppressWarnings("unchecked")
+    public void appendAll(Iterable<? extends T> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        if (elements instanceof DynamicArray) {
+            appendAll((DynamicArray<? extends T>) elements);
+        } else if (elements instanceof Collection) {
+            Object[] source = ((Collection<? extends T>) elements).toArray();
+            insertBlock(size, source, source.length);
+        } else {
+            for (T element : elements) {
+                append(element);
+            }
+        }
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định, dịch các phần tử từ vị trí đó sang phải.
+     *
+     * @param index Vị trí chèn, trong phạm vi [0, size]
+     * @param element Phần tử cần chèn
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi [0, size]
+     */
+    public void insert(int index, T element) {
+        validatePosition(index);
+        if (size == capacity) {
+            resize(growthPolicy.grow(capacity, size + 1));
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * Chèn tất cả các phần tử của mảng đã cho vào vị trí chỉ định.
+     * <p>
+     * Các phần tử phía sau được dịch sang phải một lần duy nhất, bất kể số phần tử chèn vào.
+     * </p>
+     *
+     * @param index Vị trí chèn, trong phạm vi [0, size]
+     * @param elements Các phần tử cần chèn
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi [0, size]
+     * @throws NullPointerException Nếu mảng phần tử là null
+     */
+    public void insertAll(int index, T[] elements) {
+        validatePosition(index);
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        insertBlock(index, elements, elements.length);
+    }
+
+    /**
+     * Chèn tất cả các phần tử của mảng động đã cho vào vị trí chỉ định.
+     *
+     * @param index Vị trí chèn, trong phạm vi [0, size]
+     * @param elements Mảng động chứa các phần tử cần chèn
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi [0, size]
+     * @throws NullPointerException Nếu mảng động là null
+     */
+    public void insertAll(int index, DynamicArray<? extends T> elements) {
+        validatePosition(index);
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        insertBlock(index, elements.array, elements.size);
+    }
+
+    /**
+     * Chèn tất cả các phần tử của một Iterable vào vị trí chỉ định.
+     * <p>
+     * Nếu số phần tử chưa biết trước, chúng được gom vào một bộ đệm tạm rồi chèn
+     * bằng một lần dịch chuyển.
+     * </p>
+     *
+     * @param index Vị trí chèn, trong phạm vi [0, size]
+     * @param elements Các phần tử cần chèn
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi [0, size]
+     * @throws NullPointerException Nếu Iterable là null
+     */
+    @SuppressWarnings("unchecked")
+    public void insertAll(int index, Iterable<? extends T> elements) {
+        validatePosition(index);
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        if (elements instanceof DynamicArray) {
+            insertAll(index, (DynamicArray<? extends T>) elements);
+            return;
+        }
+        Object[] source;
+        int length;
+        if (elements instanceof Collection) {
+            source = ((Collection<? extends T>) elements).toArray();
+            length = source.length;
+        } else {
+            DynamicArray<T> buffer = new DynamicArray<>(10);
+            buffer.appendAll(elements);
+            source = buffer.array;
+            length = buffer.size;
+        }
+        insertBlock(index, source, length);
+    }
+
     /**
      * Trả về phần tử tại vị trí chỉ định trong mảng này.
      *
@@ -81,23 +285,103 @@ public class DynamicArray<T> implements Iterable<T> {
      * Xóa phần tử tại vị trí chỉ định trong mảng này.
      * <p>
      * Dịch chuyển các phần tử tiếp theo sang trái, giảm chỉ số của chúng đi một.
+     * Sau đó mảng có thể thu nhỏ theo {@link GrowthPolicy#shrink(int, int)}.
      * </p>
      *
      * @param index Chỉ số của phần tử cần xóa
-     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
      */
     public void remove(int index) {
-        validateIndex(index);
-        for (int i = index; i < size - 1; i++) {
-            array[i] = array[i + 1];
-        }
+        validateElementIndex(index);
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
         array[--size] = null;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Xóa tất cả các phần tử có chỉ số trong khoảng [fromIndex, toIndex).
+     * <p>
+     * Các phần tử phía sau được dịch sang trái bằng một lần sao chép khối.
+     * </p>
+     *
+     * @param fromIndex Chỉ số của phần tử đầu tiên cần xóa (bao gồm)
+     * @param toIndex Chỉ số sau phần tử cuối cùng cần xóa (không bao gồm)
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        validateRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Xóa tất cả các phần tử thỏa mãn điều kiện đã cho.
+     * <p>
+     * Các phần tử được giữ lại được dồn về đầu mảng trong một lần duyệt duy nhất,
+     * giữ nguyên thứ tự tương đối. Nếu điều kiện ném ngoại lệ, các phần tử chưa được
+     * kiểm tra vẫn được giữ nguyên trong mảng.
+     * </p>
+     *
+     * @param filter Điều kiện trả về true cho các phần tử cần xóa
+     * @return true nếu có ít nhất một phần tử bị xóa
+     * @throws NullPointerException Nếu điều kiện là null
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter cannot be null!");
+        }
+        int oldSize = size;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                T element = array[read];
+                if (!filter.test(element)) {
+                    array[write++] = element;
+                }
+            }
+        } finally {
+            if (read < size) {
+                System.arraycopy(array, read, array, write, size - read);
+                write += size - read;
+            }
+            Arrays.fill(array, write, size, null);
+            size = write;
+        }
+        shrinkIfNeeded();
+        return size != oldSize;
+    }
+
+    /**
+     * Chỉ giữ lại các phần tử có trong tập hợp đã cho.
+     * <p>
+     * Các phần tử của tập hợp được đưa vào một {@link HashSet} trước (trừ khi nó đã là một
+     * {@link Set}), nên toàn bộ thao tác có độ phức tạp O(n + m).
+     * </p>
+     *
+     * @param elements Các phần tử cần giữ lại
+     * @return true nếu có ít nhất một phần tử bị xóa
+     * @throws NullPointerException Nếu tập hợp là null
+     */
+    public boolean retainAll(Collection<?> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        final Collection<?> lookup = elements instanceof Set ? elements : new HashSet<Object>(elements);
+        return removeIf(element -> !lookup.contains(element));
     }
 
     /**
      * Xóa tất cả các phần tử trong mảng này.
      * <p>
-     * Các phần tử trong mảng sẽ được đặt thành null, nhưng dung lượng của mảng không thay đổi.
+     * Các phần tử trong mảng sẽ được đặt thành null. Dung lượng của mảng chỉ thay đổi
+     * nếu chính sách tăng trưởng cho phép thu nhỏ.
      * </p>
      */
     public void clear() {
@@ -105,6 +389,41 @@ public class DynamicArray<T> implements Iterable<T> {
             array[i] = null;
         }
         size = 0;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Đảm bảo mảng có thể chứa ít nhất số phần tử đã chỉ định mà không cần thay đổi kích thước thêm.
+     * <p>
+     * Hữu ích khi biết trước số lượng phần tử sẽ thêm: mảng được mở rộng bằng một lần sao chép
+     * thay vì nhiều lần tăng gấp đôi liên tiếp.
+     * </p>
+     *
+     * @param minCapacity Dung lượng tối thiểu mong muốn
+     * @throws IllegalStateException Nếu dung lượng vượt quá giới hạn của chính sách tăng trưởng
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            resize(growthPolicy.grow(capacity, minCapacity));
+        }
+    }
+
+    /**
+     * Thu nhỏ dung lượng của mảng này về đúng bằng số phần tử hiện tại.
+     */
+    public void trimToSize() {
+        if (size < capacity) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Trả về dung lượng hiện tại của mảng này.
+     *
+     * @return Số phần tử mà mảng có thể chứa trước khi phải thay đổi kích thước
+     */
+    public int capacity() {
+        return capacity;
     }
 
     /**
@@ -136,13 +455,77 @@ public class DynamicArray<T> implements Iterable<T> {
      *
      * @return Một mảng động mới với các phần tử giống mảng cũ
      */
-    @SuppressWarnings("unchecked")
     public DynamicArray<T> copy() {
-        DynamicArray<T> newArray = new DynamicArray<>(capacity);
-        newArray.size = this.size;
-        newArray.capacity = this.capacity;
-        System.arraycopy(array, 0, newArray.array, 0, capacity);
-        return newArray;
+        return new DynamicArray<>(this);
+    }
+
+    /**
+     * Ghi mảng này vào bộ ghi đã cho dưới dạng một khung {@link Format#OBJECTS}.
+     * <p>
+     * Mỗi phần tử được mã hóa trực tiếp từ mảng bên trong bằng codec đã cho, không tạo bản sao trung gian.
+     * </p>
+     *
+     * @param out Bộ ghi đích
+     * @param codec Codec của phần tử
+     * @throws NullPointerException Nếu bộ ghi hoặc codec là null
+     */
+    public void writeTo(BinaryWriter out, ElementCodec<? super T> codec) {
+        if (out == null || codec == null) {
+            throw new NullPointerException("Writer and codec cannot be null!");
+        }
+        out.writeHeader(Format.OBJECTS, size);
+        for (int i = 0; i < size; i++) {
+            codec.write(out, array[i]);
+        }
+    }
+
+    /**
+     * Đọc một mảng động từ một khung {@link Format#OBJECTS}, giải mã từng phần tử ngay khi đọc.
+     *
+     * @param in Bộ đọc nguồn
+     * @param codec Codec của phần tử
+     * @param <T> Kiểu dữ liệu của các phần tử
+     * @return Một mảng động mới có dung lượng bằng số phần tử đã đọc
+     * @throws NullPointerException Nếu bộ đọc hoặc codec là null, hoặc codec trả về null
+     * @throws IllegalArgumentException Nếu dữ liệu không phải một khung {@link Format#OBJECTS} hợp lệ
+     */
+    public static <T> DynamicArray<T> readFrom(BinaryReader in, ElementCodec<? extends T> codec) {
+        if (in == null || codec == null) {
+            throw new NullPointerException("Reader and codec cannot be null!");
+        }
+        int count = in.readHeader(Format.OBJECTS);
+        DynamicArray<T> result = new DynamicArray<>(BinaryReader.initialCapacity(count, 1));
+        for (int i = 0; i < count; i++) {
+            result.append(codec.read(in));
+        }
+        result.trimToSize();
+        return result;
+    }
+
+    /**
+     * Tạo một mảng động dùng trực tiếp mảng đã cho làm mảng bên trong, không sao chép.
+     * <p>
+     * Người gọi chuyển quyền sở hữu mảng cho mảng động và không được thay đổi nó sau đó.
+     * </p>
+     *
+     * @param elements Mảng chứa các phần tử ban đầu; kích thước và dung lượng bằng độ dài của nó
+     * @return Một mảng động bọc mảng đã cho
+     */
+    static <T> DynamicArray<T> wrap(T[] elements) {
+        DynamicArray<T> wrapped = new DynamicArray<>(0);
+        wrapped.array = elements;
+        wrapped.size = elements.length;
+        wrapped.capacity = elements.length;
+        return wrapped;
+    }
+
+    /**
+     * Trả về mảng bên trong nếu nó vừa khít với kích thước, hoặc một bản sao đã thu gọn nếu không.
+     *
+     * @return Mảng có độ dài bằng kích thước, chứa các phần tử theo thứ tự
+     */
+    Object[] toTrimmedArray() {
+        return size == capacity ? array : Arrays.copyOf(array, size, Object[].class);
     }
 
     /**
@@ -175,6 +558,80 @@ public class DynamicArray<T> implements Iterable<T> {
         array[j] = temp;
     }
 
+    /**
+     * Sắp xếp các phần tử theo thứ tự tự nhiên bằng TimSort.
+     * <p>
+     * TimSort ổn định, có độ phức tạp O(n log n) và gần O(n) khi dữ liệu đã gần có thứ tự.
+     * </p>
+     *
+     * @throws ClassCastException Nếu các phần tử không so sánh được với nhau
+     * @throws NullPointerException Nếu mảng chứa null
+     */
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    /**
+     * Sắp xếp các phần tử theo bộ so sánh đã cho bằng TimSort (ổn định).
+     *
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @throws NullPointerException Nếu bộ so sánh là null
+     */
+    public void sort(Comparator<? super T> comparator) {
+        requireComparator(comparator);
+        Arrays.sort(array, 0, size, comparator);
+    }
+
+    /**
+     * Sắp xếp song song các phần tử theo thứ tự tự nhiên, dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @throws ClassCastException Nếu các phần tử không so sánh được với nhau
+     * @throws NullPointerException Nếu mảng chứa null
+     */
+    public void parallelSort() {
+        parallelSort(ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Sắp xếp song song các phần tử theo thứ tự tự nhiên, dùng cấu hình đã chỉ định.
+     *
+     * @param policy Cấu hình song song (pool và ngưỡng chia)
+     * @throws ClassCastException Nếu các phần tử không so sánh được với nhau
+     * @throws NullPointerException Nếu cấu hình là null hoặc mảng chứa null
+     */
+    public void parallelSort(ParallelPolicy policy) {
+        requireParallelPolicy(policy);
+        ParallelSorts.parallelSort(array, 0, size, null, policy);
+    }
+
+    /**
+     * Sắp xếp song song các phần tử theo bộ so sánh đã cho, dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @throws NullPointerException Nếu bộ so sánh là null
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, ParallelPolicy.commonPool());
+    }
+
+    /**
+     * Sắp xếp song song các phần tử theo bộ so sánh đã cho.
+     * <p>
+     * Khoảng chỉ số được chia đôi bằng fork/join cho đến khi không lớn hơn ngưỡng của cấu hình; mỗi
+     * phần được sắp xếp bằng TimSort rồi các phần được trộn song song. Kết quả ổn định giống như
+     * {@link #sort(Comparator)}. Mảng không lớn hơn ngưỡng được sắp xếp tuần tự trên luồng gọi.
+     * </p>
+     *
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @param policy Cấu hình song song (pool và ngưỡng chia)
+     * @throws NullPointerException Nếu bộ so sánh hoặc cấu hình là null
+     */
+    public void parallelSort(Comparator<? super T> comparator, ParallelPolicy policy) {
+        requireComparator(comparator);
+        requireParallelPolicy(policy);
+        ParallelSorts.parallelSort(array, 0, size, comparator, policy);
+    }
+
     /**
      * Trả về số lượng phần tử trong mảng này.
      *
@@ -216,13 +673,87 @@ public class DynamicArray<T> implements Iterable<T> {
     }
 
     /**
-     * Tăng gấp đôi dung lượng của mảng này.
+     * Xác thực rằng chỉ số chỉ định trỏ đến một phần tử hiện có, tức nằm trong phạm vi [0, size-1].
+     *
+     * @param index Chỉ số cần xác thực
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi
+     */
+    private void validateElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Xác thực rằng vị trí chèn nằm trong phạm vi [0, size].
+     *
+     * @param index Vị trí cần xác thực
+     * @throws IndexOutOfBoundsException Nếu vị trí nằm ngoài phạm vi
      */
-    private void resize() {
-        capacity *= 2;
+    private void validatePosition(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Xác thực rằng khoảng [fromIndex, toIndex) nằm trong phạm vi [0, size].
+     *
+     * @param fromIndex Chỉ số bắt đầu (bao gồm)
+     * @param toIndex Chỉ số kết thúc (không bao gồm)
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    private void validateRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size);
+        }
+    }
+
+    /**
+     * Chèn {@code length} phần tử đầu tiên của {@code source} vào vị trí {@code index}.
+     * <p>
+     * Thay đổi kích thước tối đa một lần, dịch phần đuôi một lần và sao chép khối mới một lần.
+     * </p>
+     *
+     * @param index Vị trí chèn, đã được xác thực
+     * @param source Mảng nguồn
+     * @param length Số phần tử cần chèn
+     */
+    private void insertBlock(int index, Object[] source, int length) {
+        if (length == 0) {
+            return;
+        }
+        if (source == array) {
+            source = Arrays.copyOf(source, length);
+        }
+        if (size + length > capacity || size + length < 0) {
+            resize(growthPolicy.grow(capacity, size + length));
+        }
+        System.arraycopy(array, index, array, index + length, size - index);
+        System.arraycopy(source, 0, array, index, length);
+        size += length;
+    }
+
+    /**
+     * Thay đổi dung lượng của mảng này, giữ nguyên các phần tử hiện có.
+     *
+     * @param newCapacity Dung lượng mới, không nhỏ hơn số phần tử hiện tại
+     */
+    private void resize(int newCapacity) {
+        capacity = newCapacity;
         array = Arrays.copyOf(array, capacity);
     }
 
+    /**
+     * Thu nhỏ mảng nếu chính sách tăng trưởng yêu cầu, nhưng không xuống dưới dung lượng ban đầu.
+     */
+    private void shrinkIfNeeded() {
+        int newCapacity = Math.max(growthPolicy.shrink(capacity, size), Math.min(initialCapacity, capacity));
+        if (newCapacity < capacity) {
+            resize(newCapacity);
+        }
+    }
+
     /**
      * Trả về một biểu diễn chuỗi của mảng này.
      *
@@ -267,4 +798,61 @@ public class DynamicArray<T> implements Iterable<T> {
             }
         };
     }
+
+    /**
+     * Trả về một Spliterator trên các phần tử hiện có của mảng này.
+     * <p>
+     * Spliterator có các đặc tính {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} và
+     * {@link Spliterator#ORDERED}, và chia đôi khoảng chỉ số trong O(1). Nó được gắn với mảng
+     * bên trong và kích thước tại thời điểm gọi, nên mảng không được thay đổi trong lúc duyệt.
+     * </p>
+     *
+     * @return Một Spliterator cho mảng này
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Trả về một Stream tuần tự trên các phần tử của mảng này.
+     *
+     * @return Một Stream tuần tự
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một Stream song song trên các phần tử của mảng này.
+     *
+     * @return Một Stream song song
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Xác thực rằng bộ so sánh không phải null.
+     *
+     * @param comparator Bộ so sánh cần xác thực
+     * @throws NullPointerException Nếu bộ so sánh là null
+     */
+    private static void requireComparator(Comparator<?> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("Comparator cannot be null!");
+        }
+    }
+
+    /**
+     * Xác thực rằng cấu hình song song không phải null.
+     *
+     * @param policy Cấu hình cần xác thực
+     * @throws NullPointerException Nếu cấu hình là null
+     */
+    private static void requireParallelPolicy(ParallelPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("Parallel policy cannot be null!");
+        }
+    }
 }
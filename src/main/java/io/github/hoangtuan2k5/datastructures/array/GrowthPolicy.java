@@ -0,0 +1,37 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+/**
+ * Interface cho chính sách tăng và giảm dung lượng của mảng động.
+ * <p>
+ * Mảng động hỏi chính sách này dung lượng mới mỗi khi cần thêm chỗ ({@link #grow(int, int)})
+ * và mỗi khi số phần tử giảm ({@link #shrink(int, int)}). Việc tách quyết định này ra khỏi
+ * {@link DynamicArray} cho phép chọn hệ số nhân, bước cộng, giới hạn trên hoặc cách thu nhỏ
+ * phù hợp với từng trường hợp sử dụng.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see DefaultGrowthPolicy
+ */
+public interface GrowthPolicy {
+    /**
+     * Trả về dung lượng mới khi mảng cần chứa ít nhất {@code minCapacity} phần tử.
+     *
+     * @param capacity Dung lượng hiện tại
+     * @param minCapacity Dung lượng tối thiểu cần có, luôn lớn hơn {@code capacity}
+     * @return Dung lượng mới, không nhỏ hơn {@code minCapacity}
+     * @throws IllegalStateException Nếu {@code minCapacity} vượt quá giới hạn của chính sách
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Trả về dung lượng mới sau khi số phần tử giảm xuống {@code size}.
+     * <p>
+     * Trả về {@code capacity} nếu không cần thu nhỏ.
+     * </p>
+     *
+     * @param capacity Dung lượng hiện tại
+     * @param size Số phần tử hiện tại
+     * @return Dung lượng mới, không nhỏ hơn {@code size} và không lớn hơn {@code capacity}
+     */
+    int shrink(int capacity, int size);
+}
@@ -0,0 +1,84 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator trên một khoảng chỉ số [from, to) của một cấu trúc truy cập ngẫu nhiên.
+ * <p>
+ * Dùng cho các mảng không được lưu trong {@code Object[]} (ví dụ mảng ngoài heap), nơi không
+ * thể dùng {@link java.util.Spliterators#spliterator(Object[], int, int, int)}. Việc chia đôi chỉ
+ * tính lại điểm giữa của khoảng nên có độ phức tạp O(1), và cả hai nửa đều biết chính xác kích
+ * thước của mình ({@link #SIZED}, {@link #SUBSIZED}).
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử
+ */
+final class IndexRangeSpliterator<T> implements Spliterator<T> {
+    private final IntFunction<T> getter;
+    private final int characteristics;
+    private int index;
+    private final int fence;
+
+    /**
+     * Tạo một spliterator trên khoảng chỉ số [from, to).
+     *
+     * @param getter Hàm trả về phần tử tại một chỉ số
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     * @param additionalCharacteristics Các đặc tính bổ sung ngoài ORDERED, SIZED và SUBSIZED
+     */
+    IndexRangeSpliterator(IntFunction<T> getter, int from, int to, int additionalCharacteristics) {
+        this.getter = getter;
+        this.index = from;
+        this.fence = to;
+        this.characteristics = additionalCharacteristics | ORDERED | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null!");
+        }
+        if (index < fence) {
+            action.accept(getter.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null!");
+        }
+        int i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(getter.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int low = index;
+        int mid = (low + fence) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IndexRangeSpliterator<>(getter, low, mid, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,546 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Tập hợp các số {@code int} phân biệt, lưu trong một mảng đã sắp xếp tăng dần.
+ * <p>
+ * Lớp này dành cho dữ liệu đọc nhiều, ghi ít: {@link #contains(int)}, {@link #rank(int)},
+ * {@link #floor(int)} và {@link #ceiling(int)} chạy trong O(log n) thay vì quét tuyến tính như
+ * {@link IntDynamicArray#indexOf(int)}, còn việc thêm được làm theo lô bằng {@link #addAll(int...)}:
+ * lô được sắp xếp bằng radix sort rồi trộn với mảng hiện có trong O(n + k).
+ * </p>
+ * <p>
+ * Ngoài mảng đã sắp xếp, tập hợp giữ thêm một chỉ mục tìm kiếm theo {@link Layout} được chọn. Với
+ * bảng lớn hơn cache, tìm kiếm nhị phân thông thường gây một lần trượt cache ở gần như mỗi bước;
+ * các bố cục {@link Layout#EYTZINGER} và {@link Layout#BTREE} sắp xếp lại khóa để các bước liên tiếp
+ * rơi vào cùng một hoặc vài dòng cache. Mọi bố cục đều tìm không rẽ nhánh theo kết quả so sánh.
+ * </p>
+ * <p>
+ * Mỗi lần thêm tạo ra một mảng mới thay vì sửa mảng cũ, nên bộ lặp và stream đang mở tiếp tục duyệt
+ * ảnh chụp tại lúc tạo. Lớp này không an toàn luồng khi có ghi đồng thời.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public final class IntSortedArraySet {
+    /**
+     * Số khóa trong một khối của {@link Layout#BTREE}: 16 số {@code int} vừa một dòng cache 64 byte.
+     */
+    private static final int BLOCK = 16;
+
+    /**
+     * Cách bố trí chỉ mục tìm kiếm.
+     */
+    public enum Layout {
+        /**
+         * Tìm kiếm nhị phân không rẽ nhánh trực tiếp trên mảng đã sắp xếp; không tốn thêm bộ nhớ.
+         */
+        SORTED,
+        /**
+         * Cây nhị phân đầy đủ lưu theo thứ tự duyệt theo chiều rộng (BFS): con của ô {@code k} là
+         * {@code 2k} và {@code 2k + 1}. Bốn tầng trên cùng nằm trong một dòng cache và các tầng dưới
+         * luôn nằm cạnh nhau, nên bộ tiền nạp phần cứng theo kịp. Tốn thêm n số {@code int}.
+         */
+        EYTZINGER,
+        /**
+         * Cây B+ tĩnh với khối 16 khóa (một dòng cache) và 17 con mỗi nút; các lá chính là mảng đã
+         * sắp xếp. Mỗi tầng chỉ chạm một dòng cache, chiều cao là log<sub>17</sub>(n / 16). Tốn thêm
+         * khoảng n / 16 số {@code int}.
+         */
+        BTREE
+    }
+
+    private int[] sorted;
+    private Layout layout;
+    private int[] eytzinger;
+    private int eytzingerHeight;
+    private int eytzingerLastLevel;
+    private int[][] levels;
+
+    private IntSortedArraySet(Layout layout) {
+        this.sorted = new int[0];
+        this.layout = layout;
+        rebuildIndex();
+    }
+
+    /**
+     * Tạo một tập hợp từ các giá trị đã cho với bố cục {@link Layout#BTREE}.
+     *
+     * @param values Các giá trị, theo thứ tự bất kỳ và có thể trùng nhau
+     * @return Tập hợp mới
+     */
+    public static IntSortedArraySet of(int... values) {
+        return build(values, Layout.BTREE);
+    }
+
+    /**
+     * Tạo một tập hợp từ các giá trị đã cho.
+     *
+     * @param values Các giá trị, theo thứ tự bất kỳ và có thể trùng nhau
+     * @param layout Bố cục chỉ mục tìm kiếm
+     * @return Tập hợp mới
+     * @throws NullPointerException Nếu mảng hoặc bố cục là null
+     */
+    public static IntSortedArraySet build(int[] values, Layout layout) {
+        requireLayout(layout);
+        IntSortedArraySet set = new IntSortedArraySet(layout);
+        set.addAll(values);
+        return set;
+    }
+
+    /**
+     * Tạo một tập hợp từ các phần tử của một mảng động.
+     *
+     * @param values Các giá trị, theo thứ tự bất kỳ và có thể trùng nhau
+     * @param layout Bố cục chỉ mục tìm kiếm
+     * @return Tập hợp mới
+     * @throws NullPointerException Nếu mảng hoặc bố cục là null
+     */
+    public static IntSortedArraySet build(IntDynamicArray values, Layout layout) {
+        requireLayout(layout);
+        IntSortedArraySet set = new IntSortedArraySet(layout);
+        set.addAll(values);
+        return set;
+    }
+
+    /**
+     * Thêm một lô giá trị vào tập hợp.
+     * <p>
+     * Lô được sao chép và sắp xếp bằng radix sort, rồi trộn với mảng hiện có trong một lượt, bỏ qua
+     * các giá trị trùng. Chỉ mục tìm kiếm được dựng lại một lần cho cả lô, nên thêm k phần tử tốn
+     * O(n + k) thay vì O(k · n) khi thêm từng phần tử.
+     * </p>
+     *
+     * @param values Các giá trị cần thêm
+     * @return Số phần tử thực sự được thêm vào
+     * @throws NullPointerException Nếu mảng là null
+     */
+    public int addAll(int... values) {
+        if (values == null) {
+            throw new NullPointerException("Values cannot be null!");
+        }
+        if (values.length == 0) {
+            return 0;
+        }
+        int[] batch = values.clone();
+        ParallelSorts.radixSort(batch, 0, batch.length);
+
+        int[] merged = new int[sorted.length + batch.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sorted.length || j < batch.length) {
+            int next;
+            if (j == batch.length || (i < sorted.length && sorted[i] <= batch[j])) {
+                next = sorted[i++];
+            } else {
+                next = batch[j++];
+            }
+            if (count == 0 || merged[count - 1] != next) {
+                merged[count++] = next;
+            }
+        }
+        int added = count - sorted.length;
+        if (added > 0) {
+            sorted = count == merged.length ? merged : Arrays.copyOf(merged, count);
+            rebuildIndex();
+        }
+        return added;
+    }
+
+    /**
+     * Thêm các phần tử của một mảng động vào tập hợp.
+     *
+     * @param values Các giá trị cần thêm
+     * @return Số phần tử thực sự được thêm vào
+     * @throws NullPointerException Nếu mảng là null
+     * @see #addAll(int...)
+     */
+    public int addAll(IntDynamicArray values) {
+        if (values == null) {
+            throw new NullPointerException("Values cannot be null!");
+        }
+        return addAll(values.toArray());
+    }
+
+    /**
+     * Trả về bố cục chỉ mục tìm kiếm hiện tại.
+     *
+     * @return Bố cục hiện tại
+     */
+    public Layout layout() {
+        return layout;
+    }
+
+    /**
+     * Đổi bố cục chỉ mục tìm kiếm; chỉ mục được dựng lại trong O(n).
+     *
+     * @param layout Bố cục mới
+     * @throws NullPointerException Nếu bố cục là null
+     */
+    public void setLayout(Layout layout) {
+        requireLayout(layout);
+        if (this.layout != layout) {
+            this.layout = layout;
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Trả về số phần tử trong tập hợp.
+     *
+     * @return Số phần tử
+     */
+    public int size() {
+        return sorted.length;
+    }
+
+    /**
+     * Kiểm tra tập hợp có rỗng hay không.
+     *
+     * @return {@code true} nếu tập hợp không có phần tử nào
+     */
+    public boolean isEmpty() {
+        return sorted.length == 0;
+    }
+
+    /**
+     * Trả về phần tử nhỏ thứ {@code index} (bắt đầu từ 0).
+     *
+     * @param index Thứ hạng của phần tử
+     * @return Phần tử tại thứ hạng đó
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public int get(int index) {
+        if (index < 0 || index >= sorted.length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + sorted.length);
+        }
+        return sorted[index];
+    }
+
+    /**
+     * Trả về phần tử nhỏ nhất.
+     *
+     * @return Phần tử nhỏ nhất
+     * @throws NoSuchElementException Nếu tập hợp rỗng
+     */
+    public int first() {
+        requireNotEmpty();
+        return sorted[0];
+    }
+
+    /**
+     * Trả về phần tử lớn nhất.
+     *
+     * @return Phần tử lớn nhất
+     * @throws NoSuchElementException Nếu tập hợp rỗng
+     */
+    public int last() {
+        requireNotEmpty();
+        return sorted[sorted.length - 1];
+    }
+
+    /**
+     * Kiểm tra tập hợp có chứa giá trị đã cho hay không.
+     *
+     * @param value Giá trị cần tìm
+     * @return {@code true} nếu giá trị có trong tập hợp
+     */
+    public boolean contains(int value) {
+        if (layout == Layout.EYTZINGER) {
+            int slot = eytzingerLowerBound(value);
+            return slot != 0 && eytzinger[slot] == value;
+        }
+        int rank = rank(value);
+        return rank < sorted.length && sorted[rank] == value;
+    }
+
+    /**
+     * Trả về số phần tử nhỏ hơn giá trị đã cho, cũng là chỉ số mà giá trị sẽ được chèn vào.
+     *
+     * @param value Giá trị cần xếp hạng
+     * @return Số phần tử nhỏ hơn {@code value}, trong khoảng [0, size]
+     */
+    public int rank(int value) {
+        switch (layout) {
+            case EYTZINGER:
+                int slot = eytzingerLowerBound(value);
+                return slot == 0 ? sorted.length : eytzingerRank(slot);
+            case BTREE:
+                return btreeRank(value);
+            default:
+                return sortedRank(value);
+        }
+    }
+
+    /**
+     * Trả về chỉ số của giá trị trong thứ tự tăng dần.
+     *
+     * @param value Giá trị cần tìm
+     * @return Chỉ số của giá trị, hoặc -1 nếu không có trong tập hợp
+     */
+    public int indexOf(int value) {
+        int rank = rank(value);
+        return rank < sorted.length && sorted[rank] == value ? rank : -1;
+    }
+
+    /**
+     * Trả về phần tử lớn nhất nhỏ hơn hoặc bằng giá trị đã cho.
+     *
+     * @param value Giá trị cần so sánh
+     * @return Phần tử lớn nhất không vượt quá {@code value}
+     * @throws NoSuchElementException Nếu mọi phần tử đều lớn hơn {@code value}
+     */
+    public int floor(int value) {
+        int rank = rank(value);
+        if (rank < sorted.length && sorted[rank] == value) {
+            return value;
+        }
+        if (rank == 0) {
+            throw new NoSuchElementException("No element less than or equal to: " + value);
+        }
+        return sorted[rank - 1];
+    }
+
+    /**
+     * Trả về phần tử nhỏ nhất lớn hơn hoặc bằng giá trị đã cho.
+     *
+     * @param value Giá trị cần so sánh
+     * @return Phần tử nhỏ nhất không nhỏ hơn {@code value}
+     * @throws NoSuchElementException Nếu mọi phần tử đều nhỏ hơn {@code value}
+     */
+    public int ceiling(int value) {
+        int rank = rank(value);
+        if (rank == sorted.length) {
+            throw new NoSuchElementException("No element greater than or equal to: " + value);
+        }
+        return sorted[rank];
+    }
+
+    /**
+     * Đếm số phần tử trong khoảng [{@code fromValue}, {@code toValue}) bằng hai lần tìm kiếm.
+     *
+     * @param fromValue Cận dưới (bao gồm)
+     * @param toValue Cận trên (không bao gồm)
+     * @return Số phần tử trong khoảng
+     * @throws IllegalArgumentException Nếu {@code fromValue > toValue}
+     */
+    public int countInRange(int fromValue, int toValue) {
+        validateRange(fromValue, toValue);
+        return rank(toValue) - rank(fromValue);
+    }
+
+    /**
+     * Trả về một bộ lặp nguyên thủy theo thứ tự tăng dần.
+     *
+     * @return Bộ lặp trên mọi phần tử
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return iterator(sorted, 0, sorted.length);
+    }
+
+    /**
+     * Trả về một bộ lặp nguyên thủy trên các phần tử trong khoảng [{@code fromValue}, {@code toValue})
+     * theo thứ tự tăng dần. Hai đầu khoảng được tìm một lần khi tạo bộ lặp.
+     *
+     * @param fromValue Cận dưới (bao gồm)
+     * @param toValue Cận trên (không bao gồm)
+     * @return Bộ lặp trên các phần tử trong khoảng
+     * @throws IllegalArgumentException Nếu {@code fromValue > toValue}
+     */
+    public PrimitiveIterator.OfInt iterator(int fromValue, int toValue) {
+        validateRange(fromValue, toValue);
+        return iterator(sorted, rank(fromValue), rank(toValue));
+    }
+
+    /**
+     * Trả về một {@link IntStream} tuần tự theo thứ tự tăng dần, không boxing.
+     *
+     * @return Stream trên mọi phần tử
+     */
+    public IntStream stream() {
+        return Arrays.stream(sorted);
+    }
+
+    /**
+     * Trả về một {@link IntStream} trên các phần tử trong khoảng [{@code fromValue}, {@code toValue}).
+     *
+     * @param fromValue Cận dưới (bao gồm)
+     * @param toValue Cận trên (không bao gồm)
+     * @return Stream trên các phần tử trong khoảng
+     * @throws IllegalArgumentException Nếu {@code fromValue > toValue}
+     */
+    public IntStream range(int fromValue, int toValue) {
+        validateRange(fromValue, toValue);
+        return Arrays.stream(sorted, rank(fromValue), rank(toValue));
+    }
+
+    /**
+     * Trả về một bản sao các phần tử theo thứ tự tăng dần.
+     *
+     * @return Mảng mới chứa các phần tử
+     */
+    public int[] toArray() {
+        return sorted.clone();
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của tập hợp theo thứ tự tăng dần.
+     *
+     * @return Biểu diễn chuỗi của tập hợp
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(sorted);
+    }
+
+    /**
+     * Tìm cận dưới bằng tìm kiếm nhị phân không rẽ nhánh: mỗi bước chỉ chọn giữa {@code base} và
+     * {@code base + half}, JIT có thể dịch thành lệnh di chuyển có điều kiện.
+     */
+    private int sortedRank(int value) {
+        int[] array = sorted;
+        int length = array.length;
+        if (length == 0) {
+            return 0;
+        }
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = array[base + half] < value ? base + half : base;
+            length -= half;
+        }
+        return base + (array[base] < value ? 1 : 0);
+    }
+
+    /**
+     * Đi xuống cây Eytzinger đến khi ra khỏi mảng; đường đi được ghi trong các bit của {@code slot}.
+     * Bỏ các bước rẽ phải cuối cùng (các bit 1 ở cuối) và một bước rẽ trái cho ra ô của cận dưới.
+     *
+     * @return Ô chứa phần tử nhỏ nhất không nhỏ hơn {@code value}, hoặc 0 nếu không có
+     */
+    private int eytzingerLowerBound(int value) {
+        int[] tree = eytzinger;
+        int length = sorted.length;
+        int slot = 1;
+        while (slot <= length) {
+            slot = (slot << 1) + (tree[slot] < value ? 1 : 0);
+        }
+        return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+    }
+
+    /**
+     * Tính chỉ số theo thứ tự giữa (in-order) của ô {@code slot} trong O(1), không cần mảng phụ.
+     * <p>
+     * Trong cây hoàn hảo có chiều cao h, ô ở vị trí p của tầng d có chỉ số (2p + 1) · 2<sup>h - d</sup> - 1.
+     * Tầng cuối chỉ có {@code eytzingerLastLevel} ô đầu tiên, nên trừ đi số ô bị thiếu đứng trước.
+     * </p>
+     */
+    private int eytzingerRank(int slot) {
+        int depth = 31 - Integer.numberOfLeadingZeros(slot);
+        int position = slot - (1 << depth);
+        int full = ((position << 1) + 1 << (eytzingerHeight - depth)) - 1;
+        int missing = ((full + 1) >>> 1) - eytzingerLastLevel;
+        return missing > 0 ? full - missing : full;
+    }
+
+    /**
+     * Đi xuống cây B+: ở mỗi nút, số khóa nhỏ hơn {@code value} chính là chỉ số của con cần đi tiếp.
+     * Khóa thứ i của một nút là phần tử đầu tiên của cây con thứ i + 1.
+     */
+    private int btreeRank(int value) {
+        int node = 0;
+        for (int[] level : levels) {
+            int from = node * BLOCK;
+            node = node * (BLOCK + 1) + PrimitiveScans.countLess(level, from, from + BLOCK, value);
+        }
+        int from = node * BLOCK;
+        return from + PrimitiveScans.countLess(sorted, from, Math.min(from + BLOCK, sorted.length), value);
+    }
+
+    /**
+     * Dựng lại chỉ mục tìm kiếm cho bố cục hiện tại từ mảng đã sắp xếp.
+     */
+    private void rebuildIndex() {
+        eytzinger = null;
+        levels = null;
+        int length = sorted.length;
+        if (layout == Layout.EYTZINGER) {
+            if (length >= 1 << 30) {
+                throw new IllegalArgumentException("Too many elements for the EYTZINGER layout. Size: " + length);
+            }
+            eytzinger = new int[length + 1];
+            if (length > 0) {
+                eytzingerHeight = 31 - Integer.numberOfLeadingZeros(length);
+                eytzingerLastLevel = length - (1 << eytzingerHeight) + 1;
+                for (int slot = 1; slot <= length; slot++) {
+                    eytzinger[slot] = sorted[eytzingerRank(slot)];
+                }
+            }
+        } else if (layout == Layout.BTREE) {
+            int depth = 0;
+            for (int nodes = (length + BLOCK - 1) / BLOCK; nodes > 1; nodes = (nodes + BLOCK) / (BLOCK + 1)) {
+                depth++;
+            }
+            levels = new int[depth][];
+            int children = (length + BLOCK - 1) / BLOCK;
+            long leavesPerChild = 1;
+            for (int level = depth - 1; level >= 0; level--) {
+                int nodes = (children + BLOCK) / (BLOCK + 1);
+                int[] keys = new int[nodes * BLOCK];
+                for (int node = 0; node < nodes; node++) {
+                    for (int i = 0; i < BLOCK; i++) {
+                        long child = (long) node * (BLOCK + 1) + i + 1;
+                        keys[node * BLOCK + i] = child < children
+                                ? sorted[(int) (child * leavesPerChild * BLOCK)]
+                                : Integer.MAX_VALUE;
+                    }
+                }
+                levels[level] = keys;
+                children = nodes;
+                leavesPerChild *= BLOCK + 1;
+            }
+        }
+    }
+
+    private static PrimitiveIterator.OfInt iterator(final int[] array, final int from, final int to) {
+        return new PrimitiveIterator.OfInt() {
+            private int currentIndex = from;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < to;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements to iterate.");
+                }
+                return array[currentIndex++];
+            }
+        };
+    }
+
+    private static void validateRange(int fromValue, int toValue) {
+        if (fromValue > toValue) {
+            throw new IllegalArgumentException("Invalid range: " + fromValue + " > " + toValue);
+        }
+    }
+
+    private static void requireLayout(Layout layout) {
+        if (layout == null) {
+            throw new NullPointerException("Layout cannot be null!");
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (sorted.length == 0) {
+            throw new NoSuchElementException("Set is empty!");
+        }
+    }
+}
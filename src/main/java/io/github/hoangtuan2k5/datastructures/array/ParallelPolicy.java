@@ -0,0 +1,103 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cấu hình cho các thao tác song song trên mảng ({@code parallelFill}, {@code parallelSetAll},
+ * {@code parallelPrefix}, {@code parallelReplaceAll}).
+ * <p>
+ * Một thao tác song song chia khoảng chỉ số làm đôi cho đến khi mỗi phần không lớn hơn
+ * {@code threshold} phần tử, rồi xử lý các phần đó trên {@link ForkJoinPool} đã chỉ định.
+ * Ngưỡng quá nhỏ làm chi phí tạo tác vụ lấn át công việc thực; ngưỡng quá lớn khiến một số
+ * lõi phải chờ. Mảng không lớn hơn ngưỡng được xử lý tuần tự ngay trên luồng gọi.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public final class ParallelPolicy {
+    /**
+     * Ngưỡng chia mặc định, bằng với ngưỡng mà {@link java.util.Arrays} dùng cho các thao tác song song.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private static final ParallelPolicy COMMON_POOL = new ParallelPolicy(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Tạo một cấu hình song song với pool và ngưỡng chia đã chỉ định.
+     *
+     * @param pool Pool dùng để thực thi các tác vụ con
+     * @param threshold Số phần tử tối đa mà một tác vụ con xử lý tuần tự, phải lớn hơn 0
+     * @throws NullPointerException Nếu pool là null
+     * @throws IllegalArgumentException Nếu ngưỡng không lớn hơn 0
+     */
+    public ParallelPolicy(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new NullPointerException("Pool cannot be null!");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be greater than 0. Threshold: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Trả về cấu hình mặc định: {@link ForkJoinPool#commonPool()} với {@link #DEFAULT_THRESHOLD}.
+     *
+     * @return Cấu hình mặc định
+     */
+    public static ParallelPolicy commonPool() {
+        return COMMON_POOL;
+    }
+
+    /**
+     * Trả về một bản sao của cấu hình này với ngưỡng chia đã chỉ định.
+     *
+     * @param threshold Ngưỡng chia mới, phải lớn hơn 0
+     * @return Cấu hình mới với ngưỡng đã chỉ định
+     */
+    public ParallelPolicy withThreshold(int threshold) {
+        return new ParallelPolicy(pool, threshold);
+    }
+
+    /**
+     * Trả về một bản sao của cấu hình này chạy trên pool đã chỉ định.
+     *
+     * @param pool Pool mới
+     * @return Cấu hình mới với pool đã chỉ định
+     */
+    public ParallelPolicy withPool(ForkJoinPool pool) {
+        return new ParallelPolicy(pool, threshold);
+    }
+
+    /**
+     * Trả về pool dùng để thực thi các tác vụ con.
+     *
+     * @return Pool của cấu hình này
+     */
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * Trả về số phần tử tối đa mà một tác vụ con xử lý tuần tự.
+     *
+     * @return Ngưỡng chia của cấu hình này
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của cấu hình này.
+     *
+     * @return Biểu diễn chuỗi của cấu hình này
+     */
+    @Override
+    public String toString() {
+        return "ParallelPolicy[pool=" + pool + ", threshold=" + threshold + "]";
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Các tiện ích nội bộ để chạy một hành động trên các khoảng chỉ số bằng fork/join.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+final class ParallelRanges {
+
+    /**
+     * Hành động được thực thi tuần tự trên một khoảng chỉ số [from, to).
+     */
+    interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    private ParallelRanges() {
+    }
+
+    /**
+     * Chia khoảng [from, to) làm đôi cho đến khi mỗi phần không lớn hơn {@code grain} phần tử,
+     * rồi thực thi hành động trên từng phần trong pool đã chỉ định.
+     * <p>
+     * Phương thức chỉ trả về khi mọi phần đã hoàn tất; ngoại lệ không kiểm tra do hành động ném ra
+     * được ném lại trên luồng gọi.
+     * </p>
+     *
+     * @param pool Pool dùng để thực thi các tác vụ con
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     * @param grain Kích thước tối đa của một phần được xử lý tuần tự
+     * @param action Hành động cần thực thi
+     */
+    static void forEachRange(ForkJoinPool pool, int from, int to, int grain, RangeAction action) {
+        if (to - from <= grain) {
+            if (from < to) {
+                action.apply(from, to);
+            }
+            return;
+        }
+        pool.invoke(new RangeTask(from, to, grain, action));
+    }
+
+    /**
+     * Trả về số khối kích thước {@code chunkSize} cần để phủ {@code length} phần tử.
+     *
+     * @param length Số phần tử
+     * @param chunkSize Kích thước của một khối
+     * @return Số khối
+     */
+    static int chunkCount(int length, int chunkSize) {
+        return length == 0 ? 0 : (length - 1) / chunkSize + 1;
+    }
+
+    /**
+     * Trả về chỉ số kết thúc (không bao gồm) của khối thứ {@code chunk}.
+     *
+     * @param chunk Chỉ số của khối
+     * @param chunkSize Kích thước của một khối
+     * @param length Số phần tử
+     * @return Chỉ số kết thúc của khối
+     */
+    static int chunkEnd(int chunk, int chunkSize, int length) {
+        return (int) Math.min((long) (chunk + 1) * chunkSize, length);
+    }
+
+    /**
+     * Tác vụ fork/join chia đôi khoảng chỉ số của nó.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final transient RangeAction action;
+
+        RangeTask(int from, int to, int grain, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                action.apply(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, grain, action), new RangeTask(mid, to, grain, action));
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Các thuật toán sắp xếp nội bộ dùng chung cho các mảng trong gói này.
+ * <p>
+ * Sắp xếp tuần tự được chuyển cho {@link Arrays#sort}: TimSort (ổn định) cho mảng đối tượng và
+ * dual-pivot quicksort cho mảng nguyên thủy. Lớp này bổ sung:
+ * </p>
+ * <ul>
+ * <li>Sắp xếp song song bằng fork/join theo {@link ParallelPolicy}: khoảng chỉ số được chia đôi cho
+ * đến khi không lớn hơn ngưỡng, mỗi phần được sắp xếp tuần tự, rồi các phần được trộn lại. Bước trộn
+ * cũng song song: phần lớn hơn được chia ở giữa và vị trí tương ứng trong phần kia được tìm bằng tìm
+ * kiếm nhị phân, nên đường găng chỉ là O(log² n) thay vì một lần trộn tuần tự O(n) ở gốc. Phép trộn
+ * ổn định, nên sắp xếp song song mảng đối tượng cũng ổn định.</li>
+ * <li>Sắp xếp cơ số LSD (radix sort) cho {@code int} và {@code long}: các chữ số 8 bit được đếm trong
+ * một lần duyệt duy nhất, và các lượt mà mọi phần tử có cùng chữ số được bỏ qua.</li>
+ * </ul>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+final class ParallelSorts {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    /**
+     * Dưới ngưỡng này, chi phí đếm và bộ đệm phụ của radix sort lớn hơn lợi ích, nên dùng dual-pivot quicksort.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 1 << 8;
+
+    private ParallelSorts() {
+    }
+
+    /**
+     * Sắp xếp song song ổn định khoảng [from, to) theo bộ so sánh đã cho.
+     *
+     * @param array Mảng cần sắp xếp
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     * @param comparator Bộ so sánh, hoặc null để dùng thứ tự tự nhiên
+     * @param policy Cấu hình song song
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void parallelSort(T[] array, int from, int to, Comparator<? super T> comparator, ParallelPolicy policy) {
+        Comparator<Object> order = comparator != null
+                ? (Comparator<Object>) comparator
+                : (x, y) -> ((Comparable<Object>) x).compareTo(y);
+        if (to - from <= policy.threshold()) {
+            Arrays.sort(array, from, to, order);
+            return;
+        }
+        Object[] buffer = new Object[to - from];
+        policy.pool().invoke(new SortTask<>(array, buffer, from, from, to, new ObjectSortStrategy(order), policy.threshold()));
+    }
+
+    /**
+     * Sắp xếp song song khoảng [from, to) theo thứ tự tăng dần.
+     *
+     * @param array Mảng cần sắp xếp
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     * @param policy Cấu hình song song
+     */
+    static void parallelSort(int[] array, int from, int to, ParallelPolicy policy) {
+        if (to - from <= policy.threshold()) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+        int[] buffer = new int[to - from];
+        policy.pool().invoke(new SortTask<>(array, buffer, from, from, to, INT_STRATEGY, policy.threshold()));
+    }
+
+    /**
+     * Sắp xếp song song khoảng [from, to) theo thứ tự tăng dần.
+     *
+     * @param array Mảng cần sắp xếp
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     * @param policy Cấu hình song song
+     */
+    static void parallelSort(long[] array, int from, int to, ParallelPolicy policy) {
+        if (to - from <= policy.threshold()) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+        long[] buffer = new long[to - from];
+        policy.pool().invoke(new SortTask<>(array, buffer, from, from, to, LONG_STRATEGY, policy.threshold()));
+    }
+
+    /**
+     * Sắp xếp song song khoảng [from, to) theo thứ tự tăng dần, với cùng thứ tự như {@link Double#compare(double, double)}.
+     *
+     * @param array Mảng cần sắp xếp
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     * @param policy Cấu hình song song
+     */
+    static void parallelSort(double[] array, int from, int to, ParallelPolicy policy) {
+        if (to - from <= policy.threshold()) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+        double[] buffer = new double[to - from];
+        policy.pool().invoke(new SortTask<>(array, buffer, from, from, to, DOUBLE_STRATEGY, policy.threshold()));
+    }
+
+    /**
+     * Sắp xếp khoảng [from, to) bằng radix sort LSD với 4 chữ số 8 bit.
+     * <p>
+     * Bit dấu được đảo khi lấy chữ số, nên thứ tự không dấu của khóa trùng với thứ tự có dấu của giá trị.
+     * Cần một bộ đệm phụ bằng kích thước khoảng.
+     * </p>
+     *
+     * @param array Mảng cần sắp xếp
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     */
+    static void radixSort(int[] array, int from, int to) {
+        int length = to - from;
+        if (length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+        int[][] counts = new int[4][RADIX];
+        for (int i = from; i < to; i++) {
+            int key = array[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < 4; pass++) {
+                counts[pass][(key >>> (pass * RADIX_BITS)) & RADIX_MASK]++;
+            }
+        }
+        int[] source = array;
+        int sourceFrom = from;
+        int[] target = new int[length];
+        int targetFrom = 0;
+        for (int pass = 0; pass < 4; pass++) {
+            int[] offsets = counts[pass];
+            int shift = pass * RADIX_BITS;
+            if (offsets[((source[sourceFrom] ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK] == length) {
+                continue; // Mọi phần tử có cùng chữ số: lượt này không đổi thứ tự
+            }
+            int sum = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int value = source[sourceFrom + i];
+                target[targetFrom + offsets[((value ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK]++] = value;
+            }
+            int[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapFrom = sourceFrom;
+            sourceFrom = targetFrom;
+            targetFrom = swapFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, from, length);
+        }
+    }
+
+    /**
+     * Sắp xếp khoảng [from, to) bằng radix sort LSD với 8 chữ số 8 bit.
+     * <p>
+     * Bit dấu được đảo khi lấy chữ số, nên thứ tự không dấu của khóa trùng với thứ tự có dấu của giá trị.
+     * Cần một bộ đệm phụ bằng kích thước khoảng.
+     * </p>
+     *
+     * @param array Mảng cần sắp xếp
+     * @param from Chỉ số đầu tiên (bao gồm)
+     * @param to Chỉ số cuối cùng (không bao gồm)
+     */
+    static void radixSort(long[] array, int from, int to) {
+        int length = to - from;
+        if (length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+        int[][] counts = new int[8][RADIX];
+        for (int i = from; i < to; i++) {
+            long key = array[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < 8; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & RADIX_MASK]++;
+            }
+        }
+        long[] source = array;
+        int sourceFrom = from;
+        long[] target = new long[length];
+        int targetFrom = 0;
+        for (int pass = 0; pass < 8; pass++) {
+            int[] offsets = counts[pass];
+            int shift = pass * RADIX_BITS;
+            if (offsets[(int) ((source[sourceFrom] ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK] == length) {
+                continue; // Mọi phần tử có cùng chữ số: lượt này không đổi thứ tự
+            }
+            int sum = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < length; i++) {
+                long value = source[sourceFrom + i];
+                target[targetFrom + offsets[(int) ((value ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK]++] = value;
+            }
+            long[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapFrom = sourceFrom;
+            sourceFrom = targetFrom;
+            targetFrom = swapFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, from, length);
+        }
+    }
+
+    /**
+     * Các thao tác phụ thuộc kiểu phần tử mà tác vụ sắp xếp và trộn song song cần, trên mảng kiểu {@code A}.
+     * <p>
+     * Phép đệ quy fork/join và việc tìm điểm chia được dùng chung; mỗi kiểu chỉ cung cấp sắp xếp tuần tự,
+     * phép so sánh theo chỉ số và vòng trộn tuần tự trên mảng nguyên thủy của nó.
+     * </p>
+     *
+     * @param <A> Kiểu mảng
+     */
+    private abstract static class SortStrategy<A> {
+        /**
+         * Sắp xếp tuần tự khoảng [from, to) của {@code array}.
+         */
+        abstract void sort(A array, int from, int to);
+
+        /**
+         * So sánh hai phần tử {@code array[i]} và {@code array[j]}.
+         */
+        abstract int compare(A array, int i, int j);
+
+        /**
+         * Trộn ổn định tuần tự hai khoảng đã sắp xếp của {@code source} vào {@code target} bắt đầu tại {@code targetFrom}.
+         */
+        abstract void merge(A source, int leftFrom, int leftTo, int rightFrom, int rightTo, A target, int targetFrom);
+    }
+
+    private static final class ObjectSortStrategy extends SortStrategy<Object[]> {
+        private final Comparator<Object> order;
+
+        ObjectSortStrategy(Comparator<Object> order) {
+            this.order = order;
+        }
+
+        @Override
+        void sort(Object[] array, int from, int to) {
+            Arrays.sort(array, from, to, order);
+        }
+
+        @Override
+        int compare(Object[] array, int i, int j) {
+            return order.compare(array[i], array[j]);
+        }
+
+        @Override
+        void merge(Object[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, Object[] target, int targetFrom) {
+            int left = leftFrom;
+            int right = rightFrom;
+            int out = targetFrom;
+            while (left < leftTo && right < rightTo) {
+                target[out++] = order.compare(source[right], source[left]) < 0 ? source[right++] : source[left++];
+            }
+            System.arraycopy(source, left, target, out, leftTo - left);
+            System.arraycopy(source, right, target, out + leftTo - left, rightTo - right);
+        }
+    }
+
+    private static final SortStrategy<int[]> INT_STRATEGY = new SortStrategy<int[]>() {
+        @Override
+        void sort(int[] array, int from, int to) {
+            Arrays.sort(array, from, to);
+        }
+
+        @Override
+        int compare(int[] array, int i, int j) {
+            return Integer.compare(array[i], array[j]);
+        }
+
+        @Override
+        void merge(int[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, int[] target, int targetFrom) {
+            int left = leftFrom;
+            int right = rightFrom;
+            int out = targetFrom;
+            while (left < leftTo && right < rightTo) {
+                target[out++] = source[right] < source[left] ? source[right++] : source[left++];
+            }
+            System.arraycopy(source, left, target, out, leftTo - left);
+            System.arraycopy(source, right, target, out + leftTo - left, rightTo - right);
+        }
+    };
+
+    private static final SortStrategy<long[]> LONG_STRATEGY = new SortStrategy<long[]>() {
+        @Override
+        void sort(long[] array, int from, int to) {
+            Arrays.sort(array, from, to);
+        }
+
+        @Override
+        int compare(long[] array, int i, int j) {
+            return Long.compare(array[i], array[j]);
+        }
+
+        @Override
+        void merge(long[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, long[] target, int targetFrom) {
+            int left = leftFrom;
+            int right = rightFrom;
+            int out = targetFrom;
+            while (left < leftTo && right < rightTo) {
+                target[out++] = source[right] < source[left] ? source[right++] : source[left++];
+            }
+            System.arraycopy(source, left, target, out, leftTo - left);
+            System.arraycopy(source, right, target, out + leftTo - left, rightTo - right);
+        }
+    };
+
+    private static final SortStrategy<double[]> DOUBLE_STRATEGY = new SortStrategy<double[]>() {
+        @Override
+        void sort(double[] array, int from, int to) {
+            Arrays.sort(array, from, to);
+        }
+
+        @Override
+        int compare(double[] array, int i, int j) {
+            return Double.compare(array[i], array[j]);
+        }
+
+        @Override
+        void merge(double[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, double[] target, int targetFrom) {
+            int left = leftFrom;
+            int right = rightFrom;
+            int out = targetFrom;
+            while (left < leftTo && right < rightTo) {
+                target[out++] = Double.compare(source[right], source[left]) < 0 ? source[right++] : source[left++];
+            }
+            System.arraycopy(source, left, target, out, leftTo - left);
+            System.arraycopy(source, right, target, out + leftTo - left, rightTo - right);
+        }
+    };
+
+    /**
+     * Tác vụ sắp xếp khoảng [from, to) của {@code array}, dùng đoạn tương ứng của {@code buffer}
+     * (bắt đầu tại {@code from - base}) làm vùng trộn.
+     *
+     * @param <A> Kiểu mảng
+     */
+    private static final class SortTask<A> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient A array;
+        private final transient A buffer;
+        private final int base;
+        private final int from;
+        private final int to;
+        private final transient SortStrategy<A> strategy;
+        private final int threshold;
+
+        SortTask(A array, A buffer, int base, int from, int to, SortStrategy<A> strategy, int threshold) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.strategy = strategy;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                strategy.sort(array, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(array, buffer, base, from, mid, strategy, threshold),
+                    new SortTask<>(array, buffer, base, mid, to, strategy, threshold));
+            System.arraycopy(array, from, buffer, from - base, to - from);
+            new MergeTask<>(buffer, from - base, mid - base, mid - base, to - base, array, from, strategy, threshold).compute();
+        }
+    }
+
+    /**
+     * Tác vụ trộn ổn định hai khoảng đã sắp xếp [leftFrom, leftTo) và [rightFrom, rightTo) của
+     * {@code source} vào {@code target} bắt đầu tại {@code targetFrom}.
+     *
+     * @param <A> Kiểu mảng
+     */
+    private static final class MergeTask<A> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient A source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final transient A target;
+        private final int targetFrom;
+        private final transient SortStrategy<A> strategy;
+        private final int threshold;
+
+        MergeTask(A source, int leftFrom, int leftTo, int rightFrom, int rightTo,
+                A target, int targetFrom, SortStrategy<A> strategy, int threshold) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.targetFrom = targetFrom;
+            this.strategy = strategy;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= threshold || Math.max(leftLength, rightLength) < 2) {
+                strategy.merge(source, leftFrom, leftTo, rightFrom, rightTo, target, targetFrom);
+                return;
+            }
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                // Phần tử bên phải bằng chốt phải đứng sau chốt để giữ tính ổn định
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                rightSplit = search(rightFrom, rightTo, leftSplit, false);
+            } else {
+                // Phần tử bên trái bằng chốt phải đứng trước chốt để giữ tính ổn định
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = search(leftFrom, leftTo, rightSplit, true);
+            }
+            int targetSplit = targetFrom + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            invokeAll(new MergeTask<>(source, leftFrom, leftSplit, rightFrom, rightSplit, target, targetFrom, strategy, threshold),
+                    new MergeTask<>(source, leftSplit, leftTo, rightSplit, rightTo, target, targetSplit, strategy, threshold));
+        }
+
+        /**
+         * Tìm nhị phân trong [low, high) vị trí đầu tiên có phần tử lớn hơn chốt {@code source[pivot]}
+         * (nếu {@code afterEqual}) hoặc không nhỏ hơn chốt (nếu ngược lại).
+         */
+        private int search(int low, int high, int pivot, boolean afterEqual) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                int comparison = strategy.compare(source, middle, pivot);
+                if (comparison < 0 || afterEqual && comparison == 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,615 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Vector bền vững (persistent) bất biến, chia sẻ cấu trúc giữa các phiên bản.
+ * <p>
+ * Các phần tử được lưu trong một cây tiền tố (trie) phân vùng theo bit với hệ số phân nhánh 32:
+ * mỗi tầng dùng 5 bit của chỉ số để chọn nhánh con, nên một vector một triệu phần tử chỉ cao
+ * bốn tầng. Tối đa 32 phần tử cuối cùng nằm riêng trong mảng {@code tail}, nên phần lớn các lần
+ * {@link #append(Object)} và {@link #pop()} chỉ sao chép mảng nhỏ này.
+ * </p>
+ * <p>
+ * Mọi thao tác thay đổi trả về một vector mới và không chạm vào vector cũ. Vector mới chỉ sao chép
+ * các node trên đường đi từ gốc đến lá bị thay đổi (O(log32 n) node, mỗi node 32 ô) và dùng chung
+ * mọi node còn lại với phiên bản cũ. Vì vậy có thể giữ hàng nghìn phiên bản cùng lúc với chi phí
+ * bộ nhớ chỉ tỉ lệ với số thay đổi giữa chúng, và mỗi phiên bản an toàn khi đọc từ nhiều luồng.
+ * </p>
+ * <p>
+ * Để nạp nhiều phần tử, dùng {@link Builder} (chế độ transient): builder sở hữu các node nó tạo ra
+ * và thay đổi chúng tại chỗ thay vì sao chép, rồi {@link Builder#build()} trả về một vector
+ * bất biến trong O(1).
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong vector
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    /**
+     * Một node trong của cây; {@code owner} là mã sở hữu của builder đã tạo ra nó, hoặc
+     * {@code null} nếu node thuộc về một vector bất biến.
+     */
+    private static final class Node {
+        private final Object owner;
+        private final Object[] array;
+
+        private Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+
+        private Node(Object owner) {
+            this(owner, new Object[WIDTH]);
+        }
+    }
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Trả về vector rỗng.
+     *
+     * @param <T> Kiểu dữ liệu của các phần tử
+     * @return Vector rỗng dùng chung
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Tạo một vector chứa các phần tử đã cho theo thứ tự duyệt.
+     *
+     * @param elements Các phần tử ban đầu
+     * @param <T> Kiểu dữ liệu của các phần tử
+     * @return Một vector mới
+     * @throws NullPointerException Nếu Iterable là null
+     */
+    public static <T> PersistentVector<T> from(Iterable<? extends T> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements cannot be null!");
+        }
+        Builder<T> builder = builder();
+        for (T element : elements) {
+            builder.append(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Tạo một builder rỗng để nạp nhiều phần tử mà không sao chép node.
+     *
+     * @param <T> Kiểu dữ liệu của các phần tử
+     * @return Một builder rỗng
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(PersistentVector.<T>empty());
+    }
+
+    /**
+     * Tạo một builder bắt đầu từ nội dung của vector này.
+     * <p>
+     * Vector này không bị ảnh hưởng bởi các thay đổi trên builder.
+     * </p>
+     *
+     * @return Một builder chứa các phần tử của vector này
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Trả về số lượng phần tử trong vector này.
+     *
+     * @return Số lượng phần tử
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Trả về true nếu vector này không chứa phần tử nào.
+     *
+     * @return true nếu vector rỗng
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Trả về phần tử tại vị trí chỉ định trong O(log32 n).
+     *
+     * @param index Chỉ số của phần tử cần trả về
+     * @return Phần tử tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        validateElementIndex(index, size);
+        return (T) leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+    /**
+     * Trả về một vector mới có thêm phần tử ở cuối.
+     *
+     * @param element Phần tử cần thêm
+     * @return Vector mới; vector này không thay đổi
+     */
+    public PersistentVector<T> append(T element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // Gốc đã đầy: thêm một tầng mới
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Trả về một vector mới với phần tử tại vị trí chỉ định được thay thế.
+     *
+     * @param index Chỉ số của phần tử cần thay thế
+     * @param element Phần tử mới
+     * @return Vector mới; vector này không thay đổi
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public PersistentVector<T> set(int index, T element) {
+        validateElementIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * Trả về một vector mới không có phần tử cuối cùng.
+     *
+     * @return Vector mới; vector này không thay đổi
+     * @throws NoSuchElementException Nếu vector rỗng
+     */
+    public PersistentVector<T> pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Vector is empty!");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2, size, shift, root, tail);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            // Gốc chỉ còn một nhánh con: bỏ bớt một tầng
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Trả về phần tử cuối cùng.
+     *
+     * @return Phần tử cuối cùng
+     * @throws NoSuchElementException Nếu vector rỗng
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Vector is empty!");
+        }
+        return (T) tail[tail.length - 1];
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của vector này.
+     *
+     * @return Biểu diễn chuỗi của vector
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một bộ lặp trên các phần tử của vector theo thứ tự.
+     * <p>
+     * Bộ lặp đọc lần lượt từng lá 32 phần tử, nên mỗi phần tử chỉ tốn O(1) khấu hao.
+     * </p>
+     *
+     * @return Một bộ lặp
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+            private int base = 0;
+            private Object[] leaf = size > 0 ? leafFor(0, size, shift, root, tail) : null;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (index - base == WIDTH) {
+                    leaf = leafFor(index, size, shift, root, tail);
+                    base = index;
+                }
+                return (T) leaf[index++ - base];
+            }
+        };
+    }
+
+    /**
+     * Trả về một Spliterator bất biến, chia đôi phạm vi chỉ số trong O(1).
+     *
+     * @return Spliterator trên các phần tử của vector
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexRangeSpliterator<>(this::get, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Trả về một Stream tuần tự trên các phần tử của vector.
+     *
+     * @return Một Stream tuần tự
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một Stream song song trên các phần tử của vector.
+     *
+     * @return Một Stream song song
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Chèn lá {@code tailNode} vào cây bằng cách sao chép đường đi từ {@code parent} xuống.
+     *
+     * @param level Tầng của {@code parent}
+     * @param parent Node cần sao chép
+     * @param tailNode Lá cần chèn
+     * @return Bản sao của {@code parent} có chứa lá mới
+     */
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = new Node(null, parent.array.clone());
+        Node child = (Node) parent.array[subIndex];
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else if (child != null) {
+            inserted = pushTail(level - BITS, child, tailNode);
+        } else {
+            inserted = newPath(null, level - BITS, tailNode);
+        }
+        result.array[subIndex] = inserted;
+        return result;
+    }
+
+    /**
+     * Gỡ lá cuối cùng khỏi cây bằng cách sao chép đường đi từ {@code node} xuống.
+     *
+     * @param level Tầng của {@code node}
+     * @param node Node cần sao chép
+     * @return Bản sao của {@code node} không còn lá cuối, hoặc null nếu node trở nên rỗng
+     */
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Thay thế một phần tử trong cây bằng cách sao chép đường đi từ {@code node} xuống lá.
+     *
+     * @param level Tầng của {@code node}
+     * @param node Node cần sao chép
+     * @param index Chỉ số của phần tử
+     * @param element Phần tử mới
+     * @return Bản sao của {@code node} chứa phần tử mới
+     */
+    private static Node assoc(int level, Node node, int index, Object element) {
+        Node result = new Node(null, node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Tạo một chuỗi node mới từ tầng {@code level} xuống tới lá đã cho.
+     *
+     * @param owner Mã sở hữu của các node mới
+     * @param level Tầng của node trên cùng
+     * @param node Lá ở cuối chuỗi
+     * @return Node trên cùng của chuỗi
+     */
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(owner);
+        result.array[0] = newPath(owner, level - BITS, node);
+        return result;
+    }
+
+    /**
+     * Trả về chỉ số của phần tử đầu tiên nằm trong {@code tail}.
+     *
+     * @param size Số phần tử của vector
+     * @return Chỉ số bắt đầu của tail
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Trả về mảng lá chứa phần tử tại chỉ số đã cho.
+     *
+     * @param index Chỉ số hợp lệ
+     * @param size Số phần tử của vector
+     * @param shift Số bit dịch của tầng gốc
+     * @param root Gốc của cây
+     * @param tail Mảng tail
+     * @return Mảng lá chứa phần tử
+     */
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Xác thực rằng chỉ số trỏ đến một phần tử hiện có.
+     *
+     * @param index Chỉ số cần xác thực
+     * @param size Số phần tử
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    private static void validateElementIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Builder có thể thay đổi (chế độ transient) để tạo một {@link PersistentVector} mà không sao chép node.
+     * <p>
+     * Builder gắn một mã sở hữu riêng vào mọi node nó tạo ra hoặc sao chép; các node mang mã này được
+     * thay đổi tại chỗ, còn node của vector gốc được sao chép một lần trước khi sửa. Sau
+     * {@link #build()}, builder không dùng được nữa, nên vector trả về không bao giờ bị thay đổi.
+     * Builder không an toàn khi dùng từ nhiều luồng.
+     * </p>
+     *
+     * @param <T> Kiểu dữ liệu của các phần tử
+     */
+    public static final class Builder<T> {
+        private Object owner;
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PersistentVector<T> vector) {
+            this.owner = new Object();
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = new Node(owner, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Trả về số lượng phần tử hiện có trong builder.
+         *
+         * @return Số lượng phần tử
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Trả về phần tử tại vị trí chỉ định.
+         *
+         * @param index Chỉ số của phần tử
+         * @return Phần tử tại vị trí chỉ định
+         * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+         * @throws IllegalStateException Nếu builder đã được build
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            ensureUsable();
+            validateElementIndex(index, size);
+            return (T) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Thêm một phần tử vào cuối, thay đổi tại chỗ.
+         *
+         * @param element Phần tử cần thêm
+         * @return Builder này
+         * @throws IllegalStateException Nếu builder đã được build
+         */
+        public Builder<T> append(T element) {
+            ensureUsable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Thay thế phần tử tại vị trí chỉ định, thay đổi tại chỗ.
+         *
+         * @param index Chỉ số của phần tử cần thay thế
+         * @param element Phần tử mới
+         * @return Builder này
+         * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+         * @throws IllegalStateException Nếu builder đã được build
+         */
+        public Builder<T> set(int index, T element) {
+            ensureUsable();
+            validateElementIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(shift, root, index, element);
+            }
+            return this;
+        }
+
+        /**
+         * Tạo vector bất biến từ nội dung hiện tại trong O(1), ngoài việc thu gọn tail.
+         * <p>
+         * Sau lời gọi này builder không dùng được nữa.
+         * </p>
+         *
+         * @return Một vector bất biến
+         * @throws IllegalStateException Nếu builder đã được build
+         */
+        public PersistentVector<T> build() {
+            ensureUsable();
+            owner = null;
+            if (size == 0) {
+                return empty();
+            }
+            Object[] trimmedTail = Arrays.copyOf(tail, size - tailOffset(size));
+            return new PersistentVector<>(size, shift, root, trimmedTail);
+        }
+
+        private Node editable(Node node) {
+            return node.owner == owner ? node : new Node(owner, node.array.clone());
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node result = editable(parent);
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Node inserted;
+            if (level == BITS) {
+                inserted = tailNode;
+            } else {
+                Node child = (Node) result.array[subIndex];
+                inserted = child != null
+                        ? pushTail(level - BITS, child, tailNode)
+                        : newPath(owner, level - BITS, tailNode);
+            }
+            result.array[subIndex] = inserted;
+            return result;
+        }
+
+        private Node assoc(int level, Node node, int index, Object element) {
+            Node result = editable(node);
+            if (level == 0) {
+                result.array[index & MASK] = element;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                result.array[subIndex] = assoc(level - BITS, (Node) result.array[subIndex], index, element);
+            }
+            return result;
+        }
+
+        private void ensureUsable() {
+            if (owner == null) {
+                throw new IllegalStateException("Builder has already been built!");
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+/**
+ * Các thao tác quét (tìm kiếm, đếm, min/max) trên một khoảng của mảng nguyên thủy.
+ * <p>
+ * Khi module {@code jdk.incubator.vector} có mặt lúc chạy (JVM được khởi động với
+ * {@code --add-modules jdk.incubator.vector}), các thao tác được chuyển cho {@link VectorScans},
+ * nơi mỗi lệnh xử lý nhiều phần tử cùng lúc. Nếu không, lớp này dùng các vòng lặp vô hướng.
+ * Lớp {@link VectorScans} chỉ được nạp khi module có mặt, nên không có lỗi liên kết ở chế độ
+ * vô hướng. Đặt thuộc tính hệ thống {@code algocore.vector=false} để luôn dùng vòng lặp vô hướng.
+ * </p>
+ * <p>
+ * Với kiểu {@code double}, các phép so sánh bằng dùng {@link Double#doubleToLongBits(double)},
+ * còn min/max có cùng ngữ nghĩa với {@link Math#min(double, double)} và {@link Math#max(double, double)}.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+final class PrimitiveScans {
+    /**
+     * {@code true} nếu các thao tác được thực hiện bằng Vector API.
+     */
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !"false".equalsIgnoreCase(System.getProperty("algocore.vector"));
+
+    private PrimitiveScans() {
+    }
+
+    static int indexOf(int[] array, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorScans.indexOf(array, from, to, value);
+        }
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(long[] array, int from, int to, long value) {
+        if (VECTORIZED) {
+            return VectorScans.indexOf(array, from, to, value);
+        }
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(double[] array, int from, int to, double value) {
+        if (VECTORIZED) {
+            return VectorScans.indexOf(array, from, to, value);
+        }
+        long bits = Double.doubleToLongBits(value);
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int count(int[] array, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorScans.count(array, from, to, value);
+        }
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int count(long[] array, int from, int to, long value) {
+        if (VECTORIZED) {
+            return VectorScans.count(array, from, to, value);
+        }
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int count(double[] array, int from, int to, double value) {
+        if (VECTORIZED) {
+            return VectorScans.count(array, from, to, value);
+        }
+        long bits = Double.doubleToLongBits(value);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Đếm số phần tử nhỏ hơn value; vòng lặp vô hướng không rẽ nhánh, dùng cho tìm kiếm trong khối đã sắp xếp.
+
+    static int countLess(int[] array, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorScans.countLess(array, from, to, value);
+        }
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += array[i] < value ? 1 : 0;
+        }
+        return count;
+    }
+
+    // Các phương thức min/max yêu cầu khoảng [from, to) không rỗng.
+
+    static int min(int[] array, int from, int to) {
+        if (VECTORIZED) {
+            return VectorScans.min(array, from, to);
+        }
+        int min = array[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static long min(long[] array, int from, int to) {
+        if (VECTORIZED) {
+            return VectorScans.min(array, from, to);
+        }
+        long min = array[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static double min(double[] array, int from, int to) {
+        if (VECTORIZED) {
+            return VectorScans.min(array, from, to);
+        }
+        double min = array[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] array, int from, int to) {
+        if (VECTORIZED) {
+            return VectorScans.max(array, from, to);
+        }
+        int max = array[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    static long max(long[] array, int from, int to) {
+        if (VECTORIZED) {
+            return VectorScans.max(array, from, to);
+        }
+        long max = array[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    static double max(double[] array, int from, int to) {
+        if (VECTORIZED) {
+            return VectorScans.max(array, from, to);
+        }
+        double max = array[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+}
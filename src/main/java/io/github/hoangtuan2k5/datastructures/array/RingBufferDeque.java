@@ -0,0 +1,465 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import io.github.hoangtuan2k5.datastructures.linkedlist.IPositionalDoublyLinkedList;
+
+/**
+ * Hàng đợi hai đầu (deque) dựa trên bộ đệm vòng (ring buffer) có thể tăng kích thước.
+ * <p>
+ * Các phần tử nằm trong một mảng có dung lượng là lũy thừa của 2, bắt đầu từ vị trí {@code head}
+ * và quấn vòng về đầu mảng khi tới cuối. Vị trí vật lý của phần tử thứ {@code i} là
+ * {@code (head + i) & (capacity - 1)}, nên phép chia lấy dư được thay bằng một phép AND.
+ * </p>
+ * <p>
+ * Thêm/xóa ở hai đầu có độ phức tạp O(1) (khấu hao khi mảng phải tăng gấp đôi) và không cấp phát
+ * node nào; truy cập {@link #get(int)} và {@link #set(int, Object)} là O(1). Chèn/xóa ở giữa
+ * dịch chuyển các phần tử ở phía gần đầu hơn, tức tối đa n/2 phần tử.
+ * </p>
+ * <p>
+ * Lớp này triển khai {@link IPositionalDoublyLinkedList}, nên có thể dùng thay cho
+ * {@code DefaultIDoublyLinkedList} ở những nơi chỉ cần các thao tác của giao diện, ví dụ hàng đợi FIFO.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong deque
+ */
+public class RingBufferDeque<T> implements IPositionalDoublyLinkedList<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Khởi tạo một deque rỗng với dung lượng ban đầu mặc định.
+     */
+    public RingBufferDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Khởi tạo một deque rỗng với dung lượng ban đầu được chỉ định.
+     * <p>
+     * Dung lượng được làm tròn lên lũy thừa của 2 gần nhất.
+     * </p>
+     *
+     * @param initialCapacity số phần tử tối thiểu có thể chứa trước khi phải tăng kích thước
+     * @throws IllegalArgumentException nếu dung lượng ban đầu là số âm hoặc lớn hơn 2^30
+     */
+    public RingBufferDeque(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity must be between 0 and " + MAX_CAPACITY
+                    + ". Capacity: " + initialCapacity);
+        }
+        int capacity = 1;
+        while (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.elements = new Object[capacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Trả về dung lượng hiện tại của bộ đệm, luôn là một lũy thừa của 2.
+     *
+     * @return dung lượng của bộ đệm
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Xóa tất cả các phần tử khỏi deque này.
+     * <p>
+     * Dung lượng của bộ đệm được giữ nguyên để dùng lại.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Trả về số lượng phần tử trong deque này.
+     *
+     * @return số lượng phần tử trong deque
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Kiểm tra xem chỉ số có hợp lệ hay không.
+     *
+     * @param index chỉ số cần kiểm tra
+     * @return true nếu chỉ số hợp lệ
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    @Override
+    public boolean validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        return true;
+    }
+
+    /**
+     * Trả về {@code true} nếu deque này không chứa phần tử nào.
+     *
+     * @return {@code true} nếu deque này trống
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối deque.
+     * <p>
+     * Phương thức này tương đương với {@link #addLast(Object)}.
+     * </p>
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Chèn một phần tử vào đầu deque.
+     *
+     * @param element phần tử cần thêm
+     * @throws IllegalStateException nếu deque đã đạt dung lượng tối đa
+     */
+    @Override
+    public void addFirst(T element) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối deque.
+     *
+     * @param element phần tử cần thêm
+     * @throws IllegalStateException nếu deque đã đạt dung lượng tối đa
+     */
+    @Override
+    public void addLast(T element) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = element;
+        size++;
+    }
+
+    /**
+     * Lấy phần tử đầu tiên trong deque mà không xóa nó.
+     *
+     * @return phần tử đầu tiên trong deque
+     * @throws NoSuchElementException nếu deque trống
+     */
+    @Override
+    public T peekFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty!");
+        }
+        return elementAt(head);
+    }
+
+    /**
+     * Lấy phần tử cuối cùng trong deque mà không xóa nó.
+     *
+     * @return phần tử cuối cùng trong deque
+     * @throws NoSuchElementException nếu deque trống
+     */
+    @Override
+    public T peekLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty!");
+        }
+        return elementAt((head + size - 1) & (elements.length - 1));
+    }
+
+    /**
+     * Xóa và trả về phần tử đầu tiên từ deque.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu deque trống
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty!");
+        }
+        T data = elementAt(head);
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return data;
+    }
+
+    /**
+     * Xóa và trả về phần tử cuối cùng từ deque.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu deque trống
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty!");
+        }
+        int last = (head + size - 1) & (elements.length - 1);
+        T data = elementAt(last);
+        elements[last] = null;
+        size--;
+        return data;
+    }
+
+    /**
+     * Xóa lần xuất hiện đầu tiên của một đối tượng cụ thể khỏi deque.
+     *
+     * @param object đối tượng cần xóa
+     * @return {@code true} nếu một phần tử đã bị xóa
+     */
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Trả về phần tử tại một chỉ số cụ thể trong O(1).
+     *
+     * @param index chỉ số của phần tử
+     * @return phần tử tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return elementAt((head + index) & (elements.length - 1));
+    }
+
+    /**
+     * Thay thế phần tử tại một chỉ số cụ thể trong O(1).
+     *
+     * @param index chỉ số của phần tử
+     * @param element phần tử mới
+     * @return phần tử cũ tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T set(int index, T element) {
+        validateIndex(index);
+        int position = (head + index) & (elements.length - 1);
+        T old = elementAt(position);
+        elements[position] = element;
+        return old;
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định; các phần tử từ vị trí đó trở đi dịch sang phải một vị trí.
+     * <p>
+     * Chỉ các phần tử ở phía gần đầu hơn (đầu hoặc cuối deque) được dịch chuyển.
+     * </p>
+     *
+     * @param index vị trí chèn, trong phạm vi [0, size]
+     * @param element phần tử cần chèn
+     * @throws IndexOutOfBoundsException nếu vị trí nằm ngoài phạm vi [0, size]
+     * @throws IllegalStateException nếu deque đã đạt dung lượng tối đa
+     */
+    @Override
+    public void insertAt(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        int mask = elements.length - 1;
+        if (index < size / 2) {
+            // Dịch các phần tử [0, index) sang trái một vị trí
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        } else {
+            // Dịch các phần tử [index, size) sang phải một vị trí
+            for (int i = size; i > index; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + index) & mask] = element;
+        size++;
+    }
+
+    /**
+     * Xóa phần tử tại một chỉ số cụ thể.
+     * <p>
+     * Chỉ các phần tử ở phía gần đầu hơn (đầu hoặc cuối deque) được dịch chuyển để lấp chỗ trống.
+     * </p>
+     *
+     * @param index chỉ số của phần tử cần xóa
+     * @return phần tử đã bị xóa tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T removeAt(int index) {
+        validateIndex(index);
+        int mask = elements.length - 1;
+        T data = elementAt((head + index) & mask);
+        if (index < size / 2) {
+            // Dịch các phần tử [0, index) sang phải một vị trí
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Dịch các phần tử (index, size) sang trái một vị trí
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return data;
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của đối tượng đã chỉ định.
+     *
+     * @param object đối tượng cần tìm
+     * @return chỉ số của lần xuất hiện đầu tiên, hoặc -1 nếu không tìm thấy
+     */
+    @Override
+    public int indexOf(Object object) {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(object, elements[(head + i) & mask])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Trả về {@code true} nếu deque này chứa phần tử đã chỉ định.
+     *
+     * @param object phần tử cần kiểm tra
+     * @return {@code true} nếu deque chứa phần tử
+     */
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) != -1;
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của deque.
+     *
+     * @return biểu diễn chuỗi của deque
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        int mask = elements.length - 1;
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(elements[(head + i) & mask]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một iterator trên các phần tử trong deque này, từ đầu đến cuối.
+     *
+     * @return một iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt((head + index++) & (elements.length - 1));
+            }
+        };
+    }
+
+    /**
+     * Trả về một Spliterator có kích thước xác định, chia đôi phạm vi chỉ số trong O(1).
+     *
+     * @return Spliterator trên các phần tử của deque
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexRangeSpliterator<>(this::get, 0, size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Tăng gấp đôi dung lượng bộ đệm và sắp xếp lại các phần tử để {@code head} về vị trí 0.
+     *
+     * @throws IllegalStateException nếu dung lượng đã đạt mức tối đa
+     */
+    private void grow() {
+        int capacity = elements.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Deque is full! Capacity: " + capacity);
+        }
+        Object[] grown = new Object[capacity << 1];
+        int firstPart = capacity - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        head = 0;
+    }
+
+    /**
+     * Trả về phần tử tại một vị trí vật lý trong bộ đệm.
+     *
+     * @param position vị trí trong mảng bên dưới
+     * @return phần tử tại vị trí đó
+     */
+    @SuppressWarnings("unchecked")
+    private T elementAt(int position) {
+        return (T) elements[position];
+    }
+}
@@ -1,6 +1,20 @@
 package io.github.hoangtuan2k5.datastructures.array;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.hoangtuan2k5.datastructures.codec.BinaryReader;
+import io.github.hoangtuan2k5.datastructures.codec.BinaryWriter;
+import io.github.hoangtuan2k5.datastructures.codec.ElementCodec;
+import io.github.hoangtuan2k5.datastructures.codec.Format;
 
 /**
  * Lớp triển khai mảng tĩnh (Static Array) có hỗ trợ kiểu dữ liệu tổng quát.
@@ -80,6 +94,156 @@ public class StaticArray<T> implements Iterable<T> {
         }
     }
     
+    /**
+     * Điền song song mảng với phần tử đã chỉ định, dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param element Phần tử để điền vào mảng
+     */
+    public void parallelFill(T element) {
+        parallelFill(element, ParallelPolicy.commonPool());
+    }
+    
+    /**
+     * Điền song song mảng với phần tử đã chỉ định.
+     * <p>
+     * Thao tác áp dụng cho toàn bộ dung lượng của mảng.
+     * </p>
+     *
+     * @param element Phần tử để điền vào mảng
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu cấu hình là null
+     */
+    public void parallelFill(T element, ParallelPolicy policy) {
+        requireParallelPolicy(policy);
+        ParallelRanges.forEachRange(policy.pool(), 0, capacity, policy.threshold(),
+                (from, to) -> Arrays.fill(array, from, to, element));
+    }
+    
+    /**
+     * Gán song song mỗi phần tử bằng giá trị do hàm sinh tính từ chỉ số của nó,
+     * dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param generator Hàm nhận chỉ số và trả về giá trị cho vị trí đó
+     * @throws NullPointerException Nếu hàm sinh là null
+     */
+    public void parallelSetAll(IntFunction<? extends T> generator) {
+        parallelSetAll(generator, ParallelPolicy.commonPool());
+    }
+    
+    /**
+     * Gán song song mỗi phần tử bằng giá trị do hàm sinh tính từ chỉ số của nó.
+     * <p>
+     * Hàm sinh có thể được gọi đồng thời từ nhiều luồng và theo thứ tự bất kỳ, nên nó không được
+     * phụ thuộc vào trạng thái dùng chung có thể thay đổi.
+     * </p>
+     *
+     * @param generator Hàm nhận chỉ số và trả về giá trị cho vị trí đó
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu hàm sinh hoặc cấu hình là null
+     */
+    public void parallelSetAll(IntFunction<? extends T> generator, ParallelPolicy policy) {
+        if (generator == null) {
+            throw new NullPointerException("Generator cannot be null!");
+        }
+        requireParallelPolicy(policy);
+        ParallelRanges.forEachRange(policy.pool(), 0, capacity, policy.threshold(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = generator.apply(i);
+            }
+        });
+    }
+    
+    /**
+     * Thay thế song song mỗi phần tử bằng kết quả của toán tử áp dụng lên nó,
+     * dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param operator Toán tử áp dụng lên từng phần tử
+     * @throws NullPointerException Nếu toán tử là null
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        parallelReplaceAll(operator, ParallelPolicy.commonPool());
+    }
+    
+    /**
+     * Thay thế song song mỗi phần tử bằng kết quả của toán tử áp dụng lên nó.
+     *
+     * @param operator Toán tử áp dụng lên từng phần tử
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu toán tử hoặc cấu hình là null
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator, ParallelPolicy policy) {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null!");
+        }
+        requireParallelPolicy(policy);
+        ParallelRanges.forEachRange(policy.pool(), 0, capacity, policy.threshold(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = operator.apply(array[i]);
+            }
+        });
+    }
+    
+    /**
+     * Tính song song tiền tố tích lũy tại chỗ, dùng {@link ParallelPolicy#commonPool()}.
+     *
+     * @param operator Toán tử kết hợp, phải có tính kết hợp và không có tác dụng phụ
+     * @throws NullPointerException Nếu toán tử là null
+     */
+    public void parallelPrefix(BinaryOperator<T> operator) {
+        parallelPrefix(operator, ParallelPolicy.commonPool());
+    }
+    
+    /**
+     * Tính song song tiền tố tích lũy tại chỗ: sau khi gọi, phần tử tại chỉ số {@code i} bằng
+     * {@code a[0] op a[1] op ... op a[i]}.
+     * <p>
+     * Mảng được chia thành các khối kích thước {@code threshold}. Lượt thứ nhất tính tiền tố
+     * trong từng khối song song; sau đó tổng của các khối được cộng dồn tuần tự (một phép tính
+     * cho mỗi khối); lượt cuối áp dụng phần cộng dồn vào các khối còn lại song song. Kết quả chỉ
+     * đúng khi toán tử có tính kết hợp.
+     * </p>
+     *
+     * @param operator Toán tử kết hợp, phải có tính kết hợp và không có tác dụng phụ
+     * @param policy Cấu hình pool và ngưỡng chia
+     * @throws NullPointerException Nếu toán tử hoặc cấu hình là null
+     */
+    public void parallelPrefix(BinaryOperator<T> operator, ParallelPolicy policy) {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null!");
+        }
+        requireParallelPolicy(policy);
+        final int length = capacity;
+        final int chunkSize = policy.threshold();
+        final int chunks = ParallelRanges.chunkCount(length, chunkSize);
+        ParallelRanges.forEachRange(policy.pool(), 0, chunks, 1, (from, to) -> {
+            for (int chunk = from; chunk < to; chunk++) {
+                int end = ParallelRanges.chunkEnd(chunk, chunkSize, length);
+                for (int i = chunk * chunkSize + 1; i < end; i++) {
+                    array[i] = operator.apply(array[i - 1], array[i]);
+                }
+            }
+        });
+        if (chunks <= 1) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        final T[] carries = (T[]) new Object[chunks];
+        T carry = array[chunkSize - 1];
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            carries[chunk] = carry;
+            carry = operator.apply(carry, array[ParallelRanges.chunkEnd(chunk, chunkSize, length) - 1]);
+        }
+        ParallelRanges.forEachRange(policy.pool(), 1, chunks, 1, (from, to) -> {
+            for (int chunk = from; chunk < to; chunk++) {
+                T carryIn = carries[chunk];
+                int end = ParallelRanges.chunkEnd(chunk, chunkSize, length);
+                for (int i = chunk * chunkSize; i < end; i++) {
+                    array[i] = operator.apply(carryIn, array[i]);
+                }
+            }
+        });
+    }
+    
     /**
      * Trả về chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
      * hoặc -1 nếu mảng này không chứa phần tử.
@@ -180,6 +344,80 @@ public class StaticArray<T> implements Iterable<T> {
         }
     }
     
+    /**
+     * Sắp xếp các phần tử theo thứ tự tự nhiên bằng TimSort.
+     * <p>
+     * TimSort ổn định, có độ phức tạp O(n log n) và gần O(n) khi dữ liệu đã gần có thứ tự.
+     * </p>
+     * 
+     * @throws ClassCastException Nếu các phần tử không so sánh được với nhau
+     * @throws NullPointerException Nếu mảng chứa null
+     */
+    public void sort() {
+        Arrays.sort(array, 0, capacity);
+    }
+    
+    /**
+     * Sắp xếp các phần tử theo bộ so sánh đã cho bằng TimSort (ổn định).
+     * 
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @throws NullPointerException Nếu bộ so sánh là null
+     */
+    public void sort(Comparator<? super T> comparator) {
+        requireComparator(comparator);
+        Arrays.sort(array, 0, capacity, comparator);
+    }
+    
+    /**
+     * Sắp xếp song song các phần tử theo thứ tự tự nhiên, dùng {@link ParallelPolicy#commonPool()}.
+     * 
+     * @throws ClassCastException Nếu các phần tử không so sánh được với nhau
+     * @throws NullPointerException Nếu mảng chứa null
+     */
+    public void parallelSort() {
+        parallelSort(ParallelPolicy.commonPool());
+    }
+    
+    /**
+     * Sắp xếp song song các phần tử theo thứ tự tự nhiên, dùng cấu hình đã chỉ định.
+     * 
+     * @param policy Cấu hình song song (pool và ngưỡng chia)
+     * @throws ClassCastException Nếu các phần tử không so sánh được với nhau
+     * @throws NullPointerException Nếu cấu hình là null hoặc mảng chứa null
+     */
+    public void parallelSort(ParallelPolicy policy) {
+        requireParallelPolicy(policy);
+        ParallelSorts.parallelSort(array, 0, capacity, null, policy);
+    }
+    
+    /**
+     * Sắp xếp song song các phần tử theo bộ so sánh đã cho, dùng {@link ParallelPolicy#commonPool()}.
+     * 
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @throws NullPointerException Nếu bộ so sánh là null
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, ParallelPolicy.commonPool());
+    }
+    
+    /**
+     * Sắp xếp song song các phần tử theo bộ so sánh đã cho.
+     * <p>
+     * Khoảng chỉ số được chia đôi bằng fork/join cho đến khi không lớn hơn ngưỡng của cấu hình; mỗi
+     * phần được sắp xếp bằng TimSort rồi các phần được trộn song song. Kết quả ổn định giống như
+     * {@link #sort(Comparator)}. Mảng không lớn hơn ngưỡng được sắp xếp tuần tự trên luồng gọi.
+     * </p>
+     * 
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @param policy Cấu hình song song (pool và ngưỡng chia)
+     * @throws NullPointerException Nếu bộ so sánh hoặc cấu hình là null
+     */
+    public void parallelSort(Comparator<? super T> comparator, ParallelPolicy policy) {
+        requireComparator(comparator);
+        requireParallelPolicy(policy);
+        ParallelSorts.parallelSort(array, 0, capacity, comparator, policy);
+    }
+    
     /**
      * Xác thực rằng chỉ số đã chỉ định nằm trong phạm vi [0, capacity-1].
      * 
@@ -202,6 +440,53 @@ public class StaticArray<T> implements Iterable<T> {
         System.arraycopy(array, 0, newArray.array, 0, capacity);
         return newArray;
     }
+    
+    /**
+     * Ghi mảng này vào bộ ghi đã cho dưới dạng một khung {@link Format#OBJECTS}.
+     * <p>
+     * Mỗi phần tử được mã hóa trực tiếp từ mảng bên trong bằng codec đã cho, không tạo bản sao trung gian.
+     * </p>
+     * 
+     * @param out Bộ ghi đích
+     * @param codec Codec của phần tử
+     * @throws NullPointerException Nếu bộ ghi hoặc codec là null
+     */
+    public void writeTo(BinaryWriter out, ElementCodec<? super T> codec) {
+        if (out == null || codec == null) {
+            throw new NullPointerException("Writer and codec cannot be null!");
+        }
+        out.writeHeader(Format.OBJECTS, capacity);
+        for (int i = 0; i < capacity; i++) {
+            codec.write(out, array[i]);
+        }
+    }
+    
+    /**
+     * Đọc một mảng tĩnh từ một khung {@link Format#OBJECTS}, giải mã từng phần tử ngay khi đọc.
+     * 
+     * @param in Bộ đọc nguồn
+     * @param codec Codec của phần tử
+     * @param <T> Kiểu dữ liệu của các phần tử
+     * @return Một mảng tĩnh mới có dung lượng bằng số phần tử đã đọc
+     * @throws NullPointerException Nếu bộ đọc hoặc codec là null
+     * @throws IllegalArgumentException Nếu dữ liệu không phải một khung {@link Format#OBJECTS} hợp lệ
+     */
+    public static <T> StaticArray<T> readFrom(BinaryReader in, ElementCodec<? extends T> codec) {
+        if (in == null || codec == null) {
+            throw new NullPointerException("Reader and codec cannot be null!");
+        }
+        int count = in.readHeader(Format.OBJECTS);
+        Object[] elements = new Object[BinaryReader.initialCapacity(count, 1)];
+        for (int i = 0; i < count; i++) {
+            if (i == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min(count, 2L * elements.length));
+            }
+            elements[i] = codec.read(in);
+        }
+        StaticArray<T> result = new StaticArray<>(count);
+        System.arraycopy(elements, 0, result.array, 0, count);
+        return result;
+    }
 
     /**
      * Trả về một Iterator cho mảng này.
@@ -227,4 +512,61 @@ public class StaticArray<T> implements Iterable<T> {
             }
         };
     }
+
+    /**
+     * Trả về một Spliterator trên toàn bộ các phần tử của mảng này.
+     * <p>
+     * Spliterator có các đặc tính {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} và
+     * {@link Spliterator#ORDERED}, và chia đôi khoảng chỉ số trong O(1), nên luồng song song
+     * có thể chia đều công việc cho mọi lõi.
+     * </p>
+     *
+     * @return Một Spliterator cho mảng này
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, 0, capacity, Spliterator.ORDERED);
+    }
+
+    /**
+     * Trả về một Stream tuần tự trên các phần tử của mảng này.
+     *
+     * @return Một Stream tuần tự
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một Stream song song trên các phần tử của mảng này.
+     *
+     * @return Một Stream song song
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+    
+    /**
+     * Kiểm tra cấu hình song song không phải là null.
+     *
+     * @param policy Cấu hình cần kiểm tra
+     * @throws NullPointerException Nếu cấu hình là null
+     */
+    private static void requireParallelPolicy(ParallelPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("Parallel policy cannot be null!");
+        }
+    }
+    
+    /**
+     * Xác thực rằng bộ so sánh không phải null.
+     * 
+     * @param comparator Bộ so sánh cần xác thực
+     * @throws NullPointerException Nếu bộ so sánh là null
+     */
+    private static void requireComparator(Comparator<?> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("Comparator cannot be null!");
+        }
+    }
 }
\ No newline at end of file
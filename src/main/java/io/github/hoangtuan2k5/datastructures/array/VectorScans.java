@@ -0,0 +1,247 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Các thao tác quét của {@link PrimitiveScans} được cài đặt bằng Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * Mỗi vòng lặp xử lý {@code SPECIES_PREFERRED.length()} phần tử một lần (ví dụ 16 số {@code int}
+ * với AVX-512), rồi xử lý phần dư cuối khoảng bằng vòng lặp vô hướng. Chỉ được gọi khi
+ * {@link PrimitiveScans#VECTORIZED} là {@code true}.
+ * </p>
+ * <p>
+ * Với kiểu {@code double}, phép so sánh bằng được thực hiện trên các bit thô: một giá trị khác
+ * {@code NaN} bằng phần tử khi và chỉ khi các bit của chúng trùng nhau, còn {@code NaN} được tìm
+ * bằng phép kiểm tra {@link VectorOperators#IS_NAN}. Kết quả giống hệt phép so sánh bằng
+ * {@link Double#doubleToLongBits(double)}.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+final class VectorScans {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorScans() {
+    }
+
+    static int indexOf(int[] array, int from, int to, int value) {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            VectorMask<Integer> equal = IntVector.fromArray(INTS, array, i).compare(VectorOperators.EQ, value);
+            if (equal.anyTrue()) {
+                return i + equal.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(long[] array, int from, int to, long value) {
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        for (; i < bound; i += LONGS.length()) {
+            VectorMask<Long> equal = LongVector.fromArray(LONGS, array, i).compare(VectorOperators.EQ, value);
+            if (equal.anyTrue()) {
+                return i + equal.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(double[] array, int from, int to, double value) {
+        boolean nan = Double.isNaN(value);
+        long bits = Double.doubleToRawLongBits(value);
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            VectorMask<?> equal = matches(DoubleVector.fromArray(DOUBLES, array, i), nan, bits);
+            if (equal.anyTrue()) {
+                return i + equal.firstTrue();
+            }
+        }
+        long canonical = Double.doubleToLongBits(value);
+        for (; i < to; i++) {
+            if (Double.doubleToLongBits(array[i]) == canonical) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int count(int[] array, int from, int to, int value) {
+        int count = 0;
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, array, i).compare(VectorOperators.EQ, value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int countLess(int[] array, int from, int to, int value) {
+        int count = 0;
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, array, i).compare(VectorOperators.LT, value).trueCount();
+        }
+        for (; i < to; i++) {
+            count += array[i] < value ? 1 : 0;
+        }
+        return count;
+    }
+
+    static int count(long[] array, int from, int to, long value) {
+        int count = 0;
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        for (; i < bound; i += LONGS.length()) {
+            count += LongVector.fromArray(LONGS, array, i).compare(VectorOperators.EQ, value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int count(double[] array, int from, int to, double value) {
+        boolean nan = Double.isNaN(value);
+        long bits = Double.doubleToRawLongBits(value);
+        int count = 0;
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            count += matches(DoubleVector.fromArray(DOUBLES, array, i), nan, bits).trueCount();
+        }
+        long canonical = Double.doubleToLongBits(value);
+        for (; i < to; i++) {
+            if (Double.doubleToLongBits(array[i]) == canonical) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int min(int[] array, int from, int to) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, array, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static long min(long[] array, int from, int to) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        for (; i < bound; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, array, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static double min(double[] array, int from, int to) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] array, int from, int to) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, array, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    static long max(long[] array, int from, int to) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        for (; i < bound; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, array, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    static double max(double[] array, int from, int to) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Trả về mặt nạ các làn bằng với giá trị cần tìm theo ngữ nghĩa {@link Double#doubleToLongBits(double)}.
+     *
+     * @param vector Các phần tử cần so sánh
+     * @param nan {@code true} nếu giá trị cần tìm là NaN
+     * @param bits Các bit thô của giá trị cần tìm
+     * @return Mặt nạ các làn khớp
+     */
+    private static VectorMask<?> matches(DoubleVector vector, boolean nan, long bits) {
+        if (nan) {
+            return vector.test(VectorOperators.IS_NAN);
+        }
+        return vector.reinterpretAsLongs().compare(VectorOperators.EQ, bits);
+    }
+}
@@ -0,0 +1,348 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Triển khai {@link Cache} có giới hạn trọng số, không an toàn luồng.
+ * <p>
+ * Các mục được lưu trong một {@link HashMap}; thứ tự truy cập và tần suất được theo dõi bởi một
+ * chính sách loại bỏ xây dựng trên các danh sách liên kết đôi có chỉ mục
+ * ({@link io.github.hoangtuan2k5.datastructures.linkedlist.IndexedIDoublyLinkedList}), nên
+ * {@code get}, {@code put} và {@code invalidate} đều chạy trong O(1) trung bình. Sau mỗi lần
+ * {@code put}, các mục bị loại bỏ theo {@link EvictionStrategy} cho đến khi tổng trọng số không
+ * vượt quá giới hạn. Một mục có trọng số lớn hơn giới hạn không bao giờ được lưu.
+ * </p>
+ * <p>
+ * Dùng {@link ConcurrentBoundedCache} khi cache được truy cập từ nhiều luồng.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ * @param <V> Kiểu dữ liệu của giá trị
+ */
+public class BoundedCache<K, V> implements Cache<K, V> {
+    private final Map<K, Entry<V>> entries = new HashMap<>();
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> listener;
+    private final EvictionPolicy<K> policy;
+    private final boolean trackAccessTime;
+    private long weightedSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long evictionWeight;
+
+    /**
+     * Tạo một cache LRU giới hạn theo số mục.
+     *
+     * @param maximumSize Số mục tối đa, phải không âm
+     * @throws IllegalArgumentException Nếu số mục tối đa là số âm
+     */
+    public BoundedCache(long maximumSize) {
+        this(maximumSize, EvictionStrategy.LRU, Weigher.singleton(), null);
+    }
+
+    /**
+     * Tạo một cache với giới hạn trọng số, chiến lược loại bỏ, bộ tính trọng số và bộ lắng nghe đã chỉ định.
+     *
+     * @param maximumWeight Tổng trọng số tối đa, phải không âm
+     * @param strategy Chiến lược loại bỏ
+     * @param weigher Bộ tính trọng số của các mục
+     * @param listener Bộ lắng nghe việc loại bỏ, hoặc {@code null} nếu không cần
+     * @throws IllegalArgumentException Nếu trọng số tối đa là số âm
+     * @throws NullPointerException Nếu chiến lược hoặc bộ tính trọng số là null
+     */
+    public BoundedCache(long maximumWeight, EvictionStrategy strategy,
+            Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener) {
+        this(maximumWeight, strategy, weigher, listener, false);
+    }
+
+    /**
+     * Tạo một cache như {@link #BoundedCache(long, EvictionStrategy, Weigher, EvictionListener)},
+     * có thể ghi thêm thời điểm truy cập của mỗi mục để so sánh các mục bị loại bỏ giữa nhiều cache.
+     *
+     * @param maximumWeight Tổng trọng số tối đa, phải không âm
+     * @param strategy Chiến lược loại bỏ
+     * @param weigher Bộ tính trọng số của các mục
+     * @param listener Bộ lắng nghe việc loại bỏ, hoặc {@code null} nếu không cần
+     * @param trackAccessTime {@code true} để ghi thời điểm truy cập, dùng bởi {@link #victimAccessTime(Object)}
+     */
+    BoundedCache(long maximumWeight, EvictionStrategy strategy, Weigher<? super K, ? super V> weigher,
+            EvictionListener<? super K, ? super V> listener, boolean trackAccessTime) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight cannot be negative. Maximum weight: " + maximumWeight);
+        }
+        if (strategy == null) {
+            throw new NullPointerException("Eviction strategy cannot be null!");
+        }
+        if (weigher == null) {
+            throw new NullPointerException("Weigher cannot be null!");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+        this.policy = strategy.newPolicy(maximumWeight, key -> entries.get(key).weight);
+        this.trackAccessTime = trackAccessTime;
+    }
+
+    /**
+     * Trả về giá trị của khóa đã chỉ định và ghi nhận một lần truy cập, hoặc {@code null} nếu không có.
+     *
+     * @param key Khóa cần tra cứu
+     * @return Giá trị của khóa, hoặc {@code null} nếu cache không chứa khóa
+     * @throws NullPointerException Nếu khóa là null
+     */
+    @Override
+    public V get(K key) {
+        requireNonNull(key);
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        policy.recordAccess(key);
+        if (trackAccessTime) {
+            entry.accessTime = System.nanoTime();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Trả về giá trị của khóa đã chỉ định; nếu không có, tính giá trị bằng hàm tải và đưa nó vào cache.
+     *
+     * @param key Khóa cần tra cứu
+     * @param loader Hàm tính giá trị khi cache không chứa khóa; nếu trả về {@code null} thì không có gì được lưu
+     * @return Giá trị của khóa, hoặc {@code null} nếu hàm tải trả về {@code null}
+     * @throws NullPointerException Nếu khóa hoặc hàm tải là null
+     */
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (loader == null) {
+            throw new NullPointerException("Loader cannot be null!");
+        }
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Đưa một mục vào cache, thay thế giá trị cũ của khóa nếu có, rồi loại bỏ các mục cần thiết.
+     *
+     * @param key Khóa của mục
+     * @param value Giá trị của mục
+     * @throws NullPointerException Nếu khóa hoặc giá trị là null
+     * @throws IllegalArgumentException Nếu bộ tính trọng số trả về số âm
+     */
+    @Override
+    public void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        long weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative. Weight: " + weight);
+        }
+        if (weight > maximumWeight) {
+            // Mục không bao giờ vừa với cache: cả giá trị cũ lẫn giá trị mới đều bị loại bỏ ngay
+            Entry<V> old = entries.remove(key);
+            if (old != null) {
+                weightedSize -= old.weight;
+                policy.recordRemoval(key, old.weight);
+                recordEviction(key, old.value, old.weight);
+            }
+            recordEviction(key, value, weight);
+            return;
+        }
+
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry<>(value, weight);
+            entries.put(key, entry);
+            weightedSize += weight;
+            policy.recordInsert(key, weight);
+        } else {
+            long oldWeight = entry.weight;
+            entry.value = value;
+            entry.weight = weight;
+            weightedSize += weight - oldWeight;
+            policy.recordUpdate(key, oldWeight, weight);
+        }
+        if (trackAccessTime) {
+            entry.accessTime = System.nanoTime();
+        }
+        evictOverflow();
+    }
+
+    /**
+     * Xóa mục của khóa đã chỉ định khỏi cache.
+     *
+     * @param key Khóa cần xóa
+     * @return {@code true} nếu cache chứa khóa
+     * @throws NullPointerException Nếu khóa là null
+     */
+    @Override
+    public boolean invalidate(K key) {
+        requireNonNull(key);
+        Entry<V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        weightedSize -= entry.weight;
+        policy.recordRemoval(key, entry.weight);
+        return true;
+    }
+
+    /**
+     * Xóa tất cả các mục khỏi cache. Các số liệu thống kê được giữ nguyên.
+     */
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+        policy.clear();
+        weightedSize = 0;
+    }
+
+    /**
+     * Trả về số mục trong cache.
+     *
+     * @return Số mục trong cache
+     */
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Trả về tổng trọng số của các mục trong cache.
+     *
+     * @return Tổng trọng số hiện tại
+     */
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * Trả về tổng trọng số tối đa của cache.
+     *
+     * @return Giới hạn trọng số
+     */
+    @Override
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Trả về ảnh chụp các số liệu thống kê hiện tại.
+     *
+     * @return Ảnh chụp thống kê
+     */
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount, evictionWeight);
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của cache.
+     *
+     * @return Biểu diễn chuỗi của cache
+     */
+    @Override
+    public String toString() {
+        return "BoundedCache[size=" + entries.size() + ", weightedSize=" + weightedSize
+                + ", maximumWeight=" + maximumWeight + "]";
+    }
+
+    /**
+     * Loại bỏ các mục do chính sách chọn cho đến khi tổng trọng số không vượt quá giới hạn.
+     */
+    private void evictOverflow() {
+        while (weightedSize > maximumWeight) {
+            evictVictim();
+        }
+    }
+
+    /**
+     * Trả về thời điểm truy cập gần nhất của mục mà chính sách sẽ loại bỏ tiếp theo. Chỉ có ý nghĩa
+     * khi cache được tạo với {@code trackAccessTime}.
+     *
+     * @param excluded Khóa không được chọn, ví dụ khóa vừa được ghi
+     * @return Thời điểm truy cập theo {@link System#nanoTime()}, hoặc {@link Long#MAX_VALUE} nếu
+     *         cache rỗng hoặc mục bị loại bỏ tiếp theo là {@code excluded}
+     */
+    long victimAccessTime(K excluded) {
+        if (entries.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        K key = policy.victim();
+        return key.equals(excluded) ? Long.MAX_VALUE : entries.get(key).accessTime;
+    }
+
+    /**
+     * Loại bỏ một mục do chính sách chọn, kể cả khi cache chưa vượt giới hạn. Được
+     * {@link ConcurrentBoundedCache} dùng để giữ giới hạn chung của các phân đoạn.
+     *
+     * @return Trọng số của mục bị loại bỏ, hoặc -1 nếu cache rỗng
+     */
+    long evictVictim() {
+        if (entries.isEmpty()) {
+            return -1;
+        }
+        K key = policy.victim();
+        Entry<V> entry = entries.remove(key);
+        weightedSize -= entry.weight;
+        policy.recordRemoval(key, entry.weight);
+        recordEviction(key, entry.value, entry.weight);
+        return entry.weight;
+    }
+
+    /**
+     * Cập nhật thống kê và thông báo cho bộ lắng nghe về một mục bị loại bỏ.
+     *
+     * @param key Khóa của mục
+     * @param value Giá trị của mục
+     * @param weight Trọng số của mục
+     */
+    private void recordEviction(K key, V value, long weight) {
+        evictionCount++;
+        evictionWeight += weight;
+        if (listener != null) {
+            listener.onEviction(key, value);
+        }
+    }
+
+    /**
+     * Kiểm tra khóa hoặc giá trị không phải là null.
+     *
+     * @param object Đối tượng cần kiểm tra
+     * @throws NullPointerException Nếu đối tượng là null
+     */
+    private static void requireNonNull(Object object) {
+        if (object == null) {
+            throw new NullPointerException("Keys and values cannot be null!");
+        }
+    }
+
+    /**
+     * Một mục trong cache: giá trị, trọng số và (nếu được bật) thời điểm truy cập gần nhất của nó.
+     */
+    private static final class Entry<V> {
+        private V value;
+        private long weight;
+        private long accessTime;
+
+        Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.function.Function;
+
+/**
+ * Interface cho một bộ nhớ đệm (cache) có giới hạn, ánh xạ khóa đến giá trị.
+ * <p>
+ * Khi tổng trọng số của các mục vượt quá giới hạn, cache loại bỏ (evict) các mục theo chiến
+ * lược đã chọn ({@link EvictionStrategy}). Khóa và giá trị không được là {@code null}, vì
+ * {@link #get(Object)} trả về {@code null} để báo hiệu không tìm thấy.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ * @param <V> Kiểu dữ liệu của giá trị
+ */
+public interface Cache<K, V> {
+    // O(1)
+    V get(K key);
+
+    // O(1) khi có sẵn, cộng thêm chi phí của hàm tải khi không có
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    // O(1) khấu hao
+    void put(K key, V value);
+
+    // O(1)
+    boolean invalidate(K key);
+
+    // O(n)
+    void invalidateAll();
+
+    // constant
+    int size();
+
+    // constant
+    long weightedSize();
+
+    // constant
+    long maximumWeight();
+
+    // constant
+    CacheStats stats();
+}
@@ -0,0 +1,119 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+/**
+ * Ảnh chụp bất biến của các số liệu thống kê của một cache.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long evictionWeight;
+
+    /**
+     * Tạo một ảnh chụp thống kê với các giá trị đã chỉ định.
+     *
+     * @param hitCount Số lần tìm thấy
+     * @param missCount Số lần không tìm thấy
+     * @param evictionCount Số mục bị loại bỏ
+     * @param evictionWeight Tổng trọng số của các mục bị loại bỏ
+     * @throws IllegalArgumentException Nếu một giá trị là số âm
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount, long evictionWeight) {
+        if (hitCount < 0 || missCount < 0 || evictionCount < 0 || evictionWeight < 0) {
+            throw new IllegalArgumentException("Statistics cannot be negative.");
+        }
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+    }
+
+    /**
+     * Trả về số lần tìm thấy khóa trong cache.
+     *
+     * @return Số lần tìm thấy
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Trả về số lần không tìm thấy khóa trong cache.
+     *
+     * @return Số lần không tìm thấy
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Trả về tổng số lần tra cứu (tìm thấy và không tìm thấy).
+     *
+     * @return Tổng số lần tra cứu
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Trả về số mục đã bị loại bỏ vì vượt quá giới hạn trọng số.
+     *
+     * @return Số mục bị loại bỏ
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Trả về tổng trọng số của các mục đã bị loại bỏ.
+     *
+     * @return Tổng trọng số bị loại bỏ
+     */
+    public long evictionWeight() {
+        return evictionWeight;
+    }
+
+    /**
+     * Trả về tỉ lệ tìm thấy, hoặc 1 nếu chưa có yêu cầu nào.
+     *
+     * @return Tỉ lệ tìm thấy trong [0, 1]
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Trả về tỉ lệ không tìm thấy, hoặc 0 nếu chưa có yêu cầu nào.
+     *
+     * @return Tỉ lệ không tìm thấy trong [0, 1]
+     */
+    public double missRate() {
+        long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    /**
+     * Trả về tổng của ảnh chụp này và ảnh chụp khác.
+     *
+     * @param other Ảnh chụp cần cộng
+     * @return Một ảnh chụp mới chứa tổng các số liệu
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hitCount + other.hitCount, missCount + other.missCount,
+                evictionCount + other.evictionCount, evictionWeight + other.evictionWeight);
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của ảnh chụp này.
+     *
+     * @return Biểu diễn chuỗi của ảnh chụp này
+     */
+    @Override
+    public String toString() {
+        return "CacheStats[hitCount=" + hitCount + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount + ", evictionWeight=" + evictionWeight + "]";
+    }
+}
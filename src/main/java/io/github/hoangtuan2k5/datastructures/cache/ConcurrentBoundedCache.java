@@ -0,0 +1,344 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Triển khai {@link Cache} an toàn luồng, dùng kỹ thuật chia khóa (lock striping).
+ * <p>
+ * Cache được chia thành một số phân đoạn (segment) là lũy thừa của 2, mỗi phân đoạn là một
+ * {@link BoundedCache} độc lập được bảo vệ bằng khóa riêng. Một khóa luôn thuộc cùng một phân
+ * đoạn (chọn theo {@code hashCode} đã được trộn bit), nên các luồng truy cập các khóa ở những
+ * phân đoạn khác nhau không tranh chấp nhau.
+ * </p>
+ * <p>
+ * Các phân đoạn dùng chung một ngân sách trọng số: mỗi phân đoạn nhận mọi mục có trọng số không
+ * vượt quá {@code maximumWeight}, và tổng trọng số được đếm chung. Khi tổng vượt giới hạn, luồng
+ * vừa ghi loại bỏ từng mục cho đến khi tổng không vượt quá giới hạn (mỗi lần chỉ giữ một khóa).
+ * Mỗi phân đoạn đề cử mục mà chính sách của nó sẽ loại bỏ; giữa các đề cử từ phân đoạn vừa ghi và
+ * một vài phân đoạn được lấy mẫu, mục được truy cập lâu nhất bị loại bỏ. Như vậy một mục nguội
+ * trong phân đoạn bận không sống lâu hơn các mục nóng ở phân đoạn yên tĩnh, dù thứ tự loại bỏ
+ * giữa các phân đoạn chỉ là xấp xỉ (với LFU, tần suất chỉ được so sánh trong từng phân đoạn).
+ * Tổng trọng số có thể vượt giới hạn trong chốc lát khi có ghi đồng thời. Bộ lắng nghe và hàm
+ * tải được gọi trong khi giữ khóa của phân đoạn.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ * @param <V> Kiểu dữ liệu của giá trị
+ */
+public class ConcurrentBoundedCache<K, V> implements Cache<K, V> {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int VICTIM_SAMPLES = 4;
+
+    private final BoundedCache<K, V>[] segments;
+    private final int segmentMask;
+    private final long maximumWeight;
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final AtomicInteger evictionCursor = new AtomicInteger();
+
+    /**
+     * Tạo một cache LRU an toàn luồng giới hạn theo số mục, với 16 phân đoạn.
+     *
+     * @param maximumSize Số mục tối đa, phải không âm
+     * @throws IllegalArgumentException Nếu số mục tối đa là số âm
+     */
+    public ConcurrentBoundedCache(long maximumSize) {
+        this(maximumSize, EvictionStrategy.LRU, Weigher.singleton(), null, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Tạo một cache an toàn luồng với các tham số đã chỉ định.
+     * <p>
+     * Số phân đoạn là lũy thừa của 2 lớn nhất không vượt quá {@code concurrencyLevel}. Mỗi phân
+     * đoạn có giới hạn riêng bằng {@code maximumWeight}, còn giới hạn chung được giữ bằng việc
+     * loại bỏ giữa các phân đoạn.
+     * </p>
+     *
+     * @param maximumWeight Tổng trọng số tối đa, phải không âm
+     * @param strategy Chiến lược loại bỏ của mỗi phân đoạn
+     * @param weigher Bộ tính trọng số của các mục
+     * @param listener Bộ lắng nghe việc loại bỏ, hoặc {@code null} nếu không cần
+     * @param concurrencyLevel Số luồng cập nhật đồng thời dự kiến, phải lớn hơn 0
+     * @throws IllegalArgumentException Nếu trọng số tối đa là số âm hoặc mức đồng thời không lớn hơn 0
+     * @throws NullPointerException Nếu chiến lược hoặc bộ tính trọng số là null
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentBoundedCache(long maximumWeight, EvictionStrategy strategy,
+            Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener,
+            int concurrencyLevel) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight cannot be negative. Maximum weight: " + maximumWeight);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be greater than 0. Concurrency level: " + concurrencyLevel);
+        }
+        int segmentCount = Integer.highestOneBit(concurrencyLevel);
+        this.segments = (BoundedCache<K, V>[]) new BoundedCache<?, ?>[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        this.maximumWeight = maximumWeight;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new BoundedCache<>(maximumWeight, strategy, weigher, listener, true);
+        }
+    }
+
+    /**
+     * Trả về giá trị của khóa đã chỉ định, hoặc {@code null} nếu không có.
+     *
+     * @param key Khóa cần tra cứu
+     * @return Giá trị của khóa, hoặc {@code null} nếu cache không chứa khóa
+     * @throws NullPointerException Nếu khóa là null
+     */
+    @Override
+    public V get(K key) {
+        BoundedCache<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * Trả về giá trị của khóa đã chỉ định; nếu không có, tính giá trị bằng hàm tải và đưa nó vào cache.
+     * <p>
+     * Hàm tải chạy trong khi giữ khóa của phân đoạn, nên mỗi khóa được tải nhiều nhất một lần
+     * cùng lúc, nhưng các khóa khác trong cùng phân đoạn phải chờ.
+     * </p>
+     *
+     * @param key Khóa cần tra cứu
+     * @param loader Hàm tính giá trị khi cache không chứa khóa
+     * @return Giá trị của khóa, hoặc {@code null} nếu hàm tải trả về {@code null}
+     * @throws NullPointerException Nếu khóa hoặc hàm tải là null
+     */
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        BoundedCache<K, V> segment = segmentFor(key);
+        V value;
+        long delta;
+        synchronized (segment) {
+            long before = segment.weightedSize();
+            value = segment.get(key, loader);
+            delta = segment.weightedSize() - before;
+        }
+        addWeight(delta, segment, key);
+        return value;
+    }
+
+    /**
+     * Đưa một mục vào phân đoạn của khóa, rồi loại bỏ các mục cần thiết để tổng trọng số không
+     * vượt quá giới hạn chung.
+     *
+     * @param key Khóa của mục
+     * @param value Giá trị của mục
+     * @throws NullPointerException Nếu khóa hoặc giá trị là null
+     * @throws IllegalArgumentException Nếu bộ tính trọng số trả về số âm
+     */
+    @Override
+    public void put(K key, V value) {
+        BoundedCache<K, V> segment = segmentFor(key);
+        long delta;
+        synchronized (segment) {
+            long before = segment.weightedSize();
+            segment.put(key, value);
+            delta = segment.weightedSize() - before;
+        }
+        addWeight(delta, segment, key);
+    }
+
+    /**
+     * Xóa mục của khóa đã chỉ định khỏi cache.
+     *
+     * @param key Khóa cần xóa
+     * @return {@code true} nếu cache chứa khóa
+     * @throws NullPointerException Nếu khóa là null
+     */
+    @Override
+    public boolean invalidate(K key) {
+        BoundedCache<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            long before = segment.weightedSize();
+            boolean removed = segment.invalidate(key);
+            totalWeight.addAndGet(segment.weightedSize() - before);
+            return removed;
+        }
+    }
+
+    /**
+     * Xóa tất cả các mục, lần lượt từng phân đoạn. Các số liệu thống kê được giữ nguyên.
+     */
+    @Override
+    public void invalidateAll() {
+        for (BoundedCache<K, V> segment : segments) {
+            synchronized (segment) {
+                totalWeight.addAndGet(-segment.weightedSize());
+                segment.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * Trả về số mục trong cache, cộng dồn từng phân đoạn (không phải một ảnh chụp nguyên tử).
+     *
+     * @return Số mục trong cache
+     */
+    @Override
+    public int size() {
+        long size = 0;
+        for (BoundedCache<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Trả về tổng trọng số của các mục, cộng dồn từng phân đoạn (không phải một ảnh chụp nguyên tử).
+     *
+     * @return Tổng trọng số hiện tại
+     */
+    @Override
+    public long weightedSize() {
+        long weightedSize = 0;
+        for (BoundedCache<K, V> segment : segments) {
+            synchronized (segment) {
+                weightedSize += segment.weightedSize();
+            }
+        }
+        return weightedSize;
+    }
+
+    /**
+     * Trả về tổng trọng số tối đa của cache (giới hạn chung của các phân đoạn).
+     *
+     * @return Giới hạn trọng số
+     */
+    @Override
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Trả về tổng các số liệu thống kê của mọi phân đoạn.
+     *
+     * @return Ảnh chụp thống kê
+     */
+    @Override
+    public CacheStats stats() {
+        CacheStats stats = new CacheStats(0, 0, 0, 0);
+        for (BoundedCache<K, V> segment : segments) {
+            synchronized (segment) {
+                stats = stats.plus(segment.stats());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của cache.
+     *
+     * @return Biểu diễn chuỗi của cache
+     */
+    @Override
+    public String toString() {
+        return "ConcurrentBoundedCache[segments=" + segments.length + ", size=" + size()
+                + ", weightedSize=" + weightedSize() + ", maximumWeight=" + maximumWeight + "]";
+    }
+
+    /**
+     * Cộng phần thay đổi trọng số của một phân đoạn vào tổng chung, rồi loại bỏ các mục cho đến
+     * khi tổng không vượt quá giới hạn. Mỗi lần loại bỏ chọn phân đoạn bằng
+     * {@link #selectVictimSegment(BoundedCache, Object)}. Phải được gọi khi không giữ khóa nào, vì
+     * mỗi bước chỉ khóa một phân đoạn.
+     *
+     * @param delta Phần thay đổi trọng số
+     * @param origin Phân đoạn vừa ghi
+     * @param key Khóa vừa ghi, không bao giờ bị chọn để loại bỏ
+     */
+    private void addWeight(long delta, BoundedCache<K, V> origin, K key) {
+        if (totalWeight.addAndGet(delta) <= maximumWeight) {
+            return;
+        }
+        while (totalWeight.get() > maximumWeight) {
+            BoundedCache<K, V> segment = selectVictimSegment(origin, key);
+            if (segment == null) {
+                return;
+            }
+            long weight;
+            synchronized (segment) {
+                weight = segment.evictVictim();
+            }
+            if (weight >= 0) {
+                totalWeight.addAndGet(-weight);
+            }
+        }
+    }
+
+    /**
+     * Chọn phân đoạn có mục bị loại bỏ tiếp theo (theo chính sách của phân đoạn đó) được truy cập
+     * lâu nhất. Khi có nhiều hơn {@link #VICTIM_SAMPLES} phân đoạn, chỉ phân đoạn vừa ghi và
+     * {@code VICTIM_SAMPLES - 1} phân đoạn khác (theo vòng) được lấy mẫu; nếu không mẫu nào có mục
+     * để loại bỏ, hoặc khi có ít phân đoạn, mọi phân đoạn được xét.
+     *
+     * @param origin Phân đoạn vừa ghi
+     * @param key Khóa vừa ghi, không bao giờ bị chọn
+     * @return Phân đoạn cần loại bỏ một mục, hoặc {@code null} nếu không có mục nào khác ngoài {@code key}
+     */
+    private BoundedCache<K, V> selectVictimSegment(BoundedCache<K, V> origin, K key) {
+        BoundedCache<K, V> selected = null;
+        long oldest = Long.MAX_VALUE;
+        if (segments.length > VICTIM_SAMPLES) {
+            selected = origin;
+            oldest = victimAccessTime(origin, key);
+            for (int i = 1; i < VICTIM_SAMPLES; i++) {
+                BoundedCache<K, V> segment = segments[evictionCursor.getAndIncrement() & segmentMask];
+                long accessTime = victimAccessTime(segment, key);
+                if (accessTime < oldest) {
+                    selected = segment;
+                    oldest = accessTime;
+                }
+            }
+        }
+        if (oldest == Long.MAX_VALUE) {
+            for (BoundedCache<K, V> segment : segments) {
+                long accessTime = victimAccessTime(segment, key);
+                if (accessTime < oldest) {
+                    selected = segment;
+                    oldest = accessTime;
+                }
+            }
+        }
+        return oldest == Long.MAX_VALUE ? null : selected;
+    }
+
+    /**
+     * Đọc thời điểm truy cập của mục bị loại bỏ tiếp theo trong một phân đoạn, dưới khóa của nó.
+     *
+     * @param segment Phân đoạn cần đọc
+     * @param key Khóa vừa ghi, không bao giờ bị chọn
+     * @return Thời điểm truy cập, hoặc {@link Long#MAX_VALUE} nếu phân đoạn không có mục để loại bỏ
+     */
+    private static <K, V> long victimAccessTime(BoundedCache<K, V> segment, K key) {
+        synchronized (segment) {
+            return segment.victimAccessTime(key);
+        }
+    }
+
+    /**
+     * Chọn phân đoạn của một khóa bằng cách trộn các bit cao của {@code hashCode} xuống các bit thấp.
+     *
+     * @param key Khóa cần tra cứu
+     * @return Phân đoạn chứa khóa
+     * @throws NullPointerException Nếu khóa là null
+     */
+    private BoundedCache<K, V> segmentFor(Object key) {
+        if (key == null) {
+            throw new NullPointerException("Keys and values cannot be null!");
+        }
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        h *= 0x45d9f3b;
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+/**
+ * Bộ lắng nghe được gọi mỗi khi cache loại bỏ một mục vì vượt quá giới hạn trọng số.
+ * <p>
+ * Bộ lắng nghe không được gọi cho các mục bị xóa bằng {@link Cache#invalidate(Object)} hoặc bị
+ * thay thế bằng {@link Cache#put(Object, Object)}, trừ khi giá trị mới nặng hơn giới hạn: khi đó cả
+ * giá trị cũ lẫn giá trị mới đều được báo là bị loại bỏ. Nó được gọi đồng bộ trên luồng thực hiện
+ * thao tác gây ra việc loại bỏ, nên cần xử lý nhanh.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ * @param <V> Kiểu dữ liệu của giá trị
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+    void onEviction(K key, V value);
+}
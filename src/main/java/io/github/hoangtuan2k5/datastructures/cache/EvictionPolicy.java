@@ -0,0 +1,30 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+/**
+ * Chính sách nội bộ theo dõi thứ tự truy cập của các khóa và chọn khóa bị loại bỏ.
+ * <p>
+ * Cache gọi các phương thức {@code record*} sau mỗi thao tác; mọi phương thức đều chạy trong O(1).
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ */
+interface EvictionPolicy<K> {
+    void recordInsert(K key, long weight);
+
+    void recordAccess(K key);
+
+    void recordUpdate(K key, long oldWeight, long newWeight);
+
+    void recordRemoval(K key, long weight);
+
+    /**
+     * Trả về khóa sẽ bị loại bỏ tiếp theo mà không xóa nó.
+     *
+     * @return Khóa bị loại bỏ tiếp theo
+     * @throws java.util.NoSuchElementException Nếu không có khóa nào
+     */
+    K victim();
+
+    void clear();
+}
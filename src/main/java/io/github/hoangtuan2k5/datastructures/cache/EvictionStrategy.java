@@ -0,0 +1,47 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Các chiến lược chọn mục bị loại bỏ khi cache vượt quá giới hạn trọng số.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public enum EvictionStrategy {
+    /**
+     * Least Recently Used: loại bỏ mục lâu nhất không được truy cập.
+     */
+    LRU,
+
+    /**
+     * Least Frequently Used: loại bỏ mục có số lần truy cập ít nhất; khi bằng nhau, loại bỏ
+     * mục lâu nhất không được truy cập trong số đó.
+     */
+    LFU,
+
+    /**
+     * Segmented LRU: mục mới vào phân đoạn thử việc (probation) và chỉ được đưa lên phân đoạn
+     * được bảo vệ (protected) khi được truy cập lại. Các mục chỉ dùng một lần (ví dụ khi quét
+     * tuần tự) bị loại bỏ trước mà không đẩy các mục hay dùng ra khỏi cache.
+     */
+    SLRU;
+
+    /**
+     * Tạo chính sách loại bỏ tương ứng với chiến lược này.
+     *
+     * @param maximumWeight Tổng trọng số tối đa của cache
+     * @param weightOf Hàm trả về trọng số hiện tại của một khóa trong cache
+     * @param <K> Kiểu dữ liệu của khóa
+     * @return Một chính sách loại bỏ mới
+     */
+    <K> EvictionPolicy<K> newPolicy(long maximumWeight, ToLongFunction<K> weightOf) {
+        switch (this) {
+            case LFU:
+                return new LfuPolicy<>();
+            case SLRU:
+                return new SlruPolicy<>(maximumWeight, weightOf);
+            default:
+                return new LruPolicy<>();
+        }
+    }
+}
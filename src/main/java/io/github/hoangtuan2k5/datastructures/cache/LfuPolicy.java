@@ -0,0 +1,184 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Chính sách LFU với mọi thao tác trong O(1), theo cấu trúc "danh sách tần suất" cổ điển.
+ * <p>
+ * Các tần suất đang có được giữ trong một danh sách liên kết đôi các {@link FrequencyNode} theo
+ * thứ tự tăng dần; mỗi node tần suất lại giữ một danh sách liên kết đôi các khóa có tần suất đó,
+ * theo thứ tự truy cập. Khi một khóa được truy cập, nó được chuyển từ node {@code f} sang cuối
+ * node {@code f + 1} ngay sau đó (tạo node này nếu chưa có). Node tần suất rỗng bị xóa ngay, nên
+ * khóa bị loại bỏ luôn là khóa đầu tiên của node tần suất đầu tiên.
+ * </p>
+ * <p>
+ * Các liên kết được lưu trực tiếp trong các node (danh sách xâm nhập) thay vì dùng một
+ * {@link io.github.hoangtuan2k5.datastructures.linkedlist.IndexedIDoublyLinkedList} cho mỗi tần
+ * suất, để việc tăng tần suất không phải cấp phát một chỉ mục băm mới.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ */
+final class LfuPolicy<K> implements EvictionPolicy<K> {
+    private final Map<K, Item<K>> items = new HashMap<>();
+    private FrequencyNode<K> lowest;
+
+    @Override
+    public void recordInsert(K key, long weight) {
+        FrequencyNode<K> first = lowest;
+        if (first == null || first.frequency != 1) {
+            first = insertAfter(null, 1);
+        }
+        Item<K> item = new Item<>(key);
+        items.put(key, item);
+        append(first, item);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        Item<K> item = items.get(key);
+        if (item == null) {
+            return;
+        }
+        FrequencyNode<K> current = item.owner;
+        FrequencyNode<K> next = current.next;
+        if (next == null || next.frequency != current.frequency + 1) {
+            next = insertAfter(current, current.frequency + 1);
+        }
+        detach(item);
+        append(next, item);
+    }
+
+    @Override
+    public void recordUpdate(K key, long oldWeight, long newWeight) {
+        recordAccess(key);
+    }
+
+    @Override
+    public void recordRemoval(K key, long weight) {
+        Item<K> item = items.remove(key);
+        if (item != null) {
+            detach(item);
+        }
+    }
+
+    @Override
+    public K victim() {
+        if (lowest == null) {
+            throw new NoSuchElementException("Cache is empty!");
+        }
+        return lowest.head.key;
+    }
+
+    @Override
+    public void clear() {
+        items.clear();
+        lowest = null;
+    }
+
+    /**
+     * Tạo một node tần suất mới và chèn nó ngay sau node đã cho (hoặc ở đầu nếu node đã cho là null).
+     *
+     * @param previous Node đứng trước, hoặc {@code null}
+     * @param frequency Tần suất của node mới
+     * @return Node mới
+     */
+    private FrequencyNode<K> insertAfter(FrequencyNode<K> previous, long frequency) {
+        FrequencyNode<K> node = new FrequencyNode<>(frequency);
+        FrequencyNode<K> next = previous == null ? lowest : previous.next;
+        node.prev = previous;
+        node.next = next;
+        if (previous == null) {
+            lowest = node;
+        } else {
+            previous.next = node;
+        }
+        if (next != null) {
+            next.prev = node;
+        }
+        return node;
+    }
+
+    /**
+     * Thêm một khóa vào cuối danh sách khóa của node tần suất.
+     *
+     * @param owner Node tần suất
+     * @param item Khóa chưa thuộc node nào
+     */
+    private static <K> void append(FrequencyNode<K> owner, Item<K> item) {
+        item.owner = owner;
+        item.prev = owner.tail;
+        item.next = null;
+        if (owner.tail == null) {
+            owner.head = item;
+        } else {
+            owner.tail.next = item;
+        }
+        owner.tail = item;
+    }
+
+    /**
+     * Tách một khóa khỏi node tần suất của nó và xóa node đó nếu nó trở nên rỗng.
+     *
+     * @param item Khóa cần tách
+     */
+    private void detach(Item<K> item) {
+        FrequencyNode<K> owner = item.owner;
+        if (item.prev == null) {
+            owner.head = item.next;
+        } else {
+            item.prev.next = item.next;
+        }
+        if (item.next == null) {
+            owner.tail = item.prev;
+        } else {
+            item.next.prev = item.prev;
+        }
+        item.prev = null;
+        item.next = null;
+        item.owner = null;
+
+        if (owner.head == null) {
+            if (owner.prev == null) {
+                lowest = owner.next;
+            } else {
+                owner.prev.next = owner.next;
+            }
+            if (owner.next != null) {
+                owner.next.prev = owner.prev;
+            }
+        }
+    }
+
+    /**
+     * Một khóa trong danh sách khóa của một node tần suất.
+     */
+    private static final class Item<K> {
+        private final K key;
+        private FrequencyNode<K> owner;
+        private Item<K> prev;
+        private Item<K> next;
+
+        Item(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Một node trong danh sách tần suất, giữ các khóa có cùng tần suất truy cập.
+     */
+    private static final class FrequencyNode<K> {
+        private final long frequency;
+        private FrequencyNode<K> prev;
+        private FrequencyNode<K> next;
+        private Item<K> head;
+        private Item<K> tail;
+
+        FrequencyNode(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+}
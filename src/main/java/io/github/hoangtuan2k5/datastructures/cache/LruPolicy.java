@@ -0,0 +1,44 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import io.github.hoangtuan2k5.datastructures.linkedlist.IndexedIDoublyLinkedList;
+
+/**
+ * Chính sách LRU: các khóa được giữ trong một danh sách liên kết đôi theo thứ tự truy cập,
+ * khóa ít được dùng gần đây nhất ở đầu danh sách.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ */
+final class LruPolicy<K> implements EvictionPolicy<K> {
+    private final IndexedIDoublyLinkedList<K> order = new IndexedIDoublyLinkedList<>();
+
+    @Override
+    public void recordInsert(K key, long weight) {
+        order.addLast(key);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        order.moveToBack(key);
+    }
+
+    @Override
+    public void recordUpdate(K key, long oldWeight, long newWeight) {
+        order.moveToBack(key);
+    }
+
+    @Override
+    public void recordRemoval(K key, long weight) {
+        order.remove(key);
+    }
+
+    @Override
+    public K victim() {
+        return order.peekFirst();
+    }
+
+    @Override
+    public void clear() {
+        order.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.function.ToLongFunction;
+
+import io.github.hoangtuan2k5.datastructures.linkedlist.IndexedIDoublyLinkedList;
+
+/**
+ * Chính sách Segmented LRU với hai danh sách liên kết đôi: phân đoạn thử việc (probation) và
+ * phân đoạn được bảo vệ (protected).
+ * <p>
+ * Mục mới vào cuối phân đoạn thử việc. Một mục trong phân đoạn thử việc được truy cập lại sẽ
+ * được đưa lên cuối phân đoạn được bảo vệ; khi tổng trọng số của phân đoạn được bảo vệ vượt quá
+ * {@value #PROTECTED_RATIO} lần giới hạn của cache, các mục LRU của nó bị hạ xuống cuối phân đoạn
+ * thử việc. Khóa bị loại bỏ là khóa đầu của phân đoạn thử việc, hoặc của phân đoạn được bảo vệ
+ * nếu phân đoạn thử việc rỗng.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ */
+final class SlruPolicy<K> implements EvictionPolicy<K> {
+    /**
+     * Tỉ lệ của giới hạn trọng số dành cho phân đoạn được bảo vệ.
+     */
+    static final double PROTECTED_RATIO = 0.8;
+
+    private final IndexedIDoublyLinkedList<K> probation = new IndexedIDoublyLinkedList<>();
+    private final IndexedIDoublyLinkedList<K> protectedSegment = new IndexedIDoublyLinkedList<>();
+    private final long protectedMaximum;
+    private final ToLongFunction<K> weightOf;
+    private long protectedWeight;
+
+    /**
+     * Tạo một chính sách SLRU.
+     *
+     * @param maximumWeight Tổng trọng số tối đa của cache
+     * @param weightOf Hàm trả về trọng số hiện tại của một khóa trong cache
+     */
+    SlruPolicy(long maximumWeight, ToLongFunction<K> weightOf) {
+        this.protectedMaximum = (long) (maximumWeight * PROTECTED_RATIO);
+        this.weightOf = weightOf;
+    }
+
+    @Override
+    public void recordInsert(K key, long weight) {
+        probation.addLast(key);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        if (protectedSegment.moveToBack(key)) {
+            return;
+        }
+        if (probation.remove(key)) {
+            protectedSegment.addLast(key);
+            protectedWeight += weightOf.applyAsLong(key);
+            demoteOverflow();
+        }
+    }
+
+    @Override
+    public void recordUpdate(K key, long oldWeight, long newWeight) {
+        if (protectedSegment.contains(key)) {
+            protectedWeight += newWeight - oldWeight;
+        }
+        recordAccess(key);
+        demoteOverflow();
+    }
+
+    @Override
+    public void recordRemoval(K key, long weight) {
+        if (protectedSegment.remove(key)) {
+            protectedWeight -= weight;
+        } else {
+            probation.remove(key);
+        }
+    }
+
+    @Override
+    public K victim() {
+        return probation.isEmpty() ? protectedSegment.peekFirst() : probation.peekFirst();
+    }
+
+    @Override
+    public void clear() {
+        probation.clear();
+        protectedSegment.clear();
+        protectedWeight = 0;
+    }
+
+    /**
+     * Hạ các mục LRU của phân đoạn được bảo vệ xuống phân đoạn thử việc cho đến khi phân đoạn
+     * được bảo vệ không vượt quá giới hạn của nó. Mục được truy cập gần nhất luôn được giữ lại.
+     */
+    private void demoteOverflow() {
+        while (protectedWeight > protectedMaximum && protectedSegment.size() > 1) {
+            K demoted = protectedSegment.removeFirst();
+            protectedWeight -= weightOf.applyAsLong(demoted);
+            probation.addLast(demoted);
+        }
+    }
+}
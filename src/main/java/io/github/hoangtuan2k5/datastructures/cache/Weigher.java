@@ -0,0 +1,29 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+/**
+ * Hàm tính trọng số của một mục trong cache.
+ * <p>
+ * Giới hạn của cache được tính theo tổng trọng số thay vì số mục, nên các mục lớn (ví dụ mảng
+ * byte) có thể chiếm phần lớn hơn. Trọng số được tính một lần khi mục được đưa vào cache và
+ * không được là số âm.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <K> Kiểu dữ liệu của khóa
+ * @param <V> Kiểu dữ liệu của giá trị
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+    long weigh(K key, V value);
+
+    /**
+     * Trả về bộ tính trọng số gán trọng số 1 cho mọi mục, tức là giới hạn theo số mục.
+     *
+     * @param <K> Kiểu dữ liệu của khóa
+     * @param <V> Kiểu dữ liệu của giá trị
+     * @return Bộ tính trọng số đơn vị
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1L;
+    }
+}
@@ -0,0 +1,395 @@
+package io.github.hoangtuan2k5.datastructures.codec;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Bộ đọc nhị phân tương ứng với {@link BinaryWriter}, đọc từ một {@link ReadableByteChannel}
+ * (ví dụ {@code FileChannel}), một {@link InputStream} hoặc một {@link ByteBuffer}.
+ * <p>
+ * Việc đọc diễn ra dần dần: bộ đọc chỉ giữ một bộ đệm cố định {@value BinaryWriter#BUFFER_SIZE} byte
+ * và nạp thêm từ nguồn khi cần, nên có thể đọc một khung lớn hơn nhiều so với bộ nhớ dành cho I/O.
+ * {@link #readEach(ElementCodec, Consumer)} chuyển từng phần tử cho người gọi ngay khi giải mã xong,
+ * không dựng cấu trúc nào trong bộ nhớ.
+ * </p>
+ * <p>
+ * Nếu nguồn kết thúc giữa chừng, các phương thức đọc ném {@link UncheckedIOException} bọc một
+ * {@link EOFException}. Lớp này không an toàn khi dùng từ nhiều luồng.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see BinaryWriter
+ */
+public final class BinaryReader implements Closeable {
+    private final ReadableByteChannel channel;
+    private final InputStream stream;
+    private final ByteBuffer source;
+    private final int sourceStart;
+    private final ByteBuffer buffer;
+    private boolean closed;
+
+    private BinaryReader(ReadableByteChannel channel, InputStream stream, ByteBuffer source, ByteBuffer buffer) {
+        this.channel = channel;
+        this.stream = stream;
+        this.source = source;
+        this.sourceStart = source != null ? source.position() : 0;
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (source == null) {
+            this.buffer.limit(0);
+        }
+    }
+
+    /**
+     * Tạo một bộ đọc từ kênh đã cho; {@link #close()} sẽ đóng kênh.
+     *
+     * @param channel Kênh nguồn, ví dụ một {@code FileChannel}
+     * @return Bộ đọc mới
+     * @throws NullPointerException Nếu kênh là null
+     */
+    public static BinaryReader from(ReadableByteChannel channel) {
+        if (channel == null) {
+            throw new NullPointerException("Channel cannot be null!");
+        }
+        return new BinaryReader(channel, null, null, ByteBuffer.allocateDirect(BinaryWriter.BUFFER_SIZE));
+    }
+
+    /**
+     * Tạo một bộ đọc từ luồng đã cho; {@link #close()} sẽ đóng luồng.
+     *
+     * @param stream Luồng nguồn
+     * @return Bộ đọc mới
+     * @throws NullPointerException Nếu luồng là null
+     */
+    public static BinaryReader from(InputStream stream) {
+        if (stream == null) {
+            throw new NullPointerException("Stream cannot be null!");
+        }
+        return new BinaryReader(null, stream, null, ByteBuffer.allocate(BinaryWriter.BUFFER_SIZE));
+    }
+
+    /**
+     * Tạo một bộ đọc từ phần còn lại của bộ đệm đã cho, bắt đầu từ vị trí hiện tại của nó.
+     * <p>
+     * Vị trí của bộ đệm nguồn được cập nhật khi gọi {@link #close()}.
+     * Thứ tự byte của bộ đệm nguồn không bị thay đổi.
+     * </p>
+     *
+     * @param source Bộ đệm nguồn
+     * @return Bộ đọc mới
+     * @throws NullPointerException Nếu bộ đệm là null
+     */
+    public static BinaryReader from(ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("Buffer cannot be null!");
+        }
+        return new BinaryReader(null, null, source, source.slice());
+    }
+
+    /**
+     * Đọc và xác thực phần đầu của một khung.
+     *
+     * @param expected Loại nội dung mong đợi
+     * @return Số phần tử trong khung
+     * @throws IllegalArgumentException Nếu dữ liệu không phải một khung hợp lệ, có phiên bản không
+     *                                  được hỗ trợ hoặc có loại nội dung khác với mong đợi
+     * @throws UncheckedIOException Nếu không thể đọc từ nguồn hoặc nguồn kết thúc sớm
+     */
+    public int readHeader(Format expected) {
+        require(10);
+        if (buffer.getInt() != BinaryWriter.MAGIC) {
+            throw new IllegalArgumentException("Not an encoded frame!");
+        }
+        byte version = buffer.get();
+        if (version != BinaryWriter.VERSION) {
+            throw new IllegalArgumentException("Unsupported frame version: " + version);
+        }
+        int ordinal = buffer.get();
+        Format[] formats = Format.values();
+        if (ordinal < 0 || ordinal >= formats.length || formats[ordinal] != expected) {
+            throw new IllegalArgumentException("Format mismatch. Expected: " + expected
+                    + ", found: " + (ordinal >= 0 && ordinal < formats.length ? formats[ordinal] : ordinal));
+        }
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Corrupted element count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Trả về số phần tử nên cấp phát trước khi đọc một khung có {@code count} phần tử.
+     * <p>
+     * Số phần tử trong phần đầu khung chưa được kiểm chứng: một phần đầu hỏng hoặc độc hại có thể
+     * khai báo hàng tỷ phần tử kèm một phần dữ liệu rất ngắn. Vì vậy bên đọc chỉ cấp phát trước số
+     * phần tử vừa với một bộ đệm {@value BinaryWriter#BUFFER_SIZE} byte, rồi tăng dần dung lượng
+     * khi dữ liệu thực sự được đọc; nguồn kết thúc sớm gây ra {@link UncheckedIOException} thay vì
+     * {@link OutOfMemoryError}.
+     * </p>
+     *
+     * @param count Số phần tử được khai báo trong phần đầu khung
+     * @param elementBytes Số byte tối thiểu mà mỗi phần tử chiếm trong khung
+     * @return Dung lượng ban đầu, không vượt quá {@code count}
+     */
+    public static int initialCapacity(int count, int elementBytes) {
+        return Math.min(count, BinaryWriter.BUFFER_SIZE / elementBytes);
+    }
+
+    /**
+     * Đọc một khung {@link Format#OBJECTS} và chuyển từng phần tử cho hành động đã cho ngay khi
+     * giải mã xong, không giữ lại phần tử nào.
+     *
+     * @param codec Codec của phần tử
+     * @param action Hành động được thực hiện với mỗi phần tử
+     * @param <T> Kiểu dữ liệu của phần tử
+     * @return Số phần tử đã đọc
+     * @throws NullPointerException Nếu codec hoặc hành động là null
+     */
+    public <T> int readEach(ElementCodec<? extends T> codec, Consumer<? super T> action) {
+        if (codec == null || action == null) {
+            throw new NullPointerException("Codec and action cannot be null!");
+        }
+        int count = readHeader(Format.OBJECTS);
+        for (int i = 0; i < count; i++) {
+            action.accept(codec.read(this));
+        }
+        return count;
+    }
+
+    /**
+     * Đọc một byte.
+     *
+     * @return Giá trị đã đọc
+     */
+    public byte readByte() {
+        require(Byte.BYTES);
+        return buffer.get();
+    }
+
+    /**
+     * Đọc một giá trị boolean được ghi bởi {@link BinaryWriter#writeBoolean(boolean)}.
+     *
+     * @return Giá trị đã đọc
+     */
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * Đọc một giá trị {@code int}.
+     *
+     * @return Giá trị đã đọc
+     */
+    public int readInt() {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    /**
+     * Đọc một giá trị {@code long}.
+     *
+     * @return Giá trị đã đọc
+     */
+    public long readLong() {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    /**
+     * Đọc một giá trị {@code double}.
+     *
+     * @return Giá trị đã đọc
+     */
+    public double readDouble() {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    /**
+     * Đọc một chuỗi được ghi bởi {@link BinaryWriter#writeString(String)}.
+     *
+     * @return Chuỗi đã đọc
+     * @throws IllegalArgumentException Nếu độ dài đã ghi là số âm
+     * @throws UncheckedIOException Nếu không thể đọc từ nguồn hoặc nguồn kết thúc sớm
+     */
+    public String readString() {
+        int length = readInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Corrupted string length: " + length);
+        }
+        // Độ dài chưa được kiểm chứng: mảng chỉ tăng theo số byte thực sự đọc được
+        byte[] bytes = new byte[initialCapacity(length, Byte.BYTES)];
+        int read = 0;
+        while (read < length) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int chunk = bytes.length - read;
+            readBytes(bytes, read, chunk);
+            read += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Đọc đúng {@code length} byte vào mảng đã cho.
+     *
+     * @param destination Mảng đích
+     * @param offset Chỉ số bắt đầu trong mảng đích
+     * @param length Số byte cần đọc
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void readBytes(byte[] destination, int offset, int length) {
+        BinaryWriter.validateRange(offset, length, destination.length);
+        while (length > 0) {
+            require(Byte.BYTES);
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.get(destination, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Đọc đúng {@code length} giá trị {@code int} thô vào mảng đã cho, theo từng khối lớn.
+     *
+     * @param destination Mảng đích
+     * @param offset Chỉ số bắt đầu trong mảng đích
+     * @param length Số phần tử cần đọc
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void readInts(int[] destination, int offset, int length) {
+        BinaryWriter.validateRange(offset, length, destination.length);
+        while (length > 0) {
+            require(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(destination, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Đọc đúng {@code length} giá trị {@code long} thô vào mảng đã cho, theo từng khối lớn.
+     *
+     * @param destination Mảng đích
+     * @param offset Chỉ số bắt đầu trong mảng đích
+     * @param length Số phần tử cần đọc
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void readLongs(long[] destination, int offset, int length) {
+        BinaryWriter.validateRange(offset, length, destination.length);
+        while (length > 0) {
+            require(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(destination, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Đọc đúng {@code length} giá trị {@code double} thô vào mảng đã cho, theo từng khối lớn.
+     *
+     * @param destination Mảng đích
+     * @param offset Chỉ số bắt đầu trong mảng đích
+     * @param length Số phần tử cần đọc
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void readDoubles(double[] destination, int offset, int length) {
+        BinaryWriter.validateRange(offset, length, destination.length);
+        while (length > 0) {
+            require(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(destination, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Đóng kênh hoặc luồng bên dưới; với nguồn là {@link ByteBuffer}, cập nhật vị trí của nó tới
+     * sau byte cuối cùng đã đọc. Gọi lại sau khi đã đóng không có tác dụng.
+     *
+     * @throws UncheckedIOException Nếu không thể đóng nguồn
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (source != null) {
+                source.position(sourceStart + buffer.position());
+            } else if (channel != null) {
+                channel.close();
+            } else {
+                stream.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close input.", e);
+        }
+    }
+
+    /**
+     * Bảo đảm bộ đệm có sẵn ít nhất {@code bytes} byte chưa đọc, nạp thêm từ nguồn nếu cần.
+     *
+     * @param bytes Số byte cần có, không vượt quá kích thước bộ đệm
+     * @throws UncheckedIOException Nếu không thể đọc từ nguồn hoặc nguồn kết thúc trước khi đủ byte
+     */
+    private void require(int bytes) {
+        if (closed) {
+            throw new IllegalStateException("Reader is closed!");
+        }
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (source == null) {
+            buffer.compact();
+            try {
+                while (buffer.position() < bytes) {
+                    if (fill() < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read from input.", e);
+            } finally {
+                buffer.flip();
+            }
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+        }
+        throw new UncheckedIOException("Unexpected end of input!", new EOFException());
+    }
+
+    /**
+     * Nạp thêm byte từ kênh hoặc luồng vào phần trống của bộ đệm (đang ở chế độ ghi).
+     *
+     * @return Số byte đã nạp, hoặc -1 nếu nguồn đã hết
+     * @throws IOException Nếu không thể đọc từ nguồn
+     */
+    private int fill() throws IOException {
+        if (channel != null) {
+            return channel.read(buffer);
+        }
+        int read = stream.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        if (read > 0) {
+            buffer.position(buffer.position() + read);
+        }
+        return read;
+    }
+}
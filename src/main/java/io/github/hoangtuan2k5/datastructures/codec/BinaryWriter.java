@@ -0,0 +1,374 @@
+package io.github.hoangtuan2k5.datastructures.codec;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bộ ghi nhị phân gọn, ghi thẳng vào một {@link WritableByteChannel} (ví dụ {@code FileChannel}),
+ * một {@link OutputStream} hoặc một {@link ByteBuffer}.
+ * <p>
+ * Khi ghi ra kênh hoặc luồng, dữ liệu đi qua một bộ đệm cố định {@value #BUFFER_SIZE} byte và
+ * được đẩy đi mỗi khi bộ đệm đầy, nên không bao giờ có bản sao trung gian của cả cấu trúc.
+ * Bộ đệm cho kênh là bộ đệm trực tiếp (direct), nên {@code FileChannel} ghi từ nó mà không sao
+ * chép thêm. Khi ghi vào {@link ByteBuffer}, dữ liệu được ghi thẳng vào bộ đệm đích.
+ * </p>
+ * <p>
+ * Các mảng nguyên thủy được ghi theo khối bằng {@link #writeInts(int[], int, int)},
+ * {@link #writeLongs(long[], int, int)} và {@link #writeDoubles(double[], int, int)}: mỗi khối
+ * là một lần sao chép byte thô vào bộ đệm, không định dạng từng phần tử. Mọi giá trị được ghi
+ * theo thứ tự byte little-endian. Lỗi I/O được bọc trong {@link UncheckedIOException}.
+ * </p>
+ * <p>
+ * Lớp này không an toàn khi dùng từ nhiều luồng.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see BinaryReader
+ */
+public final class BinaryWriter implements Closeable, Flushable {
+    /**
+     * Kích thước bộ đệm khi ghi ra kênh hoặc luồng.
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    static final int MAGIC = 0x43474C41; // "ALGC" theo little-endian
+    static final byte VERSION = 1;
+
+    private final WritableByteChannel channel;
+    private final OutputStream stream;
+    private final ByteBuffer target;
+    private final int targetStart;
+    private final ByteBuffer buffer;
+    private boolean closed;
+
+    private BinaryWriter(WritableByteChannel channel, OutputStream stream, ByteBuffer target, ByteBuffer buffer) {
+        this.channel = channel;
+        this.stream = stream;
+        this.target = target;
+        this.targetStart = target != null ? target.position() : 0;
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Tạo một bộ ghi ra kênh đã cho; {@link #close()} sẽ đóng kênh.
+     *
+     * @param channel Kênh đích, ví dụ một {@code FileChannel}
+     * @return Bộ ghi mới
+     * @throws NullPointerException Nếu kênh là null
+     */
+    public static BinaryWriter to(WritableByteChannel channel) {
+        if (channel == null) {
+            throw new NullPointerException("Channel cannot be null!");
+        }
+        return new BinaryWriter(channel, null, null, ByteBuffer.allocateDirect(BUFFER_SIZE));
+    }
+
+    /**
+     * Tạo một bộ ghi ra luồng đã cho; {@link #close()} sẽ đóng luồng.
+     *
+     * @param stream Luồng đích
+     * @return Bộ ghi mới
+     * @throws NullPointerException Nếu luồng là null
+     */
+    public static BinaryWriter to(OutputStream stream) {
+        if (stream == null) {
+            throw new NullPointerException("Stream cannot be null!");
+        }
+        return new BinaryWriter(null, stream, null, ByteBuffer.allocate(BUFFER_SIZE));
+    }
+
+    /**
+     * Tạo một bộ ghi vào phần còn lại của bộ đệm đã cho, bắt đầu từ vị trí hiện tại của nó.
+     * <p>
+     * Vị trí của bộ đệm đích được cập nhật khi gọi {@link #flush()} hoặc {@link #close()}.
+     * Thứ tự byte của bộ đệm đích không bị thay đổi.
+     * </p>
+     *
+     * @param target Bộ đệm đích
+     * @return Bộ ghi mới
+     * @throws NullPointerException Nếu bộ đệm là null
+     */
+    public static BinaryWriter to(ByteBuffer target) {
+        if (target == null) {
+            throw new NullPointerException("Buffer cannot be null!");
+        }
+        return new BinaryWriter(null, null, target, target.slice());
+    }
+
+    /**
+     * Ghi phần đầu của một khung: magic, phiên bản, loại nội dung và số phần tử.
+     *
+     * @param format Loại nội dung của khung
+     * @param count Số phần tử theo sau
+     * @throws IllegalArgumentException Nếu số phần tử là số âm
+     * @throws NullPointerException Nếu loại nội dung là null
+     */
+    public void writeHeader(Format format, int count) {
+        if (format == null) {
+            throw new NullPointerException("Format cannot be null!");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Element count cannot be negative. Count: " + count);
+        }
+        ensure(10);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) format.ordinal());
+        buffer.putInt(count);
+    }
+
+    /**
+     * Ghi một byte.
+     *
+     * @param value Giá trị cần ghi
+     */
+    public void writeByte(byte value) {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    /**
+     * Ghi một giá trị boolean dưới dạng một byte (0 hoặc 1).
+     *
+     * @param value Giá trị cần ghi
+     */
+    public void writeBoolean(boolean value) {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    /**
+     * Ghi một giá trị {@code int}.
+     *
+     * @param value Giá trị cần ghi
+     */
+    public void writeInt(int value) {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    /**
+     * Ghi một giá trị {@code long}.
+     *
+     * @param value Giá trị cần ghi
+     */
+    public void writeLong(long value) {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Ghi một giá trị {@code double}.
+     *
+     * @param value Giá trị cần ghi
+     */
+    public void writeDouble(double value) {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Ghi một chuỗi dưới dạng độ dài (số byte) theo sau là các byte UTF-8.
+     *
+     * @param value Chuỗi cần ghi
+     * @throws NullPointerException Nếu chuỗi là null
+     */
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Ghi một khoảng của mảng byte.
+     *
+     * @param source Mảng nguồn
+     * @param offset Chỉ số bắt đầu trong mảng nguồn
+     * @param length Số byte cần ghi
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void writeBytes(byte[] source, int offset, int length) {
+        validateRange(offset, length, source.length);
+        while (length > 0) {
+            ensure(Byte.BYTES);
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(source, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Ghi một khoảng của mảng {@code int} dưới dạng byte thô, theo từng khối lớn.
+     *
+     * @param source Mảng nguồn
+     * @param offset Chỉ số bắt đầu trong mảng nguồn
+     * @param length Số phần tử cần ghi
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void writeInts(int[] source, int offset, int length) {
+        validateRange(offset, length, source.length);
+        while (length > 0) {
+            ensure(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(source, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Ghi một khoảng của mảng {@code long} dưới dạng byte thô, theo từng khối lớn.
+     *
+     * @param source Mảng nguồn
+     * @param offset Chỉ số bắt đầu trong mảng nguồn
+     * @param length Số phần tử cần ghi
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void writeLongs(long[] source, int offset, int length) {
+        validateRange(offset, length, source.length);
+        while (length > 0) {
+            ensure(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(source, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Ghi một khoảng của mảng {@code double} dưới dạng byte thô, theo từng khối lớn.
+     *
+     * @param source Mảng nguồn
+     * @param offset Chỉ số bắt đầu trong mảng nguồn
+     * @param length Số phần tử cần ghi
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    public void writeDoubles(double[] source, int offset, int length) {
+        validateRange(offset, length, source.length);
+        while (length > 0) {
+            ensure(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(source, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Đẩy mọi dữ liệu trong bộ đệm ra đích.
+     * <p>
+     * Với đích là {@link ByteBuffer}, cập nhật vị trí của bộ đệm đích tới sau byte cuối cùng đã ghi.
+     * </p>
+     *
+     * @throws UncheckedIOException Nếu không thể ghi ra đích
+     */
+    @Override
+    public void flush() {
+        ensureOpen();
+        if (target != null) {
+            target.position(targetStart + buffer.position());
+            return;
+        }
+        drain();
+        if (stream != null) {
+            try {
+                stream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot flush output.", e);
+            }
+        }
+    }
+
+    /**
+     * Đẩy dữ liệu còn lại ra đích rồi đóng kênh hoặc luồng bên dưới.
+     * Gọi lại sau khi đã đóng không có tác dụng.
+     *
+     * @throws UncheckedIOException Nếu không thể ghi hoặc đóng đích
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        try {
+            if (channel != null) {
+                channel.close();
+            } else if (stream != null) {
+                stream.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close output.", e);
+        }
+    }
+
+    /**
+     * Bảo đảm bộ đệm còn ít nhất {@code bytes} byte trống, đẩy dữ liệu ra đích nếu cần.
+     *
+     * @param bytes Số byte cần có
+     * @throws BufferOverflowException Nếu đích là {@link ByteBuffer} và không còn đủ chỗ
+     */
+    private void ensure(int bytes) {
+        ensureOpen();
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (target != null) {
+            throw new BufferOverflowException();
+        }
+        drain();
+    }
+
+    /**
+     * Ghi toàn bộ nội dung bộ đệm ra kênh hoặc luồng rồi làm rỗng bộ đệm.
+     *
+     * @throws UncheckedIOException Nếu không thể ghi ra đích
+     */
+    private void drain() {
+        buffer.flip();
+        try {
+            if (channel != null) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } else {
+                stream.write(buffer.array(), buffer.arrayOffset(), buffer.limit());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to output.", e);
+        }
+        buffer.clear();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed!");
+        }
+    }
+
+    /**
+     * Xác thực rằng khoảng gồm {@code length} phần tử bắt đầu từ {@code offset} nằm trong mảng.
+     *
+     * @param offset Chỉ số bắt đầu
+     * @param length Số phần tử
+     * @param arrayLength Độ dài của mảng
+     * @throws IndexOutOfBoundsException Nếu khoảng không hợp lệ
+     */
+    static void validateRange(int offset, int length, int arrayLength) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + arrayLength);
+        }
+    }
+}
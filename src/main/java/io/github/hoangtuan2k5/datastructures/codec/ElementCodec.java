@@ -0,0 +1,116 @@
+package io.github.hoangtuan2k5.datastructures.codec;
+
+/**
+ * Mô tả cách một phần tử kiểu {@code T} được mã hóa thành byte và giải mã ngược lại.
+ * <p>
+ * Các codec cho kiểu thường dùng có sẵn dưới dạng hằng số; kiểu khác có thể được mô tả bằng
+ * {@link #of(Reader, Writer)}, ví dụ:
+ * </p>
+ * <pre>{@code
+ * ElementCodec<Point> POINT = ElementCodec.of(
+ *         in -> new Point(in.readInt(), in.readInt()),
+ *         (out, point) -> {
+ *             out.writeInt(point.x());
+ *             out.writeInt(point.y());
+ *         });
+ * }</pre>
+ * <p>
+ * Các codec có sẵn không chấp nhận null; dùng {@link #nullable(ElementCodec)} nếu cấu trúc có thể chứa null.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của phần tử
+ */
+public interface ElementCodec<T> {
+    ElementCodec<Integer> INT = of(BinaryReader::readInt, BinaryWriter::writeInt);
+
+    ElementCodec<Long> LONG = of(BinaryReader::readLong, BinaryWriter::writeLong);
+
+    ElementCodec<Double> DOUBLE = of(BinaryReader::readDouble, BinaryWriter::writeDouble);
+
+    ElementCodec<Boolean> BOOLEAN = of(BinaryReader::readBoolean, BinaryWriter::writeBoolean);
+
+    ElementCodec<String> STRING = of(BinaryReader::readString, BinaryWriter::writeString);
+
+    /**
+     * Đọc một phần tử.
+     *
+     * @param in Nguồn dữ liệu
+     * @return Phần tử đã đọc
+     */
+    T read(BinaryReader in);
+
+    /**
+     * Ghi một phần tử.
+     *
+     * @param out Đích dữ liệu
+     * @param value Phần tử cần ghi
+     */
+    void write(BinaryWriter out, T value);
+
+    /**
+     * Tạo một codec từ các hàm đọc/ghi đã cho.
+     *
+     * @param reader Hàm đọc một phần tử
+     * @param writer Hàm ghi một phần tử
+     * @param <T> Kiểu dữ liệu của phần tử
+     * @return Codec mới
+     * @throws NullPointerException Nếu một trong các tham số là null
+     */
+    static <T> ElementCodec<T> of(Reader<T> reader, Writer<T> writer) {
+        if (reader == null || writer == null) {
+            throw new NullPointerException("Reader and writer cannot be null!");
+        }
+        return new ElementCodec<T>() {
+            @Override
+            public T read(BinaryReader in) {
+                return reader.read(in);
+            }
+
+            @Override
+            public void write(BinaryWriter out, T value) {
+                writer.write(out, value);
+            }
+        };
+    }
+
+    /**
+     * Bọc một codec để chấp nhận null, bằng cách ghi thêm một byte đánh dấu trước mỗi phần tử.
+     *
+     * @param codec Codec cho các phần tử khác null
+     * @param <T> Kiểu dữ liệu của phần tử
+     * @return Codec chấp nhận null
+     * @throws NullPointerException Nếu codec là null
+     */
+    static <T> ElementCodec<T> nullable(ElementCodec<T> codec) {
+        if (codec == null) {
+            throw new NullPointerException("Codec cannot be null!");
+        }
+        return of(in -> in.readBoolean() ? codec.read(in) : null, (out, value) -> {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                codec.write(out, value);
+            }
+        });
+    }
+
+    /**
+     * Hàm đọc một phần tử.
+     *
+     * @param <T> Kiểu dữ liệu của phần tử
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(BinaryReader in);
+    }
+
+    /**
+     * Hàm ghi một phần tử.
+     *
+     * @param <T> Kiểu dữ liệu của phần tử
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(BinaryWriter out, T value);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.hoangtuan2k5.datastructures.codec;
+
+/**
+ * Loại nội dung của một khung dữ liệu nhị phân.
+ * <p>
+ * Mỗi khung bắt đầu bằng phần đầu gồm magic, phiên bản, loại nội dung và số phần tử
+ * (xem {@link BinaryWriter#writeHeader(Format, int)}). Các cấu trúc chứa đối tượng
+ * ({@code StaticArray}, {@code DynamicArray}, {@code DefaultIDoublyLinkedList}) dùng chung
+ * khung {@link #OBJECTS}, nên dữ liệu ghi từ cấu trúc này có thể được đọc vào cấu trúc khác.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public enum Format {
+    /** Dãy đối tượng, mỗi phần tử được mã hóa bởi một {@link ElementCodec}. */
+    OBJECTS,
+    /** Dãy {@code int} thô, 4 byte mỗi phần tử. */
+    INTS,
+    /** Dãy {@code long} thô, 8 byte mỗi phần tử. */
+    LONGS,
+    /** Dãy {@code double} thô, 8 byte mỗi phần tử. */
+    DOUBLES
+}
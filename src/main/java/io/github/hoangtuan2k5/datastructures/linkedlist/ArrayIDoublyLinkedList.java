@@ -0,0 +1,497 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Triển khai giao diện {@link IPositionalDoublyLinkedList} dựa trên mảng, liên kết bằng chỉ số.
+ * <p>
+ * Thay vì cấp phát một {@link Node} cho mỗi phần tử, lớp này lưu dữ liệu trong một mảng
+ * {@code Object[]} và các liên kết trước/sau trong hai mảng song song {@code int[] prev}
+ * và {@code int[] next}. Một "node" chỉ là một chỉ số (slot) trong các mảng này, và giá trị
+ * {@code -1} đóng vai trò của {@code null}.
+ * </p>
+ * <p>
+ * Các slot bị xóa được đưa vào một danh sách trống (free list) nội bộ, liên kết qua mảng
+ * {@code next}, và được dùng lại cho lần thêm tiếp theo. Nhờ vậy các thao tác thêm/xóa không
+ * cấp phát đối tượng nào (trừ khi mảng phải tăng kích thước), và việc duyệt danh sách đọc
+ * các mảng liền kề thay vì đi theo con trỏ rải rác trên heap.
+ * </p>
+ * <p>
+ * Độ phức tạp giống {@link DefaultIDoublyLinkedList}: O(1) ở hai đầu, O(n) cho các thao tác
+ * dựa trên chỉ số hoặc tìm kiếm.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong danh sách
+ */
+public class ArrayIDoublyLinkedList<T> implements IPositionalDoublyLinkedList<T> {
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] data;
+    private int[] prev;
+    private int[] next;
+    private int head;
+    private int tail;
+    private int size;
+    /**
+     * Slot đầu tiên trong danh sách trống, hoặc {@link #NIL} nếu danh sách trống rỗng.
+     */
+    private int freeHead;
+    /**
+     * Số slot đã từng được sử dụng; các slot từ chỉ số này trở đi chưa bao giờ được cấp phát.
+     */
+    private int used;
+
+    /**
+     * Khởi tạo một danh sách rỗng với dung lượng ban đầu mặc định.
+     */
+    public ArrayIDoublyLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Khởi tạo một danh sách rỗng với dung lượng ban đầu được chỉ định.
+     *
+     * @param initialCapacity số slot được cấp phát trước
+     * @throws IllegalArgumentException nếu dung lượng ban đầu là số âm
+     */
+    public ArrayIDoublyLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative. Capacity: " + initialCapacity);
+        }
+        this.data = new Object[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.freeHead = NIL;
+        this.used = 0;
+    }
+
+    /**
+     * Xóa tất cả các phần tử khỏi danh sách này.
+     * <p>
+     * Dung lượng của các mảng bên trong được giữ nguyên để dùng lại.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(data, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+    }
+
+    /**
+     * Trả về số lượng phần tử trong danh sách này.
+     *
+     * @return số lượng phần tử trong danh sách
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Kiểm tra xem chỉ số có hợp lệ hay không.
+     *
+     * @param index chỉ số cần kiểm tra
+     * @return true nếu chỉ số hợp lệ
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    @Override
+    public boolean validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        return true;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này không chứa phần tử nào.
+     *
+     * @return {@code true} nếu danh sách này trống
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     * <p>
+     * Phương thức này tương đương với {@link #addLast(Object)}.
+     * </p>
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Chèn một phần tử vào đầu danh sách.
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void addFirst(T element) {
+        int slot = allocate(element);
+        prev[slot] = NIL;
+        next[slot] = head;
+        if (isEmpty()) {
+            head = tail = slot;
+        } else {
+            prev[head] = slot;
+            head = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void addLast(T element) {
+        int slot = allocate(element);
+        prev[slot] = tail;
+        next[slot] = NIL;
+        if (isEmpty()) {
+            head = tail = slot;
+        } else {
+            next[tail] = slot;
+            tail = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Lấy phần tử đầu tiên trong danh sách mà không xóa nó.
+     *
+     * @return phần tử đầu tiên trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return elementAt(head);
+    }
+
+    /**
+     * Lấy phần tử cuối cùng trong danh sách mà không xóa nó.
+     *
+     * @return phần tử cuối cùng trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return elementAt(tail);
+    }
+
+    /**
+     * Xóa và trả về phần tử đầu tiên từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return unlink(head);
+    }
+
+    /**
+     * Xóa và trả về phần tử cuối cùng từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return unlink(tail);
+    }
+
+    /**
+     * Xóa lần xuất hiện đầu tiên của một đối tượng cụ thể khỏi danh sách.
+     *
+     * @param object đối tượng cần xóa
+     * @return {@code true} nếu một phần tử đã bị xóa
+     */
+    @Override
+    public boolean remove(Object object) {
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (java.util.Objects.equals(object, data[slot])) {
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Xóa phần tử tại một chỉ số cụ thể.
+     * <p>
+     * Việc duyệt bắt đầu từ đầu hoặc cuối danh sách, tùy theo đầu nào gần chỉ số hơn.
+     * </p>
+     *
+     * @param index chỉ số của phần tử cần xóa
+     * @return phần tử đã bị xóa tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T removeAt(int index) {
+        validateIndex(index);
+        return unlink(slotAt(index));
+    }
+
+    /**
+     * Trả về phần tử tại một chỉ số cụ thể, duyệt từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử
+     * @return phần tử tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return elementAt(slotAt(index));
+    }
+
+    /**
+     * Thay thế phần tử tại một chỉ số cụ thể, duyệt từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử
+     * @param element phần tử mới
+     * @return phần tử cũ tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T set(int index, T element) {
+        validateIndex(index);
+        int slot = slotAt(index);
+        T old = elementAt(slot);
+        data[slot] = element;
+        return old;
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định; các phần tử từ vị trí đó trở đi dịch sang phải một vị trí.
+     *
+     * @param index vị trí chèn, trong phạm vi [0, size]
+     * @param element phần tử cần chèn
+     * @throws IndexOutOfBoundsException nếu vị trí nằm ngoài phạm vi [0, size]
+     */
+    @Override
+    public void insertAt(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addLast(element);
+            return;
+        }
+        int successor = slotAt(index);
+        int slot = allocate(element);
+        int before = prev[successor];
+        prev[slot] = before;
+        next[slot] = successor;
+        if (before == NIL) {
+            head = slot;
+        } else {
+            next[before] = slot;
+        }
+        prev[successor] = slot;
+        size++;
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của đối tượng đã chỉ định.
+     *
+     * @param object đối tượng cần tìm
+     * @return chỉ số của lần xuất hiện đầu tiên, hoặc -1 nếu không tìm thấy
+     */
+    @Override
+    public int indexOf(Object object) {
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (java.util.Objects.equals(object, data[slot])) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này chứa phần tử đã chỉ định.
+     *
+     * @param object phần tử cần kiểm tra
+     * @return {@code true} nếu danh sách chứa phần tử
+     */
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) != -1;
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của danh sách.
+     *
+     * @return biểu diễn chuỗi của danh sách
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            sb.append(data[slot]);
+            if (next[slot] != NIL) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một iterator trên các phần tử trong danh sách này theo đúng thứ tự.
+     *
+     * @return một iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T element = elementAt(current);
+                current = next[current];
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Lấy một slot cho phần tử mới, ưu tiên dùng lại slot trong danh sách trống.
+     *
+     * @param element phần tử cần lưu
+     * @return chỉ số của slot đã cấp phát
+     */
+    private int allocate(T element) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == data.length) {
+                grow();
+            }
+            slot = used++;
+        }
+        data[slot] = element;
+        return slot;
+    }
+
+    /**
+     * Tháo một slot khỏi danh sách, đưa nó vào danh sách trống và trả về dữ liệu của nó.
+     *
+     * @param slot slot cần tháo
+     * @return dữ liệu của slot đã bị xóa
+     */
+    private T unlink(int slot) {
+        T element = elementAt(slot);
+        int before = prev[slot];
+        int after = next[slot];
+        if (before == NIL) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NIL) {
+            tail = before;
+        } else {
+            prev[after] = before;
+        }
+        size--;
+
+        // Giải phóng tham chiếu và đưa slot vào danh sách trống
+        data[slot] = null;
+        prev[slot] = NIL;
+        next[slot] = freeHead;
+        freeHead = slot;
+        return element;
+    }
+
+    /**
+     * Trả về slot tại chỉ số đã cho, duyệt từ đầu hoặc cuối danh sách tùy theo đầu nào gần hơn.
+     *
+     * @param index chỉ số đã được xác thực
+     * @return slot tại chỉ số đó
+     */
+    private int slotAt(int index) {
+        int slot;
+        if (index < size / 2) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Tăng gấp đôi dung lượng của các mảng bên trong (tối thiểu là 1).
+     */
+    private void grow() {
+        int newCapacity = Math.max(1, data.length * 2);
+        data = Arrays.copyOf(data, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+    }
+
+    /**
+     * Trả về dữ liệu được lưu trong slot đã cho.
+     *
+     * @param slot chỉ số của slot
+     * @return dữ liệu của slot
+     */
+    @SuppressWarnings("unchecked")
+    private T elementAt(int slot) {
+        return (T) data[slot];
+    }
+}
@@ -0,0 +1,388 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Triển khai an toàn luồng, không dùng khóa (lock-free) của giao diện {@link IDoublyLinkedList}.
+ * <p>
+ * Các phần tử được lưu trong một {@link ConcurrentLinkedDeque}, một danh sách liên kết đôi
+ * trong đó mọi thay đổi liên kết được thực hiện bằng compare-and-set. Các thao tác ở hai đầu
+ * (thêm, xóa, xem và lấy ra ở đầu hoặc cuối) không bao giờ chặn luồng gọi,
+ * nên nhiều luồng sản xuất và tiêu thụ có thể chạy song song thay vì phải xếp hàng qua
+ * một khóa toàn cục.
+ * </p>
+ * <p>
+ * Số phần tử được đếm bằng một {@link LongAdder}, nên {@link #size()} có độ phức tạp O(1)
+ * nhưng chỉ là ước lượng khi có các luồng khác đang thay đổi danh sách. Bộ lặp có tính nhất
+ * quán yếu: nó không bao giờ ném {@link java.util.ConcurrentModificationException}, duyệt các
+ * phần tử có mặt lúc tạo bộ lặp và có thể (hoặc không) thấy các thay đổi sau đó.
+ * Vì vậy các thao tác dựa trên chỉ số chỉ có ý nghĩa khi danh sách không bị thay đổi đồng thời.
+ * </p>
+ * <p>
+ * Giống các collection trong {@code java.util.concurrent}, danh sách không chấp nhận phần tử
+ * {@code null}, vì {@code null} được dùng để báo hiệu danh sách rỗng trong
+ * {@link #pollFirst()} và {@link #pollLast()}.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong danh sách
+ */
+public class ConcurrentIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
+    private final ConcurrentLinkedDeque<T> deque;
+    private final LongAdder count;
+
+    /**
+     * Khởi tạo một danh sách rỗng.
+     */
+    public ConcurrentIDoublyLinkedList() {
+        this.deque = new ConcurrentLinkedDeque<>();
+        this.count = new LongAdder();
+    }
+
+    /**
+     * Xóa tất cả các phần tử khỏi danh sách này.
+     * <p>
+     * Các phần tử được lấy ra lần lượt từ đầu danh sách; phần tử được thêm đồng thời
+     * có thể còn lại sau khi phương thức trả về.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        while (pollFirst() != null) {
+            // Tiếp tục lấy ra cho đến khi danh sách rỗng
+        }
+    }
+
+    /**
+     * Trả về số lượng phần tử trong danh sách này.
+     * <p>
+     * Giá trị chỉ chính xác khi không có luồng nào khác đang thay đổi danh sách.
+     * </p>
+     *
+     * @return số lượng phần tử trong danh sách
+     */
+    @Override
+    public int size() {
+        long sum = count.sum();
+        if (sum <= 0) {
+            return 0;
+        }
+        return sum >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    /**
+     * Kiểm tra xem chỉ số có hợp lệ hay không tại thời điểm gọi.
+     *
+     * @param index chỉ số cần kiểm tra
+     * @return true nếu chỉ số hợp lệ
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    @Override
+    public boolean validateIndex(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        return true;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này không chứa phần tử nào.
+     *
+     * @return {@code true} nếu danh sách này trống
+     */
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     * <p>
+     * Phương thức này tương đương với {@link #addLast(Object)}.
+     * </p>
+     *
+     * @param element phần tử cần thêm
+     * @throws NullPointerException nếu phần tử là null
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Chèn một phần tử vào đầu danh sách mà không chặn luồng gọi.
+     *
+     * @param element phần tử cần thêm
+     * @throws NullPointerException nếu phần tử là null
+     */
+    @Override
+    public void addFirst(T element) {
+        requireNonNull(element);
+        deque.addFirst(element);
+        count.increment();
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách mà không chặn luồng gọi.
+     *
+     * @param element phần tử cần thêm
+     * @throws NullPointerException nếu phần tử là null
+     */
+    @Override
+    public void addLast(T element) {
+        requireNonNull(element);
+        deque.addLast(element);
+        count.increment();
+    }
+
+    /**
+     * Lấy phần tử đầu tiên trong danh sách mà không xóa nó.
+     *
+     * @return phần tử đầu tiên trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekFirst() {
+        T element = deque.peekFirst();
+        if (element == null) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return element;
+    }
+
+    /**
+     * Lấy phần tử cuối cùng trong danh sách mà không xóa nó.
+     *
+     * @return phần tử cuối cùng trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekLast() {
+        T element = deque.peekLast();
+        if (element == null) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return element;
+    }
+
+    /**
+     * Xóa và trả về phần tử đầu tiên từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeFirst() {
+        T element = pollFirst();
+        if (element == null) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return element;
+    }
+
+    /**
+     * Xóa và trả về phần tử cuối cùng từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeLast() {
+        T element = pollLast();
+        if (element == null) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return element;
+    }
+
+    /**
+     * Xóa và trả về phần tử đầu tiên, hoặc trả về {@code null} nếu danh sách trống.
+     * <p>
+     * Khác với việc gọi {@link #isEmpty()} rồi {@link #removeFirst()}, phương thức này là
+     * một thao tác nguyên tử nên luồng tiêu thụ không bị ngoại lệ khi luồng khác lấy mất phần tử.
+     * </p>
+     *
+     * @return phần tử đã bị xóa, hoặc {@code null} nếu danh sách trống
+     */
+    public T pollFirst() {
+        T element = deque.pollFirst();
+        if (element != null) {
+            count.decrement();
+        }
+        return element;
+    }
+
+    /**
+     * Xóa và trả về phần tử cuối cùng, hoặc trả về {@code null} nếu danh sách trống.
+     *
+     * @return phần tử đã bị xóa, hoặc {@code null} nếu danh sách trống
+     */
+    public T pollLast() {
+        T element = deque.pollLast();
+        if (element != null) {
+            count.decrement();
+        }
+        return element;
+    }
+
+    /**
+     * Xóa lần xuất hiện đầu tiên của một đối tượng cụ thể khỏi danh sách.
+     *
+     * @param object đối tượng cần xóa
+     * @return {@code true} nếu một phần tử đã bị xóa
+     */
+    @Override
+    public boolean remove(Object object) {
+        if (object != null && deque.removeFirstOccurrence(object)) {
+            count.decrement();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Xóa phần tử tại một chỉ số cụ thể.
+     * <p>
+     * Chỉ số được tính theo thứ tự mà bộ lặp nhìn thấy; nếu danh sách bị rút ngắn đồng thời
+     * trước khi tới được chỉ số đó, phương thức ném ra {@link IndexOutOfBoundsException}.
+     * Phần tử tìm được sau đó được xóa bằng {@link ConcurrentLinkedDeque#removeFirstOccurrence(Object)},
+     * vốn giành node bằng compare-and-set; nếu một luồng khác đã lấy mất phần tử đó, phương thức
+     * tìm lại từ đầu. Vì vậy mỗi phần tử chỉ được trả về cho đúng một luồng. Khi danh sách có các
+     * phần tử bằng nhau, lần xuất hiện đầu tiên của giá trị đó bị xóa.
+     * </p>
+     *
+     * @param index chỉ số của phần tử cần xóa
+     * @return phần tử đã bị xóa tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T removeAt(int index) {
+        while (true) {
+            T element = get(index);
+            if (deque.removeFirstOccurrence(element)) {
+                count.decrement();
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Trả về phần tử tại một chỉ số cụ thể bằng cách duyệt bộ lặp có tính nhất quán yếu.
+     * <p>
+     * Danh sách không triển khai {@link IPositionalDoublyLinkedList}: {@link ConcurrentLinkedDeque}
+     * không cho phép thay thế hoặc chèn nguyên tử tại một vị trí giữa danh sách, nên chỉ có thao
+     * tác đọc theo chỉ số. Khi có thay đổi đồng thời, kết quả chỉ nhất quán yếu như bộ lặp.
+     * </p>
+     *
+     * @param index chỉ số của phần tử
+     * @return phần tử tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    public T get(int index) {
+        validateIndex(index);
+        int i = 0;
+        for (T element : deque) {
+            if (i++ == index) {
+                return element;
+            }
+        }
+        throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size());
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của đối tượng đã chỉ định.
+     *
+     * @param object đối tượng cần tìm
+     * @return chỉ số của lần xuất hiện đầu tiên, hoặc -1 nếu không tìm thấy
+     */
+    @Override
+    public int indexOf(Object object) {
+        if (object == null) {
+            return -1;
+        }
+        int index = 0;
+        for (T element : deque) {
+            if (object.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này chứa phần tử đã chỉ định.
+     *
+     * @param object phần tử cần kiểm tra
+     * @return {@code true} nếu danh sách chứa phần tử
+     */
+    @Override
+    public boolean contains(Object object) {
+        return object != null && deque.contains(object);
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của danh sách tại một thời điểm không xác định trong lúc gọi.
+     *
+     * @return biểu diễn chuỗi của danh sách
+     */
+    @Override
+    public String toString() {
+        return deque.toString();
+    }
+
+    /**
+     * Trả về một iterator có tính nhất quán yếu trên các phần tử trong danh sách này.
+     * <p>
+     * Iterator không hỗ trợ thao tác {@code remove}.
+     * </p>
+     *
+     * @return một iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<T> iterator = deque.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Trả về Spliterator có tính nhất quán yếu của deque bên dưới.
+     * <p>
+     * Vì kích thước có thể thay đổi trong lúc duyệt, Spliterator này không có đặc tính
+     * {@link Spliterator#SIZED} mà có {@link Spliterator#CONCURRENT} và {@link Spliterator#NONNULL}.
+     * </p>
+     *
+     * @return một Spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return deque.spliterator();
+    }
+
+    /**
+     * Kiểm tra phần tử không phải là null.
+     *
+     * @param element phần tử cần kiểm tra
+     * @throws NullPointerException nếu phần tử là null
+     */
+    private static void requireNonNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException("Concurrent linked list does not permit null elements!");
+        }
+    }
+}
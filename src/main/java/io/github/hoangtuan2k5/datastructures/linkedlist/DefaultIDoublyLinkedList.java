@@ -1,10 +1,18 @@
 package io.github.hoangtuan2k5.datastructures.linkedlist;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
+import io.github.hoangtuan2k5.datastructures.codec.BinaryReader;
+import io.github.hoangtuan2k5.datastructures.codec.BinaryWriter;
+import io.github.hoangtuan2k5.datastructures.codec.ElementCodec;
+import io.github.hoangtuan2k5.datastructures.codec.Format;
+
 /**
- * Triển khai mặc định của giao diện {@link IDoublyLinkedList}.
+ * Triển khai mặc định của giao diện {@link IPositionalDoublyLinkedList}.
  * <p>
  * Lớp này cung cấp một triển khai danh sách liên kết đôi cơ bản, hỗ trợ các thao tác
  * như thêm, xóa, và truy cập phần tử. Nó sử dụng các node {@link Node} để lưu trữ
@@ -14,14 +22,24 @@ import java.util.NoSuchElementException;
  * Các thao tác thêm/xóa ở đầu hoặc cuối danh sách có độ phức tạp thời gian O(1),
  * trong khi các thao tác dựa trên chỉ số hoặc tìm kiếm có độ phức tạp O(n).
  * </p>
+ * <p>
+ * Các thao tác theo chỉ số ({@link #get(int)}, {@link #set(int, Object)},
+ * {@link #insertAt(int, Object)}, {@link #removeAt(int)}) bắt đầu duyệt từ điểm gần nhất trong
+ * ba điểm: đầu danh sách, cuối danh sách, hoặc "ngón tay" (finger) — node được truy cập theo
+ * chỉ số gần nhất. Nhờ vậy việc truy cập tuần tự hoặc lân cận như {@code get(i)}, {@code get(i + 1)}
+ * có chi phí khấu hao O(1). Để chèn/xóa nhiều phần tử tại chỗ, hãy dùng {@link #listIterator()}.
+ * </p>
  *
  * @author Hoàng Chiều Nguyễn Tuấn
  * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong danh sách
  */
-public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
+public class DefaultIDoublyLinkedList<T> implements IPositionalDoublyLinkedList<T> {
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private Node<T> finger;
+    private int fingerIndex;
+    private int modCount;
 
     /**
      * Khởi tạo một danh sách liên kết đôi rỗng.
@@ -51,6 +69,8 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
         head = null;
         tail = null;
         size = 0;
+        finger = null;
+        modCount++;
     }
 
     /**
@@ -116,6 +136,8 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
             head = newNode;
         }
         size++;
+        modCount++;
+        fingerIndex++;
     }
 
     /**
@@ -133,6 +155,7 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -175,8 +198,13 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
             throw new NoSuchElementException("Linked list is empty!");
         }
         T data = head.getData();
+        if (finger == head) {
+            finger = null;
+        }
+        fingerIndex--;
         head = head.getNext();
         size--;
+        modCount++;
         if (isEmpty()) {
             tail = null;
         } else {
@@ -197,8 +225,12 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
             throw new NoSuchElementException("Linked list is empty!");
         }
         T data = tail.getData();
+        if (finger == tail) {
+            finger = null;
+        }
         tail = tail.getPrev();
         size--;
+        modCount++;
         if (isEmpty()) {
             head = null;
         } else {
@@ -211,10 +243,11 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
      * Xóa một node cụ thể khỏi danh sách.
      *
      * @param node node cần xóa
+     * @param index chỉ số hiện tại của node, dùng để cập nhật finger
      * @return dữ liệu của node đã bị xóa
      * @throws NullPointerException nếu node là null
      */
-    private T remove(Node<T> node) {
+    private T remove(Node<T> node, int index) {
         if (node == null) {
             throw new NullPointerException("Node cannot be null!");
         }
@@ -227,9 +260,15 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
         }
 
         T data = node.getData();
+        if (finger == node) {
+            finger = null;
+        } else if (fingerIndex > index) {
+            fingerIndex--;
+        }
         node.getPrev().setNext(node.getNext());
         node.getNext().setPrev(node.getPrev());
         size--;
+        modCount++;
 
         // Giải phóng bộ nhớ
         node.setData(null);
@@ -248,9 +287,9 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
     @Override
     public boolean remove(Object object) {
         Node<T> currentNode = head;
-        while (currentNode != null) {
+        for (int i = 0; currentNode != null; i++) {
             if (java.util.Objects.equals(object, currentNode.getData())) {
-                remove(currentNode);
+                remove(currentNode, i);
                 return true;
             }
             currentNode = currentNode.getNext();
@@ -260,6 +299,9 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
 
     /**
      * Xóa phần tử tại một chỉ số cụ thể.
+     * <p>
+     * Việc duyệt bắt đầu từ đầu, cuối danh sách hoặc finger, tùy theo điểm nào gần chỉ số hơn.
+     * </p>
      *
      * @param index chỉ số của phần tử cần xóa
      * @return phần tử đã bị xóa tại vị trí đó
@@ -268,11 +310,117 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
     @Override
     public T removeAt(int index) {
         validateIndex(index);
-        Node<T> currentNode = head;
-        for (int i = 0; i < index; i++) {
+        return remove(node(index), index);
+    }
+
+    /**
+     * Trả về phần tử tại một chỉ số cụ thể.
+     * <p>
+     * Truy cập tuần tự hoặc lân cận có chi phí khấu hao O(1) nhờ finger.
+     * </p>
+     *
+     * @param index chỉ số của phần tử
+     * @return phần tử tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return node(index).getData();
+    }
+
+    /**
+     * Thay thế phần tử tại một chỉ số cụ thể.
+     *
+     * @param index chỉ số của phần tử
+     * @param element phần tử mới
+     * @return phần tử cũ tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T set(int index, T element) {
+        validateIndex(index);
+        Node<T> target = node(index);
+        T old = target.getData();
+        target.setData(element);
+        return old;
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định; các phần tử từ vị trí đó trở đi dịch sang phải một vị trí.
+     *
+     * @param index vị trí chèn, trong phạm vi [0, size]
+     * @param element phần tử cần chèn
+     * @throws IndexOutOfBoundsException nếu vị trí nằm ngoài phạm vi [0, size]
+     */
+    @Override
+    public void insertAt(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addLast(element);
+        } else if (index == 0) {
+            addFirst(element);
+        } else {
+            linkBefore(element, node(index), index);
+        }
+    }
+
+    /**
+     * Trả về node tại chỉ số đã cho và ghi nhớ nó làm finger.
+     * <p>
+     * Điểm bắt đầu là đầu danh sách, cuối danh sách hoặc finger hiện tại, tùy theo điểm nào
+     * gần chỉ số hơn.
+     * </p>
+     *
+     * @param index chỉ số đã được xác thực
+     * @return node tại chỉ số đó
+     */
+    private Node<T> node(int index) {
+        Node<T> currentNode;
+        int position;
+        if (index < size / 2) {
+            currentNode = head;
+            position = 0;
+        } else {
+            currentNode = tail;
+            position = size - 1;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - position)) {
+            currentNode = finger;
+            position = fingerIndex;
+        }
+        while (position < index) {
             currentNode = currentNode.getNext();
+            position++;
+        }
+        while (position > index) {
+            currentNode = currentNode.getPrev();
+            position--;
+        }
+        finger = currentNode;
+        fingerIndex = index;
+        return currentNode;
+    }
+
+    /**
+     * Chèn một phần tử ngay trước một node nằm giữa danh sách.
+     *
+     * @param element phần tử cần chèn
+     * @param successor node sẽ đứng sau phần tử mới; không phải {@code head}
+     * @param index chỉ số hiện tại của {@code successor}
+     */
+    private void linkBefore(T element, Node<T> successor, int index) {
+        Node<T> before = successor.getPrev();
+        Node<T> newNode = new Node<>(element, before, successor);
+        before.setNext(newNode);
+        successor.setPrev(newNode);
+        if (fingerIndex >= index) {
+            fingerIndex++;
         }
-        return remove(currentNode);
+        size++;
+        modCount++;
     }
 
     /**
@@ -304,6 +452,278 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
         return indexOf(object) != -1;
     }
 
+    /**
+     * Sắp xếp danh sách theo thứ tự tự nhiên của các phần tử.
+     *
+     * @throws ClassCastException nếu các phần tử không triển khai {@link Comparable}
+     * @see #sort(Comparator)
+     */
+    public void sort() {
+        sort(naturalOrder());
+    }
+
+    /**
+     * Sắp xếp danh sách theo bộ so sánh đã cho bằng merge sort từ dưới lên (bottom-up), ổn định.
+     * <p>
+     * Thuật toán chỉ nối lại các con trỏ {@code next}/{@code prev} của những node sẵn có: không cấp
+     * phát node hay mảng phụ nào, bộ nhớ phụ là O(1) và thời gian là O(n log n). Các node được lấy
+     * lần lượt từ đầu danh sách và đẩy vào một ngăn xếp các đoạn đã sắp xếp (liên kết qua con trỏ
+     * {@code prev} của node đầu mỗi đoạn); mỗi khi có hai đoạn cùng kích thước, chúng được trộn ngay,
+     * giống một bộ đếm nhị phân. Nhờ trộn theo chiều sâu như vậy, dữ liệu vừa được chạm tới vẫn còn
+     * trong cache, thay vì duyệt toàn bộ danh sách ở mỗi lượt. Khi hai phần tử bằng nhau, phần tử đứng
+     * trước được giữ ở trước. Các con trỏ {@code prev} và {@code tail} được dựng lại ở lượt cuối.
+     * </p>
+     * <p>
+     * Nếu bộ so sánh ném ngoại lệ, danh sách vẫn giữ đủ mọi phần tử và liên kết hợp lệ, nhưng thứ tự
+     * chỉ được sắp xếp một phần.
+     * </p>
+     *
+     * @param comparator Bộ so sánh xác định thứ tự
+     * @throws NullPointerException nếu bộ so sánh là null
+     */
+    public void sort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("Comparator cannot be null!");
+        }
+        if (size < 2) {
+            return;
+        }
+        finger = null;
+        modCount++;
+
+        Node<T> pending = null;
+        Node<T> list = head;
+        try {
+            for (int count = 0; list != null; count++) {
+                // Số bit 1 liên tiếp ở cuối count cho biết cần bỏ qua bao nhiêu đoạn trên ngăn xếp trước khi trộn
+                Node<T> above = null;
+                Node<T> run = pending;
+                int bits = count;
+                for (; (bits & 1) != 0; bits >>>= 1) {
+                    above = run;
+                    run = run.getPrev();
+                }
+                if (bits != 0) {
+                    Node<T> older = run.getPrev();
+                    Node<T> below = older.getPrev();
+                    if (above == null) {
+                        pending = below;
+                    } else {
+                        above.setPrev(below);
+                    }
+                    Node<T> merged = merge(older, run, comparator);
+                    merged.setPrev(below);
+                    if (above == null) {
+                        pending = merged;
+                    } else {
+                        above.setPrev(merged);
+                    }
+                }
+                Node<T> next = list.getNext();
+                list.setPrev(pending);
+                list.setNext(null);
+                pending = list;
+                list = next;
+            }
+
+            Node<T> merged = pending;
+            pending = merged.getPrev();
+            while (pending != null) {
+                Node<T> older = pending;
+                pending = older.getPrev();
+                merged = merge(older, merged, comparator);
+            }
+            head = merged;
+        } catch (RuntimeException | Error e) {
+            // merge đã đặt phần đang trộn dở vào head; nối thêm các đoạn còn trên ngăn xếp và phần chưa xử lý
+            while (pending != null) {
+                Node<T> below = pending.getPrev();
+                head = concat(head, pending);
+                pending = below;
+            }
+            head = concat(head, list);
+            relinkBackward();
+            throw e;
+        }
+        relinkBackward();
+    }
+
+    /**
+     * Trộn một danh sách đã sắp xếp khác vào danh sách đã sắp xếp này theo thứ tự tự nhiên.
+     *
+     * @param other Danh sách cần trộn vào; sẽ trở nên rỗng
+     * @throws ClassCastException nếu các phần tử không triển khai {@link Comparable}
+     * @see #mergeSorted(DefaultIDoublyLinkedList, Comparator)
+     */
+    public void mergeSorted(DefaultIDoublyLinkedList<T> other) {
+        mergeSorted(other, naturalOrder());
+    }
+
+    /**
+     * Trộn một danh sách khác vào danh sách này, giả định cả hai đều đã được sắp xếp theo bộ so sánh.
+     * <p>
+     * Các node của {@code other} được chuyển sang danh sách này bằng cách nối lại con trỏ, không cấp
+     * phát gì thêm, với thời gian O(n + m). Khi hai phần tử bằng nhau, phần tử của danh sách này đứng
+     * trước. Sau lời gọi, {@code other} trở nên rỗng. Nếu một trong hai danh sách chưa được sắp xếp,
+     * mọi phần tử vẫn được chuyển sang nhưng thứ tự kết quả không được xác định.
+     * </p>
+     *
+     * @param other Danh sách đã sắp xếp cần trộn vào; sẽ trở nên rỗng
+     * @param comparator Bộ so sánh mà cả hai danh sách đã được sắp xếp theo
+     * @throws NullPointerException nếu danh sách hoặc bộ so sánh là null
+     * @throws IllegalArgumentException nếu {@code other} chính là danh sách này
+     */
+    public void mergeSorted(DefaultIDoublyLinkedList<T> other, Comparator<? super T> comparator) {
+        if (other == null || comparator == null) {
+            throw new NullPointerException("List and comparator cannot be null!");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge a list into itself!");
+        }
+        if (other.size == 0) {
+            return;
+        }
+
+        Node<T> otherHead = other.head;
+        size += other.size;
+        finger = null;
+        modCount++;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        other.finger = null;
+        other.modCount++;
+        try {
+            head = merge(head, otherHead, comparator);
+        } finally {
+            relinkBackward();
+        }
+    }
+
+    /**
+     * Trộn ổn định hai chuỗi node đã sắp xếp (nối qua {@code next}, kết thúc bằng null), chỉ sửa con
+     * trỏ {@code next}. Khi bằng nhau, node của {@code left} đứng trước.
+     * <p>
+     * Nếu bộ so sánh ném ngoại lệ, phần đã trộn, phần còn lại của {@code left} và của {@code right}
+     * được nối thành một chuỗi đặt vào {@code head} trước khi ngoại lệ được ném tiếp.
+     * </p>
+     *
+     * @param left Chuỗi đứng trước, có thể là null
+     * @param right Chuỗi đứng sau, có thể là null
+     * @param comparator Bộ so sánh
+     * @return Node đầu của chuỗi đã trộn
+     */
+    private Node<T> merge(Node<T> left, Node<T> right, Comparator<? super T> comparator) {
+        Node<T> first = null;
+        Node<T> last = null;
+        try {
+            while (left != null && right != null) {
+                Node<T> next;
+                if (comparator.compare(right.getData(), left.getData()) >= 0) {
+                    next = left;
+                    left = left.getNext();
+                } else {
+                    next = right;
+                    right = right.getNext();
+                }
+                if (last == null) {
+                    first = next;
+                } else {
+                    last.setNext(next);
+                }
+                last = next;
+            }
+        } catch (RuntimeException | Error e) {
+            if (last != null) {
+                last.setNext(null);
+            }
+            head = concat(concat(first, left), right);
+            throw e;
+        }
+        Node<T> rest = left != null ? left : right;
+        if (last == null) {
+            return rest;
+        }
+        last.setNext(rest);
+        return first;
+    }
+
+    /**
+     * Nối chuỗi {@code second} vào cuối chuỗi {@code first}.
+     *
+     * @return Node đầu của chuỗi kết quả
+     */
+    private static <T> Node<T> concat(Node<T> first, Node<T> second) {
+        if (first == null) {
+            return second;
+        }
+        Node<T> last = first;
+        while (last.getNext() != null) {
+            last = last.getNext();
+        }
+        last.setNext(second);
+        return first;
+    }
+
+    /**
+     * Dựng lại các con trỏ {@code prev} và {@code tail} theo chuỗi {@code next} bắt đầu từ {@code head}.
+     */
+    private void relinkBackward() {
+        Node<T> previous = null;
+        for (Node<T> node = head; node != null; node = node.getNext()) {
+            node.setPrev(previous);
+            previous = node;
+        }
+        tail = previous;
+    }
+
+    /**
+     * Trả về bộ so sánh theo thứ tự tự nhiên, ép kiểu khi so sánh.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<T> naturalOrder() {
+        return (a, b) -> ((Comparable<? super T>) a).compareTo(b);
+    }
+
+    /**
+     * Ghi danh sách này vào bộ ghi đã cho dưới dạng một khung {@link Format#OBJECTS}.
+     * <p>
+     * Các node được duyệt và mã hóa lần lượt, không tạo bản sao trung gian.
+     * </p>
+     *
+     * @param out Bộ ghi đích
+     * @param codec Codec của phần tử
+     * @throws NullPointerException Nếu bộ ghi hoặc codec là null
+     */
+    public void writeTo(BinaryWriter out, ElementCodec<? super T> codec) {
+        if (out == null || codec == null) {
+            throw new NullPointerException("Writer and codec cannot be null!");
+        }
+        out.writeHeader(Format.OBJECTS, size);
+        for (Node<T> node = head; node != null; node = node.getNext()) {
+            codec.write(out, node.getData());
+        }
+    }
+
+    /**
+     * Đọc một danh sách từ một khung {@link Format#OBJECTS}, nối từng phần tử vào cuối ngay khi giải mã xong.
+     *
+     * @param in Bộ đọc nguồn
+     * @param codec Codec của phần tử
+     * @param <T> Kiểu dữ liệu của các phần tử
+     * @return Một danh sách mới chứa các phần tử đã đọc
+     * @throws NullPointerException Nếu bộ đọc hoặc codec là null
+     * @throws IllegalArgumentException Nếu dữ liệu không phải một khung {@link Format#OBJECTS} hợp lệ
+     */
+    public static <T> DefaultIDoublyLinkedList<T> readFrom(BinaryReader in, ElementCodec<? extends T> codec) {
+        if (in == null || codec == null) {
+            throw new NullPointerException("Reader and codec cannot be null!");
+        }
+        DefaultIDoublyLinkedList<T> result = new DefaultIDoublyLinkedList<>();
+        in.readEach(codec, result::addLast);
+        return result;
+    }
+
     /**
      * Trả về một biểu diễn chuỗi của danh sách.
      *
@@ -354,4 +774,141 @@ public class DefaultIDoublyLinkedList<T> implements IDoublyLinkedList<T> {
             }
         };
     }
+
+    /**
+     * Trả về một {@link ListIterator} bắt đầu từ đầu danh sách.
+     *
+     * @return một list iterator
+     * @see #listIterator(int)
+     */
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Trả về một {@link ListIterator} bắt đầu tại vị trí chỉ định.
+     * <p>
+     * Con trỏ giữ tham chiếu tới node hiện tại, nên {@code add}, {@code remove} và {@code set}
+     * đều có độ phức tạp O(1). Con trỏ có tính fail-fast: nếu danh sách bị thay đổi cấu trúc
+     * bằng cách khác ngoài chính con trỏ, nó ném ra {@link ConcurrentModificationException}.
+     * </p>
+     *
+     * @param index vị trí của phần tử đầu tiên được trả về bởi {@code next()}, trong phạm vi [0, size]
+     * @return một list iterator
+     * @throws IndexOutOfBoundsException nếu vị trí nằm ngoài phạm vi [0, size]
+     */
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        return new Cursor(index);
+    }
+
+    /**
+     * Con trỏ hai chiều trên danh sách, nằm giữa hai phần tử liền kề.
+     */
+    private final class Cursor implements ListIterator<T> {
+        private Node<T> next;
+        private int nextIndex;
+        private Node<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        Cursor(int index) {
+            this.next = index == size ? null : node(index);
+            this.nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = next == null ? tail : next.getPrev();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to remove!");
+            }
+            Node<T> following = lastReturned.getNext();
+            if (lastReturned == next) {
+                // Phần tử vừa được trả về bởi previous()
+                DefaultIDoublyLinkedList.this.remove(lastReturned, nextIndex);
+                next = following;
+            } else {
+                DefaultIDoublyLinkedList.this.remove(lastReturned, nextIndex - 1);
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to set!");
+            }
+            lastReturned.setData(element);
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            lastReturned = null;
+            if (next == null) {
+                addLast(element);
+            } else if (next == head) {
+                addFirst(element);
+            } else {
+                linkBefore(element, next, nextIndex);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package io.github.hoangtuan2k5.datastructures.linkedlist;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Interface cho triển khai danh sách liên kết đôi (Doubly Linked List).
  * <p>
@@ -59,4 +64,29 @@ public interface IDoublyLinkedList<T> extends Iterable<T> {
 
     // O(n)
     boolean contains(Object object);
+
+    /**
+     * Trả về một Spliterator có kích thước ({@link Spliterator#SIZED}) và có thứ tự
+     * ({@link Spliterator#ORDERED}) trên các phần tử của danh sách.
+     * <p>
+     * Danh sách liên kết không thể chia theo chỉ số trong O(1), nên mỗi lần chia sẽ sao chép
+     * một lô phần tử từ iterator vào một mảng; các lô mảng này lại chia được trong O(1).
+     * </p>
+     *
+     * @return Một Spliterator cho danh sách này
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    // O(1)
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // O(1)
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
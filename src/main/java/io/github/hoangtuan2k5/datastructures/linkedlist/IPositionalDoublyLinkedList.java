@@ -0,0 +1,23 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+/**
+ * Interface cho danh sách liên kết đôi hỗ trợ truy cập, thay thế và chèn theo chỉ số.
+ * <p>
+ * Chỉ những triển khai có thể thực hiện các thao tác này một cách nhất quán mới kế thừa giao diện
+ * này. Một danh sách đồng thời như {@link ConcurrentIDoublyLinkedList} không thay thế hoặc chèn
+ * nguyên tử được ở giữa danh sách, nên chỉ triển khai {@link IDoublyLinkedList}.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử trong danh sách liên kết
+ */
+public interface IPositionalDoublyLinkedList<T> extends IDoublyLinkedList<T> {
+    // O(n), duyệt từ đầu gần chỉ số hơn
+    T get(int index);
+
+    // O(n), duyệt từ đầu gần chỉ số hơn
+    T set(int index, T element);
+
+    // O(n), duyệt từ đầu gần chỉ số hơn
+    void insertAt(int index, T element);
+}
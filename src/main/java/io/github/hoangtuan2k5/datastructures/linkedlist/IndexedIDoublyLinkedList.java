@@ -0,0 +1,533 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Triển khai giao diện {@link IPositionalDoublyLinkedList} có chỉ mục băm từ phần tử đến node.
+ * <p>
+ * Bên cạnh các liên kết trước/sau như {@link DefaultIDoublyLinkedList}, lớp này duy trì một
+ * {@link HashMap} ánh xạ mỗi phần tử đến {@link Node} chứa nó. Nhờ vậy {@link #contains(Object)},
+ * {@link #remove(Object)}, {@link #moveToFront(Object)} và {@link #moveToBack(Object)} chạy trong
+ * O(1) trung bình thay vì phải duyệt danh sách. Danh sách phù hợp để làm một tập làm việc có
+ * thứ tự (ví dụ hàng đợi LRU), nơi việc kiểm tra thành viên diễn ra thường xuyên.
+ * </p>
+ * <p>
+ * Vì chỉ mục ánh xạ mỗi phần tử đến đúng một node, các phần tử trong danh sách là duy nhất
+ * (theo {@link Object#equals(Object)}); thêm một phần tử đã có sẽ ném ngoại lệ. Phần tử
+ * {@code null} được chấp nhận. Giá trị {@code hashCode} của một phần tử không được thay đổi
+ * trong khi phần tử nằm trong danh sách.
+ * </p>
+ * <p>
+ * {@link #indexOf(Object)} và {@link #removeAt(int)} vẫn là O(n) vì chỉ số của một node chỉ có
+ * thể biết được bằng cách duyệt; tuy nhiên {@code indexOf} trả về -1 ngay lập tức cho phần tử
+ * không có trong danh sách.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong danh sách
+ */
+public class IndexedIDoublyLinkedList<T> implements IPositionalDoublyLinkedList<T> {
+    private final Map<Object, Node<T>> index;
+    private Node<T> head;
+    private Node<T> tail;
+
+    /**
+     * Khởi tạo một danh sách rỗng.
+     */
+    public IndexedIDoublyLinkedList() {
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Khởi tạo một danh sách rỗng với chỉ mục đủ chỗ cho số phần tử dự kiến mà không phải băm lại.
+     *
+     * @param expectedSize số phần tử dự kiến
+     * @throws IllegalArgumentException nếu số phần tử dự kiến là số âm
+     */
+    public IndexedIDoublyLinkedList(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative. Expected size: " + expectedSize);
+        }
+        this.index = new HashMap<>((int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / 0.75) + 1));
+    }
+
+    /**
+     * Xóa tất cả các phần tử khỏi danh sách này.
+     * <p>
+     * Danh sách sẽ trống sau khi gọi phương thức này.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        Node<T> currentNode = head;
+        while (currentNode != null) {
+            Node<T> nextNode = currentNode.getNext();
+            currentNode.setData(null);
+            currentNode.setNext(null);
+            currentNode.setPrev(null);
+            currentNode = nextNode;
+        }
+        head = null;
+        tail = null;
+        index.clear();
+    }
+
+    /**
+     * Trả về số lượng phần tử trong danh sách này.
+     *
+     * @return số lượng phần tử trong danh sách
+     */
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Kiểm tra xem chỉ số có hợp lệ hay không.
+     *
+     * @param index chỉ số cần kiểm tra
+     * @return true nếu chỉ số hợp lệ
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    @Override
+    public boolean validateIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size());
+        }
+        return true;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này không chứa phần tử nào.
+     *
+     * @return {@code true} nếu danh sách này trống
+     */
+    @Override
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     * <p>
+     * Phương thức này tương đương với {@link #addLast(Object)}.
+     * </p>
+     *
+     * @param element phần tử cần thêm
+     * @throws IllegalArgumentException nếu phần tử đã có trong danh sách
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Chèn một phần tử vào đầu danh sách.
+     *
+     * @param element phần tử cần thêm
+     * @throws IllegalArgumentException nếu phần tử đã có trong danh sách
+     */
+    @Override
+    public void addFirst(T element) {
+        linkFirst(register(element));
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     *
+     * @param element phần tử cần thêm
+     * @throws IllegalArgumentException nếu phần tử đã có trong danh sách
+     */
+    @Override
+    public void addLast(T element) {
+        linkLast(register(element));
+    }
+
+    /**
+     * Lấy phần tử đầu tiên trong danh sách mà không xóa nó.
+     *
+     * @return phần tử đầu tiên trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return head.getData();
+    }
+
+    /**
+     * Lấy phần tử cuối cùng trong danh sách mà không xóa nó.
+     *
+     * @return phần tử cuối cùng trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return tail.getData();
+    }
+
+    /**
+     * Xóa và trả về phần tử đầu tiên từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return remove(head);
+    }
+
+    /**
+     * Xóa và trả về phần tử cuối cùng từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return remove(tail);
+    }
+
+    /**
+     * Xóa phần tử đã chỉ định khỏi danh sách trong O(1) trung bình.
+     *
+     * @param object đối tượng cần xóa
+     * @return {@code true} nếu một phần tử đã bị xóa
+     */
+    @Override
+    public boolean remove(Object object) {
+        Node<T> node = index.get(object);
+        if (node == null) {
+            return false;
+        }
+        remove(node);
+        return true;
+    }
+
+    /**
+     * Xóa phần tử tại một chỉ số cụ thể, duyệt từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử cần xóa
+     * @return phần tử đã bị xóa tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T removeAt(int index) {
+        validateIndex(index);
+        return remove(nodeAt(index));
+    }
+
+    /**
+     * Trả về phần tử tại một chỉ số cụ thể, duyệt từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử
+     * @return phần tử tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return nodeAt(index).getData();
+    }
+
+    /**
+     * Thay thế phần tử tại một chỉ số cụ thể, duyệt từ đầu gần chỉ số hơn.
+     * <p>
+     * Chỉ mục được cập nhật để trỏ phần tử mới tới node của nó. Thay một phần tử bằng chính nó
+     * luôn hợp lệ; các phần tử khác vẫn phải là duy nhất.
+     * </p>
+     *
+     * @param index chỉ số của phần tử
+     * @param element phần tử mới
+     * @return phần tử cũ tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     * @throws IllegalArgumentException nếu phần tử mới đã có ở một vị trí khác trong danh sách
+     */
+    @Override
+    public T set(int index, T element) {
+        validateIndex(index);
+        Node<T> node = nodeAt(index);
+        T old = node.getData();
+        Node<T> existing = this.index.get(element);
+        if (existing != null && existing != node) {
+            throw new IllegalArgumentException("Element already exists in the list: " + element);
+        }
+        this.index.remove(old);
+        node.setData(element);
+        this.index.put(element, node);
+        return old;
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định; các phần tử từ vị trí đó trở đi dịch sang phải một vị trí.
+     *
+     * @param index vị trí chèn, trong phạm vi [0, size]
+     * @param element phần tử cần chèn
+     * @throws IndexOutOfBoundsException nếu vị trí nằm ngoài phạm vi [0, size]
+     * @throws IllegalArgumentException nếu phần tử đã có trong danh sách
+     */
+    @Override
+    public void insertAt(int index, T element) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addLast(element);
+            return;
+        }
+        Node<T> successor = nodeAt(index);
+        Node<T> node = register(element);
+        Node<T> before = successor.getPrev();
+        node.setPrev(before);
+        node.setNext(successor);
+        if (before == null) {
+            head = node;
+        } else {
+            before.setNext(node);
+        }
+        successor.setPrev(node);
+    }
+
+    /**
+     * Trả về chỉ số của phần tử đã chỉ định.
+     * <p>
+     * Trả về -1 trong O(1) nếu phần tử không có trong danh sách; nếu có, danh sách được duyệt
+     * từ đầu cho đến node của phần tử đó.
+     * </p>
+     *
+     * @param object đối tượng cần tìm
+     * @return chỉ số của phần tử, hoặc -1 nếu không tìm thấy
+     */
+    @Override
+    public int indexOf(Object object) {
+        Node<T> target = index.get(object);
+        if (target == null) {
+            return -1;
+        }
+        int i = 0;
+        for (Node<T> currentNode = head; currentNode != target; currentNode = currentNode.getNext()) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này chứa phần tử đã chỉ định, trong O(1) trung bình.
+     *
+     * @param object phần tử cần kiểm tra
+     * @return {@code true} nếu danh sách chứa phần tử
+     */
+    @Override
+    public boolean contains(Object object) {
+        return index.containsKey(object);
+    }
+
+    /**
+     * Di chuyển phần tử đã chỉ định lên đầu danh sách trong O(1) trung bình.
+     *
+     * @param element phần tử cần di chuyển
+     * @return {@code true} nếu phần tử có trong danh sách, {@code false} nếu không
+     */
+    public boolean moveToFront(T element) {
+        Node<T> node = index.get(element);
+        if (node == null) {
+            return false;
+        }
+        if (node != head) {
+            unlink(node);
+            linkFirst(node);
+        }
+        return true;
+    }
+
+    /**
+     * Di chuyển phần tử đã chỉ định xuống cuối danh sách trong O(1) trung bình.
+     *
+     * @param element phần tử cần di chuyển
+     * @return {@code true} nếu phần tử có trong danh sách, {@code false} nếu không
+     */
+    public boolean moveToBack(T element) {
+        Node<T> node = index.get(element);
+        if (node == null) {
+            return false;
+        }
+        if (node != tail) {
+            unlink(node);
+            linkLast(node);
+        }
+        return true;
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của danh sách.
+     *
+     * @return biểu diễn chuỗi của danh sách
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        Node<T> current = head;
+        while (current != null) {
+            sb.append(current.getData());
+            if (current.getNext() != null) {
+                sb.append(", ");
+            }
+            current = current.getNext();
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một iterator trên các phần tử trong danh sách này theo đúng thứ tự.
+     *
+     * @return một iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.getData();
+                current = current.getNext();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Trả về node tại chỉ số đã cho, duyệt từ đầu hoặc cuối danh sách tùy theo đầu nào gần hơn.
+     *
+     * @param index chỉ số đã được xác thực
+     * @return node tại chỉ số đó
+     */
+    private Node<T> nodeAt(int index) {
+        int size = size();
+        Node<T> currentNode;
+        if (index < size / 2) {
+            currentNode = head;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.getNext();
+            }
+        } else {
+            currentNode = tail;
+            for (int i = size - 1; i > index; i--) {
+                currentNode = currentNode.getPrev();
+            }
+        }
+        return currentNode;
+    }
+
+    /**
+     * Tạo node cho một phần tử mới và đưa nó vào chỉ mục.
+     *
+     * @param element phần tử cần thêm
+     * @return node chưa được liên kết của phần tử
+     * @throws IllegalArgumentException nếu phần tử đã có trong danh sách
+     */
+    private Node<T> register(T element) {
+        if (index.containsKey(element)) {
+            throw new IllegalArgumentException("Element already exists in the list: " + element);
+        }
+        Node<T> node = new Node<>(element, null, null);
+        index.put(element, node);
+        return node;
+    }
+
+    /**
+     * Liên kết một node chưa được liên kết vào đầu danh sách.
+     *
+     * @param node node cần liên kết
+     */
+    private void linkFirst(Node<T> node) {
+        node.setPrev(null);
+        node.setNext(head);
+        if (head == null) {
+            tail = node;
+        } else {
+            head.setPrev(node);
+        }
+        head = node;
+    }
+
+    /**
+     * Liên kết một node chưa được liên kết vào cuối danh sách.
+     *
+     * @param node node cần liên kết
+     */
+    private void linkLast(Node<T> node) {
+        node.setNext(null);
+        node.setPrev(tail);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.setNext(node);
+        }
+        tail = node;
+    }
+
+    /**
+     * Tách một node khỏi các liên kết của danh sách mà không thay đổi chỉ mục.
+     *
+     * @param node node cần tách
+     */
+    private void unlink(Node<T> node) {
+        Node<T> prevNode = node.getPrev();
+        Node<T> nextNode = node.getNext();
+        if (prevNode == null) {
+            head = nextNode;
+        } else {
+            prevNode.setNext(nextNode);
+        }
+        if (nextNode == null) {
+            tail = prevNode;
+        } else {
+            nextNode.setPrev(prevNode);
+        }
+        node.setPrev(null);
+        node.setNext(null);
+    }
+
+    /**
+     * Xóa một node khỏi danh sách và khỏi chỉ mục.
+     *
+     * @param node node cần xóa
+     * @return dữ liệu của node đã bị xóa
+     */
+    private T remove(Node<T> node) {
+        T data = node.getData();
+        unlink(node);
+        index.remove(data);
+        node.setData(null);
+        return data;
+    }
+}
@@ -0,0 +1,627 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Triển khai danh sách liên kết đôi "trải phẳng" (unrolled) của giao diện {@link IPositionalDoublyLinkedList}.
+ * <p>
+ * Mỗi node là một khối chứa một mảng nhỏ gồm tối đa {@code blockCapacity} phần tử liền kề,
+ * thay vì chỉ một phần tử như {@link DefaultIDoublyLinkedList}. Nhờ vậy chi phí bộ nhớ cho
+ * con trỏ và header đối tượng được chia cho cả khối, và việc duyệt, {@link #indexOf(Object)}
+ * hay {@link #contains(Object)} chủ yếu đọc các mảng liền kề thay vì nhảy theo con trỏ qua heap.
+ * </p>
+ * <p>
+ * Khi chèn vào một khối đã đầy, khối được tách làm đôi; khi một khối còn ít hơn một nửa
+ * dung lượng sau khi xóa, nó được gộp với khối kề bên nếu tổng số phần tử vừa một khối.
+ * Chèn và xóa ở giữa chỉ dịch chuyển các phần tử trong một khối, tức O(blockCapacity) sau khi
+ * đã tìm được khối.
+ * </p>
+ * <p>
+ * Các thao tác ở hai đầu có độ phức tạp O(1) khấu hao ở cuối danh sách và O(blockCapacity)
+ * ở đầu danh sách; các thao tác theo chỉ số duyệt các khối từ đầu gần chỉ số hơn, tức
+ * O(n / blockCapacity) bước nhảy.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong danh sách
+ */
+public class UnrolledIDoublyLinkedList<T> implements IPositionalDoublyLinkedList<T> {
+    private static final int DEFAULT_BLOCK_CAPACITY = 64;
+    private static final int MIN_BLOCK_CAPACITY = 2;
+
+    private final int blockCapacity;
+    private Block head;
+    private Block tail;
+    private int size;
+    /**
+     * Vị trí do {@link #locate(int)} trả về, dùng lại cho mọi lần gọi để thao tác theo chỉ số
+     * không cấp phát đối tượng.
+     */
+    private final Cursor cursor = new Cursor();
+
+    /**
+     * Một khối chứa các phần tử liền kề tại các vị trí [0, count).
+     */
+    private static final class Block {
+        private final Object[] elements;
+        private int count;
+        private Block prev;
+        private Block next;
+
+        private Block(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    /**
+     * Vị trí của một phần tử: khối chứa nó và chỉ số trong khối, do {@link #locate(int)} trả về.
+     */
+    private static final class Cursor {
+        private Block block;
+        private int offset;
+    }
+
+    /**
+     * Khởi tạo một danh sách rỗng với dung lượng khối mặc định.
+     */
+    public UnrolledIDoublyLinkedList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Khởi tạo một danh sách rỗng với dung lượng khối được chỉ định.
+     * <p>
+     * Khối lớn hơn cho mật độ bộ nhớ và tốc độ duyệt tốt hơn; khối nhỏ hơn làm chèn/xóa ở giữa
+     * và ở đầu danh sách rẻ hơn.
+     * </p>
+     *
+     * @param blockCapacity số phần tử tối đa trong một khối
+     * @throws IllegalArgumentException nếu dung lượng khối nhỏ hơn 2
+     */
+    public UnrolledIDoublyLinkedList(int blockCapacity) {
+        if (blockCapacity < MIN_BLOCK_CAPACITY) {
+            throw new IllegalArgumentException("Block capacity must be at least " + MIN_BLOCK_CAPACITY
+                    + ". Capacity: " + blockCapacity);
+        }
+        this.blockCapacity = blockCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    /**
+     * Trả về số phần tử tối đa trong một khối.
+     *
+     * @return dung lượng khối
+     */
+    public int blockCapacity() {
+        return blockCapacity;
+    }
+
+    /**
+     * Xóa tất cả các phần tử khỏi danh sách này.
+     */
+    @Override
+    public void clear() {
+        Block block = head;
+        while (block != null) {
+            Block nextBlock = block.next;
+            Arrays.fill(block.elements, 0, block.count, null);
+            block.prev = null;
+            block.next = null;
+            block = nextBlock;
+        }
+        cursor.block = null;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Trả về số lượng phần tử trong danh sách này.
+     *
+     * @return số lượng phần tử trong danh sách
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Kiểm tra xem chỉ số có hợp lệ hay không.
+     *
+     * @param index chỉ số cần kiểm tra
+     * @return true nếu chỉ số hợp lệ
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    @Override
+    public boolean validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        return true;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này không chứa phần tử nào.
+     *
+     * @return {@code true} nếu danh sách này trống
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     * <p>
+     * Phương thức này tương đương với {@link #addLast(Object)}.
+     * </p>
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Chèn một phần tử vào đầu danh sách.
+     * <p>
+     * Các phần tử của khối đầu tiên được dịch sang phải; một khối mới được tạo nếu khối đầu đã đầy.
+     * </p>
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void addFirst(T element) {
+        if (head == null || head.count == blockCapacity) {
+            linkBefore(new Block(blockCapacity), head);
+        }
+        insertInto(head, 0, element);
+    }
+
+    /**
+     * Thêm một phần tử vào cuối danh sách.
+     *
+     * @param element phần tử cần thêm
+     */
+    @Override
+    public void addLast(T element) {
+        if (tail == null || tail.count == blockCapacity) {
+            linkAfter(new Block(blockCapacity), tail);
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+    }
+
+    /**
+     * Lấy phần tử đầu tiên trong danh sách mà không xóa nó.
+     *
+     * @return phần tử đầu tiên trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return elementAt(head, 0);
+    }
+
+    /**
+     * Lấy phần tử cuối cùng trong danh sách mà không xóa nó.
+     *
+     * @return phần tử cuối cùng trong danh sách
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T peekLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return elementAt(tail, tail.count - 1);
+    }
+
+    /**
+     * Xóa và trả về phần tử đầu tiên từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return removeFrom(head, 0);
+    }
+
+    /**
+     * Xóa và trả về phần tử cuối cùng từ danh sách.
+     *
+     * @return phần tử đã bị xóa
+     * @throws NoSuchElementException nếu danh sách trống
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Linked list is empty!");
+        }
+        return removeFrom(tail, tail.count - 1);
+    }
+
+    /**
+     * Xóa lần xuất hiện đầu tiên của một đối tượng cụ thể khỏi danh sách.
+     *
+     * @param object đối tượng cần xóa
+     * @return {@code true} nếu một phần tử đã bị xóa
+     */
+    @Override
+    public boolean remove(Object object) {
+        for (Block block = head; block != null; block = block.next) {
+            Object[] elements = block.elements;
+            for (int i = 0; i < block.count; i++) {
+                if (Objects.equals(object, elements[i])) {
+                    removeFrom(block, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Trả về phần tử tại một chỉ số cụ thể, duyệt các khối từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử
+     * @return phần tử tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        Cursor position = locate(index);
+        return elementAt(position.block, position.offset);
+    }
+
+    /**
+     * Thay thế phần tử tại một chỉ số cụ thể, duyệt các khối từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử
+     * @param element phần tử mới
+     * @return phần tử cũ tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T set(int index, T element) {
+        validateIndex(index);
+        Cursor position = locate(index);
+        T old = elementAt(position.block, position.offset);
+        position.block.elements[position.offset] = element;
+        return old;
+    }
+
+    /**
+     * Chèn một phần tử vào vị trí chỉ định; các phần tử từ vị trí đó trở đi dịch sang phải một vị trí.
+     * <p>
+     * Nếu khối chứa vị trí đó đã đầy, nó được tách thành hai khối nửa đầy trước khi chèn.
+     * </p>
+     *
+     * @param index vị trí chèn, trong phạm vi [0, size]
+     * @param element phần tử cần chèn
+     * @throws IndexOutOfBoundsException nếu vị trí nằm ngoài phạm vi [0, size]
+     */
+    @Override
+    public void insertAt(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addLast(element);
+            return;
+        }
+        Cursor located = locate(index);
+        Block block = located.block;
+        int position = located.offset;
+        if (block.count == blockCapacity) {
+            Block right = split(block);
+            if (position > block.count) {
+                position -= block.count;
+                block = right;
+            }
+        }
+        insertInto(block, position, element);
+    }
+
+    /**
+     * Xóa phần tử tại một chỉ số cụ thể, duyệt các khối từ đầu gần chỉ số hơn.
+     *
+     * @param index chỉ số của phần tử cần xóa
+     * @return phần tử đã bị xóa tại vị trí đó
+     * @throws IndexOutOfBoundsException nếu chỉ số nằm ngoài phạm vi
+     */
+    @Override
+    public T removeAt(int index) {
+        validateIndex(index);
+        Cursor position = locate(index);
+        return removeFrom(position.block, position.offset);
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của đối tượng đã chỉ định.
+     *
+     * @param object đối tượng cần tìm
+     * @return chỉ số của lần xuất hiện đầu tiên, hoặc -1 nếu không tìm thấy
+     */
+    @Override
+    public int indexOf(Object object) {
+        int start = 0;
+        for (Block block = head; block != null; block = block.next) {
+            Object[] elements = block.elements;
+            int count = block.count;
+            if (object == null) {
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] == null) {
+                        return start + i;
+                    }
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    if (object.equals(elements[i])) {
+                        return start + i;
+                    }
+                }
+            }
+            start += count;
+        }
+        return -1;
+    }
+
+    /**
+     * Trả về {@code true} nếu danh sách này chứa phần tử đã chỉ định.
+     *
+     * @param object phần tử cần kiểm tra
+     * @return {@code true} nếu danh sách chứa phần tử
+     */
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) != -1;
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của danh sách.
+     *
+     * @return biểu diễn chuỗi của danh sách
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (Block block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                sb.append(block.elements[i]);
+                if (block.next != null || i < block.count - 1) {
+                    sb.append(", ");
+                }
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một iterator trên các phần tử trong danh sách này theo đúng thứ tự.
+     *
+     * @return một iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Block block = head;
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return block != null && position < block.count;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T data = elementAt(block, position++);
+                if (position == block.count) {
+                    block = block.next;
+                    position = 0;
+                }
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Tìm khối chứa chỉ số đã cho và vị trí của phần tử trong khối, duyệt từ đầu hoặc cuối danh
+     * sách tùy theo đầu nào gần hơn.
+     *
+     * @param index chỉ số đã được xác thực
+     * @return vị trí của phần tử tại chỉ số đó, là {@link #cursor} nên chỉ hợp lệ đến lần gọi kế tiếp
+     */
+    private Cursor locate(int index) {
+        Block block;
+        if (index < size / 2) {
+            block = head;
+            while (index >= block.count) {
+                index -= block.count;
+                block = block.next;
+            }
+            cursor.block = block;
+            cursor.offset = index;
+            return cursor;
+        }
+        int remaining = size - 1 - index;
+        block = tail;
+        while (remaining >= block.count) {
+            remaining -= block.count;
+            block = block.prev;
+        }
+        cursor.block = block;
+        cursor.offset = block.count - 1 - remaining;
+        return cursor;
+    }
+
+    /**
+     * Chèn một phần tử vào một khối chưa đầy, dịch các phần tử phía sau sang phải.
+     *
+     * @param block khối chưa đầy
+     * @param position vị trí chèn trong khối
+     * @param element phần tử cần chèn
+     */
+    private void insertInto(Block block, int position, T element) {
+        System.arraycopy(block.elements, position, block.elements, position + 1, block.count - position);
+        block.elements[position] = element;
+        block.count++;
+        size++;
+    }
+
+    /**
+     * Xóa một phần tử khỏi khối, rồi gỡ khối nếu nó rỗng hoặc gộp nó với khối kề bên
+     * nếu nó còn ít hơn một nửa dung lượng.
+     *
+     * @param block khối chứa phần tử
+     * @param position vị trí của phần tử trong khối
+     * @return phần tử đã bị xóa
+     */
+    private T removeFrom(Block block, int position) {
+        T data = elementAt(block, position);
+        int moved = block.count - position - 1;
+        System.arraycopy(block.elements, position + 1, block.elements, position, moved);
+        block.elements[--block.count] = null;
+        size--;
+
+        if (block.count == 0) {
+            unlink(block);
+        } else if (block.count < blockCapacity / 2) {
+            if (block.next != null && block.count + block.next.count <= blockCapacity) {
+                mergeNext(block);
+            } else if (block.prev != null && block.prev.count + block.count <= blockCapacity) {
+                mergeNext(block.prev);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Tách một khối đầy thành hai: nửa sau của các phần tử được chuyển sang một khối mới
+     * liên kết ngay sau nó.
+     *
+     * @param block khối cần tách
+     * @return khối mới chứa nửa sau
+     */
+    private Block split(Block block) {
+        Block right = new Block(blockCapacity);
+        int keep = block.count / 2;
+        int moved = block.count - keep;
+        System.arraycopy(block.elements, keep, right.elements, 0, moved);
+        Arrays.fill(block.elements, keep, block.count, null);
+        block.count = keep;
+        right.count = moved;
+        linkAfter(right, block);
+        return right;
+    }
+
+    /**
+     * Chuyển toàn bộ phần tử của khối kế tiếp vào khối đã cho rồi gỡ khối kế tiếp.
+     *
+     * @param block khối nhận; tổng số phần tử của hai khối không vượt quá dung lượng khối
+     */
+    private void mergeNext(Block block) {
+        Block nextBlock = block.next;
+        System.arraycopy(nextBlock.elements, 0, block.elements, block.count, nextBlock.count);
+        block.count += nextBlock.count;
+        Arrays.fill(nextBlock.elements, 0, nextBlock.count, null);
+        nextBlock.count = 0;
+        unlink(nextBlock);
+    }
+
+    /**
+     * Liên kết một khối mới ngay trước khối đã cho, hoặc làm khối duy nhất nếu danh sách trống.
+     *
+     * @param block khối mới
+     * @param successor khối sẽ đứng sau khối mới, hoặc {@code null}
+     */
+    private void linkBefore(Block block, Block successor) {
+        if (successor == null) {
+            head = tail = block;
+            return;
+        }
+        block.next = successor;
+        block.prev = successor.prev;
+        if (successor.prev == null) {
+            head = block;
+        } else {
+            successor.prev.next = block;
+        }
+        successor.prev = block;
+    }
+
+    /**
+     * Liên kết một khối mới ngay sau khối đã cho, hoặc làm khối duy nhất nếu danh sách trống.
+     *
+     * @param block khối mới
+     * @param predecessor khối sẽ đứng trước khối mới, hoặc {@code null}
+     */
+    private void linkAfter(Block block, Block predecessor) {
+        if (predecessor == null) {
+            head = tail = block;
+            return;
+        }
+        block.prev = predecessor;
+        block.next = predecessor.next;
+        if (predecessor.next == null) {
+            tail = block;
+        } else {
+            predecessor.next.prev = block;
+        }
+        predecessor.next = block;
+    }
+
+    /**
+     * Gỡ một khối khỏi chuỗi các khối.
+     *
+     * @param block khối cần gỡ
+     */
+    private void unlink(Block block) {
+        if (block.prev == null) {
+            head = block.next;
+        } else {
+            block.prev.next = block.next;
+        }
+        if (block.next == null) {
+            tail = block.prev;
+        } else {
+            block.next.prev = block.prev;
+        }
+        block.prev = null;
+        block.next = null;
+    }
+
+    /**
+     * Trả về phần tử tại một vị trí trong khối.
+     *
+     * @param block khối chứa phần tử
+     * @param position vị trí trong khối
+     * @return phần tử tại vị trí đó
+     */
+    @SuppressWarnings("unchecked")
+    private T elementAt(Block block, int position) {
+        return (T) block.elements[position];
+    }
+}
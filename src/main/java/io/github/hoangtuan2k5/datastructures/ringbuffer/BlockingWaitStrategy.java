@@ -0,0 +1,67 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Chiến lược chờ chặn luồng trên một {@link Condition}.
+ * <p>
+ * Số luồng đang chờ được đếm riêng, nên {@link #signalAll()} chỉ lấy khóa khi thực sự có
+ * luồng cần đánh thức; khi cả hai phía đều đang chạy, việc công bố không chạm tới khóa.
+ * Luồng chờ tăng bộ đếm rồi mới kiểm tra lại số thứ tự, còn luồng công bố ghi số thứ tự rồi
+ * mới đọc bộ đếm, nên không có lần đánh thức nào bị bỏ lỡ.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see WaitStrategy#blocking()
+ */
+final class BlockingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public long waitFor(long required, LongSupplier sequence) throws InterruptedException {
+        long available = sequence.getAsLong();
+        if (available >= required) {
+            return available;
+        }
+        lock.lockInterruptibly();
+        try {
+            waiters.incrementAndGet();
+            try {
+                while ((available = sequence.getAsLong()) < required) {
+                    changed.await();
+                }
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAll() {
+        // Ngăn việc đọc bộ đếm bị đảo lên trước lần ghi số thứ tự (ghi release) của luồng gọi
+        VarHandle.fullFence();
+        if (waiters.get() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingWaitStrategy";
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Chiến lược chờ quay vòng liên tục.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see WaitStrategy#busySpin()
+ */
+final class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long waitFor(long required, LongSupplier sequence) throws InterruptedException {
+        long available;
+        while ((available = sequence.getAsLong()) < required) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread.onSpinWait();
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAll() {
+        // Không có luồng nào bị chặn
+    }
+
+    @Override
+    public String toString() {
+        return "BusySpinWaitStrategy";
+    }
+}
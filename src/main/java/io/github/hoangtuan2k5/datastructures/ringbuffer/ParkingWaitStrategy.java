@@ -0,0 +1,51 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Chiến lược chờ quay vòng một số lần rồi tạm dừng luồng trong một khoảng thời gian cố định.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see WaitStrategy#parking(long)
+ */
+final class ParkingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    private final long parkNanos;
+
+    ParkingWaitStrategy(long parkNanos) {
+        if (parkNanos <= 0) {
+            throw new IllegalArgumentException("Park time must be positive. Nanos: " + parkNanos);
+        }
+        this.parkNanos = parkNanos;
+    }
+
+    @Override
+    public long waitFor(long required, LongSupplier sequence) throws InterruptedException {
+        long available;
+        int counter = SPIN_TRIES;
+        while ((available = sequence.getAsLong()) < required) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (counter > 0) {
+                counter--;
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAll() {
+        // Luồng tự thức dậy sau mỗi lần tạm dừng
+    }
+
+    @Override
+    public String toString() {
+        return "ParkingWaitStrategy[parkNanos=" + parkNanos + "]";
+    }
+}
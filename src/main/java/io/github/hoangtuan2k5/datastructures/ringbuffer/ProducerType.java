@@ -0,0 +1,19 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+/**
+ * Số luồng sản xuất được phép ghi vào một {@link RingBuffer}.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public enum ProducerType {
+    /**
+     * Chỉ một luồng sản xuất: việc giành slot chỉ là tăng một bộ đếm cục bộ, không cần CAS.
+     */
+    SINGLE,
+
+    /**
+     * Nhiều luồng sản xuất: slot được giành bằng compare-and-set trên con trỏ chung, và mỗi slot
+     * được đánh dấu riêng khi đã công bố để luồng tiêu thụ không đọc slot chưa được ghi xong.
+     */
+    MULTI
+}
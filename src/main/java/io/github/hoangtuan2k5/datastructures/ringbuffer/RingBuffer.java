@@ -0,0 +1,408 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import io.github.hoangtuan2k5.datastructures.array.StaticArray;
+
+/**
+ * Bộ đệm vòng có giới hạn, không dùng khóa, để chuyển phần tử giữa các luồng.
+ * <p>
+ * Các phần tử được lưu trong các slot cấp phát sẵn của một {@link StaticArray} có dung lượng là
+ * lũy thừa của 2. Mỗi phần tử được gán một số thứ tự {@code long} tăng dần; slot của nó là
+ * {@code sequence & (capacity - 1)}. Luồng sản xuất và luồng tiêu thụ chỉ trao đổi với nhau qua các
+ * {@link Sequence} được đệm chống chia sẻ sai, nên ở trạng thái ổn định không có khóa nào và
+ * không có đối tượng nào được cấp phát.
+ * </p>
+ * <p>
+ * Hỗ trợ một hoặc nhiều luồng sản xuất ({@link ProducerType}) và đúng một luồng tiêu thụ.
+ * Luồng sản xuất có thể giành nhiều slot một lần bằng {@link #claim(int)}, ghi chúng bằng
+ * {@link #set(long, Object)} rồi công bố cả lô bằng {@link #publish(long, int)}; luồng tiêu thụ
+ * lấy ra cả lô bằng {@link #drain(Consumer, int)} và chỉ cập nhật số thứ tự của mình một lần cho
+ * mỗi lô. Khi bộ đệm đầy hoặc rỗng, luồng gọi chờ theo {@link WaitStrategy} đã chọn.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được chuyển qua bộ đệm
+ */
+public class RingBuffer<T> {
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final StaticArray<T> slots;
+    private final int capacity;
+    private final int mask;
+    private final int indexShift;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+    /**
+     * Với {@link ProducerType#SINGLE}: số thứ tự cao nhất đã công bố.
+     * Với {@link ProducerType#MULTI}: số thứ tự cao nhất đã được giành.
+     */
+    private final Sequence cursor;
+    /**
+     * Số thứ tự cao nhất mà luồng tiêu thụ đã lấy ra.
+     */
+    private final Sequence consumed;
+    /**
+     * Số thứ tự cao nhất đã được giành khi chỉ có một luồng sản xuất.
+     */
+    private final Sequence claimed;
+    /**
+     * Giá trị của {@link #consumed} mà phía sản xuất quan sát được gần nhất, giúp tránh đọc
+     * số thứ tự của luồng tiêu thụ ở mỗi lần giành slot.
+     */
+    private final Sequence gatingCache;
+    /**
+     * Với {@link ProducerType#MULTI}: số vòng (lap) của lần công bố gần nhất tại mỗi slot.
+     */
+    private final int[] available;
+    /**
+     * Với {@link ProducerType#MULTI}: số thứ tự mà luồng tiêu thụ đang chờ được công bố trong
+     * {@link #awaitDrain(Consumer, int)}. Chỉ luồng tiêu thụ đọc và ghi trường này.
+     */
+    private long awaitedSequence;
+    /**
+     * Trạng thái công bố của {@link #awaitedSequence} dưới dạng số thứ tự cho {@link WaitStrategy},
+     * tạo một lần để việc chờ không cấp phát đối tượng.
+     */
+    private final LongSupplier awaitedPublished;
+
+    /**
+     * Tạo một bộ đệm vòng dùng chiến lược chờ {@link WaitStrategy#blocking()}.
+     *
+     * @param capacity dung lượng, phải là lũy thừa của 2
+     * @param producerType số luồng sản xuất
+     * @throws IllegalArgumentException nếu dung lượng không phải lũy thừa của 2
+     * @throws NullPointerException nếu kiểu luồng sản xuất là null
+     */
+    public RingBuffer(int capacity, ProducerType producerType) {
+        this(capacity, producerType, WaitStrategy.blocking());
+    }
+
+    /**
+     * Tạo một bộ đệm vòng với chiến lược chờ được chỉ định.
+     *
+     * @param capacity dung lượng, phải là lũy thừa của 2
+     * @param producerType số luồng sản xuất
+     * @param waitStrategy cách chờ khi bộ đệm đầy hoặc rỗng
+     * @throws IllegalArgumentException nếu dung lượng không phải lũy thừa của 2
+     * @throws NullPointerException nếu kiểu luồng sản xuất hoặc chiến lược chờ là null
+     */
+    public RingBuffer(int capacity, ProducerType producerType, WaitStrategy waitStrategy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two. Capacity: " + capacity);
+        }
+        if (producerType == null) {
+            throw new NullPointerException("Producer type cannot be null!");
+        }
+        if (waitStrategy == null) {
+            throw new NullPointerException("Wait strategy cannot be null!");
+        }
+        this.slots = new StaticArray<>(capacity);
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.producerType = producerType;
+        this.waitStrategy = waitStrategy;
+        this.cursor = new Sequence(-1);
+        this.consumed = new Sequence(-1);
+        this.claimed = new Sequence(-1);
+        this.gatingCache = new Sequence(-1);
+        if (producerType == ProducerType.MULTI) {
+            this.available = new int[capacity];
+            Arrays.fill(available, -1);
+            this.awaitedPublished = this::awaitedPublished;
+        } else {
+            this.available = null;
+            this.awaitedPublished = null;
+        }
+    }
+
+    /**
+     * Trả về dung lượng của bộ đệm.
+     *
+     * @return số slot của bộ đệm
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Trả về số phần tử đang nằm trong bộ đệm.
+     * <p>
+     * Giá trị chỉ là ước lượng khi các luồng khác đang ghi hoặc đọc; với nhiều luồng sản xuất,
+     * nó tính cả các slot đã được giành nhưng chưa công bố.
+     * </p>
+     *
+     * @return số phần tử ước lượng
+     */
+    public int size() {
+        long produced = producerType == ProducerType.SINGLE ? claimed.get() : cursor.get();
+        return (int) (produced - consumed.get());
+    }
+
+    /**
+     * Trả về số slot còn trống ước lượng.
+     *
+     * @return số slot còn trống
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Giành {@code n} slot liên tiếp, chờ theo chiến lược chờ nếu bộ đệm không đủ chỗ.
+     * <p>
+     * Các slot được giành có số thứ tự từ giá trị trả về đến giá trị trả về + n - 1. Chúng phải
+     * được ghi bằng {@link #set(long, Object)} rồi công bố bằng {@link #publish(long, int)};
+     * luồng tiêu thụ không thể đi qua một slot chưa được công bố.
+     * </p>
+     *
+     * @param n số slot cần giành, trong phạm vi [1, capacity]
+     * @return số thứ tự của slot đầu tiên được giành
+     * @throws IllegalArgumentException nếu {@code n} nằm ngoài phạm vi [1, capacity]
+     * @throws InterruptedException nếu luồng bị ngắt trong khi chờ
+     */
+    public long claim(int n) throws InterruptedException {
+        validateBatch(n);
+        long first;
+        while ((first = claimOrFail(n)) < 0) {
+            long current = producerType == ProducerType.SINGLE ? claimed.get() : cursor.get();
+            waitStrategy.waitFor(current + n - capacity, consumed);
+        }
+        return first;
+    }
+
+    /**
+     * Giành {@code n} slot liên tiếp nếu bộ đệm còn đủ chỗ, không chờ.
+     *
+     * @param n số slot cần giành, trong phạm vi [1, capacity]
+     * @return số thứ tự của slot đầu tiên được giành, hoặc -1 nếu không đủ chỗ
+     * @throws IllegalArgumentException nếu {@code n} nằm ngoài phạm vi [1, capacity]
+     */
+    public long tryClaim(int n) {
+        validateBatch(n);
+        return claimOrFail(n);
+    }
+
+    /**
+     * Ghi một phần tử vào slot đã giành.
+     *
+     * @param sequence số thứ tự đã được giành bởi luồng gọi
+     * @param element phần tử cần ghi
+     */
+    public void set(long sequence, T element) {
+        slots.set((int) sequence & mask, element);
+    }
+
+    /**
+     * Công bố {@code n} slot đã giành và đã ghi, bắt đầu từ số thứ tự {@code first}.
+     *
+     * @param first số thứ tự đầu tiên, như được trả về bởi {@link #claim(int)}
+     * @param n số slot cần công bố
+     */
+    public void publish(long first, int n) {
+        long last = first + n - 1;
+        if (producerType == ProducerType.SINGLE) {
+            cursor.set(last);
+        } else {
+            for (long sequence = first; sequence <= last; sequence++) {
+                AVAILABLE.setRelease(available, (int) sequence & mask, (int) (sequence >>> indexShift));
+            }
+        }
+        waitStrategy.signalAll();
+    }
+
+    /**
+     * Thêm một phần tử, chờ theo chiến lược chờ nếu bộ đệm đầy.
+     *
+     * @param element phần tử cần thêm
+     * @throws InterruptedException nếu luồng bị ngắt trong khi chờ
+     */
+    public void put(T element) throws InterruptedException {
+        long sequence = claim(1);
+        set(sequence, element);
+        publish(sequence, 1);
+    }
+
+    /**
+     * Thêm một phần tử nếu bộ đệm còn chỗ, không chờ.
+     *
+     * @param element phần tử cần thêm
+     * @return {@code true} nếu phần tử đã được thêm, {@code false} nếu bộ đệm đầy
+     */
+    public boolean offer(T element) {
+        long sequence = claimOrFail(1);
+        if (sequence < 0) {
+            return false;
+        }
+        set(sequence, element);
+        publish(sequence, 1);
+        return true;
+    }
+
+    /**
+     * Lấy ra tối đa {@code max} phần tử đã công bố và chuyển chúng cho {@code consumer} theo thứ tự,
+     * không chờ.
+     * <p>
+     * Chỉ được gọi từ một luồng tiêu thụ duy nhất. Số thứ tự của luồng tiêu thụ được cập nhật một lần
+     * sau cả lô; nếu {@code consumer} ném ngoại lệ, các phần tử đến phần tử gây lỗi được coi là đã
+     * lấy ra.
+     * </p>
+     *
+     * @param consumer hàm nhận các phần tử
+     * @param max số phần tử tối đa cần lấy ra
+     * @return số phần tử đã lấy ra, 0 nếu không có phần tử nào sẵn sàng
+     * @throws NullPointerException nếu {@code consumer} là null
+     * @throws IllegalArgumentException nếu {@code max} không dương
+     */
+    public int drain(Consumer<? super T> consumer, int max) {
+        if (consumer == null) {
+            throw new NullPointerException("Consumer cannot be null!");
+        }
+        if (max < 1) {
+            throw new IllegalArgumentException("Max must be positive. Max: " + max);
+        }
+        long next = consumed.get() + 1;
+        long limit = highestPublished(next, next + max - 1);
+        if (limit < next) {
+            return 0;
+        }
+        long sequence = next - 1;
+        try {
+            while (sequence < limit) {
+                sequence++;
+                int index = (int) sequence & mask;
+                T element = slots.get(index);
+                slots.set(index, null);
+                consumer.accept(element);
+            }
+        } finally {
+            consumed.set(sequence);
+            waitStrategy.signalAll();
+        }
+        return (int) (sequence - next + 1);
+    }
+
+    /**
+     * Chờ theo chiến lược chờ cho đến khi có ít nhất một phần tử, rồi lấy ra tối đa {@code max}
+     * phần tử như {@link #drain(Consumer, int)}.
+     * <p>
+     * Với {@link ProducerType#MULTI}, luồng tiêu thụ chờ slot kế tiếp được giành rồi chờ tiếp cho
+     * đến khi nó được công bố, cả hai lần đều qua chiến lược chờ, nên với {@link WaitStrategy#blocking()}
+     * luồng không quay vòng trong khi luồng sản xuất chưa công bố xong.
+     * </p>
+     *
+     * @param consumer hàm nhận các phần tử
+     * @param max số phần tử tối đa cần lấy ra
+     * @return số phần tử đã lấy ra, luôn lớn hơn 0
+     * @throws NullPointerException nếu {@code consumer} là null
+     * @throws IllegalArgumentException nếu {@code max} không dương
+     * @throws InterruptedException nếu luồng bị ngắt trong khi chờ
+     */
+    public int awaitDrain(Consumer<? super T> consumer, int max) throws InterruptedException {
+        long next = consumed.get() + 1;
+        waitStrategy.waitFor(next, cursor);
+        if (producerType == ProducerType.MULTI) {
+            // cursor chỉ cho biết slot đã được giành; chờ luồng sản xuất công bố nó
+            awaitedSequence = next;
+            waitStrategy.waitFor(1, awaitedPublished);
+        }
+        return drain(consumer, max);
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của bộ đệm.
+     *
+     * @return biểu diễn chuỗi của bộ đệm
+     */
+    @Override
+    public String toString() {
+        return "RingBuffer[capacity=" + capacity + ", producerType=" + producerType
+                + ", waitStrategy=" + waitStrategy + ", size=" + size() + "]";
+    }
+
+    /**
+     * Giành {@code n} slot nếu đủ chỗ.
+     *
+     * @param n số slot cần giành
+     * @return số thứ tự của slot đầu tiên, hoặc -1 nếu không đủ chỗ
+     */
+    private long claimOrFail(int n) {
+        if (producerType == ProducerType.SINGLE) {
+            long current = claimed.get();
+            long next = current + n;
+            long wrapPoint = next - capacity;
+            if (wrapPoint > gatingCache.get()) {
+                long gate = consumed.get();
+                gatingCache.set(gate);
+                if (wrapPoint > gate) {
+                    return -1;
+                }
+            }
+            claimed.set(next);
+            return current + 1;
+        }
+        while (true) {
+            long current = cursor.get();
+            long next = current + n;
+            long wrapPoint = next - capacity;
+            long cachedGate = gatingCache.get();
+            if (wrapPoint > cachedGate || cachedGate > current) {
+                long gate = consumed.get();
+                if (wrapPoint > gate) {
+                    return -1;
+                }
+                gatingCache.set(gate);
+            } else if (cursor.compareAndSet(current, next)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Trả về số thứ tự cao nhất trong phạm vi [from, upTo] mà mọi slot đến nó đều đã được công bố.
+     *
+     * @param from số thứ tự đầu tiên cần kiểm tra
+     * @param upTo số thứ tự lớn nhất cần xét
+     * @return số thứ tự cao nhất đã công bố liên tục, hoặc {@code from - 1} nếu chưa có
+     */
+    private long highestPublished(long from, long upTo) {
+        long limit = Math.min(cursor.get(), upTo);
+        if (producerType == ProducerType.SINGLE) {
+            return limit;
+        }
+        for (long sequence = from; sequence <= limit; sequence++) {
+            int lap = (int) AVAILABLE.getAcquire(available, (int) sequence & mask);
+            if (lap != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Cho biết slot của {@link #awaitedSequence} đã được công bố hay chưa.
+     *
+     * @return 1 nếu slot đã được công bố, ngược lại 0
+     */
+    private long awaitedPublished() {
+        int lap = (int) AVAILABLE.getAcquire(available, (int) awaitedSequence & mask);
+        return lap == (int) (awaitedSequence >>> indexShift) ? 1 : 0;
+    }
+
+    /**
+     * Kiểm tra kích thước lô nằm trong phạm vi [1, capacity].
+     *
+     * @param n kích thước lô
+     * @throws IllegalArgumentException nếu kích thước lô nằm ngoài phạm vi
+     */
+    private void validateBatch(int n) {
+        if (n < 1 || n > capacity) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + capacity + ". Size: " + n);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongSupplier;
+
+/**
+ * Các trường đệm phía trước giá trị của {@link Sequence}.
+ */
+abstract class SequenceLeftPadding {
+    protected long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Giá trị của {@link Sequence}, nằm giữa hai vùng đệm.
+ */
+abstract class SequenceValue extends SequenceLeftPadding {
+    protected volatile long value;
+}
+
+/**
+ * Các trường đệm phía sau giá trị của {@link Sequence}.
+ */
+abstract class SequenceRightPadding extends SequenceValue {
+    protected long p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * Một bộ đếm số thứ tự {@code long} được đệm để tránh chia sẻ sai (false sharing).
+ * <p>
+ * JVM xếp các trường của lớp cha trước các trường của lớp con, nên bảy trường {@code long}
+ * ở mỗi phía đảm bảo giá trị nằm trên một dòng cache (cache line) riêng. Nhờ vậy luồng sản xuất
+ * và luồng tiêu thụ cập nhật các số thứ tự của mình mà không làm mất hiệu lực dòng cache
+ * của nhau.
+ * </p>
+ * <p>
+ * Việc đọc dùng ngữ nghĩa acquire và việc ghi dùng ngữ nghĩa release: mọi thao tác ghi vào
+ * các slot trước khi một số thứ tự được công bố đều được nhìn thấy bởi luồng đọc số thứ tự đó.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public final class Sequence extends SequenceRightPadding implements LongSupplier {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Tạo một số thứ tự với giá trị ban đầu được chỉ định.
+     *
+     * @param initialValue giá trị ban đầu
+     */
+    Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+     * Đọc giá trị hiện tại với ngữ nghĩa acquire.
+     *
+     * @return giá trị hiện tại
+     */
+    public long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /**
+     * Đọc giá trị hiện tại với ngữ nghĩa acquire, để dùng với {@link WaitStrategy}.
+     *
+     * @return giá trị hiện tại
+     */
+    @Override
+    public long getAsLong() {
+        return get();
+    }
+
+    /**
+     * Ghi một giá trị mới với ngữ nghĩa release.
+     *
+     * @param newValue giá trị mới
+     */
+    void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    /**
+     * Đặt giá trị mới nếu giá trị hiện tại bằng giá trị mong đợi.
+     *
+     * @param expected giá trị mong đợi
+     * @param newValue giá trị mới
+     * @return {@code true} nếu giá trị đã được thay đổi
+     */
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    /**
+     * Trả về biểu diễn chuỗi của giá trị hiện tại.
+     *
+     * @return biểu diễn chuỗi của giá trị
+     */
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
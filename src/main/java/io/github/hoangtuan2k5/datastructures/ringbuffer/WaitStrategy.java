@@ -0,0 +1,82 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Cách một luồng chờ cho đến khi một {@link Sequence} đạt tới giá trị yêu cầu.
+ * <p>
+ * Luồng tiêu thụ chờ luồng sản xuất công bố thêm phần tử, còn luồng sản xuất chờ luồng tiêu thụ
+ * giải phóng slot khi bộ đệm đầy. Chiến lược quyết định sự đánh đổi giữa độ trễ và mức dùng CPU.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public interface WaitStrategy {
+    /**
+     * Chờ cho đến khi số thứ tự đạt ít nhất giá trị yêu cầu.
+     * <p>
+     * Số thứ tự thường là một {@link Sequence}, nhưng có thể là bất kỳ giá trị nào chỉ tăng và được
+     * đọc với ngữ nghĩa acquire, ví dụ trạng thái công bố của một slot. Bên thay đổi giá trị phải
+     * gọi {@link #signalAll()} sau đó.
+     * </p>
+     *
+     * @param required giá trị nhỏ nhất cần chờ
+     * @param sequence số thứ tự được theo dõi
+     * @return giá trị quan sát được, luôn lớn hơn hoặc bằng {@code required}
+     * @throws InterruptedException nếu luồng bị ngắt trong khi chờ
+     */
+    long waitFor(long required, LongSupplier sequence) throws InterruptedException;
+
+    /**
+     * Đánh thức các luồng đang chờ sau khi một số thứ tự thay đổi.
+     * <p>
+     * Chỉ chiến lược chặn luồng cần làm việc ở đây; các chiến lược còn lại không làm gì.
+     * </p>
+     */
+    void signalAll();
+
+    /**
+     * Quay vòng liên tục với {@link Thread#onSpinWait()}: độ trễ thấp nhất nhưng chiếm trọn
+     * một lõi CPU. Chỉ phù hợp khi mỗi luồng có lõi riêng.
+     *
+     * @return chiến lược quay vòng
+     */
+    static WaitStrategy busySpin() {
+        return new BusySpinWaitStrategy();
+    }
+
+    /**
+     * Quay vòng một số lần rồi nhường CPU bằng {@link Thread#yield()}.
+     *
+     * @return chiến lược nhường CPU
+     */
+    static WaitStrategy yielding() {
+        return new YieldingWaitStrategy();
+    }
+
+    /**
+     * Quay vòng một số lần rồi tạm dừng luồng trong khoảng thời gian chỉ định bằng
+     * {@link java.util.concurrent.locks.LockSupport#parkNanos(long)}.
+     *
+     * @param parkNanos thời gian tạm dừng mỗi lần, tính bằng nano giây
+     * @return chiến lược tạm dừng
+     * @throws IllegalArgumentException nếu thời gian tạm dừng không dương
+     */
+    static WaitStrategy parking(long parkNanos) {
+        return new ParkingWaitStrategy(parkNanos);
+    }
+
+    /**
+     * Chặn luồng trên một {@link java.util.concurrent.locks.Condition} cho đến khi được đánh thức.
+     * <p>
+     * Dùng {@link java.util.concurrent.locks.ReentrantLock} thay vì {@code synchronized}, nên luồng
+     * ảo (virtual thread) đang chờ được tháo khỏi luồng mang (carrier thread) thay vì ghim nó.
+     * Không tốn CPU khi rảnh, đổi lại độ trễ đánh thức cao hơn.
+     * </p>
+     *
+     * @return chiến lược chặn
+     */
+    static WaitStrategy blocking() {
+        return new BlockingWaitStrategy();
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Chiến lược chờ quay vòng một số lần rồi nhường CPU.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @see WaitStrategy#yielding()
+ */
+final class YieldingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public long waitFor(long required, LongSupplier sequence) throws InterruptedException {
+        long available;
+        int counter = SPIN_TRIES;
+        while ((available = sequence.getAsLong()) < required) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (counter > 0) {
+                counter--;
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAll() {
+        // Không có luồng nào bị chặn
+    }
+
+    @Override
+    public String toString() {
+        return "YieldingWaitStrategy";
+    }
+}
@@ -0,0 +1,543 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mảng động lưu trữ các phần tử có độ rộng cố định trong một tệp được ánh xạ vào bộ nhớ.
+ * <p>
+ * Lớp này có cùng API với {@link DynamicArray}, nhưng dữ liệu nằm trong một tệp thay vì
+ * trên heap. Mở lại một tệp đã có chỉ cần đọc phần đầu tệp và ánh xạ nó: không có dữ liệu nào
+ * bị sao chép hay giải mã, nên thời gian mở lại không phụ thuộc vào số phần tử. Các trang
+ * của tệp được hệ điều hành nạp khi được truy cập lần đầu.
+ * </p>
+ * <p>
+ * Khi cần thêm chỗ, tệp được kéo dài theo {@link GrowthPolicy} và được ánh xạ lại; vùng ánh xạ
+ * cũ được giải phóng ngay. Các thay đổi có thể được ghi xuống đĩa một cách chắc chắn bằng
+ * {@link #force()}; nếu không, hệ điều hành sẽ tự ghi các trang bẩn theo lịch của nó.
+ * </p>
+ * <p>
+ * Định dạng tệp gồm phần đầu {@value #HEADER_BYTES} byte (magic, phiên bản, kích thước
+ * phần tử và số phần tử) theo sau là các phần tử liên tiếp. Số phần tử được cập nhật trực tiếp
+ * trong vùng ánh xạ sau mỗi thao tác thay đổi kích thước.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong mảng
+ */
+public class MappedDynamicArray<T> implements Iterable<T>, AutoCloseable {
+    /**
+     * Kích thước phần đầu tệp; đồng thời là căn lề tối đa được hỗ trợ cho một phần tử.
+     */
+    public static final int HEADER_BYTES = 64;
+
+    private static final long MAGIC = 0x414C474F43444131L; // "ALGOCDA1"
+    private static final int VERSION = 1;
+    private static final long MAGIC_OFFSET = 0;
+    private static final long VERSION_OFFSET = 8;
+    private static final long ELEMENT_SIZE_OFFSET = 12;
+    private static final long SIZE_OFFSET = 16;
+
+    private final OffHeapLayout<T> elementLayout;
+    private final GrowthPolicy growthPolicy;
+    private final FileChannel channel;
+    private final long elementSize;
+    private Arena arena;
+    private MemorySegment mapping;
+    private int size;
+    private int capacity;
+
+    /**
+     * Mở hoặc tạo một mảng ánh xạ tệp với dung lượng ban đầu mặc định là 10.
+     *
+     * @param file Đường dẫn đến tệp dữ liệu
+     * @param elementLayout Layout của mỗi phần tử
+     * @throws UncheckedIOException Nếu không thể mở hoặc ánh xạ tệp
+     * @throws IllegalArgumentException Nếu tệp đã có không khớp với layout
+     */
+    public MappedDynamicArray(Path file, OffHeapLayout<T> elementLayout) {
+        this(file, elementLayout, 10, DefaultGrowthPolicy.doubling());
+    }
+
+    /**
+     * Mở hoặc tạo một mảng ánh xạ tệp.
+     * <p>
+     * Nếu tệp chưa tồn tại hoặc rỗng, nó được tạo với dung lượng ban đầu đã chỉ định.
+     * Nếu tệp đã tồn tại, nội dung của nó được dùng lại và {@code initialCapacity} bị bỏ qua.
+     * </p>
+     *
+     * @param file Đường dẫn đến tệp dữ liệu
+     * @param elementLayout Layout của mỗi phần tử
+     * @param initialCapacity Dung lượng ban đầu khi tạo tệp mới
+     * @param growthPolicy Chính sách quyết định cách kéo dài tệp
+     * @throws UncheckedIOException Nếu không thể mở hoặc ánh xạ tệp
+     * @throws IllegalArgumentException Nếu dung lượng là số âm, layout không hợp lệ
+     *         hoặc tệp đã có không khớp với layout
+     * @throws NullPointerException Nếu một trong các tham số là null
+     */
+    public MappedDynamicArray(Path file, OffHeapLayout<T> elementLayout, int initialCapacity, GrowthPolicy growthPolicy) {
+        if (file == null || elementLayout == null || growthPolicy == null) {
+            throw new NullPointerException("File, element layout and growth policy cannot be null!");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative. Capacity: " + initialCapacity);
+        }
+        long byteSize = elementLayout.layout().byteSize();
+        long alignment = elementLayout.layout().byteAlignment();
+        if (byteSize <= 0 || byteSize > Integer.MAX_VALUE || byteSize % alignment != 0 || alignment > HEADER_BYTES) {
+            throw new IllegalArgumentException("Unsupported element layout: " + elementLayout.layout());
+        }
+        this.elementLayout = elementLayout;
+        this.growthPolicy = growthPolicy;
+        this.elementSize = byteSize;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open file: " + file, e);
+        }
+        try {
+            long fileSize = size(channel, file);
+            if (fileSize == 0) {
+                map(initialCapacity);
+                mapping.set(ValueLayout.JAVA_LONG, MAGIC_OFFSET, MAGIC);
+                mapping.set(ValueLayout.JAVA_INT, VERSION_OFFSET, VERSION);
+                mapping.set(ValueLayout.JAVA_INT, ELEMENT_SIZE_OFFSET, (int) elementSize);
+                writeSize(0);
+            } else {
+                openExisting(file, fileSize);
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Thêm một phần tử vào cuối mảng, kéo dài tệp nếu cần.
+     *
+     * @param element Phần tử được thêm vào mảng
+     * @throws NullPointerException Nếu phần tử là null
+     */
+    public void append(T element) {
+        if (element == null) {
+            throw new NullPointerException("Mapped arrays cannot store null elements!");
+        }
+        if (size == capacity) {
+            map(growthPolicy.grow(capacity, size + 1));
+        }
+        elementLayout.write(mapping, offsetOf(size), element);
+        writeSize(size + 1);
+    }
+
+    /**
+     * Trả về phần tử tại vị trí chỉ định trong mảng này.
+     *
+     * @param index Chỉ số của phần tử cần trả về
+     * @return Phần tử tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public T get(int index) {
+        validateIndex(index);
+        return elementLayout.read(mapping, offsetOf(index));
+    }
+
+    /**
+     * Thay thế phần tử tại vị trí chỉ định trong mảng này.
+     *
+     * @param index Chỉ số của phần tử cần thay thế
+     * @param element Phần tử được lưu trữ tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     * @throws NullPointerException Nếu phần tử là null
+     */
+    public void set(int index, T element) {
+        validateIndex(index);
+        if (element == null) {
+            throw new NullPointerException("Mapped arrays cannot store null elements!");
+        }
+        elementLayout.write(mapping, offsetOf(index), element);
+    }
+
+    /**
+     * Xóa phần tử tại vị trí chỉ định trong mảng này.
+     * <p>
+     * Các phần tử tiếp theo được dịch sang trái bằng một lần sao chép khối trong vùng ánh xạ.
+     * </p>
+     *
+     * @param index Chỉ số của phần tử cần xóa
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi [0, size-1]
+     */
+    public void remove(int index) {
+        validateIndex(index);
+        MemorySegment.copy(mapping, offsetOf(index + 1), mapping, offsetOf(index), (size - index - 1) * elementSize);
+        writeSize(size - 1);
+    }
+
+    /**
+     * Xóa tất cả các phần tử trong mảng này.
+     * <p>
+     * Chỉ số phần tử được đặt lại về 0; kích thước tệp không thay đổi.
+     * </p>
+     */
+    public void clear() {
+        writeSize(0);
+    }
+
+    /**
+     * Đảm bảo mảng có thể chứa ít nhất số phần tử đã chỉ định mà không cần kéo dài tệp thêm.
+     *
+     * @param minCapacity Dung lượng tối thiểu mong muốn
+     * @throws IllegalStateException Nếu dung lượng vượt quá giới hạn của chính sách tăng trưởng
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            map(growthPolicy.grow(capacity, minCapacity));
+        }
+    }
+
+    /**
+     * Cắt tệp về đúng kích thước cần cho các phần tử hiện tại.
+     * <p>
+     * Vùng ánh xạ phải được giải phóng trước khi cắt tệp. Nếu việc cắt hoặc ánh xạ lại thất bại,
+     * tệp được ánh xạ lại với dung lượng cũ và mảng vẫn dùng được. Chỉ khi cả việc khôi phục cũng
+     * thất bại thì mảng mới không còn vùng ánh xạ: mọi truy cập sau đó ném ra
+     * {@link IllegalStateException} và chỉ còn {@link #close()} là hợp lệ; dữ liệu trong tệp vẫn nguyên vẹn.
+     * </p>
+     *
+     * @throws UncheckedIOException Nếu không thể cắt hoặc ánh xạ lại tệp
+     */
+    public void trimToSize() {
+        if (size == capacity) {
+            return;
+        }
+        unmap();
+        try {
+            channel.truncate(HEADER_BYTES + size * elementSize);
+        } catch (IOException e) {
+            throw restoreMapping(new UncheckedIOException("Cannot truncate file.", e));
+        }
+        try {
+            map(size);
+        } catch (UncheckedIOException e) {
+            throw restoreMapping(e);
+        }
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
+     * hoặc -1 nếu mảng này không chứa phần tử.
+     *
+     * @param element Phần tử cần tìm kiếm
+     * @return Chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
+     *         hoặc -1 nếu mảng này không chứa phần tử
+     */
+    public int indexOf(Object element) {
+        if (element == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (element.equals(elementLayout.read(mapping, offsetOf(i)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Trả về true nếu mảng này chứa phần tử đã chỉ định.
+     *
+     * @param element Phần tử cần kiểm tra
+     * @return true nếu mảng này chứa phần tử đã chỉ định, false nếu không
+     */
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Hoán đổi các phần tử tại các vị trí chỉ định trong mảng này.
+     *
+     * @param i Chỉ số của một phần tử cần hoán đổi
+     * @param j Chỉ số của phần tử khác cần hoán đổi
+     * @throws IndexOutOfBoundsException Nếu một trong hai chỉ số nằm ngoài phạm vi
+     */
+    public void swap(int i, int j) {
+        validateIndex(i);
+        validateIndex(j);
+
+        T temp = elementLayout.read(mapping, offsetOf(i));
+        elementLayout.write(mapping, offsetOf(i), elementLayout.read(mapping, offsetOf(j)));
+        elementLayout.write(mapping, offsetOf(j), temp);
+    }
+
+    /**
+     * Ghi tất cả các thay đổi trong vùng ánh xạ xuống thiết bị lưu trữ.
+     * <p>
+     * Sau khi phương thức trả về, dữ liệu vẫn còn nguyên nếu tiến trình hoặc hệ điều hành gặp sự cố.
+     * </p>
+     */
+    public void force() {
+        mapping.force();
+    }
+
+    /**
+     * Trả về số lượng phần tử trong mảng này.
+     *
+     * @return Số lượng phần tử trong mảng này
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Trả về true nếu mảng này không chứa phần tử nào.
+     *
+     * @return true nếu mảng này không chứa phần tử nào
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Trả về dung lượng hiện tại của mảng này, tức số phần tử mà tệp có thể chứa.
+     *
+     * @return Dung lượng hiện tại
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Giải phóng vùng ánh xạ và đóng tệp.
+     * <p>
+     * Phương thức này không gọi {@link #force()}; các trang bẩn vẫn được hệ điều hành ghi xuống tệp.
+     * </p>
+     *
+     * @throws UncheckedIOException Nếu không thể đóng tệp
+     */
+    @Override
+    public void close() {
+        unmap();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close file.", e);
+        }
+    }
+
+    /**
+     * Trả về một biểu diễn chuỗi của mảng này.
+     *
+     * @return Biểu diễn chuỗi của mảng này
+     */
+    @Override
+    public String toString() {
+        if (size == 0) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size - 1; i++) {
+            sb.append(elementLayout.read(mapping, offsetOf(i)));
+            sb.append(", ");
+        }
+        sb.append(elementLayout.read(mapping, offsetOf(size - 1)));
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một bộ lặp (iterator) cho các phần tử trong mảng này.
+     *
+     * @return Một bộ lặp cho các phần tử trong mảng này
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements to iterate.");
+                }
+                return elementLayout.read(mapping, offsetOf(currentIndex++));
+            }
+        };
+    }
+
+    /**
+     * Trả về một Spliterator trên các phần tử của mảng này.
+     * <p>
+     * Spliterator có các đặc tính {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} và
+     * {@link Spliterator#ORDERED}, và chia đôi khoảng chỉ số trong O(1); mỗi phần tử được đọc
+     * trực tiếp từ vùng nhớ khi duyệt tới. Spliterator được gắn với kích thước tại thời điểm gọi, nên
+     * mảng không được thay đổi kích thước trong lúc duyệt.
+     * </p>
+     *
+     * @return Một Spliterator cho mảng này
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexRangeSpliterator<>(i -> elementLayout.read(mapping, offsetOf(i)), 0, size, 0);
+    }
+
+    /**
+     * Trả về một Stream tuần tự trên các phần tử của mảng này.
+     *
+     * @return Một Stream tuần tự
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một Stream song song trên các phần tử của mảng này.
+     *
+     * @return Một Stream song song
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Trả về kích thước hiện tại của tệp.
+     *
+     * @param channel Kênh của tệp
+     * @param file Đường dẫn đến tệp, dùng trong thông báo lỗi
+     * @return Kích thước của tệp tính bằng byte
+     * @throws UncheckedIOException Nếu không thể đọc kích thước tệp
+     */
+    private static long size(FileChannel channel, Path file) {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read size of file: " + file, e);
+        }
+    }
+
+    /**
+     * Đọc và kiểm tra phần đầu của một tệp đã có rồi ánh xạ toàn bộ tệp.
+     *
+     * @param file Đường dẫn đến tệp, dùng trong thông báo lỗi
+     * @param fileSize Kích thước hiện tại của tệp
+     * @throws IllegalArgumentException Nếu tệp không đúng định dạng hoặc không khớp với layout
+     */
+    private void openExisting(Path file, long fileSize) {
+        long elementBytes = fileSize - HEADER_BYTES;
+        if (elementBytes < 0 || elementBytes % elementSize != 0 || elementBytes / elementSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Not a mapped array file: " + file);
+        }
+        map((int) (elementBytes / elementSize));
+        if (mapping.get(ValueLayout.JAVA_LONG, MAGIC_OFFSET) != MAGIC
+                || mapping.get(ValueLayout.JAVA_INT, VERSION_OFFSET) != VERSION) {
+            throw new IllegalArgumentException("Not a mapped array file: " + file);
+        }
+        int storedElementSize = mapping.get(ValueLayout.JAVA_INT, ELEMENT_SIZE_OFFSET);
+        if (storedElementSize != elementSize) {
+            throw new IllegalArgumentException("Element size mismatch. File: " + storedElementSize
+                    + ", layout: " + elementSize);
+        }
+        long storedSize = mapping.get(ValueLayout.JAVA_LONG, SIZE_OFFSET);
+        if (storedSize < 0 || storedSize > capacity) {
+            throw new IllegalArgumentException("Corrupted element count " + storedSize + " in file: " + file);
+        }
+        size = (int) storedSize;
+    }
+
+    /**
+     * Ánh xạ tệp với dung lượng đã chỉ định, kéo dài tệp nếu cần, và giải phóng vùng ánh xạ cũ.
+     *
+     * @param newCapacity Dung lượng mới
+     * @throws UncheckedIOException Nếu không thể ánh xạ tệp
+     */
+    private void map(int newCapacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newMapping;
+        try {
+            newMapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + newCapacity * elementSize, newArena);
+        } catch (IOException e) {
+            newArena.close();
+            throw new UncheckedIOException("Cannot map file.", e);
+        }
+        unmap();
+        arena = newArena;
+        mapping = newMapping;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Ánh xạ lại tệp với dung lượng hiện tại sau khi {@link #trimToSize()} thất bại.
+     *
+     * @param failure Lỗi ban đầu
+     * @return {@code failure}, kèm lỗi khôi phục (nếu có) dưới dạng ngoại lệ bị chặn
+     */
+    private UncheckedIOException restoreMapping(UncheckedIOException failure) {
+        try {
+            map(capacity);
+        } catch (UncheckedIOException restoreFailure) {
+            failure.addSuppressed(restoreFailure);
+        }
+        return failure;
+    }
+
+    /**
+     * Giải phóng vùng ánh xạ hiện tại, nếu có.
+     * <p>
+     * Tham chiếu đến vùng ánh xạ được giữ lại để mọi truy cập sau đó ném ra
+     * {@link IllegalStateException} thay vì {@link NullPointerException}.
+     * </p>
+     */
+    private void unmap() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+    }
+
+    /**
+     * Cập nhật số phần tử trong bộ nhớ và trong phần đầu tệp.
+     *
+     * @param newSize Số phần tử mới
+     */
+    private void writeSize(int newSize) {
+        size = newSize;
+        mapping.set(ValueLayout.JAVA_LONG, SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Xác thực rằng chỉ số chỉ định nằm trong phạm vi [0, size-1].
+     *
+     * @param index Chỉ số cần xác thực
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi
+     */
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Trả về offset (tính bằng byte) của phần tử tại chỉ số đã cho trong vùng ánh xạ.
+     *
+     * @param index Chỉ số của phần tử
+     * @return Offset của phần tử
+     */
+    private long offsetOf(int index) {
+        return HEADER_BYTES + index * elementSize;
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Mô tả cách một phần tử kiểu {@code T} được lưu trữ với độ rộng cố định ngoài heap.
+ * <p>
+ * Mỗi layout gồm một {@link MemoryLayout} (kích thước và căn lề của một phần tử) cùng với
+ * cách đọc và ghi phần tử tại một offset trong {@link MemorySegment}. Các layout cho kiểu
+ * nguyên thủy có sẵn dưới dạng hằng số; bản ghi có cấu trúc cố định có thể được mô tả bằng
+ * {@link #of(MemoryLayout, Reader, Writer)}, ví dụ:
+ * </p>
+ * <pre>{@code
+ * record Point(int x, int y) {}
+ *
+ * OffHeapLayout<Point> POINT = OffHeapLayout.of(
+ *         MemoryLayout.structLayout(JAVA_INT.withName("x"), JAVA_INT.withName("y")),
+ *         (segment, offset) -> new Point(segment.get(JAVA_INT, offset), segment.get(JAVA_INT, offset + 4)),
+ *         (segment, offset, point) -> {
+ *             segment.set(JAVA_INT, offset, point.x());
+ *             segment.set(JAVA_INT, offset + 4, point.y());
+ *         });
+ * }</pre>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của phần tử
+ * @see OffHeapStaticArray
+ */
+public interface OffHeapLayout<T> {
+    OffHeapLayout<Byte> BYTE = of(ValueLayout.JAVA_BYTE,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_BYTE, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_BYTE, offset, value));
+
+    OffHeapLayout<Short> SHORT = of(ValueLayout.JAVA_SHORT,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_SHORT, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_SHORT, offset, value));
+
+    OffHeapLayout<Character> CHAR = of(ValueLayout.JAVA_CHAR,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_CHAR, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_CHAR, offset, value));
+
+    OffHeapLayout<Integer> INT = of(ValueLayout.JAVA_INT,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_INT, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_INT, offset, value));
+
+    OffHeapLayout<Long> LONG = of(ValueLayout.JAVA_LONG,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_LONG, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_LONG, offset, value));
+
+    OffHeapLayout<Float> FLOAT = of(ValueLayout.JAVA_FLOAT,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_FLOAT, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_FLOAT, offset, value));
+
+    OffHeapLayout<Double> DOUBLE = of(ValueLayout.JAVA_DOUBLE,
+            (segment, offset) -> segment.get(ValueLayout.JAVA_DOUBLE, offset),
+            (segment, offset, value) -> segment.set(ValueLayout.JAVA_DOUBLE, offset, value));
+
+    /**
+     * Trả về layout bộ nhớ của một phần tử.
+     *
+     * @return Layout bộ nhớ của một phần tử
+     */
+    MemoryLayout layout();
+
+    /**
+     * Đọc một phần tử tại offset (tính bằng byte) đã chỉ định.
+     *
+     * @param segment Vùng nhớ chứa phần tử
+     * @param offset Offset của phần tử trong vùng nhớ
+     * @return Phần tử đã đọc
+     */
+    T read(MemorySegment segment, long offset);
+
+    /**
+     * Ghi một phần tử tại offset (tính bằng byte) đã chỉ định.
+     *
+     * @param segment Vùng nhớ chứa phần tử
+     * @param offset Offset của phần tử trong vùng nhớ
+     * @param value Phần tử cần ghi, không được là null
+     */
+    void write(MemorySegment segment, long offset, T value);
+
+    /**
+     * Tạo một layout từ layout bộ nhớ và các hàm đọc/ghi đã cho.
+     *
+     * @param layout Layout bộ nhớ của một phần tử
+     * @param reader Hàm đọc một phần tử tại một offset
+     * @param writer Hàm ghi một phần tử tại một offset
+     * @param <T> Kiểu dữ liệu của phần tử
+     * @return Layout mới
+     * @throws NullPointerException Nếu một trong các tham số là null
+     */
+    static <T> OffHeapLayout<T> of(MemoryLayout layout, Reader<T> reader, Writer<T> writer) {
+        if (layout == null || reader == null || writer == null) {
+            throw new NullPointerException("Layout, reader and writer cannot be null!");
+        }
+        return new OffHeapLayout<>() {
+            @Override
+            public MemoryLayout layout() {
+                return layout;
+            }
+
+            @Override
+            public T read(MemorySegment segment, long offset) {
+                return reader.read(segment, offset);
+            }
+
+            @Override
+            public void write(MemorySegment segment, long offset, T value) {
+                writer.write(segment, offset, value);
+            }
+
+            @Override
+            public String toString() {
+                return "OffHeapLayout[" + layout + "]";
+            }
+        };
+    }
+
+    /**
+     * Hàm đọc một phần tử từ vùng nhớ.
+     *
+     * @param <T> Kiểu dữ liệu của phần tử
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(MemorySegment segment, long offset);
+    }
+
+    /**
+     * Hàm ghi một phần tử vào vùng nhớ.
+     *
+     * @param <T> Kiểu dữ liệu của phần tử
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(MemorySegment segment, long offset, T value);
+    }
+}
@@ -0,0 +1,450 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mảng tĩnh lưu trữ các phần tử có độ rộng cố định ngoài heap của Java.
+ * <p>
+ * Lớp này có cùng API với {@link StaticArray} nhưng các phần tử nằm trong một
+ * {@link MemorySegment} được cấp phát từ một {@link Arena}. Bộ thu gom rác không phải quét
+ * vùng nhớ này, nên các bảng tra cứu rất lớn không làm tăng thời gian dừng GC. Cách mã hóa
+ * mỗi phần tử được mô tả bởi một {@link OffHeapLayout}: có thể là kiểu nguyên thủy hoặc một
+ * bản ghi có layout cố định.
+ * </p>
+ * <p>
+ * Vòng đời của vùng nhớ được kiểm soát tường minh. Nếu mảng tự tạo arena, {@link #close()}
+ * giải phóng vùng nhớ ngay lập tức; nếu arena được truyền vào, vùng nhớ sống cho đến khi
+ * người gọi đóng arena đó. Mọi truy cập sau khi vùng nhớ đã được giải phóng ném ra
+ * {@link IllegalStateException}.
+ * </p>
+ * <p>
+ * Vì các phần tử là giá trị có độ rộng cố định, mảng không chứa được {@code null}:
+ * {@link #clear()} đặt toàn bộ byte về 0 và {@link #indexOf(Object)} so sánh theo nội dung byte.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ * @param <T> Kiểu dữ liệu của các phần tử được lưu trữ trong mảng
+ */
+public class OffHeapStaticArray<T> implements Iterable<T>, AutoCloseable {
+    private final OffHeapLayout<T> elementLayout;
+    private final Arena arena;
+    private final boolean ownsArena;
+    private final MemorySegment segment;
+    private final long elementSize;
+    private final int capacity;
+
+    /**
+     * Tạo một mảng mới với dung lượng đã chỉ định trong một arena dùng chung do mảng sở hữu.
+     * <p>
+     * Vùng nhớ được giải phóng khi gọi {@link #close()}.
+     * </p>
+     *
+     * @param capacity Kích thước cố định của mảng
+     * @param elementLayout Layout của mỗi phần tử
+     * @throws IllegalArgumentException Nếu dung lượng là số âm hoặc layout không hợp lệ
+     * @throws NullPointerException Nếu layout là null
+     */
+    public OffHeapStaticArray(int capacity, OffHeapLayout<T> elementLayout) {
+        this(capacity, elementLayout, ownedArena(capacity, elementLayout), true);
+    }
+
+    /**
+     * Tạo một mảng mới với dung lượng đã chỉ định trong arena do người gọi quản lý.
+     * <p>
+     * Vùng nhớ sống cho đến khi arena bị đóng; {@link #close()} không đóng arena này.
+     * </p>
+     *
+     * @param capacity Kích thước cố định của mảng
+     * @param elementLayout Layout của mỗi phần tử
+     * @param arena Arena dùng để cấp phát vùng nhớ
+     * @throws IllegalArgumentException Nếu dung lượng là số âm hoặc layout không hợp lệ
+     * @throws NullPointerException Nếu layout hoặc arena là null
+     */
+    public OffHeapStaticArray(int capacity, OffHeapLayout<T> elementLayout, Arena arena) {
+        this(capacity, elementLayout, arena, false);
+    }
+
+    private OffHeapStaticArray(int capacity, OffHeapLayout<T> elementLayout, Arena arena, boolean ownsArena) {
+        validate(capacity, elementLayout);
+        if (arena == null) {
+            throw new NullPointerException("Arena cannot be null!");
+        }
+        this.elementLayout = elementLayout;
+        this.arena = arena;
+        this.ownsArena = ownsArena;
+        this.elementSize = elementLayout.layout().byteSize();
+        this.capacity = capacity;
+        this.segment = arena.allocate(elementSize * capacity, elementLayout.layout().byteAlignment());
+    }
+
+    /**
+     * Xác thực tham số rồi tạo arena dùng chung mà mảng sẽ sở hữu.
+     * <p>
+     * Việc xác thực diễn ra trước để không tạo ra arena bị bỏ rơi khi tham số không hợp lệ.
+     * </p>
+     */
+    private static Arena ownedArena(int capacity, OffHeapLayout<?> elementLayout) {
+        validate(capacity, elementLayout);
+        return Arena.ofShared();
+    }
+
+    /**
+     * Xác thực dung lượng và layout của phần tử.
+     *
+     * @param capacity Dung lượng cần xác thực
+     * @param elementLayout Layout cần xác thực
+     * @throws IllegalArgumentException Nếu dung lượng là số âm hoặc layout không hợp lệ
+     * @throws NullPointerException Nếu layout là null
+     */
+    private static void validate(int capacity, OffHeapLayout<?> elementLayout) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative. Capacity: " + capacity);
+        }
+        if (elementLayout == null) {
+            throw new NullPointerException("Element layout cannot be null!");
+        }
+        long size = elementLayout.layout().byteSize();
+        if (size <= 0 || size % elementLayout.layout().byteAlignment() != 0) {
+            throw new IllegalArgumentException("Element size must be a positive multiple of its alignment. Layout: "
+                    + elementLayout.layout());
+        }
+    }
+
+    /**
+     * Trả về phần tử tại vị trí chỉ định trong mảng này.
+     *
+     * @param index Chỉ số của phần tử để trả về
+     * @return Phần tử tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi hợp lệ
+     */
+    public T get(int index) {
+        validateIndex(index);
+        return elementLayout.read(segment, offsetOf(index));
+    }
+
+    /**
+     * Đặt phần tử tại vị trí chỉ định trong mảng này.
+     *
+     * @param index Chỉ số của phần tử cần thay thế
+     * @param element Phần tử được lưu trữ tại vị trí chỉ định
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi hợp lệ
+     * @throws NullPointerException Nếu phần tử là null
+     */
+    public void set(int index, T element) {
+        validateIndex(index);
+        if (element == null) {
+            throw new NullPointerException("Off-heap arrays cannot store null elements!");
+        }
+        elementLayout.write(segment, offsetOf(index), element);
+    }
+
+    /**
+     * Xóa tất cả các phần tử trong mảng bằng cách đặt toàn bộ byte về 0.
+     */
+    public void clear() {
+        segment.fill((byte) 0);
+    }
+
+    /**
+     * Điền vào mảng với phần tử đã chỉ định.
+     * <p>
+     * Phần tử được ghi một lần, sau đó vùng đã điền được nhân đôi bằng các lần sao chép khối,
+     * nên chỉ cần O(log n) lần gọi {@link MemorySegment#copy}.
+     * </p>
+     *
+     * @param element Phần tử để điền vào mảng
+     * @throws NullPointerException Nếu phần tử là null
+     */
+    public void fill(T element) {
+        if (element == null) {
+            throw new NullPointerException("Off-heap arrays cannot store null elements!");
+        }
+        if (capacity == 0) {
+            return;
+        }
+        elementLayout.write(segment, 0, element);
+        long filled = elementSize;
+        long total = segment.byteSize();
+        while (filled < total) {
+            long chunk = Math.min(filled, total - filled);
+            MemorySegment.copy(segment, 0, segment, filled, chunk);
+            filled += chunk;
+        }
+    }
+
+    /**
+     * Trả về chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
+     * hoặc -1 nếu mảng này không chứa phần tử.
+     * <p>
+     * Phần tử cần tìm được mã hóa bằng layout rồi so sánh theo nội dung byte với từng phần tử,
+     * nên không có đối tượng nào được tạo ra khi duyệt. Trả về -1 nếu phần tử là null hoặc
+     * không thuộc kiểu của layout.
+     * </p>
+     *
+     * @param element Phần tử cần tìm kiếm
+     * @return Chỉ số của lần xuất hiện đầu tiên của phần tử đã chỉ định,
+     *         hoặc -1 nếu mảng này không chứa phần tử
+     */
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object element) {
+        if (element == null || capacity == 0) {
+            return -1;
+        }
+        MemorySegment probe = MemorySegment.ofArray(new long[(int) ((elementSize + 7) / 8)]);
+        try {
+            elementLayout.write(probe, 0, (T) element);
+        } catch (ClassCastException e) {
+            return -1;
+        }
+        if (elementSize == Long.BYTES) {
+            long key = probe.get(ValueLayout.JAVA_LONG, 0);
+            for (int i = 0; i < capacity; i++) {
+                if (segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offsetOf(i)) == key) {
+                    return i;
+                }
+            }
+        } else if (elementSize == Integer.BYTES) {
+            int key = probe.get(ValueLayout.JAVA_INT, 0);
+            for (int i = 0; i < capacity; i++) {
+                if (segment.get(ValueLayout.JAVA_INT_UNALIGNED, offsetOf(i)) == key) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < capacity; i++) {
+                long offset = offsetOf(i);
+                if (MemorySegment.mismatch(segment, offset, offset + elementSize, probe, 0, elementSize) == -1) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Trả về true nếu mảng này chứa phần tử đã chỉ định.
+     *
+     * @param element Phần tử cần kiểm tra sự hiện diện trong mảng này
+     * @return true nếu mảng này chứa phần tử đã chỉ định
+     */
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Trả về số lượng phần tử trong mảng này (dung lượng của nó).
+     *
+     * @return Số lượng phần tử trong mảng này
+     */
+    public int size() {
+        return capacity;
+    }
+
+    /**
+     * Trả về true nếu mảng này không chứa phần tử nào.
+     *
+     * @return true nếu mảng này không chứa phần tử nào
+     */
+    public boolean isEmpty() {
+        return capacity == 0;
+    }
+
+    /**
+     * Hoán đổi các phần tử tại các vị trí chỉ định trong mảng này.
+     * <p>
+     * Các phần tử được hoán đổi trực tiếp theo byte, không giải mã thành đối tượng.
+     * </p>
+     *
+     * @param i Chỉ số của một phần tử được hoán đổi
+     * @param j Chỉ số của phần tử khác được hoán đổi
+     * @throws IndexOutOfBoundsException Nếu một trong hai chỉ số nằm ngoài phạm vi hợp lệ
+     */
+    public void swap(int i, int j) {
+        validateIndex(i);
+        validateIndex(j);
+        swapBytes(offsetOf(i), offsetOf(j));
+    }
+
+    /**
+     * Đảo ngược thứ tự các phần tử trong mảng này.
+     */
+    public void reverse() {
+        for (int i = 0; i < capacity / 2; i++) {
+            swapBytes(offsetOf(i), offsetOf(capacity - i - 1));
+        }
+    }
+
+    /**
+     * Trả về một bản sao của mảng này trong một arena mới do bản sao sở hữu.
+     *
+     * @return Một OffHeapStaticArray mới với cùng các phần tử
+     */
+    public OffHeapStaticArray<T> copy() {
+        OffHeapStaticArray<T> newArray = new OffHeapStaticArray<>(capacity, elementLayout);
+        MemorySegment.copy(segment, 0, newArray.segment, 0, segment.byteSize());
+        return newArray;
+    }
+
+    /**
+     * Trả về một bản sao của mảng này được cấp phát trong arena đã chỉ định.
+     *
+     * @param arena Arena dùng để cấp phát bản sao
+     * @return Một OffHeapStaticArray mới với cùng các phần tử
+     */
+    public OffHeapStaticArray<T> copy(Arena arena) {
+        OffHeapStaticArray<T> newArray = new OffHeapStaticArray<>(capacity, elementLayout, arena);
+        MemorySegment.copy(segment, 0, newArray.segment, 0, segment.byteSize());
+        return newArray;
+    }
+
+    /**
+     * Trả về vùng nhớ chứa các phần tử, để trao đổi dữ liệu với mã native hoặc I/O.
+     *
+     * @return Vùng nhớ của mảng này
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Giải phóng vùng nhớ nếu mảng sở hữu arena của nó.
+     * <p>
+     * Nếu arena được truyền vào từ bên ngoài, phương thức này không làm gì.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (ownsArena) {
+            arena.close();
+        }
+    }
+
+    /**
+     * Trả về biểu diễn chuỗi của mảng này.
+     *
+     * @return Biểu diễn chuỗi của mảng này
+     */
+    @Override
+    public String toString() {
+        if (capacity == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < capacity - 1; i++) {
+            sb.append(elementLayout.read(segment, offsetOf(i)));
+            sb.append(", ");
+        }
+        sb.append(elementLayout.read(segment, offsetOf(capacity - 1)));
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Trả về một Iterator cho mảng này.
+     *
+     * @return Một Iterator cho mảng này
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < capacity;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements to iterate.");
+                }
+                return elementLayout.read(segment, offsetOf(currentIndex++));
+            }
+        };
+    }
+
+    /**
+     * Trả về một Spliterator trên các phần tử của mảng này.
+     * <p>
+     * Spliterator có các đặc tính {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} và
+     * {@link Spliterator#ORDERED}, và chia đôi khoảng chỉ số trong O(1); mỗi phần tử được đọc
+     * trực tiếp từ vùng nhớ khi duyệt tới.
+     * </p>
+     *
+     * @return Một Spliterator cho mảng này
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexRangeSpliterator<>(i -> elementLayout.read(segment, offsetOf(i)), 0, capacity, 0);
+    }
+
+    /**
+     * Trả về một Stream tuần tự trên các phần tử của mảng này.
+     *
+     * @return Một Stream tuần tự
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Trả về một Stream song song trên các phần tử của mảng này.
+     *
+     * @return Một Stream song song
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Xác thực rằng chỉ số đã chỉ định nằm trong phạm vi [0, capacity-1].
+     *
+     * @param index Chỉ số cần xác thực
+     * @throws IndexOutOfBoundsException Nếu chỉ số nằm ngoài phạm vi hợp lệ
+     */
+    private void validateIndex(int index) {
+        if (index < 0 || index >= capacity) {
+            throw new IndexOutOfBoundsException("index: " + index + ", capacity: " + capacity);
+        }
+    }
+
+    /**
+     * Trả về offset (tính bằng byte) của phần tử tại chỉ số đã cho.
+     *
+     * @param index Chỉ số của phần tử
+     * @return Offset của phần tử trong vùng nhớ
+     */
+    private long offsetOf(int index) {
+        return index * elementSize;
+    }
+
+    /**
+     * Hoán đổi hai phần tử theo byte, tám byte một lần khi có thể.
+     *
+     * @param first Offset của phần tử thứ nhất
+     * @param second Offset của phần tử thứ hai
+     */
+    private void swapBytes(long first, long second) {
+        long k = 0;
+        for (; k + Long.BYTES <= elementSize; k += Long.BYTES) {
+            long temp = segment.get(ValueLayout.JAVA_LONG_UNALIGNED, first + k);
+            segment.set(ValueLayout.JAVA_LONG_UNALIGNED, first + k, segment.get(ValueLayout.JAVA_LONG_UNALIGNED, second + k));
+            segment.set(ValueLayout.JAVA_LONG_UNALIGNED, second + k, temp);
+        }
+        for (; k < elementSize; k++) {
+            byte temp = segment.get(ValueLayout.JAVA_BYTE, first + k);
+            segment.set(ValueLayout.JAVA_BYTE, first + k, segment.get(ValueLayout.JAVA_BYTE, second + k));
+            segment.set(ValueLayout.JAVA_BYTE, second + k, temp);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.NoSuchElementException;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho ColumnarTable (Bảng lưu theo cột).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class ColumnarTableTest extends TestCase {
+
+    /**
+     * Kiểm thử truy cập theo hàng, quét, lọc và tổng hợp trên từng cột.
+     */
+    public void testColumnScansAndAggregates() {
+        ColumnarTable table = ColumnarTable.builder(1_000)
+                .intColumn("id")
+                .longColumn("timestamp")
+                .doubleColumn("price")
+                .byteColumn("flag")
+                .build();
+        ColumnarTable.IntColumn id = table.intColumn("id");
+        ColumnarTable.LongColumn timestamp = table.longColumn("timestamp");
+        ColumnarTable.DoubleColumn price = table.doubleColumn("price");
+        ColumnarTable.ByteColumn flag = table.byteColumn("flag");
+        for (int row = 0; row < table.rowCount(); row++) {
+            id.set(row, row);
+            timestamp.set(row, 1_000_000_000_000L + row);
+            price.set(row, row * 0.5);
+            flag.set(row, (byte) (row % 3 == 0 ? 1 : 0));
+        }
+
+        assertEquals(4, table.columnCount());
+        assertEquals("ColumnarTable[rows=1000, columns=[id:INT, timestamp:LONG, price:DOUBLE, flag:BYTE]]",
+                table.toString());
+        assertEquals("{id=7, timestamp=1000000000007, price=3.5, flag=0}", table.rowToString(7));
+
+        assertEquals(499_500L, id.sum());
+        assertEquals(0, id.min());
+        assertEquals(999, id.max());
+        assertEquals(1, id.count(42));
+        assertEquals(500, id.count(value -> value % 2 == 0));
+        assertEquals(1_000_000_000_999L, timestamp.max());
+        assertEquals(249_750.0, price.sum(), 1e-9);
+        assertEquals(499.5, price.max(), 0.0);
+        assertEquals(334, flag.count((byte) 1));
+        assertEquals(334L, flag.sum());
+
+        IntDynamicArray flagged = flag.filter(value -> value == 1);
+        assertEquals(334, flagged.size());
+        assertEquals(3, flagged.get(1));
+        IntDynamicArray selected = table.select(row -> flag.get(row) == 1 && price.get(row) >= 100.0);
+        assertEquals(267, selected.size());
+        assertEquals(201, selected.get(0));
+        assertEquals(id.sum(selected), (long) id.filter(value -> value >= 200 && value % 3 == 0).stream().sum());
+        assertEquals(price.sum(selected), id.sum(selected) * 0.5, 1e-9);
+        assertEquals(499_500L, id.stream().asLongStream().sum());
+        assertEquals(1000, flag.stream().count());
+        assertEquals(flag.sum(), flag.stream().sum());
+
+        flag.set(2, (byte) -128);
+        assertEquals(-128, flag.stream().min().getAsInt());
+        assertEquals(flag.sum(), flag.stream().asLongStream().sum());
+    }
+
+    /**
+     * Kiểm thử các lỗi về lược đồ và chỉ số hàng.
+     */
+    public void testSchemaAndIndexErrors() {
+        try {
+            ColumnarTable.builder(4).intColumn("a").doubleColumn("a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        ColumnarTable table = ColumnarTable.builder(4).intColumn("a").build();
+        try {
+            table.longColumn("a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            table.column("missing");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            table.intColumn("a").set(4, 1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            ColumnarTable.builder(0).doubleColumn("d").build().doubleColumn("d").min();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(ColumnarTable.ColumnType.INT, table.column(0).type());
+    }
+}
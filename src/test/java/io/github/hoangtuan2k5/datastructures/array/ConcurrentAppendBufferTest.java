@@ -0,0 +1,89 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai ConcurrentAppendBuffer (Bộ đệm chỉ-thêm đồng thời).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class ConcurrentAppendBufferTest extends TestCase {
+
+    /**
+     * Kiểm thử append, snapshot và drainTo trên một luồng.
+     */
+    public void testSingleThread() {
+        ConcurrentAppendBuffer<Integer> buffer = new ConcurrentAppendBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            buffer.append(i);
+        }
+        assertEquals(10, buffer.size());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", buffer.snapshot().toString());
+
+        DynamicArray<Integer> target = new DynamicArray<>(1);
+        target.append(-1);
+        assertEquals(10, buffer.drainTo(target));
+        assertEquals(11, target.size());
+        assertEquals(Integer.valueOf(9), target.get(10));
+        assertTrue(buffer.isEmpty());
+        assertEquals("[]", buffer.snapshot().toString());
+
+        buffer.append(10);
+        assertEquals(1, buffer.drainTo(target));
+        assertEquals(Integer.valueOf(10), target.get(11));
+
+        try {
+            new ConcurrentAppendBuffer<Integer>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử nhiều luồng ghi cùng lúc với một luồng lấy ra: mỗi phần tử được lấy ra đúng một lần
+     * và thứ tự thêm của từng luồng được giữ nguyên.
+     */
+    public void testConcurrentWritersAndDrainer() throws InterruptedException {
+        final int writers = 4;
+        final int perWriter = 50000;
+        final ConcurrentAppendBuffer<Long> buffer = new ConcurrentAppendBuffer<>(128);
+        final CountDownLatch done = new CountDownLatch(writers);
+
+        for (int w = 0; w < writers; w++) {
+            final long base = (long) w << 32;
+            new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    buffer.append(base + i);
+                }
+                done.countDown();
+            }).start();
+        }
+
+        DynamicArray<Long> drained = new DynamicArray<>(16);
+        while (done.getCount() > 0) {
+            buffer.drainTo(drained);
+        }
+        done.await();
+        buffer.drainTo(drained);
+
+        assertEquals(writers * perWriter, drained.size());
+        Set<Long> unique = new HashSet<>();
+        long[] lastPerWriter = new long[writers];
+        Arrays.fill(lastPerWriter, -1);
+        for (Long value : drained) {
+            assertTrue(unique.add(value));
+            int writer = (int) (value >>> 32);
+            long sequence = value & 0xFFFFFFFFL;
+            assertTrue(sequence > lastPerWriter[writer]);
+            lastPerWriter[writer] = sequence;
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho CopyOnWriteDynamicArray (Mảng động sao chép khi ghi).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class CopyOnWriteDynamicArrayTest extends TestCase {
+
+    /**
+     * Kiểm thử các thao tác ghi đơn lẻ và bộ lặp duyệt ảnh chụp tại thời điểm tạo.
+     */
+    public void testWritesAndSnapshotIteration() {
+        CopyOnWriteDynamicArray<String> array = new CopyOnWriteDynamicArray<>();
+        array.append("B");
+        array.insert(0, "A");
+        array.appendAll(new String[] {"C", "D"});
+        assertEquals("[A, B, C, D]", array.toString());
+
+        Iterator<String> snapshot = array.iterator();
+        assertEquals("B", array.set(1, "b"));
+        assertEquals("D", array.remove(3));
+        assertTrue(array.removeIf(s -> s.equals("A")));
+        assertFalse(array.removeIf(s -> s.equals("Z")));
+        assertEquals("[b, C]", array.toString());
+        assertEquals(1, array.indexOf("C"));
+        assertTrue(array.contains("b"));
+
+        StringBuilder seen = new StringBuilder();
+        while (snapshot.hasNext()) {
+            seen.append(snapshot.next());
+        }
+        assertEquals("ABCD", seen.toString());
+
+        try {
+            array.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+        array.clear();
+        assertTrue(array.isEmpty());
+    }
+
+    /**
+     * Kiểm thử một lô thay đổi được công bố một lần, và bị bỏ qua hoàn toàn nếu hàm thay đổi ném ngoại lệ.
+     */
+    public void testMutateIsAtomic() {
+        DynamicArray<Integer> initial = new DynamicArray<>(4);
+        initial.append(1);
+        initial.append(2);
+        CopyOnWriteDynamicArray<Integer> array = new CopyOnWriteDynamicArray<>(initial);
+
+        array.mutate(working -> {
+            for (int i = 3; i <= 10; i++) {
+                working.append(i);
+            }
+            working.remove(0);
+            working.set(0, 20);
+        });
+        assertEquals("[20, 3, 4, 5, 6, 7, 8, 9, 10]", array.toString());
+
+        try {
+            array.mutate(working -> {
+                working.clear();
+                throw new IllegalStateException("abort");
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(9, array.size());
+        assertEquals(Integer.valueOf(72), array.stream().reduce(0, Integer::sum));
+    }
+
+    /**
+     * Kiểm thử luồng đọc không bao giờ thấy trạng thái trung gian của một lô thay đổi.
+     */
+    public void testReadersSeeOnlyCompleteBatches() throws InterruptedException {
+        final CopyOnWriteDynamicArray<Integer> array = new CopyOnWriteDynamicArray<>();
+        array.mutate(working -> {
+            for (int i = 0; i < 100; i++) {
+                working.append(0);
+            }
+        });
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                int first = -1;
+                for (Integer value : array) {
+                    if (first == -1) {
+                        first = value;
+                    } else if (value != first) {
+                        failure.set("Mixed snapshot: " + first + " and " + value);
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int round = 1; round <= 500; round++) {
+            final int value = round;
+            array.mutate(working -> working.fill(value));
+        }
+        running.set(false);
+        reader.join();
+        assertNull(failure.get());
+        assertEquals(Integer.valueOf(500), array.get(99));
+    }
+}
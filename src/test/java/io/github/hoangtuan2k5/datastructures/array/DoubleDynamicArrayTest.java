@@ -0,0 +1,106 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai DoubleDynamicArray (Mảng Động kiểu double).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class DoubleDynamicArrayTest extends TestCase {
+
+    /**
+     * Kiểm thử append, get và remove của DoubleDynamicArray.
+     */
+    public void testAppendGetAndRemove() {
+        DoubleDynamicArray array = new DoubleDynamicArray(1);
+        array.append(1.5);
+        array.append(2.5);
+        array.append(3.5);
+
+        assertEquals(3, array.size());
+        assertEquals(2.5, array.get(1), 0.0);
+        assertEquals(1.5, array.remove(0), 0.0);
+        assertEquals("[2.5, 3.5]", array.toString());
+    }
+
+    /**
+     * Kiểm thử indexOf với NaN và số 0 có dấu, theo ngữ nghĩa của Double.equals.
+     */
+    public void testIndexOfSpecialValues() {
+        DoubleDynamicArray array = new DoubleDynamicArray(3);
+        array.append(0.0);
+        array.append(Double.NaN);
+        array.append(-0.0);
+
+        assertEquals(1, array.indexOf(Double.NaN));
+        assertEquals(0, array.indexOf(0.0));
+        assertEquals(2, array.indexOf(-0.0));
+        assertFalse(array.contains(1.0));
+    }
+
+    /**
+     * Kiểm thử forEach của DoubleDynamicArray.
+     */
+    public void testForEach() {
+        DoubleDynamicArray array = new DoubleDynamicArray(2);
+        array.append(0.25);
+        array.append(0.75);
+
+        final double[] sum = {0.0};
+        array.forEach(value -> sum[0] += value);
+        assertEquals(1.0, sum[0], 0.0);
+    }
+
+    /**
+     * Kiểm thử DoubleStream trên các phần tử hiện có.
+     */
+    public void testStream() {
+        DoubleDynamicArray array = new DoubleDynamicArray(2);
+        array.append(0.5);
+        array.append(1.5);
+        array.append(2.0);
+
+        assertEquals(4.0, array.stream().sum(), 0.0);
+        assertEquals(4.0, array.parallelStream().sum(), 0.0);
+        assertEquals(3, array.spliterator().getExactSizeIfKnown());
+    }
+
+    /**
+     * Kiểm thử tiền tố song song cho kiểu double.
+     */
+    public void testParallelPrefix() {
+        DoubleDynamicArray array = new DoubleDynamicArray(1);
+        for (int i = 0; i < 100; i++) {
+            array.append(0.5);
+        }
+        array.parallelPrefix(Double::sum, ParallelPolicy.commonPool().withThreshold(8));
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(0.5 * (i + 1), array.get(i), 0.0);
+        }
+        array.parallelSetAll(i -> i * 0.25);
+        assertEquals(24.75, array.get(99), 0.0);
+    }
+
+    /**
+     * Kiểm thử count, min, max và mismatch với các giá trị đặc biệt.
+     */
+    public void testScansWithSpecialValues() {
+        DoubleDynamicArray array = new DoubleDynamicArray(2);
+        for (int i = 0; i < 40; i++) {
+            array.append(i);
+        }
+        array.set(0, -0.0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(array.min()));
+        assertEquals(39.0, array.max(), 0.0);
+        assertEquals(0, array.count(0.0));
+
+        DoubleDynamicArray other = array.copy();
+        array.append(Double.NaN);
+        other.append(Double.NaN);
+        assertEquals(-1, array.mismatch(other));
+        assertTrue(array.equalsRange(0, other, 0, 41));
+        assertEquals(1, array.count(Double.NaN));
+        assertTrue(Double.isNaN(array.max()));
+    }
+}
@@ -1,6 +1,11 @@
 package io.github.hoangtuan2k5.datastructures.array;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import junit.framework.TestCase;
 
@@ -177,6 +182,21 @@ public class DynamicArrayTest extends TestCase {
         copy.set(0, "Modified");
         assertEquals("X", original.get(0));
         assertEquals("Modified", copy.get(0));
+
+        // Bản sao giữ dung lượng ban đầu của mảng gốc làm mức sàn khi thu nhỏ
+        DynamicArray<Integer> grown = new DynamicArray<>(2,
+                new DefaultGrowthPolicy(2.0, 0, DefaultGrowthPolicy.MAX_ARRAY_CAPACITY, 0.25));
+        for (int i = 0; i < 64; i++) {
+            grown.append(i);
+        }
+        DynamicArray<Integer> grownCopy = grown.copy();
+        assertEquals(grown.capacity(), grownCopy.capacity());
+        for (int i = 0; i < 63; i++) {
+            grown.remove(0);
+            grownCopy.remove(0);
+        }
+        assertEquals(grown.capacity(), grownCopy.capacity());
+        assertTrue(grownCopy.capacity() < 64);
     }
     
     /**
@@ -229,4 +249,304 @@ public class DynamicArrayTest extends TestCase {
         }
         assertEquals(6, sum);
     }
-}
\ No newline at end of file
+
+    /**
+     * Kiểm thử mảng động có dung lượng ban đầu bằng 0 vẫn có thể tăng kích thước.
+     */
+    public void testAppendFromZeroCapacity() {
+        DynamicArray<Integer> array = new DynamicArray<>(0);
+        array.append(1);
+        array.append(2);
+        array.append(3);
+        assertEquals(3, array.size());
+        assertEquals("[1, 2, 3]", array.toString());
+    }
+
+    /**
+     * Kiểm thử phương thức ensureCapacity và trimToSize của DynamicArray.
+     */
+    public void testEnsureCapacityAndTrimToSize() {
+        DynamicArray<Integer> array = new DynamicArray<>(2);
+        array.ensureCapacity(100);
+        assertTrue(array.capacity() >= 100);
+
+        // Không cần thay đổi kích thước thêm khi thêm trong phạm vi đã đảm bảo
+        int capacity = array.capacity();
+        for (int i = 0; i < 100; i++) {
+            array.append(i);
+        }
+        assertEquals(capacity, array.capacity());
+
+        array.ensureCapacity(10);
+        assertEquals(capacity, array.capacity());
+
+        array.remove(99);
+        array.trimToSize();
+        assertEquals(99, array.capacity());
+        assertEquals(Integer.valueOf(98), array.get(98));
+
+        array.append(99);
+        assertEquals(100, array.size());
+    }
+
+    /**
+     * Kiểm thử chính sách tăng theo bước cộng có giới hạn trên.
+     */
+    public void testAdditiveGrowthWithCap() {
+        DynamicArray<Integer> array = new DynamicArray<>(2, DefaultGrowthPolicy.additive(3).withMaxCapacity(6));
+        array.append(1);
+        array.append(2);
+        array.append(3);
+        assertEquals(5, array.capacity());
+
+        array.append(4);
+        array.append(5);
+        array.append(6);
+        assertEquals(6, array.capacity());
+
+        try {
+            array.append(7);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(6, array.size());
+    }
+
+    /**
+     * Kiểm thử thu nhỏ có độ trễ khi xóa và khi clear, không xuống dưới dung lượng ban đầu.
+     */
+    public void testShrinkWithHysteresis() {
+        DynamicArray<Integer> array = new DynamicArray<>(4, DefaultGrowthPolicy.doubling().withShrinking(0.25));
+        for (int i = 0; i < 64; i++) {
+            array.append(i);
+        }
+        assertEquals(64, array.capacity());
+
+        // Giảm xuống 16 phần tử: vẫn bằng đúng 1/4 nên chưa thu nhỏ
+        while (array.size() > 16) {
+            array.remove(array.size() - 1);
+        }
+        assertEquals(64, array.capacity());
+
+        // Xuống dưới 1/4 thì thu nhỏ về gấp đôi số phần tử
+        array.remove(0);
+        assertEquals(30, array.capacity());
+        assertEquals(Integer.valueOf(1), array.get(0));
+
+        // Thêm lại một phần tử không gây tăng kích thước ngay lập tức
+        array.append(100);
+        assertEquals(30, array.capacity());
+
+        array.clear();
+        assertEquals(4, array.capacity());
+        assertTrue(array.isEmpty());
+    }
+
+    /**
+     * Kiểm thử xác thực tham số của DefaultGrowthPolicy.
+     */
+    public void testGrowthPolicyValidation() {
+        try {
+            new DefaultGrowthPolicy(1.0, 0, 10, 0.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            DefaultGrowthPolicy.multiplicative(0.5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            DefaultGrowthPolicy.doubling().withShrinking(0.5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            new DynamicArray<Integer>(1, null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(15, DefaultGrowthPolicy.multiplicative(1.5).grow(10, 11));
+    }
+
+    /**
+     * Kiểm thử các phương thức appendAll của DynamicArray.
+     */
+    public void testAppendAll() {
+        DynamicArray<Integer> array = new DynamicArray<>(1);
+        array.appendAll(new Integer[] {1, 2, 3});
+        assertEquals("[1, 2, 3]", array.toString());
+
+        array.appendAll(Arrays.asList(4, 5));
+        assertEquals("[1, 2, 3, 4, 5]", array.toString());
+
+        DynamicArray<Integer> other = new DynamicArray<>(2);
+        other.append(6);
+        array.appendAll(other);
+        assertEquals("[1, 2, 3, 4, 5, 6]", array.toString());
+
+        // Thêm chính nó vào cuối
+        DynamicArray<Integer> self = new DynamicArray<>(4);
+        self.append(1);
+        self.append(2);
+        self.appendAll(self);
+        assertEquals("[1, 2, 1, 2]", self.toString());
+
+        // Iterable không biết trước kích thước
+        Iterable<Integer> iterable = () -> Arrays.asList(7, 8).iterator();
+        array.appendAll(iterable);
+        assertEquals(8, array.size());
+        assertEquals(Integer.valueOf(8), array.get(7));
+    }
+
+    /**
+     * Kiểm thử các phương thức insert và insertAll của DynamicArray.
+     */
+    public void testInsertAndInsertAll() {
+        DynamicArray<String> array = new DynamicArray<>(2);
+        array.insert(0, "B");
+        array.insert(0, "A");
+        array.insert(2, "E");
+        assertEquals("[A, B, E]", array.toString());
+
+        array.insertAll(2, new String[] {"C", "D"});
+        assertEquals("[A, B, C, D, E]", array.toString());
+
+        array.insertAll(0, Arrays.asList("X", "Y"));
+        assertEquals("[X, Y, A, B, C, D, E]", array.toString());
+
+        DynamicArray<String> self = new DynamicArray<>(3);
+        self.append("1");
+        self.append("2");
+        self.append("3");
+        self.insertAll(1, self);
+        assertEquals("[1, 1, 2, 3, 2, 3]", self.toString());
+
+        try {
+            array.insert(8, "Z");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            array.insertAll(-1, new String[] {"Z"});
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử phương thức removeRange của DynamicArray.
+     */
+    public void testRemoveRange() {
+        DynamicArray<Integer> array = new DynamicArray<>(8);
+        for (int i = 0; i < 8; i++) {
+            array.append(i);
+        }
+        array.removeRange(2, 5);
+        assertEquals("[0, 1, 5, 6, 7]", array.toString());
+
+        array.removeRange(3, 3);
+        assertEquals(5, array.size());
+
+        array.removeRange(0, 5);
+        assertTrue(array.isEmpty());
+
+        try {
+            array.removeRange(0, 1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử phương thức removeIf và retainAll của DynamicArray.
+     */
+    public void testRemoveIfAndRetainAll() {
+        DynamicArray<Integer> array = new DynamicArray<>(10);
+        for (int i = 0; i < 10; i++) {
+            array.append(i);
+        }
+        assertTrue(array.removeIf(value -> value % 2 == 0));
+        assertEquals("[1, 3, 5, 7, 9]", array.toString());
+        assertFalse(array.removeIf(value -> value > 100));
+
+        assertTrue(array.retainAll(Arrays.asList(3, 9, 42)));
+        assertEquals("[3, 9]", array.toString());
+
+        // Điều kiện ném ngoại lệ giữa chừng không làm mất phần tử
+        DynamicArray<Integer> partial = new DynamicArray<>(4);
+        partial.appendAll(new Integer[] {1, 2, 3, 4});
+        try {
+            partial.removeIf(value -> {
+                if (value == 3) {
+                    throw new IllegalStateException();
+                }
+                return value == 1;
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals("[2, 3, 4]", partial.toString());
+    }
+
+    /**
+     * Kiểm thử Spliterator và các Stream chỉ duyệt các phần tử hiện có.
+     */
+    public void testSpliteratorAndStream() {
+        DynamicArray<Integer> array = new DynamicArray<>(4);
+        for (int i = 0; i < 1000; i++) {
+            array.append(i);
+        }
+
+        Spliterator<Integer> spliterator = array.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(1000, spliterator.getExactSizeIfKnown());
+        assertEquals(500, spliterator.trySplit().getExactSizeIfKnown());
+
+        List<Integer> evens = array.parallelStream().filter(i -> i % 2 == 0).collect(Collectors.toList());
+        assertEquals(500, evens.size());
+        for (int i = 0; i < evens.size(); i++) {
+            assertEquals(Integer.valueOf(2 * i), evens.get(i));
+        }
+        assertEquals(499500L, array.stream().mapToLong(Integer::longValue).sum());
+
+        DynamicArray<String> empty = new DynamicArray<>(10);
+        assertEquals(0, empty.stream().count());
+    }
+
+    /**
+     * Kiểm thử sắp xếp chỉ tác động lên các phần tử hiện có và giữ nguyên thứ tự của các phần tử bằng nhau.
+     */
+    public void testSort() {
+        DynamicArray<String> array = new DynamicArray<>(64);
+        String[] words = {"pear", "fig", "apple", "kiwi", "date", "plum", "lime", "banana"};
+        for (String word : words) {
+            array.append(word);
+        }
+        array.sort();
+        assertEquals("[apple, banana, date, fig, kiwi, lime, pear, plum]", array.toString());
+
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        array.parallelSort(byLength, ParallelPolicy.commonPool().withThreshold(2));
+        assertEquals("[fig, date, kiwi, lime, pear, plum, apple, banana]", array.toString());
+
+        array.sort(Comparator.reverseOrder());
+        assertEquals("plum", array.get(0));
+        assertEquals(8, array.size());
+        try {
+            array.parallelSort((ParallelPolicy) null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
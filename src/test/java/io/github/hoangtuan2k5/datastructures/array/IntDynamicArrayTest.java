@@ -0,0 +1,287 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai IntDynamicArray (Mảng Động kiểu int).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class IntDynamicArrayTest extends TestCase {
+
+    /**
+     * Kiểm thử constructor và phương thức size của IntDynamicArray.
+     */
+    public void testConstructorAndSize() {
+        IntDynamicArray array = new IntDynamicArray(5);
+        assertEquals(0, array.size());
+        assertTrue(array.isEmpty());
+
+        try {
+            new IntDynamicArray(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử phương thức append, kể cả khi bắt đầu với dung lượng 0.
+     */
+    public void testAppend() {
+        IntDynamicArray array = new IntDynamicArray(0);
+        for (int i = 0; i < 100; i++) {
+            array.append(i * 10);
+        }
+        assertEquals(100, array.size());
+        assertEquals(0, array.get(0));
+        assertEquals(990, array.get(99));
+    }
+
+    /**
+     * Kiểm thử phương thức get và set của IntDynamicArray.
+     */
+    public void testGetAndSet() {
+        IntDynamicArray array = new IntDynamicArray(3);
+        array.append(1);
+        array.append(2);
+
+        array.set(1, 7);
+        assertEquals(7, array.get(1));
+
+        try {
+            array.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi: chỉ số 2 còn trong dung lượng nhưng ngoài kích thước
+        }
+
+        try {
+            array.set(-1, 0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử phương thức remove của IntDynamicArray.
+     */
+    public void testRemove() {
+        IntDynamicArray array = new IntDynamicArray(3);
+        array.append(1);
+        array.append(2);
+        array.append(3);
+
+        assertEquals(2, array.remove(1));
+        assertEquals(2, array.size());
+        assertEquals(1, array.get(0));
+        assertEquals(3, array.get(1));
+
+        assertEquals(3, array.remove(1));
+        assertEquals(1, array.remove(0));
+        assertTrue(array.isEmpty());
+
+        try {
+            array.remove(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử phương thức indexOf và contains của IntDynamicArray.
+     */
+    public void testIndexOfAndContains() {
+        IntDynamicArray array = new IntDynamicArray(4);
+        array.append(5);
+        array.append(6);
+        array.append(5);
+
+        assertEquals(0, array.indexOf(5));
+        assertEquals(1, array.indexOf(6));
+        assertEquals(-1, array.indexOf(7));
+        assertTrue(array.contains(6));
+        assertFalse(array.contains(0));
+    }
+
+    /**
+     * Kiểm thử phương thức swap, fill và clear của IntDynamicArray.
+     */
+    public void testSwapFillAndClear() {
+        IntDynamicArray array = new IntDynamicArray(3);
+        array.append(1);
+        array.append(2);
+        array.append(3);
+
+        array.swap(0, 2);
+        assertEquals("[3, 2, 1]", array.toString());
+
+        array.fill(9);
+        assertEquals("[9, 9, 9]", array.toString());
+
+        array.clear();
+        assertEquals(0, array.size());
+        assertEquals("[]", array.toString());
+    }
+
+    /**
+     * Kiểm thử phương thức copy của IntDynamicArray.
+     */
+    public void testCopy() {
+        IntDynamicArray original = new IntDynamicArray(2);
+        original.append(1);
+        original.append(2);
+
+        IntDynamicArray copy = original.copy();
+        copy.set(0, 100);
+        copy.append(3);
+
+        assertEquals(2, original.size());
+        assertEquals(1, original.get(0));
+        assertEquals(3, copy.size());
+        assertEquals(100, copy.get(0));
+    }
+
+    /**
+     * Kiểm thử forEach, toArray và bộ lặp nguyên thủy của IntDynamicArray.
+     */
+    public void testIteration() {
+        IntDynamicArray array = new IntDynamicArray(3);
+        array.append(1);
+        array.append(2);
+        array.append(3);
+
+        final int[] sum = {0};
+        array.forEach(value -> sum[0] += value);
+        assertEquals(6, sum[0]);
+
+        int[] values = array.toArray();
+        assertEquals(3, values.length);
+        assertEquals(3, values[2]);
+
+        PrimitiveIterator.OfInt iterator = array.iterator();
+        assertEquals(1, iterator.nextInt());
+        assertEquals(2, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Kiểm thử Spliterator nguyên thủy và IntStream.
+     */
+    public void testSpliteratorAndStream() {
+        IntDynamicArray array = new IntDynamicArray(1);
+        for (int i = 1; i <= 100; i++) {
+            array.append(i);
+        }
+
+        Spliterator.OfInt spliterator = array.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(100, spliterator.getExactSizeIfKnown());
+
+        assertEquals(5050, array.stream().sum());
+        assertEquals(5050, array.parallelStream().sum());
+        assertEquals(100, array.parallelStream().max().getAsInt());
+
+        array.remove(99);
+        assertEquals(99, array.stream().count());
+    }
+
+    /**
+     * Kiểm thử các thao tác song song chỉ tác động lên các phần tử hiện có.
+     */
+    public void testParallelBulkOperations() {
+        ParallelPolicy policy = ParallelPolicy.commonPool().withThreshold(16);
+        IntDynamicArray array = new IntDynamicArray(4);
+        for (int i = 0; i < 1000; i++) {
+            array.append(0);
+        }
+
+        array.parallelSetAll(i -> i, policy);
+        array.parallelReplaceAll(value -> value + 1, policy);
+        array.parallelPrefix(Integer::sum, policy);
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals((i + 1) * (i + 2) / 2, array.get(i));
+        }
+
+        array.parallelFill(7, policy);
+        assertEquals(7000, array.stream().sum());
+
+        array.parallelPrefix(Math::max);
+        assertEquals(7, array.get(999));
+        assertEquals(1000, array.size());
+    }
+
+    /**
+     * Kiểm thử count, min, max, equalsRange và mismatch.
+     */
+    public void testScansAndComparisons() {
+        IntDynamicArray array = new IntDynamicArray(1);
+        for (int i = 0; i < 100; i++) {
+            array.append(i % 10);
+        }
+        assertEquals(10, array.count(3));
+        assertEquals(0, array.count(10));
+        assertEquals(0, array.min());
+        assertEquals(9, array.max());
+        assertEquals(3, array.indexOf(3));
+        assertEquals(-1, array.indexOf(42));
+
+        IntDynamicArray other = array.copy();
+        assertEquals(-1, array.mismatch(other));
+        other.set(77, -1);
+        assertEquals(77, array.mismatch(other));
+        assertEquals(-1, other.min());
+        assertTrue(array.equalsRange(0, other, 0, 77));
+        assertFalse(array.equalsRange(0, other, 0, 78));
+        assertTrue(array.equalsRange(10, array, 20, 50));
+        other.remove(99);
+        other.set(77, 7);
+        assertEquals(99, array.mismatch(other));
+
+        try {
+            array.equalsRange(90, other, 0, 11);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            new IntDynamicArray(4).max();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử sort, parallelSort và radixSort cho cùng một dữ liệu ngẫu nhiên.
+     */
+    public void testSortVariants() {
+        Random random = new Random(3);
+        IntDynamicArray array = new IntDynamicArray(0);
+        for (int i = 0; i < 5_000; i++) {
+            array.append(random.nextInt(2_000) - 1_000);
+        }
+        int[] expected = array.toArray();
+        Arrays.sort(expected);
+
+        IntDynamicArray sorted = array.copy();
+        sorted.sort();
+        assertTrue(Arrays.equals(expected, sorted.toArray()));
+        sorted = array.copy();
+        sorted.parallelSort(ParallelPolicy.commonPool().withThreshold(64));
+        assertTrue(Arrays.equals(expected, sorted.toArray()));
+        sorted = array.copy();
+        sorted.radixSort();
+        assertTrue(Arrays.equals(expected, sorted.toArray()));
+        assertEquals(5_000, sorted.size());
+    }
+}
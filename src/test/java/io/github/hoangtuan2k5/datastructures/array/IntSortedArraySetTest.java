@@ -0,0 +1,149 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho IntSortedArraySet (Tập hợp trên mảng đã sắp xếp).
+ * <p>
+ * Mọi bố cục chỉ mục được so sánh với {@link Arrays#binarySearch(int[], int)} trên mảng đã sắp xếp.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class IntSortedArraySetTest extends TestCase {
+
+    /**
+     * Kiểm thử rank, contains, floor và ceiling của cả ba bố cục với nhiều kích thước, kể cả
+     * các kích thước quanh biên khối và các giá trị cực trị.
+     */
+    public void testLookupsMatchBinarySearch() {
+        Random random = new Random(42);
+        for (int length : new int[] {0, 1, 2, 3, 15, 16, 17, 272, 289, 1_000, 4_913, 20_000}) {
+            int[] values = new int[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = random.nextInt(length * 4 + 1) - length * 2;
+            }
+            if (length > 2) {
+                values[0] = Integer.MIN_VALUE;
+                values[1] = Integer.MAX_VALUE;
+            }
+            int[] expected = Arrays.stream(values).sorted().distinct().toArray();
+
+            for (IntSortedArraySet.Layout layout : IntSortedArraySet.Layout.values()) {
+                IntSortedArraySet set = IntSortedArraySet.build(values, layout);
+                assertEquals(expected.length, set.size());
+                assertTrue(Arrays.equals(expected, set.toArray()));
+                for (int probe = -length * 2 - 2; probe <= length * 2 + 2; probe++) {
+                    assertLookups(expected, set, probe);
+                }
+                assertLookups(expected, set, Integer.MIN_VALUE);
+                assertLookups(expected, set, Integer.MAX_VALUE);
+                assertLookups(expected, set, Integer.MAX_VALUE - 1);
+            }
+        }
+    }
+
+    private static void assertLookups(int[] expected, IntSortedArraySet set, int probe) {
+        int search = Arrays.binarySearch(expected, probe);
+        int rank = search >= 0 ? search : -search - 1;
+        assertEquals(rank, set.rank(probe));
+        assertEquals(search >= 0, set.contains(probe));
+        assertEquals(search >= 0 ? search : -1, set.indexOf(probe));
+        if (search >= 0 || rank > 0) {
+            assertEquals(search >= 0 ? probe : expected[rank - 1], set.floor(probe));
+        }
+        if (rank < expected.length) {
+            assertEquals(expected[rank], set.ceiling(probe));
+        }
+    }
+
+    /**
+     * Kiểm thử thêm theo lô (bỏ trùng), đổi bố cục, và duyệt theo khoảng trên một ảnh chụp.
+     */
+    public void testBatchInsertAndRanges() {
+        IntSortedArraySet set = IntSortedArraySet.of(50, 10, 30, 10);
+        assertEquals("[10, 30, 50]", set.toString());
+        assertEquals(2, set.addAll(40, 20, 30, 40));
+        assertEquals(0, set.addAll(10, 50));
+        assertEquals(0, set.addAll());
+        assertEquals("[10, 20, 30, 40, 50]", set.toString());
+
+        PrimitiveIterator.OfInt snapshot = set.iterator(15, 45);
+        IntDynamicArray more = new IntDynamicArray(3);
+        more.append(25);
+        more.append(5);
+        more.append(60);
+        assertEquals(3, set.addAll(more));
+        assertEquals(20, snapshot.nextInt());
+        assertEquals(30, snapshot.nextInt());
+        assertEquals(40, snapshot.nextInt());
+        assertFalse(snapshot.hasNext());
+
+        for (IntSortedArraySet.Layout layout : IntSortedArraySet.Layout.values()) {
+            set.setLayout(layout);
+            assertEquals(layout, set.layout());
+            assertEquals("[20, 25, 30, 40]", Arrays.toString(set.range(20, 50).toArray()));
+            assertEquals(4, set.countInRange(20, 50));
+            assertEquals(0, set.countInRange(41, 49));
+            assertEquals(8, set.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+            assertEquals(25, set.floor(29));
+            assertEquals(60, set.ceiling(51));
+        }
+        assertEquals(5, set.first());
+        assertEquals(60, set.last());
+        assertEquals(20, set.get(2));
+        assertEquals(240L, set.stream().asLongStream().sum());
+    }
+
+    /**
+     * Kiểm thử các trường hợp lỗi.
+     */
+    public void testErrors() {
+        IntSortedArraySet empty = IntSortedArraySet.build(new int[0], IntSortedArraySet.Layout.EYTZINGER);
+        assertFalse(empty.contains(0));
+        assertEquals(0, empty.rank(7));
+        assertFalse(empty.iterator().hasNext());
+        try {
+            empty.first();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+        IntSortedArraySet set = IntSortedArraySet.of(3, 7);
+        try {
+            set.floor(2);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            set.ceiling(8);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            set.range(5, 4);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            set.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            set.setLayout(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho ParallelSorts, so sánh kết quả với {@link Arrays#sort}.
+ * <p>
+ * Ngưỡng chia rất nhỏ được dùng để buộc cả bước sắp xếp lẫn bước trộn chạy qua nhiều tầng fork/join.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class ParallelSortsTest extends TestCase {
+
+    private static final ParallelPolicy SMALL_GRAIN = ParallelPolicy.commonPool().withThreshold(7);
+
+    /**
+     * Kiểm thử sắp xếp song song và radix sort cho int và long, kể cả số âm và khoảng con.
+     */
+    public void testIntegralSorts() {
+        Random random = new Random(42);
+        for (int length : new int[] {0, 1, 2, 7, 8, 255, 256, 1_000, 20_001}) {
+            int[] ints = new int[length];
+            long[] longs = new long[length];
+            for (int i = 0; i < length; i++) {
+                ints[i] = i % 5 == 0 ? random.nextInt(10) - 5 : random.nextInt();
+                longs[i] = i % 5 == 0 ? random.nextInt(10) - 5 : random.nextLong();
+            }
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+
+            int[] actualInts = ints.clone();
+            ParallelSorts.parallelSort(actualInts, 0, length, SMALL_GRAIN);
+            assertTrue(Arrays.equals(expectedInts, actualInts));
+            actualInts = ints.clone();
+            ParallelSorts.radixSort(actualInts, 0, length);
+            assertTrue(Arrays.equals(expectedInts, actualInts));
+
+            long[] actualLongs = longs.clone();
+            ParallelSorts.parallelSort(actualLongs, 0, length, SMALL_GRAIN);
+            assertTrue(Arrays.equals(expectedLongs, actualLongs));
+            actualLongs = longs.clone();
+            ParallelSorts.radixSort(actualLongs, 0, length);
+            assertTrue(Arrays.equals(expectedLongs, actualLongs));
+        }
+
+        int[] partial = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        ParallelSorts.radixSort(partial, 2, 8);
+        assertTrue(Arrays.equals(new int[] {9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, partial));
+        long[] extremes = new long[300];
+        for (int i = 0; i < extremes.length; i++) {
+            extremes[i] = i % 3 == 0 ? Long.MIN_VALUE : i % 3 == 1 ? Long.MAX_VALUE : -i;
+        }
+        long[] expected = extremes.clone();
+        Arrays.sort(expected);
+        ParallelSorts.radixSort(extremes, 0, extremes.length);
+        assertTrue(Arrays.equals(expected, extremes));
+    }
+
+    /**
+     * Kiểm thử sắp xếp song song cho double giữ đúng thứ tự của -0.0, 0.0 và NaN.
+     */
+    public void testDoubleSortSpecialValues() {
+        Random random = new Random(7);
+        double[] values = new double[5_000];
+        for (int i = 0; i < values.length; i++) {
+            switch (i % 10) {
+                case 0:
+                    values[i] = Double.NaN;
+                    break;
+                case 1:
+                    values[i] = -0.0;
+                    break;
+                case 2:
+                    values[i] = 0.0;
+                    break;
+                default:
+                    values[i] = random.nextGaussian();
+            }
+        }
+        double[] expected = values.clone();
+        Arrays.sort(expected);
+        ParallelSorts.parallelSort(values, 0, values.length, SMALL_GRAIN);
+        assertTrue(Arrays.equals(expected, values));
+    }
+
+    /**
+     * Kiểm thử sắp xếp song song mảng đối tượng ổn định: các phần tử bằng nhau giữ thứ tự ban đầu.
+     */
+    public void testObjectSortIsStable() {
+        Random random = new Random(1);
+        int[][] records = new int[10_000][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new int[] {random.nextInt(50), i};
+        }
+        Comparator<int[]> byKey = Comparator.comparingInt(record -> record[0]);
+        ParallelSorts.parallelSort(records, 0, records.length, byKey, SMALL_GRAIN);
+        for (int i = 1; i < records.length; i++) {
+            assertTrue(records[i - 1][0] <= records[i][0]);
+            if (records[i - 1][0] == records[i][0]) {
+                assertTrue(records[i - 1][1] < records[i][1]);
+            }
+        }
+
+        String[] words = {"pear", "apple", "fig", "kiwi", "banana", "cherry", "date", "grape", "lime"};
+        String[] expected = words.clone();
+        Arrays.sort(expected);
+        ParallelSorts.parallelSort(words, 0, words.length, null, ParallelPolicy.commonPool().withThreshold(2));
+        assertTrue(Arrays.equals(expected, words));
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho PersistentVector (Vector bền vững chia sẻ cấu trúc).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class PersistentVectorTest extends TestCase {
+
+    /**
+     * Kiểm thử append, set và pop qua nhiều tầng của cây, so sánh với ArrayList sau mỗi bước.
+     */
+    public void testAppendSetPopAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+        assertEquals(expected.size(), vector.size());
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(expected.size());
+            vector = vector.set(index, -i);
+            expected.set(index, -i);
+        }
+        while (vector.size() > 1_000) {
+            assertEquals(expected.remove(expected.size() - 1), vector.peekLast());
+            vector = vector.pop();
+        }
+        int i = 0;
+        for (Integer value : vector) {
+            assertEquals(expected.get(i++), value);
+        }
+        assertEquals(expected.size(), i);
+        while (!vector.isEmpty()) {
+            vector = vector.pop();
+        }
+        assertEquals("[]", vector.toString());
+
+        try {
+            vector.pop();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            vector.get(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử các phiên bản cũ không bị ảnh hưởng bởi thay đổi trên phiên bản mới.
+     */
+    public void testOlderVersionsAreUnchanged() {
+        PersistentVector<String> v1 = PersistentVector.from(Arrays.asList("A", "B", "C"));
+        PersistentVector<String> v2 = v1.set(1, "b");
+        PersistentVector<String> v3 = v2.append("D");
+        PersistentVector<String> v4 = v3.pop().pop();
+
+        assertEquals("[A, B, C]", v1.toString());
+        assertEquals("[A, b, C]", v2.toString());
+        assertEquals("[A, b, C, D]", v3.toString());
+        assertEquals("[A, b]", v4.toString());
+
+        PersistentVector<Integer> base = PersistentVector.empty();
+        for (int i = 0; i < 5_000; i++) {
+            base = base.append(i);
+        }
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            versions.add(base.set(i * 37, -1));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(-1), versions.get(i).get(i * 37));
+            assertEquals(Integer.valueOf(i * 37), base.get(i * 37));
+        }
+        assertEquals(Long.valueOf(12_497_500L), base.stream().map(Long::valueOf).reduce(0L, Long::sum));
+        assertEquals(Long.valueOf(12_497_500L), base.parallelStream().map(Long::valueOf).reduce(0L, Long::sum));
+    }
+
+    /**
+     * Kiểm thử builder thay đổi tại chỗ mà không ảnh hưởng tới vector gốc, và không dùng được sau khi build.
+     */
+    public void testBuilder() {
+        PersistentVector.Builder<Integer> builder = PersistentVector.builder();
+        for (int i = 0; i < 3_000; i++) {
+            builder.append(i);
+        }
+        builder.set(5, 500).set(2_999, -1);
+        PersistentVector<Integer> built = builder.build();
+        assertEquals(3_000, built.size());
+        assertEquals(Integer.valueOf(500), built.get(5));
+        assertEquals(Integer.valueOf(-1), built.get(2_999));
+
+        try {
+            builder.append(1);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+
+        PersistentVector.Builder<Integer> edit = built.toBuilder();
+        edit.set(5, 5).set(1_000, 0);
+        for (int i = 0; i < 2_000; i++) {
+            edit.append(i);
+        }
+        PersistentVector<Integer> edited = edit.build();
+        assertEquals(5_000, edited.size());
+        assertEquals(Integer.valueOf(5), edited.get(5));
+        assertEquals(Integer.valueOf(0), edited.get(1_000));
+        assertEquals(Integer.valueOf(1_999), edited.get(4_999));
+        assertEquals(Integer.valueOf(500), built.get(5));
+        assertEquals(Integer.valueOf(1_000), built.get(1_000));
+        assertEquals(3_000, built.size());
+
+        assertTrue(PersistentVector.<Integer>builder().build().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.github.hoangtuan2k5.datastructures.linkedlist.AbstractPositionalDoublyLinkedListTest;
+import io.github.hoangtuan2k5.datastructures.linkedlist.IPositionalDoublyLinkedList;
+
+/**
+ * Các kiểm thử đơn vị cho RingBufferDeque (Hàng đợi hai đầu dựa trên bộ đệm vòng).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class RingBufferDequeTest extends AbstractPositionalDoublyLinkedListTest {
+
+    @Override
+    protected IPositionalDoublyLinkedList<String> createList() {
+        return new RingBufferDeque<>(0);
+    }
+
+    /**
+     * Kiểm thử dung lượng luôn là lũy thừa của 2 và tăng gấp đôi khi bộ đệm đầy
+     * trong lúc các phần tử đang quấn vòng.
+     */
+    public void testWrapAroundAndGrow() {
+        RingBufferDeque<Integer> deque = new RingBufferDeque<>(5);
+        assertEquals(8, deque.capacity());
+        for (int i = 0; i < 6; i++) {
+            deque.addLast(i);
+        }
+        deque.removeFirst();
+        deque.removeFirst();
+        deque.addLast(6);
+        deque.addLast(7);
+        deque.addFirst(1);
+        deque.addFirst(0);
+        assertEquals(8, deque.capacity());
+        deque.addLast(8);
+        assertEquals(16, deque.capacity());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8]", deque.toString());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(Integer.valueOf(i), deque.get(i));
+        }
+
+        try {
+            new RingBufferDeque<Integer>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử chèn và xóa ở giữa dịch chuyển đúng phía, so sánh với {@link ArrayList}.
+     */
+    public void testMiddleInsertAndRemove() {
+        RingBufferDeque<Integer> deque = new RingBufferDeque<>(4);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 3000; i++) {
+            int bound = expected.size();
+            int operation = random.nextInt(5);
+            if (operation == 0 || bound == 0) {
+                int index = random.nextInt(bound + 1);
+                deque.insertAt(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(bound);
+                assertEquals(expected.remove(index), deque.removeAt(index));
+            } else if (operation == 2) {
+                deque.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 3) {
+                assertEquals(expected.remove(0), deque.removeFirst());
+            } else {
+                deque.addLast(i);
+                expected.add(i);
+            }
+        }
+        assertEquals(expected.toString(), deque.toString());
+        assertEquals(expected, deque.stream().collect(java.util.stream.Collectors.toList()));
+    }
+}
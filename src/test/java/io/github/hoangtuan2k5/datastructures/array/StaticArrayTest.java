@@ -1,5 +1,10 @@
 package io.github.hoangtuan2k5.datastructures.array;
 
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
 import junit.framework.TestCase;
 
 /**
@@ -168,4 +173,133 @@ public class StaticArrayTest extends TestCase {
         StaticArray<String> emptyArray = new StaticArray<>(0);
         assertEquals("[]", emptyArray.toString());
     }
+
+    /**
+     * Kiểm thử Spliterator và các Stream của StaticArray.
+     */
+    public void testSpliteratorAndStream() {
+        StaticArray<Integer> array = new StaticArray<>(100);
+        for (int i = 0; i < 100; i++) {
+            array.set(i, i);
+        }
+
+        Spliterator<Integer> spliterator = array.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(100, spliterator.getExactSizeIfKnown());
+
+        // Chia đôi khoảng chỉ số, hai nửa có kích thước chính xác
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(50, prefix.getExactSizeIfKnown());
+        assertEquals(50, spliterator.getExactSizeIfKnown());
+
+        assertEquals(4950, array.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(4950, array.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(array.toString(), array.parallelStream().map(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]")));
+    }
+    
+    /**
+     * Kiểm thử các thao tác song song với ngưỡng chia nhỏ để buộc việc chia tác vụ.
+     */
+    public void testParallelBulkOperations() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelPolicy policy = new ParallelPolicy(pool, 7);
+            StaticArray<Long> array = new StaticArray<>(1000);
+    
+            array.parallelFill(3L, policy);
+            for (int i = 0; i < array.size(); i++) {
+                assertEquals(Long.valueOf(3L), array.get(i));
+            }
+    
+            array.parallelSetAll(i -> (long) i, policy);
+            array.parallelReplaceAll(value -> value * 2, policy);
+            assertEquals(Long.valueOf(0L), array.get(0));
+            assertEquals(Long.valueOf(1998L), array.get(999));
+    
+            // Tiền tố song song phải khớp với tiền tố tuần tự
+            array.parallelPrefix(Long::sum, policy);
+            long expected = 0;
+            for (int i = 0; i < array.size(); i++) {
+                expected += 2L * i;
+                assertEquals(Long.valueOf(expected), array.get(i));
+            }
+    
+            // Toán tử không giao hoán: nối chuỗi giữ đúng thứ tự
+            StaticArray<String> letters = new StaticArray<>(26);
+            letters.parallelSetAll(i -> String.valueOf((char) ('a' + i)), policy.withThreshold(3));
+            letters.parallelPrefix(String::concat, policy.withThreshold(3));
+            assertEquals("abcdefghijklmnopqrstuvwxyz", letters.get(25));
+            assertEquals("abcd", letters.get(3));
+    
+            // Cấu hình mặc định và mảng rỗng
+            StaticArray<Integer> small = new StaticArray<>(3);
+            small.parallelSetAll(i -> i + 1);
+            small.parallelPrefix(Integer::sum);
+            assertEquals("[1, 3, 6]", small.toString());
+            new StaticArray<Integer>(0).parallelPrefix(Integer::sum);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    /**
+     * Kiểm thử việc xác thực của ParallelPolicy và ngoại lệ từ hàm sinh.
+     */
+    public void testParallelPolicyValidation() {
+        try {
+            ParallelPolicy.commonPool().withThreshold(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    
+        StaticArray<Integer> array = new StaticArray<>(100);
+        try {
+            array.parallelFill(1, null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+    
+        try {
+            array.parallelSetAll(i -> {
+                if (i == 50) {
+                    throw new IllegalStateException("boom");
+                }
+                return i;
+            }, ParallelPolicy.commonPool().withThreshold(10));
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+    
+    /**
+     * Kiểm thử sắp xếp theo thứ tự tự nhiên, theo bộ so sánh và sắp xếp song song.
+     */
+    public void testSort() {
+        StaticArray<Integer> array = new StaticArray<>(6);
+        int[] values = {5, -1, 3, 3, 0, 9};
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        array.sort();
+        assertEquals("[-1, 0, 3, 3, 5, 9]", array.toString());
+        array.sort(Comparator.reverseOrder());
+        assertEquals("[9, 5, 3, 3, 0, -1]", array.toString());
+        array.parallelSort(ParallelPolicy.commonPool().withThreshold(2));
+        assertEquals("[-1, 0, 3, 3, 5, 9]", array.toString());
+        array.parallelSort(Comparator.reverseOrder(), ParallelPolicy.commonPool().withThreshold(2));
+        assertEquals("[9, 5, 3, 3, 0, -1]", array.toString());
+    
+        try {
+            array.sort(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
 }
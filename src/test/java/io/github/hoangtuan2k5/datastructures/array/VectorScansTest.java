@@ -0,0 +1,166 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho VectorScans, so sánh kết quả với các vòng lặp vô hướng.
+ * <p>
+ * Các kiểm thử dùng nhiều độ dài và vị trí bắt đầu khác nhau để bao phủ cả phần thân được
+ * vector hóa lẫn phần dư cuối khoảng. Nếu module {@code jdk.incubator.vector} không có mặt
+ * (ví dụ khi chạy với {@code -Dvector.module.args=}), cùng các kiểm thử đó được chạy trên đường
+ * vô hướng của {@link PrimitiveScans} thay vì bị bỏ qua.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class VectorScansTest extends TestCase {
+
+    private static final boolean VECTOR_MODULE_PRESENT =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Kiểm thử PrimitiveScans chỉ chọn đường vector khi module có mặt và không bị tắt.
+     */
+    public void testScanPathFollowsModule() {
+        boolean enabled = VECTOR_MODULE_PRESENT && !"false".equalsIgnoreCase(System.getProperty("algocore.vector"));
+        assertEquals(enabled, PrimitiveScans.VECTORIZED);
+    }
+
+    /**
+     * Kiểm thử indexOf, count, countLess, min và max cho kiểu int và long.
+     */
+    public void testIntegralScans() {
+        Random random = new Random(42);
+        for (int length = 0; length < 100; length++) {
+            int[] ints = new int[length + 3];
+            long[] longs = new long[length + 3];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = random.nextInt(8) - 4;
+                longs[i] = ints[i] * 1_000_000_000_000L;
+            }
+            int from = length % 3;
+            int to = from + length;
+            for (int value = -5; value <= 4; value++) {
+                int expectedIndex = -1;
+                int expectedCount = 0;
+                int expectedLess = 0;
+                for (int i = to - 1; i >= from; i--) {
+                    if (ints[i] == value) {
+                        expectedIndex = i;
+                        expectedCount++;
+                    }
+                    if (ints[i] < value) {
+                        expectedLess++;
+                    }
+                }
+                assertEquals(expectedLess, countLess(ints, from, to, value));
+                assertEquals(expectedIndex, indexOf(ints, from, to, value));
+                assertEquals(expectedCount, count(ints, from, to, value));
+                assertEquals(expectedIndex, indexOf(longs, from, to, value * 1_000_000_000_000L));
+                assertEquals(expectedCount, count(longs, from, to, value * 1_000_000_000_000L));
+            }
+            if (length > 0) {
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (int i = from; i < to; i++) {
+                    min = Math.min(min, ints[i]);
+                    max = Math.max(max, ints[i]);
+                }
+                assertEquals(min, min(ints, from, to));
+                assertEquals(max, max(ints, from, to));
+                assertEquals(min * 1_000_000_000_000L, min(longs, from, to));
+                assertEquals(max * 1_000_000_000_000L, max(longs, from, to));
+            }
+        }
+    }
+
+    /**
+     * Kiểm thử các giá trị double đặc biệt: NaN, 0.0 và -0.0.
+     */
+    public void testDoubleSpecialValues() {
+        double[] values = new double[67];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        values[0] = 0.0;
+        values[40] = -0.0;
+        values[50] = Double.NaN;
+        values[66] = Double.longBitsToDouble(0x7ff8000000000001L);
+
+        assertEquals(0, indexOf(values, 0, values.length, 0.0));
+        assertEquals(40, indexOf(values, 0, values.length, -0.0));
+        assertEquals(50, indexOf(values, 0, values.length, Double.NaN));
+        assertEquals(66, indexOf(values, 51, values.length, Double.NaN));
+        assertEquals(2, count(values, 0, values.length, Double.NaN));
+        assertEquals(1, count(values, 0, values.length, -0.0));
+
+        assertTrue(Double.isNaN(min(values, 0, values.length)));
+        assertTrue(Double.isNaN(max(values, 0, values.length)));
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(min(values, 0, 41)));
+        assertEquals(39.0, max(values, 0, 41), 0.0);
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(max(new double[] {-0.0, 0.0}, 0, 2)));
+    }
+
+    // Gọi VectorScans khi module có mặt, nếu không thì gọi đường vô hướng của PrimitiveScans.
+
+    private static int indexOf(int[] array, int from, int to, int value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.indexOf(array, from, to, value)
+                : PrimitiveScans.indexOf(array, from, to, value);
+    }
+
+    private static int indexOf(long[] array, int from, int to, long value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.indexOf(array, from, to, value)
+                : PrimitiveScans.indexOf(array, from, to, value);
+    }
+
+    private static int indexOf(double[] array, int from, int to, double value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.indexOf(array, from, to, value)
+                : PrimitiveScans.indexOf(array, from, to, value);
+    }
+
+    private static int count(int[] array, int from, int to, int value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.count(array, from, to, value)
+                : PrimitiveScans.count(array, from, to, value);
+    }
+
+    private static int countLess(int[] array, int from, int to, int value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.countLess(array, from, to, value)
+                : PrimitiveScans.countLess(array, from, to, value);
+    }
+
+    private static int count(long[] array, int from, int to, long value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.count(array, from, to, value)
+                : PrimitiveScans.count(array, from, to, value);
+    }
+
+    private static int count(double[] array, int from, int to, double value) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.count(array, from, to, value)
+                : PrimitiveScans.count(array, from, to, value);
+    }
+
+    private static int min(int[] array, int from, int to) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.min(array, from, to) : PrimitiveScans.min(array, from, to);
+    }
+
+    private static long min(long[] array, int from, int to) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.min(array, from, to) : PrimitiveScans.min(array, from, to);
+    }
+
+    private static double min(double[] array, int from, int to) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.min(array, from, to) : PrimitiveScans.min(array, from, to);
+    }
+
+    private static int max(int[] array, int from, int to) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.max(array, from, to) : PrimitiveScans.max(array, from, to);
+    }
+
+    private static long max(long[] array, int from, int to) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.max(array, from, to) : PrimitiveScans.max(array, from, to);
+    }
+
+    private static double max(double[] array, int from, int to) {
+        return VECTOR_MODULE_PRESENT ? VectorScans.max(array, from, to) : PrimitiveScans.max(array, from, to);
+    }
+}
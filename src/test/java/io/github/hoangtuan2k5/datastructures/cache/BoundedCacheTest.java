@@ -0,0 +1,211 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai BoundedCache với các chiến lược LRU, LFU và SLRU.
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class BoundedCacheTest extends TestCase {
+
+    /**
+     * Kiểm thử LRU loại bỏ mục lâu nhất không được truy cập.
+     */
+    public void testLruEviction() {
+        List<String> evicted = new ArrayList<>();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3, EvictionStrategy.LRU,
+                Weigher.singleton(), (key, value) -> evicted.add(key + "=" + value));
+        cache.put("A", 1);
+        cache.put("B", 2);
+        cache.put("C", 3);
+        assertEquals(Integer.valueOf(1), cache.get("A"));
+
+        cache.put("D", 4);
+        assertNull(cache.get("B"));
+        assertEquals("[B=2]", evicted.toString());
+
+        // Thay thế giá trị cũng là một lần truy cập
+        cache.put("C", 30);
+        cache.put("E", 5);
+        assertEquals("[B=2, A=1]", evicted.toString());
+        assertEquals(Integer.valueOf(30), cache.get("C"));
+        assertEquals(3, cache.size());
+    }
+
+    /**
+     * Kiểm thử LFU loại bỏ mục ít được truy cập nhất, và mục cũ hơn khi bằng nhau.
+     */
+    public void testLfuEviction() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3, EvictionStrategy.LFU, Weigher.singleton(), null);
+        cache.put("A", 1);
+        cache.put("B", 2);
+        cache.put("C", 3);
+        cache.get("A");
+        cache.get("A");
+        cache.get("C");
+
+        cache.put("D", 4);
+        assertNull(cache.get("B"));
+        cache.put("E", 5);
+        // D và E cùng có tần suất 1; D được thêm trước nên bị loại bỏ
+        assertNull(cache.get("D"));
+        assertEquals(Integer.valueOf(1), cache.get("A"));
+        assertEquals(Integer.valueOf(3), cache.get("C"));
+        assertEquals(Integer.valueOf(5), cache.get("E"));
+    }
+
+    /**
+     * Kiểm thử SLRU bảo vệ các mục hay dùng khỏi một lượt quét các mục chỉ dùng một lần.
+     */
+    public void testSlruScanResistance() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(10, EvictionStrategy.SLRU, Weigher.singleton(), null);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+        // Quét 100 khóa chỉ dùng một lần
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Integer.valueOf(i), cache.get(i));
+        }
+        assertEquals(10, cache.size());
+
+        // Với LRU, lượt quét đẩy hết các khóa hay dùng ra ngoài
+        BoundedCache<Integer, Integer> lru = new BoundedCache<>(10);
+        for (int i = 0; i < 5; i++) {
+            lru.put(i, i);
+            lru.get(i);
+        }
+        for (int i = 100; i < 200; i++) {
+            lru.put(i, i);
+        }
+        assertNull(lru.get(0));
+    }
+
+    /**
+     * Kiểm thử giới hạn theo trọng số và mục quá lớn để lưu.
+     */
+    public void testWeightedCapacity() {
+        List<String> evicted = new ArrayList<>();
+        BoundedCache<String, String> cache = new BoundedCache<>(10, EvictionStrategy.LRU,
+                (key, value) -> value.length(), (key, value) -> evicted.add(key));
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(9, cache.weightedSize());
+
+        cache.put("c", "123");
+        assertEquals("[a]", evicted.toString());
+        assertEquals(7, cache.weightedSize());
+
+        // Thay thế bằng giá trị nặng hơn buộc phải loại bỏ thêm
+        cache.put("c", "1234567");
+        assertEquals("[a, b]", evicted.toString());
+        assertEquals(7, cache.weightedSize());
+
+        // Mục nặng hơn giới hạn không được lưu; giá trị cũ bị xóa và cũng được báo là bị loại bỏ
+        cache.put("c", "12345678901");
+        assertNull(cache.get("c"));
+        assertEquals(0, cache.weightedSize());
+        assertEquals("[a, b, c, c]", evicted.toString());
+        assertEquals(4, cache.stats().evictionCount());
+        assertEquals(5 + 4 + 7 + 11, cache.stats().evictionWeight());
+
+        try {
+            new BoundedCache<String, String>(10, EvictionStrategy.LRU, (key, value) -> -1, null).put("x", "y");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử thống kê, invalidate và hàm tải.
+     */
+    public void testStatsInvalidateAndLoader() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(100);
+        assertEquals(1.0, cache.stats().hitRate(), 0.0);
+
+        assertEquals(Integer.valueOf(3), cache.get("abc", String::length));
+        assertEquals(Integer.valueOf(3), cache.get("abc", key -> {
+            throw new AssertionError("loader must not be called on a hit");
+        }));
+        assertNull(cache.get("zz", key -> null));
+        assertFalse(cache.invalidate("zz"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(2, stats.missCount());
+        assertEquals(3, stats.requestCount());
+        assertEquals(2.0 / 3, stats.missRate(), 1e-9);
+
+        assertTrue(cache.invalidate("abc"));
+        assertNull(cache.get("abc"));
+        cache.put("x", 1);
+        cache.put("y", 2);
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+        cache.put("x", 1);
+        assertEquals(Integer.valueOf(1), cache.get("x"));
+
+        try {
+            cache.put(null, 1);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            cache.put("x", null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử ngẫu nhiên: mọi chiến lược luôn giữ tổng trọng số trong giới hạn và nhất quán với nội dung.
+     */
+    public void testRandomOperationsKeepInvariants() {
+        for (EvictionStrategy strategy : EvictionStrategy.values()) {
+            Random random = new Random(7);
+            BoundedCache<Integer, Integer> cache = new BoundedCache<>(50, strategy, (key, value) -> value % 5, null);
+            Map<Integer, Integer> model = new HashMap<>();
+            for (int step = 0; step < 20000; step++) {
+                int key = random.nextInt(100);
+                int op = random.nextInt(10);
+                if (op < 5) {
+                    Integer value = cache.get(key);
+                    if (value != null) {
+                        assertEquals(model.get(key), value);
+                    }
+                } else if (op < 9) {
+                    int value = random.nextInt(1000);
+                    cache.put(key, value);
+                    model.put(key, value);
+                } else {
+                    cache.invalidate(key);
+                    model.remove(key);
+                }
+                assertTrue(cache.weightedSize() <= 50);
+            }
+            long weight = 0;
+            for (Map.Entry<Integer, Integer> entry : model.entrySet()) {
+                Integer cached = cache.get(entry.getKey());
+                if (cached != null) {
+                    assertEquals(entry.getValue(), cached);
+                    weight += cached % 5;
+                }
+            }
+            assertEquals(strategy.name(), weight, cache.weightedSize());
+        }
+    }
+}
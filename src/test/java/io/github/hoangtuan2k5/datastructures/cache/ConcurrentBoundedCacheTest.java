@@ -0,0 +1,130 @@
+package io.github.hoangtuan2k5.datastructures.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai ConcurrentBoundedCache (cache an toàn luồng dùng chia khóa).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class ConcurrentBoundedCacheTest extends TestCase {
+
+    /**
+     * Kiểm thử số phân đoạn và việc chia giới hạn trọng số.
+     */
+    public void testSegmentsShareMaximumWeight() {
+        ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<>(3, EvictionStrategy.LRU,
+                Weigher.singleton(), null, 16);
+        assertEquals(3, cache.maximumWeight());
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        assertTrue(cache.size() <= 3);
+        assertEquals(cache.size(), cache.weightedSize());
+
+        ConcurrentBoundedCache<Integer, Integer> empty = new ConcurrentBoundedCache<>(0);
+        empty.put(1, 1);
+        assertNull(empty.get(1));
+        assertEquals(1, empty.stats().evictionCount());
+    }
+
+    /**
+     * Kiểm thử một mục nặng hơn phần chia đều của một phân đoạn vẫn được nhận, miễn là không vượt
+     * quá giới hạn chung.
+     */
+    public void testHeavyEntryUsesSharedBudget() {
+        ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<>(1000, EvictionStrategy.LRU,
+                (key, value) -> value, null, 16);
+        cache.put(1, 500);
+        assertEquals(Integer.valueOf(500), cache.get(1));
+        assertEquals(500, cache.weightedSize());
+        assertEquals(0, cache.stats().evictionCount());
+
+        for (int i = 2; i <= 11; i++) {
+            cache.put(i, 50);
+        }
+        assertEquals(1000, cache.weightedSize());
+        assertEquals(0, cache.stats().evictionCount());
+
+        cache.put(12, 1000);
+        assertEquals(Integer.valueOf(1000), cache.get(12));
+        assertEquals(1000, cache.weightedSize());
+        assertEquals(1, cache.size());
+        assertEquals(11, cache.stats().evictionCount());
+
+        cache.put(13, 1001);
+        assertNull(cache.get(13));
+        assertTrue(cache.weightedSize() <= 1000);
+
+        cache.invalidateAll();
+        assertEquals(0, cache.weightedSize());
+        cache.put(14, 1000);
+        assertEquals(Integer.valueOf(1000), cache.get(14));
+    }
+
+    /**
+     * Kiểm thử mục nguội ở một phân đoạn bận bị loại bỏ trước các mục vừa được truy cập ở các phân
+     * đoạn khác.
+     */
+    public void testEvictsLeastRecentlyUsedAcrossSegments() {
+        ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<>(16, EvictionStrategy.LRU,
+                Weigher.singleton(), null, 4);
+        for (int i = 0; i < 16; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 1; i < 16; i++) {
+            assertEquals(Integer.valueOf(i), cache.get(i));
+        }
+        cache.put(100, 100);
+        assertNull(cache.get(0));
+        for (int i = 1; i < 16; i++) {
+            assertEquals(Integer.valueOf(i), cache.get(i));
+        }
+        assertEquals(16, cache.size());
+    }
+
+    /**
+     * Kiểm thử nhiều luồng đọc và ghi đồng thời: giới hạn và thống kê phải nhất quán.
+     */
+    public void testConcurrentAccess() throws InterruptedException {
+        final AtomicLong evictions = new AtomicLong();
+        final ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<>(256,
+                EvictionStrategy.SLRU, Weigher.singleton(), (key, value) -> evictions.incrementAndGet(), 8);
+        final int threads = 4;
+        final int operations = 20000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final AtomicLong wrongValues = new AtomicLong();
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        int key = (i * 31 + seed * 7) % 1024;
+                        Integer value = cache.get(key, k -> k * 2);
+                        if (value.intValue() != key * 2) {
+                            wrongValues.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        assertEquals(0, wrongValues.get());
+        assertTrue(cache.weightedSize() <= 256);
+        CacheStats stats = cache.stats();
+        assertEquals((long) threads * operations, stats.requestCount());
+        assertEquals(evictions.get(), stats.evictionCount());
+        assertEquals(stats.missCount() - stats.evictionCount(), cache.size());
+    }
+}
@@ -0,0 +1,215 @@
+package io.github.hoangtuan2k5.datastructures.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.hoangtuan2k5.datastructures.array.DoubleDynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.DynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.IntDynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.LongDynamicArray;
+import io.github.hoangtuan2k5.datastructures.array.StaticArray;
+import io.github.hoangtuan2k5.datastructures.linkedlist.DefaultIDoublyLinkedList;
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho BinaryWriter, BinaryReader và ElementCodec (Mã hóa nhị phân).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class BinaryCodecTest extends TestCase {
+
+    /**
+     * Kiểm thử ghi và đọc lại các mảng nguyên thủy lớn hơn bộ đệm qua một FileChannel.
+     */
+    public void testPrimitiveArraysThroughFileChannel() throws IOException {
+        IntDynamicArray ints = new IntDynamicArray(0);
+        LongDynamicArray longs = new LongDynamicArray(0);
+        DoubleDynamicArray doubles = new DoubleDynamicArray(0);
+        for (int i = 0; i < 50_001; i++) {
+            ints.append(i * 31);
+            longs.append(i * 1_000_000_007L);
+            doubles.append(i / 3.0);
+        }
+        Path file = Files.createTempFile("codec", ".bin");
+        try {
+            try (BinaryWriter out = BinaryWriter.to(FileChannel.open(file, StandardOpenOption.WRITE))) {
+                out.writeByte((byte) 7);
+                ints.writeTo(out);
+                longs.writeTo(out);
+                doubles.writeTo(out);
+            }
+            assertEquals(1 + 3 * 10 + 50_001 * 20L, Files.size(file));
+
+            try (BinaryReader in = BinaryReader.from(FileChannel.open(file, StandardOpenOption.READ))) {
+                assertEquals(7, in.readByte());
+                IntDynamicArray readInts = IntDynamicArray.readFrom(in);
+                LongDynamicArray readLongs = LongDynamicArray.readFrom(in);
+                DoubleDynamicArray readDoubles = DoubleDynamicArray.readFrom(in);
+                assertEquals(-1, ints.mismatch(readInts));
+                assertTrue(Arrays.equals(longs.toArray(), readLongs.toArray()));
+                assertTrue(Arrays.equals(doubles.toArray(), readDoubles.toArray()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Kiểm thử các cấu trúc chứa đối tượng dùng chung khung OBJECTS qua luồng, và đọc dần từng phần tử.
+     */
+    public void testObjectContainersThroughStreams() {
+        StaticArray<String> staticArray = new StaticArray<>(3);
+        staticArray.set(0, "xin");
+        staticArray.set(2, "chào");
+        DynamicArray<Integer> dynamicArray = new DynamicArray<>(4);
+        DefaultIDoublyLinkedList<String> list = new DefaultIDoublyLinkedList<>();
+        for (int i = 0; i < 20_000; i++) {
+            dynamicArray.append(i);
+            list.addLast("item-" + i);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryWriter out = BinaryWriter.to(bytes)) {
+            staticArray.writeTo(out, ElementCodec.nullable(ElementCodec.STRING));
+            dynamicArray.writeTo(out, ElementCodec.INT);
+            list.writeTo(out, ElementCodec.STRING);
+            list.writeTo(out, ElementCodec.STRING);
+        }
+
+        try (BinaryReader in = BinaryReader.from(new ByteArrayInputStream(bytes.toByteArray()))) {
+            StaticArray<String> readStatic = StaticArray.readFrom(in, ElementCodec.nullable(ElementCodec.STRING));
+            assertEquals("[xin, null, chào]", readStatic.toString());
+            assertEquals(dynamicArray.toString(), DynamicArray.readFrom(in, ElementCodec.INT).toString());
+            assertEquals(list.toString(), DefaultIDoublyLinkedList.readFrom(in, ElementCodec.STRING).toString());
+
+            final List<String> seen = new ArrayList<>();
+            assertEquals(20_000, in.readEach(ElementCodec.STRING, seen::add));
+            assertEquals("item-19999", seen.get(19_999));
+        }
+    }
+
+    /**
+     * Kiểm thử phần đầu khung khai báo số phần tử (hoặc độ dài chuỗi) rất lớn nhưng dữ liệu ngắn:
+     * bộ đọc phải báo kết thúc sớm thay vì cấp phát trước toàn bộ kích thước được khai báo.
+     */
+    public void testHugeCountWithShortPayload() {
+        try (BinaryReader in = truncatedFrame(Format.INTS)) {
+            IntDynamicArray.readFrom(in);
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try (BinaryReader in = truncatedFrame(Format.LONGS)) {
+            LongDynamicArray.readFrom(in);
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try (BinaryReader in = truncatedFrame(Format.DOUBLES)) {
+            DoubleDynamicArray.readFrom(in);
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try (BinaryReader in = truncatedFrame(Format.OBJECTS)) {
+            DynamicArray.readFrom(in, ElementCodec.STRING);
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try (BinaryReader in = truncatedFrame(Format.OBJECTS)) {
+            StaticArray.readFrom(in, ElementCodec.STRING);
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // Ngoại lệ được mong đợi
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryWriter out = BinaryWriter.to(bytes)) {
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeInt(42);
+        }
+        try (BinaryReader in = BinaryReader.from(new ByteArrayInputStream(bytes.toByteArray()))) {
+            in.readString();
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Tạo một bộ đọc trên một khung khai báo {@link Integer#MAX_VALUE} phần tử nhưng chỉ chứa một chuỗi ngắn.
+     *
+     * @param format Loại nội dung của khung
+     * @return Bộ đọc trên khung bị cắt ngắn
+     */
+    private static BinaryReader truncatedFrame(Format format) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryWriter out = BinaryWriter.to(bytes)) {
+            out.writeHeader(format, Integer.MAX_VALUE);
+            out.writeString("short");
+        }
+        return BinaryReader.from(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    /**
+     * Kiểm thử ghi vào và đọc từ ByteBuffer, cùng các lỗi định dạng, tràn bộ đệm và kết thúc sớm.
+     */
+    public void testByteBufferAndErrors() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.position(4);
+        IntDynamicArray ints = new IntDynamicArray(4);
+        ints.append(1);
+        ints.append(-2);
+        try (BinaryWriter out = BinaryWriter.to(buffer)) {
+            ints.writeTo(out);
+            out.writeString("ok");
+        }
+        assertEquals(4 + 10 + 8 + 4 + 2, buffer.position());
+
+        buffer.flip().position(4);
+        try (BinaryReader in = BinaryReader.from(buffer.duplicate())) {
+            try {
+                LongDynamicArray.readFrom(in);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // Ngoại lệ được mong đợi
+            }
+        }
+        try (BinaryReader in = BinaryReader.from(buffer)) {
+            assertEquals("[1, -2]", IntDynamicArray.readFrom(in).toString());
+            assertEquals("ok", in.readString());
+            try {
+                in.readInt();
+                fail("Expected UncheckedIOException");
+            } catch (UncheckedIOException e) {
+                // Ngoại lệ được mong đợi
+            }
+        }
+        assertFalse(buffer.hasRemaining());
+
+        try (BinaryWriter out = BinaryWriter.to(ByteBuffer.allocate(8))) {
+            ints.writeTo(out);
+            fail("Expected BufferOverflowException");
+        } catch (BufferOverflowException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try (BinaryReader in = BinaryReader.from(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}))) {
+            in.readHeader(Format.OBJECTS);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử chung cho mọi triển khai của giao diện {@link IDoublyLinkedList}.
+ * <p>
+ * Mỗi triển khai chỉ cần kế thừa lớp này và cung cấp {@link #createList()}.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public abstract class AbstractIDoublyLinkedListTest extends TestCase {
+
+    /**
+     * Tạo một danh sách rỗng của triển khai cần kiểm thử.
+     *
+     * @return một danh sách rỗng
+     */
+    protected abstract IDoublyLinkedList<String> createList();
+
+    /**
+     * Cho biết triển khai có chấp nhận phần tử {@code null} hay không.
+     *
+     * @return {@code true} nếu danh sách chấp nhận phần tử null
+     */
+    protected boolean supportsNullElements() {
+        return true;
+    }
+
+    /**
+     * Kiểm thử các thao tác thêm và xem ở hai đầu danh sách.
+     */
+    public void testAddAndPeek() {
+        IDoublyLinkedList<String> list = createList();
+        assertTrue(list.isEmpty());
+
+        list.add("B");
+        list.addFirst("A");
+        list.addLast("C");
+        assertEquals(3, list.size());
+        assertEquals("A", list.peekFirst());
+        assertEquals("C", list.peekLast());
+        assertEquals("[A, B, C]", list.toString());
+    }
+
+    /**
+     * Kiểm thử các thao tác xóa ở hai đầu danh sách.
+     */
+    public void testRemoveFirstAndLast() {
+        IDoublyLinkedList<String> list = createList();
+        list.add("A");
+        list.add("B");
+        list.add("C");
+
+        assertEquals("A", list.removeFirst());
+        assertEquals("C", list.removeLast());
+        assertEquals("B", list.removeLast());
+        assertTrue(list.isEmpty());
+        assertEquals("[]", list.toString());
+
+        try {
+            list.removeFirst();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            list.peekLast();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử remove(Object), removeAt, indexOf và contains.
+     */
+    public void testRemoveAndSearch() {
+        IDoublyLinkedList<String> list = createList();
+        for (String element : new String[] {"A", "B", "X", "C", "D", "E"}) {
+            list.add(element);
+        }
+
+        assertEquals(2, list.indexOf("X"));
+        assertTrue(list.contains("D"));
+        assertFalse(list.contains("Z"));
+        assertEquals(-1, list.indexOf(null));
+        assertFalse(list.contains(null));
+
+        assertTrue(list.remove("X"));
+        assertFalse(list.remove("Z"));
+        assertEquals("[A, B, C, D, E]", list.toString());
+
+        assertEquals("D", list.removeAt(3));
+        assertEquals("A", list.removeAt(0));
+        assertEquals("E", list.removeAt(2));
+        assertEquals("[B, C]", list.toString());
+        assertEquals(1, list.indexOf("C"));
+
+        try {
+            list.removeAt(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử phần tử null: được lưu và tìm thấy nếu triển khai hỗ trợ, bị từ chối nếu không.
+     */
+    public void testNullElements() {
+        IDoublyLinkedList<String> list = createList();
+        list.add("A");
+        if (supportsNullElements()) {
+            list.add(null);
+            assertEquals(1, list.indexOf(null));
+            assertTrue(list.remove(null));
+            assertEquals("[A]", list.toString());
+        } else {
+            try {
+                list.add(null);
+                fail("Expected NullPointerException");
+            } catch (NullPointerException e) {
+                // Ngoại lệ được mong đợi
+            }
+            assertFalse(list.remove(null));
+            assertEquals(1, list.size());
+        }
+    }
+
+    /**
+     * Kiểm thử xen kẽ thêm và xóa nhiều lần, rồi xóa toàn bộ danh sách.
+     */
+    public void testInterleavedOperationsAndClear() {
+        IDoublyLinkedList<String> list = createList();
+        for (int round = 0; round < 50; round++) {
+            list.addLast("L" + round);
+            list.addFirst("F" + round);
+            if (round % 3 == 0) {
+                list.removeFirst();
+                list.removeLast();
+            }
+        }
+        assertEquals(66, list.size());
+        assertEquals("F49", list.peekFirst());
+        assertEquals("L49", list.peekLast());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.add("X");
+        assertEquals("[X]", list.toString());
+    }
+
+    /**
+     * Kiểm thử iterator của danh sách.
+     */
+    public void testIterator() {
+        IDoublyLinkedList<String> list = createList();
+        list.add("A");
+        list.add("B");
+
+        Iterator<String> iterator = list.iterator();
+        assertTrue(iterator.hasNext());
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertFalse(iterator.hasNext());
+
+        try {
+            iterator.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử Stream tuần tự và song song giữ đúng thứ tự của danh sách.
+     */
+    public void testStream() {
+        IDoublyLinkedList<String> list = createList();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            list.add("E" + i);
+            expected.append("E").append(i);
+        }
+
+        assertTrue(list.spliterator().hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(2000, list.stream().count());
+        assertEquals(expected.toString(), list.stream().collect(Collectors.joining()));
+        assertEquals(expected.toString(), list.parallelStream().collect(Collectors.joining()));
+        assertEquals(200, list.parallelStream().filter(s -> s.endsWith("0")).count());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+/**
+ * Các kiểm thử chung cho mọi triển khai của giao diện {@link IPositionalDoublyLinkedList}.
+ * <p>
+ * Ngoài các kiểm thử của {@link AbstractIDoublyLinkedListTest}, lớp này kiểm thử việc truy cập,
+ * thay thế và chèn theo chỉ số.
+ * </p>
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public abstract class AbstractPositionalDoublyLinkedListTest extends AbstractIDoublyLinkedListTest {
+
+    /**
+     * Tạo một danh sách rỗng của triển khai cần kiểm thử.
+     *
+     * @return một danh sách rỗng
+     */
+    @Override
+    protected abstract IPositionalDoublyLinkedList<String> createList();
+
+    /**
+     * Kiểm thử truy cập, thay thế và chèn theo chỉ số từ cả hai đầu danh sách.
+     */
+    public void testIndexedAccess() {
+        IPositionalDoublyLinkedList<String> list = createList();
+        for (int i = 0; i < 10; i++) {
+            list.add("E" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals("E" + i, list.get(i));
+        }
+        for (int i = 9; i >= 0; i -= 3) {
+            assertEquals("E" + i, list.get(i));
+        }
+
+        try {
+            list.get(10);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+
+        assertEquals("E2", list.set(2, "X2"));
+        assertEquals("E8", list.set(8, "X8"));
+        list.insertAt(0, "F");
+        list.insertAt(11, "L");
+        list.insertAt(5, "M");
+        assertEquals("[F, E0, E1, X2, E3, M, E4, E5, E6, E7, X8, E9, L]", list.toString());
+        assertEquals(13, list.size());
+        assertEquals("M", list.removeAt(5));
+        assertEquals("E4", list.get(5));
+        assertEquals("L", list.peekLast());
+
+        try {
+            list.insertAt(14, "Z");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
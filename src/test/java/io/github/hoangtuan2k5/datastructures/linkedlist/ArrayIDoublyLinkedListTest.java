@@ -0,0 +1,36 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai ArrayIDoublyLinkedList (Danh sách liên kết đôi dựa trên mảng).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class ArrayIDoublyLinkedListTest extends AbstractPositionalDoublyLinkedListTest {
+
+    @Override
+    protected IPositionalDoublyLinkedList<String> createList() {
+        return new ArrayIDoublyLinkedList<>(0);
+    }
+
+    /**
+     * Kiểm thử các slot bị xóa được dùng lại mà không làm hỏng thứ tự.
+     */
+    public void testSlotReuse() {
+        ArrayIDoublyLinkedList<Integer> list = new ArrayIDoublyLinkedList<>(4);
+        for (int i = 0; i < 4; i++) {
+            list.addLast(i);
+        }
+        list.removeAt(1);
+        list.removeAt(1);
+        list.addFirst(10);
+        list.addLast(20);
+        assertEquals("[10, 0, 3, 20]", list.toString());
+
+        try {
+            new ArrayIDoublyLinkedList<Integer>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
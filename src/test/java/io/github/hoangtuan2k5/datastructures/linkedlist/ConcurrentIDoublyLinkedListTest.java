@@ -0,0 +1,190 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai ConcurrentIDoublyLinkedList (Danh sách liên kết đôi đồng thời).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class ConcurrentIDoublyLinkedListTest extends AbstractIDoublyLinkedListTest {
+
+    @Override
+    protected IDoublyLinkedList<String> createList() {
+        return new ConcurrentIDoublyLinkedList<>();
+    }
+
+    @Override
+    protected boolean supportsNullElements() {
+        return false;
+    }
+
+    /**
+     * Kiểm thử truy cập theo chỉ số, thao tác theo vị trí duy nhất mà danh sách đồng thời hỗ trợ.
+     */
+    public void testGet() {
+        ConcurrentIDoublyLinkedList<String> list = new ConcurrentIDoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add("E" + i);
+        }
+        for (int i = 9; i >= 0; i--) {
+            assertEquals("E" + i, list.get(i));
+        }
+        assertEquals("E3", list.removeAt(3));
+        assertEquals("E4", list.get(3));
+
+        try {
+            list.get(9);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử pollFirst và pollLast trả về null khi danh sách trống.
+     */
+    public void testPoll() {
+        ConcurrentIDoublyLinkedList<Integer> list = new ConcurrentIDoublyLinkedList<>();
+        assertNull(list.pollFirst());
+        list.addLast(1);
+        list.addLast(2);
+        assertEquals(Integer.valueOf(2), list.pollLast());
+        assertEquals(Integer.valueOf(1), list.pollFirst());
+        assertNull(list.pollLast());
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Kiểm thử nhiều luồng sản xuất và tiêu thụ: mỗi phần tử được lấy ra đúng một lần.
+     */
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 20000;
+        final ConcurrentIDoublyLinkedList<Integer> list = new ConcurrentIDoublyLinkedList<>();
+        final Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        final CountDownLatch done = new CountDownLatch(producers + consumers);
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            final boolean front = p % 2 == 0;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (front) {
+                        list.addFirst(base + i);
+                    } else {
+                        list.addLast(base + i);
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        for (int c = 0; c < consumers; c++) {
+            final boolean front = c % 2 == 0;
+            new Thread(() -> {
+                while (remaining.get() > 0) {
+                    Integer element = front ? list.pollFirst() : list.pollLast();
+                    if (element != null) {
+                        if (!consumed.add(element)) {
+                            duplicates.incrementAndGet();
+                        }
+                        remaining.decrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        assertEquals(0, duplicates.get());
+        assertEquals(producers * perProducer, consumed.size());
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Kiểm thử removeAt chạy song song với pollFirst: không phần tử nào được trả về hai lần
+     * và kích thước trở về 0 sau khi mọi phần tử đã được lấy ra.
+     */
+    public void testRemoveAtRacesWithPoll() throws InterruptedException {
+        final int total = 20000;
+        final ConcurrentIDoublyLinkedList<Integer> list = new ConcurrentIDoublyLinkedList<>();
+        for (int i = 0; i < total; i++) {
+            list.addLast(i);
+        }
+        final Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(4);
+
+        for (int t = 0; t < 4; t++) {
+            final boolean positional = t % 2 == 0;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    while (true) {
+                        Integer element;
+                        if (positional) {
+                            try {
+                                element = list.removeAt(0);
+                            } catch (IndexOutOfBoundsException e) {
+                                element = null;
+                            }
+                        } else {
+                            element = list.pollFirst();
+                        }
+                        if (element == null) {
+                            if (list.isEmpty()) {
+                                break;
+                            }
+                        } else if (!consumed.add(element)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        assertEquals(0, duplicates.get());
+        assertEquals(total, consumed.size());
+        assertEquals(0, list.size());
+        list.addLast(-1);
+        assertEquals(1, list.size());
+    }
+
+    /**
+     * Kiểm thử iterator có tính nhất quán yếu không ném ngoại lệ khi danh sách bị thay đổi.
+     */
+    public void testWeaklyConsistentIteration() {
+        ConcurrentIDoublyLinkedList<Integer> list = new ConcurrentIDoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+        // Bộ lặp có thể thấy các phần tử được thêm sau khi tạo, nên chỉ duyệt 10 bước
+        Set<Integer> seen = new HashSet<>();
+        Iterator<Integer> iterator = list.iterator();
+        for (int step = 0; step < 10 && iterator.hasNext(); step++) {
+            Integer element = iterator.next();
+            seen.add(element);
+            list.removeFirst();
+            list.addLast(element + 100);
+        }
+        assertTrue(seen.contains(0));
+        assertEquals(10, list.size());
+        assertEquals(Integer.valueOf(100), list.peekFirst());
+    }
+}
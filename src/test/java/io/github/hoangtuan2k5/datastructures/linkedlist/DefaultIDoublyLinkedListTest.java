@@ -0,0 +1,223 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai DefaultIDoublyLinkedList (Danh sách liên kết đôi).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class DefaultIDoublyLinkedListTest extends AbstractPositionalDoublyLinkedListTest {
+
+    @Override
+    protected IPositionalDoublyLinkedList<String> createList() {
+        return new DefaultIDoublyLinkedList<>();
+    }
+
+    /**
+     * Kiểm thử finger vẫn trỏ đúng node sau các thao tác thêm và xóa xen kẽ.
+     */
+    public void testFingerStaysConsistent() {
+        DefaultIDoublyLinkedList<Integer> list = new DefaultIDoublyLinkedList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(7);
+            int bound = expected.size();
+            if (operation == 0 || bound == 0) {
+                list.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 1) {
+                list.addLast(i);
+                expected.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(bound + 1);
+                list.insertAt(index, i);
+                expected.add(index, i);
+            } else if (operation == 3) {
+                int index = random.nextInt(bound);
+                assertEquals(expected.remove(index), list.removeAt(index));
+            } else if (operation == 4) {
+                assertEquals(expected.remove(0), list.removeFirst());
+            } else if (operation == 5) {
+                assertEquals(expected.remove(bound - 1), list.removeLast());
+            } else {
+                int index = random.nextInt(bound);
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    /**
+     * Kiểm thử ListIterator duyệt hai chiều và chèn, xóa, thay thế tại chỗ.
+     */
+    public void testListIterator() {
+        DefaultIDoublyLinkedList<String> list = new DefaultIDoublyLinkedList<>();
+        list.add("A");
+        list.add("B");
+        list.add("C");
+
+        ListIterator<String> cursor = list.listIterator(1);
+        assertEquals(0, cursor.previousIndex());
+        assertEquals("B", cursor.next());
+        cursor.set("b");
+        cursor.add("X");
+        assertEquals("C", cursor.next());
+        cursor.remove();
+        assertEquals("X", cursor.previous());
+        cursor.remove();
+        assertEquals("b", cursor.previous());
+        assertEquals("A", cursor.previous());
+        cursor.remove();
+        assertFalse(cursor.hasPrevious());
+        cursor.add("Z");
+        assertEquals("[Z, b]", list.toString());
+        assertEquals("Z", list.peekFirst());
+        assertEquals("b", list.peekLast());
+
+        try {
+            cursor.remove();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+
+        list.addLast("Y");
+        try {
+            cursor.next();
+            fail("Expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử sắp xếp ổn định, khớp với {@link java.util.Collections#sort}, và giữ liên kết hai chiều hợp lệ.
+     */
+    public void testSort() {
+        java.util.Random random = new java.util.Random(3);
+        for (int length : new int[] {0, 1, 2, 3, 17, 64, 1_000, 4_097}) {
+            DefaultIDoublyLinkedList<int[]> list = new DefaultIDoublyLinkedList<>();
+            java.util.List<int[]> expected = new java.util.ArrayList<>();
+            for (int i = 0; i < length; i++) {
+                int[] record = {random.nextInt(20), i};
+                list.addLast(record);
+                expected.add(record);
+            }
+            java.util.Comparator<int[]> byKey = java.util.Comparator.comparingInt(record -> record[0]);
+            java.util.Collections.sort(expected, byKey);
+            list.sort(byKey);
+
+            assertEquals(length, list.size());
+            ListIterator<int[]> cursor = list.listIterator(length);
+            for (int i = length - 1; i >= 0; i--) {
+                assertSame(expected.get(i), cursor.previous());
+            }
+            assertFalse(cursor.hasPrevious());
+            for (int i = 0; i < length; i += 97) {
+                assertSame(expected.get(i), list.get(i));
+            }
+        }
+
+        DefaultIDoublyLinkedList<String> words = new DefaultIDoublyLinkedList<>();
+        for (String word : new String[] {"pear", "fig", "apple", "kiwi"}) {
+            words.addLast(word);
+        }
+        ListIterator<String> stale = words.listIterator();
+        words.sort();
+        assertEquals("[apple, fig, kiwi, pear]", words.toString());
+        assertEquals("pear", words.peekLast());
+        try {
+            stale.next();
+            fail("Expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // Ngoại lệ được mong đợi
+        }
+
+        words.addFirst(null);
+        try {
+            words.sort(String::compareTo);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(5, words.size());
+        java.util.List<String> remaining = new java.util.ArrayList<>();
+        for (ListIterator<String> it = words.listIterator(5); it.hasPrevious(); ) {
+            remaining.add(it.previous());
+        }
+        java.util.Collections.sort(remaining, java.util.Comparator.nullsFirst(String::compareTo));
+        assertEquals("[null, apple, fig, kiwi, pear]", remaining.toString());
+
+        for (int limit : new int[] {1, 100, 5_000}) {
+            DefaultIDoublyLinkedList<Integer> numbers = new DefaultIDoublyLinkedList<>();
+            for (int i = 0; i < 1_000; i++) {
+                numbers.addLast(random.nextInt(1_000));
+            }
+            final int[] budget = {limit};
+            try {
+                numbers.sort((a, b) -> {
+                    if (--budget[0] == 0) {
+                        throw new IllegalStateException();
+                    }
+                    return a.compareTo(b);
+                });
+                fail("Expected IllegalStateException");
+            } catch (IllegalStateException e) {
+                // Ngoại lệ được mong đợi
+            }
+            int backward = 0;
+            for (ListIterator<Integer> it = numbers.listIterator(numbers.size()); it.hasPrevious(); it.previous()) {
+                backward++;
+            }
+            assertEquals(1_000, backward);
+            numbers.sort();
+            for (int i = 1; i < numbers.size(); i++) {
+                assertTrue(numbers.get(i - 1) <= numbers.get(i));
+            }
+        }
+    }
+
+    /**
+     * Kiểm thử trộn hai danh sách đã sắp xếp: ổn định, chuyển hết node và làm rỗng danh sách nguồn.
+     */
+    public void testMergeSorted() {
+        DefaultIDoublyLinkedList<String> left = new DefaultIDoublyLinkedList<>();
+        DefaultIDoublyLinkedList<String> right = new DefaultIDoublyLinkedList<>();
+        for (String word : new String[] {"a1", "c1", "c2", "e1"}) {
+            left.addLast(word);
+        }
+        for (String word : new String[] {"b2", "c3", "d2", "f2", "g2"}) {
+            right.addLast(word);
+        }
+        java.util.Comparator<String> byLetter = java.util.Comparator.comparingInt(word -> word.charAt(0));
+        left.mergeSorted(right, byLetter);
+        assertEquals("[a1, b2, c1, c2, c3, d2, e1, f2, g2]", left.toString());
+        assertEquals(9, left.size());
+        assertEquals("g2", left.peekLast());
+        assertEquals("e1", left.get(6));
+        assertTrue(right.isEmpty());
+
+        right.addLast("h");
+        right.addLast("i");
+        DefaultIDoublyLinkedList<String> empty = new DefaultIDoublyLinkedList<>();
+        empty.mergeSorted(right);
+        assertEquals("[h, i]", empty.toString());
+        assertEquals("h", empty.removeFirst());
+        assertEquals("i", empty.removeLast());
+        left.mergeSorted(empty);
+        assertEquals(9, left.size());
+
+        try {
+            left.mergeSorted(left);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai IndexedIDoublyLinkedList (Danh sách liên kết đôi có chỉ mục băm).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class IndexedIDoublyLinkedListTest extends AbstractPositionalDoublyLinkedListTest {
+
+    @Override
+    protected IPositionalDoublyLinkedList<String> createList() {
+        return new IndexedIDoublyLinkedList<>();
+    }
+
+    /**
+     * Kiểm thử moveToFront và moveToBack giữ đúng liên kết và chỉ mục.
+     */
+    public void testMoveToFrontAndBack() {
+        IndexedIDoublyLinkedList<String> list = new IndexedIDoublyLinkedList<>(4);
+        list.add("A");
+        list.add("B");
+        list.add("C");
+
+        assertTrue(list.moveToFront("C"));
+        assertEquals("[C, A, B]", list.toString());
+        assertTrue(list.moveToFront("C"));
+        assertEquals("[C, A, B]", list.toString());
+        assertTrue(list.moveToBack("C"));
+        assertEquals("[A, B, C]", list.toString());
+        assertTrue(list.moveToBack("A"));
+        assertEquals("[B, C, A]", list.toString());
+        assertFalse(list.moveToFront("Z"));
+
+        assertEquals("B", list.peekFirst());
+        assertEquals("A", list.peekLast());
+        assertEquals(2, list.indexOf("A"));
+        assertEquals("A", list.removeLast());
+        assertFalse(list.contains("A"));
+        assertEquals("C", list.removeAt(1));
+        assertEquals("[B]", list.toString());
+        assertTrue(list.moveToBack("B"));
+        assertEquals(1, list.size());
+    }
+
+    /**
+     * Kiểm thử phần tử trùng lặp bị từ chối và có thể thêm lại sau khi bị xóa.
+     */
+    public void testDuplicatesRejected() {
+        IndexedIDoublyLinkedList<String> list = new IndexedIDoublyLinkedList<>();
+        list.add("A");
+        try {
+            list.addFirst("A");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(1, list.size());
+
+        assertTrue(list.remove("A"));
+        list.addFirst("A");
+        assertEquals("[A]", list.toString());
+
+        list.clear();
+        assertFalse(list.contains("A"));
+        list.add("A");
+        assertEquals(0, list.indexOf("A"));
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.hoangtuan2k5.datastructures.linkedlist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai UnrolledIDoublyLinkedList (Danh sách liên kết đôi trải phẳng).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class UnrolledIDoublyLinkedListTest extends AbstractPositionalDoublyLinkedListTest {
+
+    @Override
+    protected IPositionalDoublyLinkedList<String> createList() {
+        return new UnrolledIDoublyLinkedList<>(4);
+    }
+
+    /**
+     * Kiểm thử việc tách và gộp khối giữ đúng thứ tự phần tử, so sánh với {@link ArrayList}.
+     */
+    public void testSplitAndMerge() {
+        UnrolledIDoublyLinkedList<Integer> list = new UnrolledIDoublyLinkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int bound = expected.size();
+            int operation = random.nextInt(6);
+            if (operation == 0 || bound == 0) {
+                int index = random.nextInt(bound + 1);
+                list.insertAt(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                list.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(bound);
+                assertEquals(expected.remove(index), list.removeAt(index));
+            } else if (operation == 3) {
+                Integer value = expected.get(random.nextInt(bound));
+                assertTrue(list.remove(value));
+                expected.remove(value);
+            } else if (operation == 4) {
+                assertEquals(expected.remove(bound - 1), list.removeLast());
+            } else {
+                list.addLast(i);
+                expected.add(i);
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.toString(), list.toString());
+        for (int i = 0; i < expected.size(); i += 17) {
+            assertEquals(expected.get(i), list.get(i));
+            assertEquals(i, list.indexOf(expected.get(i)));
+        }
+    }
+
+    /**
+     * Kiểm thử dung lượng khối không hợp lệ bị từ chối.
+     */
+    public void testInvalidBlockCapacity() {
+        assertEquals(64, new UnrolledIDoublyLinkedList<Integer>().blockCapacity());
+        try {
+            new UnrolledIDoublyLinkedList<Integer>(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
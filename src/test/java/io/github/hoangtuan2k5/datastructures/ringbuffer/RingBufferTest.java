@@ -0,0 +1,165 @@
+package io.github.hoangtuan2k5.datastructures.ringbuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho RingBuffer (Bộ đệm vòng có giới hạn).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class RingBufferTest extends TestCase {
+    private static final int MESSAGES = 50_000;
+
+    /**
+     * Kiểm thử giành, ghi và công bố theo lô, và offer trả về false khi bộ đệm đầy.
+     */
+    public void testClaimPublishAndDrain() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4, ProducerType.SINGLE);
+        long first = buffer.claim(3);
+        assertEquals(0, first);
+        for (int i = 0; i < 3; i++) {
+            buffer.set(first + i, i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(0, buffer.drain(drained::add, 10));
+        buffer.publish(first, 3);
+        assertTrue(buffer.offer(3));
+        assertFalse(buffer.offer(4));
+        assertEquals(-1, buffer.tryClaim(1));
+        assertEquals(4, buffer.size());
+
+        assertEquals(2, buffer.drain(drained::add, 2));
+        assertEquals(2, buffer.awaitDrain(drained::add, 10));
+        assertEquals("[0, 1, 2, 3]", drained.toString());
+        assertEquals(0, buffer.size());
+        assertEquals(4, buffer.remainingCapacity());
+
+        try {
+            buffer.claim(5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+        try {
+            new RingBuffer<Integer>(6, ProducerType.MULTI);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử một luồng sản xuất và một luồng tiêu thụ với mọi chiến lược chờ:
+     * mọi phần tử đến đúng thứ tự.
+     */
+    public void testSingleProducerWithEveryWaitStrategy() throws InterruptedException {
+        WaitStrategy[] strategies = {
+                WaitStrategy.busySpin(), WaitStrategy.yielding(), WaitStrategy.parking(1_000), WaitStrategy.blocking()
+        };
+        for (WaitStrategy strategy : strategies) {
+            final RingBuffer<Integer> buffer = new RingBuffer<>(64, ProducerType.SINGLE, strategy);
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < MESSAGES; ) {
+                        int n = Math.min(8, MESSAGES - i);
+                        long first = buffer.claim(n);
+                        for (int k = 0; k < n; k++) {
+                            buffer.set(first + k, i + k);
+                        }
+                        buffer.publish(first, n);
+                        i += n;
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            producer.start();
+
+            final int[] expected = {0};
+            while (expected[0] < MESSAGES) {
+                buffer.awaitDrain(value -> assertEquals(expected[0]++, value.intValue()), 32);
+            }
+            producer.join();
+            assertNull(strategy.toString(), failure.get());
+            assertEquals(0, buffer.size());
+        }
+    }
+
+    /**
+     * Kiểm thử luồng tiêu thụ dùng chiến lược chặn khi slot đã được giành nhưng chưa công bố:
+     * nó phải bị chặn thay vì quay vòng, và thức dậy khi slot được công bố.
+     */
+    public void testAwaitDrainBlocksUntilClaimedSlotIsPublished() throws InterruptedException {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(8, ProducerType.MULTI, WaitStrategy.blocking());
+        long sequence = buffer.claim(1);
+        buffer.set(sequence, 42);
+
+        final AtomicReference<Integer> received = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                buffer.awaitDrain(received::set, 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (consumer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, consumer.getState());
+        assertNull(received.get());
+
+        buffer.publish(sequence, 1);
+        consumer.join(5_000);
+        assertFalse(consumer.isAlive());
+        assertEquals(Integer.valueOf(42), received.get());
+    }
+
+    /**
+     * Kiểm thử nhiều luồng sản xuất: không mất hay lặp phần tử nào và thứ tự của từng luồng được giữ.
+     */
+    public void testMultipleProducers() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = MESSAGES / producers;
+        final RingBuffer<long[]> buffer = new RingBuffer<>(128, ProducerType.MULTI, WaitStrategy.yielding());
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        buffer.put(new long[] {id, i});
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[p].start();
+        }
+
+        final int[] lastSeen = new int[producers];
+        java.util.Arrays.fill(lastSeen, -1);
+        int received = 0;
+        while (received < producers * perProducer) {
+            received += buffer.awaitDrain(message -> {
+                int id = (int) message[0];
+                assertEquals(lastSeen[id] + 1, (int) message[1]);
+                lastSeen[id] = (int) message[1];
+            }, 64);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer - 1, lastSeen[p]);
+        }
+        assertEquals(0, buffer.drain(message -> fail(), 1));
+    }
+}
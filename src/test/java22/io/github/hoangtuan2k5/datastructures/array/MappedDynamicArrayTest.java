@@ -0,0 +1,126 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai MappedDynamicArray (Mảng Động ánh xạ tệp).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class MappedDynamicArrayTest extends TestCase {
+    private Path directory;
+    private Path file;
+
+    @Override
+    protected void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-dynamic-array");
+        file = directory.resolve("values.bin");
+    }
+
+    @Override
+    protected void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Kiểm thử append, get, set và tăng kích thước tệp khi đầy.
+     */
+    public void testAppendGetAndSet() {
+        try (MappedDynamicArray<Long> array = new MappedDynamicArray<>(file, OffHeapLayout.LONG, 0,
+                DefaultGrowthPolicy.doubling())) {
+            assertTrue(array.isEmpty());
+            for (long i = 0; i < 100; i++) {
+                array.append(i * i);
+            }
+            assertEquals(100, array.size());
+            assertTrue(array.capacity() >= 100);
+            assertEquals(Long.valueOf(81), array.get(9));
+
+            array.set(9, -1L);
+            assertEquals(Long.valueOf(-1), array.get(9));
+            assertEquals(9, array.indexOf(-1L));
+
+            try {
+                array.get(100);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException e) {
+                // Ngoại lệ được mong đợi
+            }
+        }
+    }
+
+    /**
+     * Kiểm thử dữ liệu vẫn còn sau khi đóng và mở lại tệp.
+     */
+    public void testReopen() throws IOException {
+        try (MappedDynamicArray<Integer> array = new MappedDynamicArray<>(file, OffHeapLayout.INT)) {
+            for (int i = 0; i < 1000; i++) {
+                array.append(i);
+            }
+            array.remove(0);
+            array.force();
+        }
+
+        try (MappedDynamicArray<Integer> reopened = new MappedDynamicArray<>(file, OffHeapLayout.INT)) {
+            assertEquals(999, reopened.size());
+            assertEquals(Integer.valueOf(1), reopened.get(0));
+            assertEquals(Integer.valueOf(999), reopened.get(998));
+
+            reopened.trimToSize();
+            assertEquals(999, reopened.capacity());
+            reopened.append(1000);
+            assertEquals(1000, reopened.size());
+        }
+        assertTrue(Files.size(file) > MappedDynamicArray.HEADER_BYTES);
+
+        try {
+            new MappedDynamicArray<>(file, OffHeapLayout.LONG);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi: kích thước phần tử không khớp
+        }
+    }
+
+    /**
+     * Kiểm thử remove, swap, clear và ensureCapacity của MappedDynamicArray.
+     */
+    public void testRemoveSwapAndClear() {
+        try (MappedDynamicArray<Double> array = new MappedDynamicArray<>(file, OffHeapLayout.DOUBLE)) {
+            array.append(1.0);
+            array.append(2.0);
+            array.append(3.0);
+
+            array.swap(0, 2);
+            assertEquals("[3.0, 2.0, 1.0]", array.toString());
+
+            array.remove(1);
+            assertEquals("[3.0, 1.0]", array.toString());
+
+            array.ensureCapacity(500);
+            assertTrue(array.capacity() >= 500);
+            assertEquals("[3.0, 1.0]", array.toString());
+
+            array.clear();
+            assertTrue(array.isEmpty());
+            assertEquals("[]", array.toString());
+        }
+    }
+
+    /**
+     * Kiểm thử mở một tệp không đúng định dạng.
+     */
+    public void testRejectsForeignFile() throws IOException {
+        Files.write(file, new byte[MappedDynamicArray.HEADER_BYTES + 8]);
+        try {
+            new MappedDynamicArray<>(file, OffHeapLayout.LONG);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+}
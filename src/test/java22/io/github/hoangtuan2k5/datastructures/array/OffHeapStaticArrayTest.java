@@ -0,0 +1,147 @@
+package io.github.hoangtuan2k5.datastructures.array;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+
+import junit.framework.TestCase;
+
+/**
+ * Các kiểm thử đơn vị cho việc triển khai OffHeapStaticArray (Mảng Tĩnh ngoài heap).
+ *
+ * @author Hoàng Chiều Nguyễn Tuấn
+ */
+public class OffHeapStaticArrayTest extends TestCase {
+
+    record Point(int x, int y) {}
+
+    private static final OffHeapLayout<Point> POINT = OffHeapLayout.of(
+            MemoryLayout.structLayout(JAVA_INT.withName("x"), JAVA_INT.withName("y")),
+            (segment, offset) -> new Point(segment.get(JAVA_INT, offset), segment.get(JAVA_INT, offset + 4)),
+            (segment, offset, point) -> {
+                segment.set(JAVA_INT, offset, point.x());
+                segment.set(JAVA_INT, offset + 4, point.y());
+            });
+
+    /**
+     * Kiểm thử constructor, get và set của OffHeapStaticArray.
+     */
+    public void testGetAndSet() {
+        try (OffHeapStaticArray<Integer> array = new OffHeapStaticArray<>(3, OffHeapLayout.INT)) {
+            assertEquals(3, array.size());
+            assertEquals(Integer.valueOf(0), array.get(0));
+
+            array.set(0, 10);
+            array.set(2, 30);
+            assertEquals(Integer.valueOf(10), array.get(0));
+            assertEquals(Integer.valueOf(30), array.get(2));
+            assertEquals("[10, 0, 30]", array.toString());
+
+            try {
+                array.get(3);
+                fail("expect an IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException e) {
+                // Ngoại lệ được mong đợi
+            }
+            try {
+                array.set(1, null);
+                fail("expect a NullPointerException");
+            } catch (NullPointerException e) {
+                // Ngoại lệ được mong đợi
+            }
+        }
+
+        try {
+            new OffHeapStaticArray<>(-1, OffHeapLayout.INT);
+            fail("expect an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Ngoại lệ được mong đợi
+        }
+    }
+
+    /**
+     * Kiểm thử fill, clear, indexOf và contains của OffHeapStaticArray.
+     */
+    public void testFillClearAndIndexOf() {
+        try (OffHeapStaticArray<Long> array = new OffHeapStaticArray<>(7, OffHeapLayout.LONG)) {
+            array.fill(42L);
+            for (Long value : array) {
+                assertEquals(Long.valueOf(42L), value);
+            }
+
+            array.set(5, 7L);
+            assertEquals(5, array.indexOf(7L));
+            assertTrue(array.contains(42L));
+            assertFalse(array.contains(8L));
+            assertFalse(array.contains("not a long"));
+            assertFalse(array.contains(null));
+
+            array.clear();
+            assertEquals(0, array.indexOf(0L));
+        }
+    }
+
+    /**
+     * Kiểm thử swap, reverse và copy với bản ghi có layout cố định.
+     */
+    public void testRecordsSwapReverseAndCopy() {
+        try (Arena arena = Arena.ofConfined()) {
+            OffHeapStaticArray<Point> array = new OffHeapStaticArray<>(3, POINT, arena);
+            array.set(0, new Point(1, 2));
+            array.set(1, new Point(3, 4));
+            array.set(2, new Point(5, 6));
+
+            array.swap(0, 1);
+            assertEquals(new Point(3, 4), array.get(0));
+            assertEquals(new Point(1, 2), array.get(1));
+
+            array.reverse();
+            assertEquals(new Point(5, 6), array.get(0));
+            assertEquals(new Point(3, 4), array.get(2));
+            assertEquals(1, array.indexOf(new Point(1, 2)));
+
+            OffHeapStaticArray<Point> copy = array.copy(arena);
+            copy.set(0, new Point(0, 0));
+            assertEquals(new Point(5, 6), array.get(0));
+            assertEquals(new Point(0, 0), copy.get(0));
+
+            // Đóng mảng không đóng arena do người gọi quản lý
+            array.close();
+            assertEquals(new Point(1, 2), array.get(1));
+        }
+    }
+
+    /**
+     * Kiểm thử truy cập sau khi vùng nhớ đã được giải phóng.
+     */
+    public void testAccessAfterClose() {
+        OffHeapStaticArray<Double> array = new OffHeapStaticArray<>(2, OffHeapLayout.DOUBLE);
+        array.set(0, 1.5);
+        OffHeapStaticArray<Double> copy = array.copy();
+        array.close();
+
+        try {
+            array.get(0);
+            fail("expect an IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Ngoại lệ được mong đợi
+        }
+        assertEquals(1.5, copy.get(0), 0.0);
+        copy.close();
+    }
+
+    /**
+     * Kiểm thử Stream song song đọc trực tiếp từ vùng nhớ ngoài heap.
+     */
+    public void testParallelStream() {
+        try (OffHeapStaticArray<Integer> array = new OffHeapStaticArray<>(1000, OffHeapLayout.INT)) {
+            for (int i = 0; i < 1000; i++) {
+                array.set(i, i);
+            }
+            assertEquals(1000, array.spliterator().getExactSizeIfKnown());
+            assertEquals(499500, array.parallelStream().mapToInt(Integer::intValue).sum());
+            assertEquals(Integer.valueOf(999), array.stream().reduce(Integer::max).get());
+        }
+    }
+}